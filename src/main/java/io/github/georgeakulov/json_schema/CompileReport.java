@@ -0,0 +1,142 @@
+package io.github.georgeakulov.json_schema;
+
+import io.github.georgeakulov.json_schema.IValidationMetrics.CompilePhase;
+import io.github.georgeakulov.json_schema.results.IValidationResult.ISchemaLocator;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Breakdown of the schema compilation, immutable
+ * @see SchemaBuilder#setCompileReportEnabled(boolean)
+ * @see Schema#getCompileReport()
+ */
+public final class CompileReport {
+
+    private final long totalNanos;
+    private final Map<CompilePhase, Phase> phases;
+    private final int subschemaCount;
+    private final int refCount;
+    private final int externalLoadCount;
+    private final int regexCount;
+    private final int validatorCount;
+    private final long retainedSize;
+    private final List<SubschemaTiming> subschemas;
+
+    CompileReport(long totalNanos, Map<CompilePhase, Phase> phases, int subschemaCount, int refCount, int externalLoadCount,
+                  int regexCount, int validatorCount, long retainedSize, List<SubschemaTiming> subschemas) {
+        this.totalNanos = totalNanos;
+        this.phases = Collections.unmodifiableMap(new EnumMap<>(phases));
+        this.subschemaCount = subschemaCount;
+        this.refCount = refCount;
+        this.externalLoadCount = externalLoadCount;
+        this.regexCount = regexCount;
+        this.validatorCount = validatorCount;
+        this.retainedSize = retainedSize;
+        this.subschemas = subschemas.stream()
+                .sorted(Comparator.comparingLong(SubschemaTiming::selfNanos).reversed())
+                .toList();
+    }
+
+    /**
+     * @return wall time of the whole compilation
+     */
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    /**
+     * @return the phases with non zero duration, the duration of each phase excludes the nested phases
+     */
+    public Map<CompilePhase, Phase> getPhases() {
+        return phases;
+    }
+
+    /**
+     * @return count of the compiled schema objects
+     */
+    public int getSubschemaCount() {
+        return subschemaCount;
+    }
+
+    /**
+     * @return count of the resolved {@code $ref}, {@code $dynamicRef} and {@code $recursiveRef}
+     */
+    public int getRefCount() {
+        return refCount;
+    }
+
+    /**
+     * @return count of the external schemas loaded by resolvers and resource loaders
+     */
+    public int getExternalLoadCount() {
+        return externalLoadCount;
+    }
+
+    /**
+     * @return count of the compiled regular expressions
+     */
+    public int getRegexCount() {
+        return regexCount;
+    }
+
+    /**
+     * @return count of the keyword validators
+     */
+    public int getValidatorCount() {
+        return validatorCount;
+    }
+
+    /**
+     * @return approximate size in bytes of the compiled validators and the data retained by them
+     */
+    public long getRetainedSize() {
+        return retainedSize;
+    }
+
+    /**
+     * @param limit max count of the subschemas
+     * @return the subschemas ordered by descending self compilation time
+     */
+    public List<SubschemaTiming> getSlowestSubschemas(int limit) {
+        return subschemas.subList(0, Math.min(limit, subschemas.size()));
+    }
+
+    @Override
+    public String toString() {
+        var sb = new StringBuilder();
+        sb.append(String.format("Compiled in %.3f ms, retained ~%d KB%n", totalNanos / 1e6, retainedSize / 1024));
+        sb.append(String.format("Subschemas: %d, refs: %d, external loads: %d, regexes: %d, validators: %d%n",
+                subschemaCount, refCount, externalLoadCount, regexCount, validatorCount));
+        phases.forEach((phase, value) -> sb.append(value.allocatedBytes() < 0
+                ? String.format("%-10s %10.3f ms%n", phase, value.nanos() / 1e6)
+                : String.format("%-10s %10.3f ms %10d KB allocated%n", phase, value.nanos() / 1e6, value.allocatedBytes() / 1024)));
+        for(SubschemaTiming subschema : getSlowestSubschemas(10)) {
+            sb.append(String.format("%10.3f ms self %10.3f ms total  %s%n",
+                    subschema.selfNanos() / 1e6, subschema.totalNanos() / 1e6, location(subschema.schema())));
+        }
+        return sb.toString();
+    }
+
+    private static String location(ISchemaLocator schema) {
+        Object resource = schema.getId() != null ? schema.getId() : schema.getOriginUri();
+        return (resource == null ? "" : resource.toString()) + '#' + schema.getSchemaRef();
+    }
+
+    /**
+     * @param nanos duration of the phase
+     * @param allocatedBytes bytes allocated by the compiling thread in the phase or -1 if the jvm doesn`t support it
+     *                       or the thread allocated memory measurement is disabled
+     */
+    public record Phase(long nanos, long allocatedBytes) {}
+
+    /**
+     * @param schema the schema object
+     * @param selfNanos compilation time excluding the nested schema objects
+     * @param totalNanos compilation time including the nested schema objects
+     */
+    public record SubschemaTiming(ISchemaLocator schema, long selfNanos, long totalNanos) {}
+}
@@ -0,0 +1,153 @@
+package io.github.georgeakulov.json_schema;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Bounded concurrent memo cache of the format validation results.<br/>
+ * Each format has its own cache keyed by the validated string. It is used only for pure formats:
+ * the heavy built-in formats (hostnames, emails, uri, iri, uri templates) and the custom formats
+ * added with {@link SchemaBuilder#addFormatValidator(String, Predicate, boolean)} as cacheable.
+ * The same instance can be shared by many schemas.
+ */
+public final class FormatCache {
+
+    /**
+     * Longer values are validated without caching
+     */
+    public static final int MAX_VALUE_LENGTH = 1024;
+
+    private final int maxSize;
+    private final long ttlNanos;
+    private final Map<String, Memo> memos = new ConcurrentHashMap<>();
+
+    /**
+     * @param maxSize maximum count of the cached values of each format
+     * @param ttl time to live of the cached result, zero for no expiration
+     * @throws IllegalArgumentException if {@code maxSize} is not positive or {@code ttl} is negative
+     * @throws NullPointerException if {@code ttl} is null
+     */
+    public FormatCache(int maxSize, Duration ttl) {
+        Objects.requireNonNull(ttl, "The ttl is null");
+        if(maxSize <= 0) {
+            throw new IllegalArgumentException("The maxSize must be positive. Actual: " + maxSize);
+        }
+        if(ttl.isNegative()) {
+            throw new IllegalArgumentException("The ttl must not be negative. Actual: " + ttl);
+        }
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    /**
+     * Cache without expiration
+     * @param maxSize maximum count of the cached values of each format
+     */
+    public FormatCache(int maxSize) {
+        this(maxSize, Duration.ZERO);
+    }
+
+    /**
+     * @return caching predicate of the format. Predicates of the same format share the cache
+     */
+    public Predicate<String> wrap(String format, Predicate<String> predicate) {
+        var memo = memos.computeIfAbsent(format, name -> new Memo());
+        return value -> memo.test(value, predicate);
+    }
+
+    /**
+     * @return statistics of the format or empty statistics if format was not cached
+     */
+    public Stats getStats(String format) {
+        var memo = memos.get(format);
+        return memo == null ? new Stats(0, 0, 0) : memo.stats();
+    }
+
+    /**
+     * @return statistics by format names
+     */
+    public Map<String, Stats> getStats() {
+        return memos.entrySet().stream()
+                .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, entry -> entry.getValue().stats()));
+    }
+
+    /**
+     * @param hits count of results taken from the cache
+     * @param misses count of validations
+     * @param evictions count of removed entries because of size limit or expiration
+     */
+    public record Stats(long hits, long misses, long evictions) {
+
+        /**
+         * @return ratio of hits to all requests or 0 if no requests
+         */
+        public double hitRate() {
+            long total = hits + misses;
+            return total == 0 ? 0 : (double) hits / total;
+        }
+    }
+
+    private record Entry(boolean valid, long expiresAt) {}
+
+    // Entries without expiration are shared
+    private static final Entry VALID = new Entry(true, 0);
+    private static final Entry INVALID = new Entry(false, 0);
+
+    private class Memo {
+        private final Map<String, Entry> values = new ConcurrentHashMap<>();
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder evictions = new LongAdder();
+
+        boolean test(String value, Predicate<String> predicate) {
+            if(value.length() > MAX_VALUE_LENGTH) {
+                return predicate.test(value);
+            }
+            long now = ttlNanos == 0 ? 0 : System.nanoTime();
+            var entry = values.get(value);
+            if(entry != null && (ttlNanos == 0 || entry.expiresAt - now > 0)) {
+                hits.increment();
+                return entry.valid;
+            }
+            misses.increment();
+            boolean valid = predicate.test(value);
+            if(entry == null && values.size() >= maxSize) {
+                evict(now);
+            }
+            values.put(value, ttlNanos == 0 ? (valid ? VALID : INVALID) : new Entry(valid, now + ttlNanos));
+            return valid;
+        }
+
+        /**
+         * Removes expired entries, then arbitrary entries up to three quarters of the size limit
+         */
+        private void evict(long now) {
+            int target = maxSize - Math.max(1, maxSize / 4);
+            if(ttlNanos != 0) {
+                values.values().removeIf(entry -> {
+                    boolean expired = entry.expiresAt - now <= 0;
+                    if(expired) {
+                        evictions.increment();
+                    }
+                    return expired;
+                });
+            }
+            Iterator<Entry> iterator = values.values().iterator();
+            while(values.size() > target && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+                evictions.increment();
+            }
+        }
+
+        Stats stats() {
+            return new Stats(hits.sum(), misses.sum(), evictions.sum());
+        }
+    }
+}
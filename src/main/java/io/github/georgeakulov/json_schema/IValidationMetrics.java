@@ -0,0 +1,174 @@
+package io.github.georgeakulov.json_schema;
+
+import io.github.georgeakulov.json_schema.results.EErrorType;
+import io.github.georgeakulov.json_schema.results.IValidationResult.ISchemaLocator;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Receiver of the compilation and validation measurements. All methods do nothing by default.<br/>
+ * The validation is measured only if {@link #sample()} returns true for it, the not sampled validations
+ * run without instrumentation. The methods may be called concurrently from different threads.
+ * @see SchemaBuilder#setValidationMetrics(IValidationMetrics)
+ */
+public interface IValidationMetrics {
+
+    IValidationMetrics NOOP = new IValidationMetrics() {
+        @Override
+        public boolean sample() {
+            return false;
+        }
+    };
+
+    enum CompilePhase {
+        /** Parsing and loading of the schemas */
+        LOAD,
+        /** Processing of the loaded schemas: identifiers and subschemas */
+        PREPROCESS,
+        /** Resolution of the dialects of the loaded schemas */
+        DIALECT,
+        /** Resolution of the references */
+        RESOLVE,
+        /** Compilation of the regular expressions */
+        REGEX,
+        /** Creation of the validators */
+        COMPILE
+    }
+
+    /**
+     * Called once per validation before its start
+     * @return true if the validation must be measured
+     */
+    default boolean sample() {
+        return true;
+    }
+
+    /**
+     * @param nanos duration of the whole validation
+     * @param instanceSize count of the json nodes in the validated instance or 0 if {@link #isCountingInstanceSize()} is false
+     */
+    default void recordValidation(long nanos, int instanceSize) {
+    }
+
+    /**
+     * @return true if the instance size must be passed to {@link #recordValidation}. The nodes are counted
+     * after the measured validation by the additional walk of the instance
+     */
+    default boolean isCountingInstanceSize() {
+        return false;
+    }
+
+    /**
+     * @param schema the schema object
+     * @param nanos duration of the schema validation including nested schemas
+     */
+    default void recordSchema(ISchemaLocator schema, long nanos) {
+    }
+
+    /**
+     * @param schema the schema object which contains the keyword
+     * @param keyword the keyword
+     * @param nanos duration of the keyword validation including nested schemas
+     */
+    default void recordKeyword(ISchemaLocator schema, String keyword, long nanos) {
+    }
+
+    default void recordError(EErrorType errorType) {
+    }
+
+    /**
+     * @param depth count of the {@code $ref} passed to reach the referenced schema
+     */
+    default void recordRefDepth(int depth) {
+    }
+
+    /**
+     * @return true if the calls of the measured validators must be tracked and passed to {@link #recordFrame}
+     */
+    default boolean isProfiling() {
+        return false;
+    }
+
+    /**
+     * Called for each keyword validation if {@link #isProfiling()}
+     * @param location the schema pointer of the keyword, prefixed by the resource id if present
+     * @param stack the locations from the root validator to this one, separated by {@code ;}
+     * @param totalNanos duration including nested schemas
+     * @param selfNanos duration excluding nested keywords
+     */
+    default void recordFrame(String location, String stack, long totalNanos, long selfNanos) {
+    }
+
+    /**
+     * @param phase compilation phase
+     * @param nanos duration of the phase, excluding the nested phases
+     */
+    default void recordCompilePhase(CompilePhase phase, long nanos) {
+    }
+
+    /**
+     * @param metrics receiver of the measurements
+     * @param period only each {@code period}-th validation is measured
+     * @return the metrics measuring the part of the validations
+     * @throws IllegalArgumentException if {@code period} is not positive
+     */
+    static IValidationMetrics sampling(IValidationMetrics metrics, int period) {
+        Objects.requireNonNull(metrics, "The metrics is null");
+        if(period <= 0) {
+            throw new IllegalArgumentException("The sampling period must be positive");
+        }
+        var counter = new AtomicLong();
+        return new IValidationMetrics() {
+            @Override
+            public boolean sample() {
+                return counter.getAndIncrement() % period == 0 && metrics.sample();
+            }
+
+            @Override
+            public void recordValidation(long nanos, int instanceSize) {
+                metrics.recordValidation(nanos, instanceSize);
+            }
+
+            @Override
+            public boolean isCountingInstanceSize() {
+                return metrics.isCountingInstanceSize();
+            }
+
+            @Override
+            public void recordSchema(ISchemaLocator schema, long nanos) {
+                metrics.recordSchema(schema, nanos);
+            }
+
+            @Override
+            public void recordKeyword(ISchemaLocator schema, String keyword, long nanos) {
+                metrics.recordKeyword(schema, keyword, nanos);
+            }
+
+            @Override
+            public void recordError(EErrorType errorType) {
+                metrics.recordError(errorType);
+            }
+
+            @Override
+            public void recordRefDepth(int depth) {
+                metrics.recordRefDepth(depth);
+            }
+
+            @Override
+            public boolean isProfiling() {
+                return metrics.isProfiling();
+            }
+
+            @Override
+            public void recordFrame(String location, String stack, long totalNanos, long selfNanos) {
+                metrics.recordFrame(location, stack, totalNanos, selfNanos);
+            }
+
+            @Override
+            public void recordCompilePhase(CompilePhase phase, long nanos) {
+                metrics.recordCompilePhase(phase, nanos);
+            }
+        };
+    }
+}
@@ -1,11 +1,27 @@
 package io.github.georgeakulov.json_schema;
 
+import com.fasterxml.jackson.core.JsonPointer;
 import com.fasterxml.jackson.databind.JsonNode;
 import io.github.georgeakulov.json_schema.common.JsonUtils;
+import io.github.georgeakulov.json_schema.compilers.IValidationContext;
+import io.github.georgeakulov.json_schema.compilers.IValidator;
+import io.github.georgeakulov.json_schema.compilers.IncrementalValidationContext;
+import io.github.georgeakulov.json_schema.compilers.SimpleValidationContext;
+import io.github.georgeakulov.json_schema.compilers.ValidationBudget;
+import io.github.georgeakulov.json_schema.compilers.ValidationLimitException;
 import io.github.georgeakulov.json_schema.results.IValidationResult;
+import io.github.georgeakulov.json_schema.results.InstancePath;
+import io.github.georgeakulov.json_schema.results.ValidationError;
+import org.jspecify.annotations.Nullable;
 import org.reactivestreams.Publisher;
 import reactor.core.publisher.Mono;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
@@ -16,11 +32,83 @@ import java.util.function.Function;
  */
 public class Schema implements Function<JsonNode, IValidationResult> {
 
-    private final Function<JsonNode, Publisher<IValidationResult>> validationFunction;
+    /**
+     * State of the unannotated fast path
+     * @see SchemaBuilder#setUnannotatedFastPathThreshold(long)
+     */
+    public enum FastPathState {
+        /**
+         * The fast path isn`t enabled
+         */
+        DISABLED,
+        /**
+         * The threshold isn`t reached or the class is being generated, the interpreter is used
+         */
+        PENDING,
+        /**
+         * The valid instances are checked by the generated class and get the results without annotations
+         */
+        ACTIVE,
+        /**
+         * The fast path can`t be used for this schema or its settings, the interpreter is used forever.
+         * The reason is given by {@link #getFastPathFailure()}
+         */
+        UNAVAILABLE
+    }
+
+    private final IValidator validator;
+    private final SchemaSnapshot snapshot;
+    private final @Nullable TieredBackend backend;
+    private final IValidationMetrics metrics;
+    private final ValidationLimits limits;
+    private final @Nullable CompileReport compileReport;
+
+    Schema(IValidator validator, SchemaSnapshot snapshot, @Nullable TieredBackend backend, IValidationMetrics metrics,
+           ValidationLimits limits, @Nullable CompileReport compileReport) {
+        this.validator = Objects.requireNonNull(validator);
+        this.snapshot = Objects.requireNonNull(snapshot);
+        this.backend = backend;
+        this.metrics = Objects.requireNonNull(metrics);
+        this.limits = Objects.requireNonNull(limits);
+        this.compileReport = compileReport;
+    }
 
-    Schema(Function<JsonNode, Publisher<IValidationResult>> validationFunction) {
-        this.validationFunction = Objects.requireNonNull(validationFunction);
+    /**
+     * @return the breakdown of the compilation of this schema or null if the report isn`t enabled
+     * @see SchemaBuilder#setCompileReportEnabled(boolean)
+     */
+    public @Nullable CompileReport getCompileReport() {
+        return compileReport;
     }
+
+    /**
+     * @return the current state of the unannotated fast path
+     */
+    public FastPathState getFastPathState() {
+        return backend == null ? FastPathState.DISABLED : backend.getState();
+    }
+
+    /**
+     * @return the reason why the fast path is {@link FastPathState#UNAVAILABLE} or null
+     */
+    public @Nullable RuntimeException getFastPathFailure() {
+        return backend == null ? null : backend.getFailure();
+    }
+
+    /**
+     * Write the snapshot of this schema. The snapshot contains the schema and all external schemas and
+     * reference resolutions used on the compilation, so {@link SchemaBuilder#loadSnapshot(InputStream)}
+     * recreates the schema without the resolvers, the resource loaders and the json parsing.<br/>
+     * Custom formats, content validators and other builder settings aren`t stored.
+     * @param os the stream to write, isn`t closed
+     * @throws NullPointerException if {@code os} is null
+     * @throws IOException on write error
+     */
+    public void exportSnapshot(OutputStream os) throws IOException {
+        Objects.requireNonNull(os, "The output stream is null");
+        snapshot.write(os);
+    }
+
     /**
      * Non blocking validation call
      * @param node json data instance to validate
@@ -50,7 +138,7 @@ public class Schema implements Function<JsonNode, IValidationResult> {
      */
     public Publisher<IValidationResult> map(JsonNode node) {
         Objects.requireNonNull(node, "The node instance is null");
-        return validationFunction.apply(node);
+        return validate(node);
     }
 
     /**
@@ -62,7 +150,7 @@ public class Schema implements Function<JsonNode, IValidationResult> {
      */
     public Publisher<IValidationResult> map(String jsonString) {
         Objects.requireNonNull(jsonString, "The jsonString is null");
-        return validationFunction.apply(JsonUtils.parse(jsonString));
+        return validate(JsonUtils.parse(jsonString));
     }
 
     /**
@@ -84,4 +172,107 @@ public class Schema implements Function<JsonNode, IValidationResult> {
     public IValidationResult apply(String jsonString) {
         return Mono.from(map(jsonString)).block();
     }
+
+    /**
+     * Map revalidation of the modified document to {@link Publisher}.<br/>
+     * Results of subschemas for the values which are neither ancestors nor descendants of changed locations
+     * are taken from {@code previousResult}, all other validators are run again.
+     * @param previousResult result of the previous validation by this schema
+     * @param node modified json data instance
+     * @param changedPaths locations of changed values in {@code node}
+     * @return {@link Publisher<IValidationResult>}
+     * @throws NullPointerException if any argument is null
+     */
+    public Publisher<IValidationResult> mapRevalidation(IValidationResult previousResult, JsonNode node, Collection<JsonPointer> changedPaths) {
+        Objects.requireNonNull(previousResult, "The previous result is null");
+        Objects.requireNonNull(node, "The node instance is null");
+        Objects.requireNonNull(changedPaths, "The changed paths is null");
+        ValidationBudget budget = createBudget();
+        boolean measured = metrics != IValidationMetrics.NOOP && metrics.sample();
+        var context = new IncrementalValidationContext(previousResult, changedPaths,
+                new SimpleValidationContext(measured ? metrics : null, budget));
+        return measured ? measure(node, context, budget) : validate(node, context, budget);
+    }
+
+    /**
+     * Blocking call of revalidation of the modified document
+     * @see #mapRevalidation(IValidationResult, JsonNode, Collection)
+     */
+    public IValidationResult revalidate(IValidationResult previousResult, JsonNode node, Collection<JsonPointer> changedPaths) {
+        return Mono.from(mapRevalidation(previousResult, node, changedPaths)).block();
+    }
+
+    /**
+     * Blocking call of revalidation of the document modified by RFC 6902 JSON Patch
+     * @param previousResult result of the previous validation by this schema
+     * @param node json data instance after patch application
+     * @param jsonPatch applied patch
+     * @return {@link IValidationResult} result of validation
+     * @throws NullPointerException if any argument is null
+     * @throws IllegalArgumentException if {@code jsonPatch} is not valid JSON Patch
+     */
+    public IValidationResult revalidate(IValidationResult previousResult, JsonNode node, JsonNode jsonPatch) {
+        Objects.requireNonNull(jsonPatch, "The json patch is null");
+        return revalidate(previousResult, node, IncrementalValidationContext.resolveChangedPaths(jsonPatch, node));
+    }
+
+    private Publisher<IValidationResult> validate(JsonNode node) {
+        ValidationBudget budget = createBudget();
+        if(metrics != IValidationMetrics.NOOP && metrics.sample()) {
+            return measure(node, new SimpleValidationContext(metrics, budget), budget);
+        }
+        if(backend == null) {
+            return validate(node, new SimpleValidationContext(null, budget), budget);
+        }
+        IValidationResult result = backend.tryValidate(node);
+        if(result != null) {
+            return result.publish();
+        }
+        return Mono.from(validate(node, new SimpleValidationContext(null, budget), budget))
+                .doOnNext(backend::onInterpreted);
+    }
+
+    private Publisher<IValidationResult> measure(JsonNode node, IValidationContext context, @Nullable ValidationBudget budget) {
+        long start = System.nanoTime();
+        return Mono.from(validate(node, context, budget))
+                .doOnNext(result -> {
+                    long nanos = System.nanoTime() - start;
+                    metrics.recordValidation(nanos, metrics.isCountingInstanceSize() ? countNodes(node) : 0);
+                    if(!result.isOk()) {
+                        result.asStream()
+                                .filter(ValidationError.class::isInstance)
+                                .forEach(error -> metrics.recordError(((ValidationError) error).getErrorType()));
+                    }
+                });
+    }
+
+    private static int countNodes(JsonNode node) {
+        // Iterative, the instance depth isn`t limited by the stack
+        Deque<JsonNode> pending = new ArrayDeque<>();
+        pending.push(node);
+        int count = 0;
+        while(!pending.isEmpty()) {
+            JsonNode current = pending.pop();
+            count++;
+            if(current.isContainerNode()) {
+                current.forEach(pending::push);
+            }
+        }
+        return count;
+    }
+
+    private @Nullable ValidationBudget createBudget() {
+        if(limits == ValidationLimits.NONE) {
+            return null;
+        }
+        return new ValidationBudget(limits.getMaxDepth(), limits.getMaxNodes(), limits.getMaxTime().toNanos(), limits.getMaxEvaluatedErrors());
+    }
+
+    private Publisher<IValidationResult> validate(JsonNode node, IValidationContext context, @Nullable ValidationBudget budget) {
+        if(budget == null) {
+            return Mono.from(validator.validate(node, InstancePath.empty(), context));
+        }
+        return Mono.defer(() -> Mono.from(validator.validate(node, InstancePath.empty(), context)))
+                .onErrorResume(ValidationLimitException.class, exception -> Mono.just(budget.createAbortedResult(exception)));
+    }
 }
@@ -4,20 +4,31 @@ import com.fasterxml.jackson.databind.JsonNode;
 import io.github.georgeakulov.json_schema.common.SchemaCompileException;
 import io.github.georgeakulov.json_schema.IContentProcessing.ContentValidationLevel;
 import io.github.georgeakulov.json_schema.common.JsonUtils;
+import io.github.georgeakulov.json_schema.common.ObjectSizeEstimator;
+import io.github.georgeakulov.json_schema.common.content.IContentValidationRegistry;
 import io.github.georgeakulov.json_schema.common.content.IContentValidationRegistry.ExceptionableCons;
 import io.github.georgeakulov.json_schema.common.content.IContentValidationRegistry.ExceptionableOp;
 import io.github.georgeakulov.json_schema.common.content.MimeType;
 import io.github.georgeakulov.json_schema.common.content.SimpleContentValidationRegistry;
 import io.github.georgeakulov.json_schema.compilers.CompileConfig;
+import io.github.georgeakulov.json_schema.compilers.CompilePhaseTimer;
+import io.github.georgeakulov.json_schema.compilers.CompileStatistics;
 import io.github.georgeakulov.json_schema.common.content.MimeTypeValidator;
 import io.github.georgeakulov.json_schema.compilers.Compiler;
+import io.github.georgeakulov.json_schema.compilers.IValidator;
 import io.github.georgeakulov.json_schema.dialects.Defaults;
+import io.github.georgeakulov.json_schema.dialects.DialectRegistry;
 import io.github.georgeakulov.json_schema.loaders.ExternalResolversHelper;
 import io.github.georgeakulov.json_schema.loaders.IResourceLoader;
+import io.github.georgeakulov.json_schema.loaders.LoadedResources;
 import io.github.georgeakulov.json_schema.loaders.OriginalSpecResolver;
+import org.jspecify.annotations.Nullable;
 import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.URI;
 import java.util.*;
 import java.util.concurrent.ExecutorService;
@@ -38,10 +49,16 @@ public class SchemaBuilder {
     private final List<IResourceLoader> resourceLoaders = new ArrayList<>(1);
     private IRegexPredicateFactory regexPredicateFactory;
     private final Map<String, Predicate<String>> formatValidators = new HashMap<>();
+    private final Set<String> cacheableFormats = new HashSet<>();
+    private FormatCache formatCache;
     private ContentValidationLevel contentValidationLevel = ContentValidationLevel.DEFAULT;
     private final SimpleContentValidationRegistry contentValidationRegistry = new SimpleContentValidationRegistry();
     private boolean allowEmbedResourceLoaders = true;
     private boolean allowOriginalSpecPreload = true;
+    private long unannotatedFastPathThreshold;
+    private IValidationMetrics metrics = IValidationMetrics.NOOP;
+    private ValidationLimits limits = ValidationLimits.NONE;
+    private boolean compileReportEnabled;
 
 
     private SchemaBuilder() {
@@ -307,6 +324,24 @@ public class SchemaBuilder {
         Objects.requireNonNull(formatName, "The formatName is null");
         Objects.requireNonNull(formatValidator, "The formatValidator is null");
         this.formatValidators.put(formatName, formatValidator);
+        this.cacheableFormats.remove(formatName);
+        return this;
+    }
+
+    /**
+     * Add custom or replace existing format validator
+     * @param formatName format name
+     * @param formatValidator format validator
+     * @param cacheable the validator is pure, so its results may be cached by the {@link FormatCache}
+     * @return this
+     * @throws NullPointerException if any or arguments is null
+     * @see #setFormatCache(FormatCache)
+     */
+    public SchemaBuilder addFormatValidator(String formatName, Predicate<String> formatValidator, boolean cacheable) {
+        addFormatValidator(formatName, formatValidator);
+        if(cacheable) {
+            this.cacheableFormats.add(formatName);
+        }
         return this;
     }
 
@@ -322,6 +357,20 @@ public class SchemaBuilder {
         return this;
     }
 
+    /**
+     * Cache the results of the heavy built-in formats and of the custom formats added as cacheable.
+     * Disabled by default. The cache is keyed by the format name, so it may be shared by the schemas
+     * having the same validators of the cacheable formats.
+     * @param formatCache the format cache
+     * @return this
+     * @throws NullPointerException if {@code formatCache} is null
+     */
+    public SchemaBuilder setFormatCache(FormatCache formatCache) {
+        Objects.requireNonNull(formatCache, "The formatCache is null");
+        this.formatCache = formatCache;
+        return this;
+    }
+
     /**
      * Set scheduler for parallel validation
      * @param scheduler scheduler
@@ -346,6 +395,68 @@ public class SchemaBuilder {
         return setScheduler(Schedulers.fromExecutorService(executorService));
     }
 
+    /**
+     * Enable the unannotated fast path. <b>Changes the shape of the results over time:</b> after
+     * {@code invocationThreshold} validations the valid instances get the ok result without annotations.<br/>
+     * The schema is translated to the hidden class (see {@link io.github.georgeakulov.json_schema.codegen.HiddenClassDefiner})
+     * which checks only the validity, the invalid instances are validated by the interpreter to collect errors.
+     * The class is generated in the background on {@link Schedulers#boundedElastic()}, the validations use
+     * the interpreter until it is ready.<br/>
+     * The fast path is used only for Draft 2020-12 schemas supported by the generator, compiled without format
+     * assertions, array casting, custom regex factory and validation limits. Otherwise, the interpreter is used
+     * and the reason is reported by {@link Schema#getFastPathFailure()}.
+     * @param invocationThreshold count of validations before the generation, 0 disables the fast path (default)
+     * @return this
+     * @throws IllegalArgumentException if {@code invocationThreshold} is negative
+     * @see Schema#getFastPathState()
+     */
+    public SchemaBuilder setUnannotatedFastPathThreshold(long invocationThreshold) {
+        if(invocationThreshold < 0) {
+            throw new IllegalArgumentException("The invocation threshold must be non negative");
+        }
+        this.unannotatedFastPathThreshold = invocationThreshold;
+        return this;
+    }
+
+    /**
+     * Set the receiver of the compilation and validation measurements. By default, nothing is measured.<br/>
+     * The measured validations run without the unannotated fast path.
+     * @param metrics the metrics, use {@link IValidationMetrics#sampling(IValidationMetrics, int)} to measure the part of validations
+     * @return this
+     * @throws NullPointerException if {@code metrics} is null
+     */
+    public SchemaBuilder setValidationMetrics(IValidationMetrics metrics) {
+        this.metrics = Objects.requireNonNull(metrics, "The metrics is null");
+        return this;
+    }
+
+    /**
+     * Set the resource limits of each validation. By default, the validation is unlimited.<br/>
+     * When a limit is exceeded, the validation is aborted and the result contains the error
+     * {@link io.github.georgeakulov.json_schema.results.EErrorType#LIMIT_EXCEEDED}.
+     * The limited schema runs without the unannotated fast path.
+     * @param limits the limits
+     * @return this
+     * @throws NullPointerException if {@code limits} is null
+     */
+    public SchemaBuilder setValidationLimits(ValidationLimits limits) {
+        Objects.requireNonNull(limits, "The limits is null");
+        this.limits = limits.isUnlimited() ? ValidationLimits.NONE : limits;
+        return this;
+    }
+
+    /**
+     * Enable the compile report available by {@link Schema#getCompileReport()}: the phase durations and allocations,
+     * counts of subschemas, references, external loads, regular expressions and validators, the approximate
+     * retained size and the slowest subschemas. Disabled by default.
+     * @param compileReportEnabled true to collect the report
+     * @return this
+     */
+    public SchemaBuilder setCompileReportEnabled(boolean compileReportEnabled) {
+        this.compileReportEnabled = compileReportEnabled;
+        return this;
+    }
+
     /**
      * Compile the json schema with the previously set parameters
      * @param schema json schema
@@ -355,11 +466,38 @@ public class SchemaBuilder {
      */
     public Schema compile(JsonNode schema) {
         Objects.requireNonNull(schema, "The schema is null");
+        return compile(new SchemaSnapshot(schema, defaultDialect, new LoadedResources()), createStatistics());
+    }
+
+    /**
+     * Compile the schema from the snapshot created by {@link Schema#exportSnapshot(OutputStream)}.<br/>
+     * External schemas and references are resolved from the snapshot only, the resolvers and the resource loaders
+     * aren`t called. The default dialect of the snapshot overrides the builder one. Other parameters are taken
+     * from this builder.
+     * @param is snapshot stream, isn`t closed
+     * @return compiled schema
+     * @throws NullPointerException if {@code is} is null
+     * @throws SchemaCompileException if the stream isn`t snapshot, the snapshot is corrupted or created by
+     * the incompatible version, the snapshot doesn`t contain the referenced resource, on compilation errors
+     * @throws IOException on read error
+     */
+    public Schema loadSnapshot(InputStream is) throws IOException {
+        Objects.requireNonNull(is, "The input stream is null");
+        SchemaSnapshot snapshot = SchemaSnapshot.read(is);
+        URI dialect = snapshot.getDefaultDialect() == null ? defaultDialect : snapshot.getDefaultDialect();
+        return compile(new SchemaSnapshot(snapshot.getSchema(), dialect, snapshot.getResources()), createStatistics());
+    }
+
+    private @Nullable CompileStatistics createStatistics() {
+        return compileReportEnabled ? new CompileStatistics() : null;
+    }
+
+    private Schema compile(SchemaSnapshot snapshot, @Nullable CompileStatistics statistics) {
         if(allowOriginalSpecPreload) {
             externalSchemaResolver.addResolver(new OriginalSpecResolver());
         }
-        var validateFunc = new Compiler()
-                .compileSchema(schema, defaultDialect, new CompileConfig()
+        var validator = new Compiler()
+                .compileRootValidator(snapshot.getSchema(), snapshot.getDefaultDialect(), new CompileConfig()
                         .setExternalSchemaResolver(externalSchemaResolver)
                         .addResourceLoaders(resourceLoaders)
                         .allowEmbedResourceLoaders(allowEmbedResourceLoaders)
@@ -370,8 +508,57 @@ public class SchemaBuilder {
                         .setContentValidationLevel(contentValidationLevel)
                         .addFirstContentValidationRegistry(this.contentValidationRegistry)
                         .addFormatValidators(this.formatValidators)
+                        .addCacheableFormats(this.cacheableFormats)
+                        .setFormatCache(this.formatCache)
+                        .setLoadedResources(snapshot.getResources())
+                        .setMetrics(metrics)
+                        .setCompileStatistics(statistics)
                 );
-        return new Schema(validateFunc);
+        return new Schema(validator, snapshot, createBackend(snapshot), metrics, limits, createReport(validator, statistics));
+    }
+
+    private static @Nullable CompileReport createReport(IValidator validator, @Nullable CompileStatistics statistics) {
+        if(statistics == null) {
+            return null;
+        }
+        long totalNanos = statistics.getElapsedNanos();
+        long retainedSize = ObjectSizeEstimator.estimate(validator, obj -> obj instanceof IValidationMetrics
+                || obj instanceof Scheduler
+                || obj instanceof FormatCache
+                || obj instanceof DialectRegistry
+                || obj instanceof IExternalResolver
+                || obj instanceof IResourceLoader
+                || obj instanceof IContentValidationRegistry);
+        return new CompileReport(totalNanos, statistics.getPhases(), statistics.getSubschemas().size(),
+                statistics.getRefCount(), statistics.getExternalLoadCount(), statistics.getRegexCount(),
+                statistics.getValidatorCount(), retainedSize, statistics.getSubschemas());
+    }
+
+    private @Nullable TieredBackend createBackend(SchemaSnapshot snapshot) {
+        if(unannotatedFastPathThreshold == 0) {
+            return null;
+        }
+        String reason = null;
+        if(limits != ValidationLimits.NONE) {
+            reason = "validation limits";
+        }
+        else if(formatEnabled) {
+            reason = "format assertions";
+        }
+        else if(allowTreatAsArray) {
+            reason = "array casting";
+        }
+        else if(regexPredicateFactory != null) {
+            reason = "custom regex factory";
+        }
+        else if(!snapshot.getSchema().has("$schema") && !Defaults.DIALECT_2020_12.equals(snapshot.getDefaultDialect())) {
+            reason = "default dialect other than Draft 2020-12";
+        }
+        if(reason != null) {
+            return TieredBackend.unavailable(snapshot.getSchema(),
+                    new IllegalStateException("The unannotated fast path isn`t supported with the " + reason));
+        }
+        return new TieredBackend(snapshot.getSchema(), unannotatedFastPathThreshold);
     }
 
     /**
@@ -384,7 +571,17 @@ public class SchemaBuilder {
      */
     public Schema compile(String schemaString) {
         Objects.requireNonNull(schemaString, "The schema string is null");
-        return compile(JsonUtils.parse(schemaString));
+        CompileStatistics statistics = createStatistics();
+        var timer = new CompilePhaseTimer(metrics, statistics);
+        JsonNode schema;
+        timer.enter(IValidationMetrics.CompilePhase.LOAD);
+        try {
+            schema = JsonUtils.parse(schemaString);
+        }
+        finally {
+            timer.exit();
+        }
+        return compile(new SchemaSnapshot(schema, defaultDialect, new LoadedResources()), statistics);
     }
 
     private record ResourceLoader(String schema, Function<URI, JsonNode> loader) implements IResourceLoader{
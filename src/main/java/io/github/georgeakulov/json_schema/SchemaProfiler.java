@@ -0,0 +1,115 @@
+package io.github.georgeakulov.json_schema;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Profiler of the validation, thread safe. Aggregates self and total time of each keyword by its location,
+ * the location is the schema pointer of the keyword prefixed by the resource id if present.<br/>
+ * The self time excludes the time of the nested keywords, so the hottest locations are
+ * those which check the instances themselves.
+ * The profile can be collected for the single validation or for the sampled window of the validations
+ * by {@link IValidationMetrics#sampling(IValidationMetrics, int)}.
+ * @see SchemaBuilder#setValidationMetrics(IValidationMetrics)
+ */
+public final class SchemaProfiler implements IValidationMetrics {
+
+    private final Map<String, Location> locations = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> stacks = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean isProfiling() {
+        return true;
+    }
+
+    @Override
+    public void recordFrame(String location, String stack, long totalNanos, long selfNanos) {
+        locations.computeIfAbsent(location, ignore -> new Location()).add(totalNanos, selfNanos);
+        stacks.computeIfAbsent(stack, ignore -> new LongAdder()).add(selfNanos);
+    }
+
+    /**
+     * @param limit max count of the entries
+     * @return the locations ordered by descending self time
+     */
+    public List<Entry> getHottest(int limit) {
+        return locations.entrySet().stream()
+                .map(entry -> entry.getValue().get(entry.getKey()))
+                .sorted(Comparator.comparingLong(Entry::selfNanos).reversed()
+                        .thenComparing(Entry::location))
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * @param limit max count of the locations
+     * @return the text table of the hottest locations
+     */
+    public String report(int limit) {
+        List<Entry> hottest = getHottest(limit);
+        long self = locations.values().stream().mapToLong(location -> location.selfNanos.sum()).sum();
+        var sb = new StringBuilder(String.format("%8s %12s %12s %10s  %s%n", "self%", "self ms", "total ms", "calls", "location"));
+        for(Entry entry : hottest) {
+            sb.append(String.format("%7.2f%% %12.3f %12.3f %10d  %s%n",
+                    self == 0 ? 0.0 : entry.selfNanos() * 100.0 / self,
+                    entry.selfNanos() / 1e6,
+                    entry.totalNanos() / 1e6,
+                    entry.count(),
+                    entry.location()));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Writes the self time in nanoseconds of each stack in the collapsed format: {@code loc1;loc2;loc3 nanos} per line.
+     * Can be rendered by flame graph tools.
+     */
+    public void writeCollapsedStacks(Writer writer) throws IOException {
+        var lines = stacks.entrySet().stream()
+                .map(entry -> entry.getKey().replace(' ', '_') + ' ' + entry.getValue().sum())
+                .sorted()
+                .toList();
+        for(String line : lines) {
+            writer.write(line);
+            writer.write('\n');
+        }
+        writer.flush();
+    }
+
+    /**
+     * Clears collected profile, e.g. to start new window
+     */
+    public void reset() {
+        locations.clear();
+        stacks.clear();
+    }
+
+    /**
+     * @param location schema pointer of the keyword
+     * @param count count of the calls
+     * @param totalNanos cumulative duration including nested schemas
+     * @param selfNanos cumulative duration excluding nested keywords
+     */
+    public record Entry(String location, long count, long totalNanos, long selfNanos) {}
+
+    private static class Location {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAdder selfNanos = new LongAdder();
+
+        void add(long total, long self) {
+            count.increment();
+            totalNanos.add(total);
+            selfNanos.add(self);
+        }
+
+        Entry get(String location) {
+            return new Entry(location, count.sum(), totalNanos.sum(), selfNanos.sum());
+        }
+    }
+}
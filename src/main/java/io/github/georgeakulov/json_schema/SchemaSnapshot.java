@@ -0,0 +1,266 @@
+package io.github.georgeakulov.json_schema;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.github.georgeakulov.json_schema.common.SchemaCompileException;
+import io.github.georgeakulov.json_schema.loaders.LoadedResources;
+import org.jspecify.annotations.Nullable;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Map;
+
+import static io.github.georgeakulov.json_schema.common.SchemaCompileException.checkIt;
+
+/**
+ * Serialized form of the compiled schema: the root schema, the default dialect and all external schemas
+ * and reference resolutions used on the compilation.<br/>
+ * Layout: magic, format version, payload length, payload, SHA-256 of the payload.
+ * The json trees are written in the compact binary form, so the loading doesn`t parse the json text
+ * and doesn`t load anything by the network.
+ */
+final class SchemaSnapshot {
+
+    private static final int MAGIC = 0x4A53534E;
+    /**
+     * Must be incremented on any change of the layout or the compilation semantic of the stored data
+     */
+    static final int FORMAT_VERSION = 1;
+
+    private static final int NULL = 0;
+    private static final int TRUE = 1;
+    private static final int FALSE = 2;
+    private static final int INT = 3;
+    private static final int LONG = 4;
+    private static final int BIG_INTEGER = 5;
+    private static final int DOUBLE = 6;
+    private static final int FLOAT = 7;
+    private static final int DECIMAL = 8;
+    private static final int STRING = 9;
+    private static final int ARRAY = 10;
+    private static final int OBJECT = 11;
+
+    private final JsonNode schema;
+    private final @Nullable URI defaultDialect;
+    private final LoadedResources resources;
+
+    SchemaSnapshot(JsonNode schema, @Nullable URI defaultDialect, LoadedResources resources) {
+        this.schema = schema;
+        this.defaultDialect = defaultDialect;
+        this.resources = resources;
+    }
+
+    JsonNode getSchema() {
+        return schema;
+    }
+
+    @Nullable URI getDefaultDialect() {
+        return defaultDialect;
+    }
+
+    LoadedResources getResources() {
+        return resources;
+    }
+
+    void write(OutputStream os) throws IOException {
+        var payload = new ByteArrayOutputStream();
+        var out = new DataOutputStream(payload);
+        writeOptString(out, defaultDialect == null ? null : defaultDialect.toString());
+        writeNode(out, schema);
+        Map<URI, JsonNode> loaded = resources.getResources();
+        out.writeInt(loaded.size());
+        for(var entry : loaded.entrySet()) {
+            writeString(out, entry.getKey().toString());
+            writeNode(out, entry.getValue());
+        }
+        Map<String, LoadedResources.ResolvedRef> refs = resources.getRefs();
+        out.writeInt(refs.size());
+        for(var entry : refs.entrySet()) {
+            writeString(out, entry.getKey());
+            var ref = entry.getValue();
+            writeOptString(out, ref.absoluteUri() == null ? null : ref.absoluteUri().toString());
+            out.writeBoolean(ref.schema() != null);
+            if(ref.schema() != null) {
+                writeNode(out, ref.schema());
+            }
+        }
+        out.flush();
+
+        byte[] bytes = payload.toByteArray();
+        var header = new DataOutputStream(os);
+        header.writeInt(MAGIC);
+        header.writeInt(FORMAT_VERSION);
+        header.writeInt(bytes.length);
+        header.write(bytes);
+        header.write(digest(bytes));
+        header.flush();
+    }
+
+    /**
+     * @throws SchemaCompileException if the stream is not a snapshot, the snapshot was created by other format version or corrupted
+     */
+    static SchemaSnapshot read(InputStream is) throws IOException {
+        var header = new DataInputStream(is);
+        checkIt(header.readInt() == MAGIC, "The stream is not schema snapshot");
+        int version = header.readInt();
+        checkIt(version == FORMAT_VERSION, "The snapshot format version {0} is not supported, expected {1}", version, FORMAT_VERSION);
+        int length = header.readInt();
+        checkIt(length >= 0, "The snapshot is corrupted");
+        byte[] bytes = header.readNBytes(length);
+        byte[] hash = header.readNBytes(32);
+        checkIt(bytes.length == length && Arrays.equals(hash, digest(bytes)), "The snapshot is corrupted");
+
+        var in = new DataInputStream(new ByteArrayInputStream(bytes));
+        String dialect = readOptString(in);
+        JsonNode schema = readNode(in);
+        var resources = new LoadedResources();
+        for(int count = in.readInt(); count > 0; count--) {
+            resources.putResource(URI.create(readString(in)), readNode(in));
+        }
+        for(int count = in.readInt(); count > 0; count--) {
+            // The stored key already contains the base URI
+            String key = readString(in);
+            String absoluteUri = readOptString(in);
+            JsonNode refSchema = in.readBoolean() ? readNode(in) : null;
+            resources.putRef(key, null, absoluteUri == null ? null : URI.create(absoluteUri), refSchema);
+        }
+        return new SchemaSnapshot(schema, dialect == null ? null : URI.create(dialect), resources.seal());
+    }
+
+    private static byte[] digest(byte[] bytes) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(bytes);
+        }
+        catch(NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void writeNode(DataOutputStream out, JsonNode node) throws IOException {
+        switch(node.getNodeType()) {
+            case NULL -> out.writeByte(NULL);
+            case BOOLEAN -> out.writeByte(node.booleanValue() ? TRUE : FALSE);
+            case STRING -> {
+                out.writeByte(STRING);
+                writeString(out, node.textValue());
+            }
+            case NUMBER -> writeNumber(out, node);
+            case ARRAY -> {
+                out.writeByte(ARRAY);
+                out.writeInt(node.size());
+                for(JsonNode item : node) {
+                    writeNode(out, item);
+                }
+            }
+            case OBJECT -> {
+                out.writeByte(OBJECT);
+                out.writeInt(node.size());
+                for(Map.Entry<String, JsonNode> entry : node.properties()) {
+                    writeString(out, entry.getKey());
+                    writeNode(out, entry.getValue());
+                }
+            }
+            default -> throw new IllegalArgumentException("Unsupported json node type " + node.getNodeType());
+        }
+    }
+
+    private static void writeNumber(DataOutputStream out, JsonNode node) throws IOException {
+        switch(node.numberType()) {
+            case INT -> {
+                out.writeByte(INT);
+                out.writeInt(node.intValue());
+            }
+            case LONG -> {
+                out.writeByte(LONG);
+                out.writeLong(node.longValue());
+            }
+            case BIG_INTEGER -> {
+                out.writeByte(BIG_INTEGER);
+                writeString(out, node.bigIntegerValue().toString());
+            }
+            case FLOAT -> {
+                out.writeByte(FLOAT);
+                out.writeFloat(node.floatValue());
+            }
+            case DOUBLE -> {
+                out.writeByte(DOUBLE);
+                out.writeDouble(node.doubleValue());
+            }
+            case BIG_DECIMAL -> {
+                out.writeByte(DECIMAL);
+                writeString(out, node.decimalValue().toString());
+            }
+        }
+    }
+
+    private static JsonNode readNode(DataInputStream in) throws IOException {
+        var factory = JsonNodeFactory.instance;
+        int tag = in.readByte();
+        return switch(tag) {
+            case NULL -> factory.nullNode();
+            case TRUE -> factory.booleanNode(true);
+            case FALSE -> factory.booleanNode(false);
+            case INT -> factory.numberNode(in.readInt());
+            case LONG -> factory.numberNode(in.readLong());
+            case BIG_INTEGER -> factory.numberNode(new BigInteger(readString(in)));
+            case FLOAT -> factory.numberNode(in.readFloat());
+            case DOUBLE -> factory.numberNode(in.readDouble());
+            case DECIMAL -> factory.numberNode(new BigDecimal(readString(in)));
+            case STRING -> factory.textNode(readString(in));
+            case ARRAY -> {
+                int size = in.readInt();
+                ArrayNode array = factory.arrayNode(size);
+                for(int i = 0; i < size; i++) {
+                    array.add(readNode(in));
+                }
+                yield array;
+            }
+            case OBJECT -> {
+                int size = in.readInt();
+                ObjectNode object = factory.objectNode();
+                for(int i = 0; i < size; i++) {
+                    String name = readString(in);
+                    object.set(name, readNode(in));
+                }
+                yield object;
+            }
+            default -> throw SchemaCompileException.create("The snapshot is corrupted, unknown node type {0}", tag);
+        };
+    }
+
+    private static void writeOptString(DataOutputStream out, @Nullable String value) throws IOException {
+        out.writeBoolean(value != null);
+        if(value != null) {
+            writeString(out, value);
+        }
+    }
+
+    private static @Nullable String readOptString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? readString(in) : null;
+    }
+
+    // DataOutput.writeUTF is limited by 64K
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        return new String(in.readNBytes(in.readInt()), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,136 @@
+package io.github.georgeakulov.json_schema;
+
+import io.github.georgeakulov.json_schema.results.EErrorType;
+import io.github.georgeakulov.json_schema.results.IValidationResult.ISchemaLocator;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory aggregation of the measurements, thread safe.<br/>
+ * Can be used directly or as the source for the export to the metrics system.
+ */
+public final class SimpleValidationMetrics implements IValidationMetrics {
+
+    private final Timer validations = new Timer();
+    private final LongAdder instanceNodes = new LongAdder();
+    private final Map<ISchemaLocator, Timer> schemas = new ConcurrentHashMap<>();
+    private final Map<String, Timer> keywords = new ConcurrentHashMap<>();
+    private final Map<EErrorType, LongAdder> errors = new ConcurrentHashMap<>();
+    private final LongAccumulator maxRefDepth = new LongAccumulator(Math::max, 0);
+    private final Map<CompilePhase, Timer> compilePhases = new ConcurrentHashMap<>();
+    private final boolean countingInstanceSize;
+
+    /**
+     * The metrics counting the instance size
+     */
+    public SimpleValidationMetrics() {
+        this(true);
+    }
+
+    /**
+     * @param countingInstanceSize false to skip the walk of the instance, {@link #getAverageInstanceSize()} is 0 then
+     */
+    public SimpleValidationMetrics(boolean countingInstanceSize) {
+        this.countingInstanceSize = countingInstanceSize;
+    }
+
+    @Override
+    public boolean isCountingInstanceSize() {
+        return countingInstanceSize;
+    }
+
+    @Override
+    public void recordValidation(long nanos, int instanceSize) {
+        validations.add(nanos);
+        instanceNodes.add(instanceSize);
+    }
+
+    @Override
+    public void recordSchema(ISchemaLocator schema, long nanos) {
+        schemas.computeIfAbsent(schema, ignore -> new Timer()).add(nanos);
+    }
+
+    @Override
+    public void recordKeyword(ISchemaLocator schema, String keyword, long nanos) {
+        keywords.computeIfAbsent(keyword, ignore -> new Timer()).add(nanos);
+    }
+
+    @Override
+    public void recordError(EErrorType errorType) {
+        errors.computeIfAbsent(errorType, ignore -> new LongAdder()).increment();
+    }
+
+    @Override
+    public void recordRefDepth(int depth) {
+        maxRefDepth.accumulate(depth);
+    }
+
+    @Override
+    public void recordCompilePhase(CompilePhase phase, long nanos) {
+        compilePhases.computeIfAbsent(phase, ignore -> new Timer()).add(nanos);
+    }
+
+    public Timing getValidations() {
+        return validations.get();
+    }
+
+    /**
+     * @return average count of the json nodes in the validated instances
+     */
+    public double getAverageInstanceSize() {
+        long count = validations.count.sum();
+        return count == 0 ? 0 : (double) instanceNodes.sum() / count;
+    }
+
+    public Map<ISchemaLocator, Timing> getSchemas() {
+        return snapshot(schemas, new HashMap<>());
+    }
+
+    public Map<String, Timing> getKeywords() {
+        return snapshot(keywords, new HashMap<>());
+    }
+
+    public Map<EErrorType, Long> getErrors() {
+        Map<EErrorType, Long> result = new EnumMap<>(EErrorType.class);
+        errors.forEach((type, count) -> result.put(type, count.sum()));
+        return result;
+    }
+
+    public long getMaxRefDepth() {
+        return maxRefDepth.get();
+    }
+
+    public Map<CompilePhase, Timing> getCompilePhases() {
+        return snapshot(compilePhases, new EnumMap<>(CompilePhase.class));
+    }
+
+    private static <K> Map<K, Timing> snapshot(Map<K, Timer> timers, Map<K, Timing> target) {
+        timers.forEach((key, timer) -> target.put(key, timer.get()));
+        return target;
+    }
+
+    /**
+     * @param count count of the measurements
+     * @param nanos cumulative duration
+     */
+    public record Timing(long count, long nanos) {}
+
+    private static class Timer {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+
+        void add(long value) {
+            count.increment();
+            nanos.add(value);
+        }
+
+        Timing get() {
+            return new Timing(count.sum(), nanos.sum());
+        }
+    }
+}
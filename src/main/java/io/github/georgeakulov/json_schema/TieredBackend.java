@@ -0,0 +1,110 @@
+package io.github.georgeakulov.json_schema;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.github.georgeakulov.json_schema.Schema.FastPathState;
+import io.github.georgeakulov.json_schema.codegen.HiddenClassDefiner;
+import io.github.georgeakulov.json_schema.results.IValidationResult;
+import io.github.georgeakulov.json_schema.results.IValidationResult.IValidationId;
+import io.github.georgeakulov.json_schema.results.ValidationResultFactory;
+import org.jspecify.annotations.Nullable;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * Switches the schema from the interpreted validators to the generated hidden class after the threshold of validations.<br/>
+ * The generated class answers only validity, so it is used as fast path: the valid instance gets the ok result
+ * without annotations, the invalid instance is validated again by the interpreter to collect the errors.
+ * The class is generated asynchronously on the bounded scheduler, the interpreter is used until it is ready.
+ * If the schema can`t be generated, the interpreter is used forever and the reason is kept as the failure.
+ */
+final class TieredBackend {
+
+    private final JsonNode schema;
+    private final long threshold;
+    private final Scheduler scheduler;
+    private final AtomicLong invocations = new AtomicLong();
+    private final AtomicBoolean requested = new AtomicBoolean();
+    private volatile @Nullable Predicate<JsonNode> generated;
+    private volatile @Nullable IValidationId rootId;
+    private volatile @Nullable RuntimeException failure;
+
+    TieredBackend(JsonNode schema, long threshold) {
+        this(schema, threshold, Schedulers.boundedElastic());
+    }
+
+    /**
+     * @param scheduler scheduler of the generation
+     */
+    TieredBackend(JsonNode schema, long threshold, Scheduler scheduler) {
+        this.schema = schema;
+        this.threshold = threshold;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * @return the backend which is never promoted
+     */
+    static TieredBackend unavailable(JsonNode schema, RuntimeException reason) {
+        var backend = new TieredBackend(schema, 0, Schedulers.immediate());
+        backend.failure = reason;
+        backend.requested.set(true);
+        return backend;
+    }
+
+    /**
+     * @return the ok result if the generated validator is active and the instance is valid, otherwise null
+     */
+    @Nullable IValidationResult tryValidate(JsonNode instance) {
+        Predicate<JsonNode> validator = generated;
+        IValidationId id = rootId;
+        if(validator == null || id == null) {
+            if(!requested.get() && invocations.incrementAndGet() >= threshold && requested.compareAndSet(false, true)) {
+                // Is requested once by the caller which crosses the threshold, all continue with the interpreter
+                promote();
+            }
+            return null;
+        }
+        return validator.test(instance) ? ValidationResultFactory.createOk(id) : null;
+    }
+
+    private void promote() {
+        try {
+            scheduler.schedule(() -> {
+                try {
+                    generated = HiddenClassDefiner.define(schema);
+                }
+                catch(RuntimeException e) {
+                    failure = e;
+                }
+            });
+        }
+        catch(RejectedExecutionException e) {
+            failure = e;
+        }
+    }
+
+    /**
+     * Remembers the id of the root result produced by the interpreter
+     */
+    void onInterpreted(IValidationResult result) {
+        if(rootId == null) {
+            rootId = result.getId();
+        }
+    }
+
+    FastPathState getState() {
+        if(failure != null) {
+            return FastPathState.UNAVAILABLE;
+        }
+        return generated != null && rootId != null ? FastPathState.ACTIVE : FastPathState.PENDING;
+    }
+
+    @Nullable RuntimeException getFailure() {
+        return failure;
+    }
+}
@@ -0,0 +1,98 @@
+package io.github.georgeakulov.json_schema;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Resource limits of the single validation, immutable. Zero value means the limit is not set.<br/>
+ * When a limit is exceeded, the validation is aborted and the result contains the error
+ * {@link io.github.georgeakulov.json_schema.results.EErrorType#LIMIT_EXCEEDED}.
+ * @see SchemaBuilder#setValidationLimits(ValidationLimits)
+ */
+public final class ValidationLimits {
+
+    public static final ValidationLimits NONE = new ValidationLimits(0, 0, Duration.ZERO, 0);
+
+    private final int maxDepth;
+    private final long maxNodes;
+    private final Duration maxTime;
+    private final int maxEvaluatedErrors;
+
+    private ValidationLimits(int maxDepth, long maxNodes, Duration maxTime, int maxEvaluatedErrors) {
+        this.maxDepth = maxDepth;
+        this.maxNodes = maxNodes;
+        this.maxTime = maxTime;
+        this.maxEvaluatedErrors = maxEvaluatedErrors;
+    }
+
+    /**
+     * @param maxDepth max depth of the validated value in the instance
+     * @throws IllegalArgumentException if {@code maxDepth} is negative
+     */
+    public ValidationLimits withMaxDepth(int maxDepth) {
+        checkNonNegative(maxDepth, "depth");
+        return new ValidationLimits(maxDepth, maxNodes, maxTime, maxEvaluatedErrors);
+    }
+
+    /**
+     * The keywords which iterate the array themselves, e.g. {@code uniqueItems} and {@code contains},
+     * are charged by the count of the items
+     * @param maxNodes max count of the (sub)schema evaluations against the instance values
+     * @throws IllegalArgumentException if {@code maxNodes} is negative
+     */
+    public ValidationLimits withMaxNodes(long maxNodes) {
+        checkNonNegative(maxNodes, "nodes");
+        return new ValidationLimits(maxDepth, maxNodes, maxTime, maxEvaluatedErrors);
+    }
+
+    /**
+     * The deadline is checked before each (sub)schema evaluation, so the long single keyword, e.g. regex,
+     * isn`t interrupted
+     * @param maxTime max wall-clock duration of the validation
+     * @throws NullPointerException if {@code maxTime} is null
+     * @throws IllegalArgumentException if {@code maxTime} is negative
+     */
+    public ValidationLimits withMaxTime(Duration maxTime) {
+        Objects.requireNonNull(maxTime, "The max time is null");
+        checkNonNegative(maxTime.toNanos(), "time");
+        return new ValidationLimits(maxDepth, maxNodes, maxTime, maxEvaluatedErrors);
+    }
+
+    /**
+     * The errors are counted on evaluation, so the errors of the discarded {@code anyOf}, {@code oneOf}, {@code not}
+     * and {@code if} branches count too. Thus the limit must be well above the expected count of the reported errors.
+     * @param maxEvaluatedErrors count of the evaluated errors after which the validation is aborted,
+     *                           the evaluated errors are returned
+     * @throws IllegalArgumentException if {@code maxEvaluatedErrors} is negative
+     */
+    public ValidationLimits withMaxEvaluatedErrors(int maxEvaluatedErrors) {
+        checkNonNegative(maxEvaluatedErrors, "evaluated errors");
+        return new ValidationLimits(maxDepth, maxNodes, maxTime, maxEvaluatedErrors);
+    }
+
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    public long getMaxNodes() {
+        return maxNodes;
+    }
+
+    public Duration getMaxTime() {
+        return maxTime;
+    }
+
+    public int getMaxEvaluatedErrors() {
+        return maxEvaluatedErrors;
+    }
+
+    public boolean isUnlimited() {
+        return maxDepth == 0 && maxNodes == 0 && maxTime.isZero() && maxEvaluatedErrors == 0;
+    }
+
+    private static void checkNonNegative(long value, String name) {
+        if(value < 0) {
+            throw new IllegalArgumentException("The max " + name + " must be non negative");
+        }
+    }
+}
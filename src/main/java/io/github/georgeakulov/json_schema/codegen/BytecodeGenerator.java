@@ -0,0 +1,458 @@
+package io.github.georgeakulov.json_schema.codegen;
+
+import io.github.georgeakulov.json_schema.codegen.ClassFileWriter.Code;
+import io.github.georgeakulov.json_schema.codegen.ClassFileWriter.Label;
+import io.github.georgeakulov.json_schema.codegen.ValidatorPlan.AnyOf;
+import io.github.georgeakulov.json_schema.codegen.ValidatorPlan.Always;
+import io.github.georgeakulov.json_schema.codegen.ValidatorPlan.ArrayLoop;
+import io.github.georgeakulov.json_schema.codegen.ValidatorPlan.Call;
+import io.github.georgeakulov.json_schema.codegen.ValidatorPlan.Check;
+import io.github.georgeakulov.json_schema.codegen.ValidatorPlan.Condition;
+import io.github.georgeakulov.json_schema.codegen.ValidatorPlan.Constant;
+import io.github.georgeakulov.json_schema.codegen.ValidatorPlan.Helper;
+import io.github.georgeakulov.json_schema.codegen.ValidatorPlan.IfThenElse;
+import io.github.georgeakulov.json_schema.codegen.ValidatorPlan.Method;
+import io.github.georgeakulov.json_schema.codegen.ValidatorPlan.Not;
+import io.github.georgeakulov.json_schema.codegen.ValidatorPlan.ObjectLoop;
+import io.github.georgeakulov.json_schema.codegen.ValidatorPlan.OneOf;
+import io.github.georgeakulov.json_schema.codegen.ValidatorPlan.PatternCall;
+import io.github.georgeakulov.json_schema.codegen.ValidatorPlan.Require;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static io.github.georgeakulov.json_schema.codegen.ClassFileWriter.ACC_FINAL;
+import static io.github.georgeakulov.json_schema.codegen.ClassFileWriter.ACC_PRIVATE;
+import static io.github.georgeakulov.json_schema.codegen.ClassFileWriter.ACC_PUBLIC;
+import static io.github.georgeakulov.json_schema.codegen.ClassFileWriter.ACC_STATIC;
+
+/**
+ * Bytecode of the validator class with the same shape as the source of {@link ValidatorGenerator}.
+ * The constants are taken from the class data ({@link java.lang.invoke.MethodHandles#classData}),
+ * so the class is defined without the java compiler.
+ */
+final class BytecodeGenerator {
+
+    private static final String OBJECT = "java/lang/Object";
+    private static final String STRING = "java/lang/String";
+    private static final String JSON_NODE = "com/fasterxml/jackson/databind/JsonNode";
+    private static final String NODE = "L" + JSON_NODE + ";";
+    private static final String VALIDATE = "(" + NODE + ")Z";
+    private static final String SUPPORT = "io/github/georgeakulov/json_schema/codegen/ValidatorSupport";
+    private static final String LOOKUP = "java/lang/invoke/MethodHandles$Lookup";
+
+    private static final int IFEQ = 0x99;
+    private static final int IFNE = 0x9A;
+    private static final int IF_ICMPEQ = 0x9F;
+    private static final int IF_ICMPNE = 0xA0;
+    private static final int IF_ICMPLT = 0xA1;
+    private static final int IF_ICMPGE = 0xA2;
+    private static final int IF_ICMPGT = 0xA3;
+    private static final int IF_ICMPLE = 0xA4;
+    private static final int GOTO = 0xA7;
+    private static final int IADD = 0x60;
+    private static final int AALOAD = 0x32;
+    private static final int DUP = 0x59;
+    private static final int IRETURN = 0xAC;
+    private static final int RETURN = 0xB1;
+
+    // Locals of the validation method
+    private static final int ITERATOR = 1;
+    private static final int NAME = 2;
+    private static final int VALUE = 3;
+    private static final int MATCHED = 4;
+    private static final int INDEX = 5;
+    private static final int COUNT = 6;
+
+    private final ClassFileWriter writer;
+    private final String className;
+    private Code code;
+    private Label returnFalse;
+
+    private BytecodeGenerator(String className) {
+        this.className = className;
+        this.writer = new ClassFileWriter(className, OBJECT, "java/util/function/Predicate");
+    }
+
+    /**
+     * @param className internal name of the class
+     * @return the class file, the class data must be the array of the created plan constants
+     * @throws IllegalStateException if the generated method is too large
+     */
+    static byte[] generate(ValidatorPlan plan, String className) {
+        return new BytecodeGenerator(className).classFile(plan);
+    }
+
+    private byte[] classFile(ValidatorPlan plan) {
+        constants(plan.getConstants());
+
+        code = writer.method(ACC_PUBLIC, "<init>", "()V", 1);
+        code.aload(0);
+        code.invokeSpecial(OBJECT, "<init>", "()V");
+        code.op(RETURN, 0);
+        code.end();
+
+        code = writer.method(ACC_PUBLIC, "test", "(L" + OBJECT + ";)Z", 2);
+        code.aload(1);
+        code.checkcast(JSON_NODE);
+        code.invokeStatic(className, "v0", VALIDATE);
+        code.op(IRETURN, -1);
+        code.end();
+
+        plan.getMethods().forEach(this::method);
+        return writer.toBytes();
+    }
+
+    private void constants(List<Constant> constants) {
+        if(constants.isEmpty()) {
+            return;
+        }
+        code = writer.method(ACC_STATIC, "<clinit>", "()V", 0);
+        code.invokeStatic("java/lang/invoke/MethodHandles", "lookup", "()L" + LOOKUP + ";");
+        code.ldcString("_");
+        code.ldcClass("[L" + OBJECT + ";");
+        code.invokeStatic("java/lang/invoke/MethodHandles", "classData",
+                "(L" + LOOKUP + ";L" + STRING + ";Ljava/lang/Class;)L" + OBJECT + ";");
+        code.checkcast("[L" + OBJECT + ";");
+        code.astore(0);
+        for(Constant constant : constants) {
+            String descriptor = constant.type().descriptor;
+            writer.field(ACC_PRIVATE | ACC_STATIC | ACC_FINAL, field(constant), descriptor);
+            code.aload(0);
+            code.iconst(constant.index());
+            code.op(AALOAD, -1);
+            code.checkcast(descriptor.substring(1, descriptor.length() - 1));
+            code.putStatic(className, field(constant), descriptor);
+        }
+        code.op(RETURN, 0);
+        code.end();
+    }
+
+    private void method(Method method) {
+        code = writer.method(ACC_PRIVATE | ACC_STATIC, "v" + method.index(), VALIDATE, 1);
+        returnFalse = code.label();
+        for(Check check : method.checks()) {
+            switch(check) {
+                case Require require -> jumpIfFalse(require.condition(), returnFalse);
+                case ObjectLoop loop -> objectLoop(loop);
+                case ArrayLoop loop -> arrayLoop(loop);
+            }
+        }
+        code.iconst(1);
+        code.op(IRETURN, -1);
+        code.place(returnFalse);
+        code.iconst(0);
+        code.op(IRETURN, -1);
+        code.end();
+    }
+
+    private void objectLoop(ObjectLoop loop) {
+        Label end = code.label();
+        Label next = code.label();
+        code.aload(0);
+        code.invokeVirtual(JSON_NODE, "isObject", "()Z");
+        code.jump(IFEQ, end);
+        code.aload(0);
+        code.invokeVirtual(JSON_NODE, "properties", "()Ljava/util/Set;");
+        code.invokeInterface("java/util/Set", "iterator", "()Ljava/util/Iterator;");
+        code.astore(ITERATOR);
+        code.place(next);
+        code.aload(ITERATOR);
+        code.invokeInterface("java/util/Iterator", "hasNext", "()Z");
+        code.jump(IFEQ, end);
+        code.aload(ITERATOR);
+        code.invokeInterface("java/util/Iterator", "next", "()L" + OBJECT + ";");
+        code.checkcast("java/util/Map$Entry");
+        code.op(DUP, 1);
+        code.invokeInterface("java/util/Map$Entry", "getKey", "()L" + OBJECT + ";");
+        code.checkcast(STRING);
+        code.astore(NAME);
+        code.invokeInterface("java/util/Map$Entry", "getValue", "()L" + OBJECT + ";");
+        code.checkcast(JSON_NODE);
+        code.astore(VALUE);
+        boolean additional = loop.additional() != null;
+        if(additional) {
+            code.iconst(0);
+            code.istore(MATCHED);
+        }
+        if(!loop.properties().isEmpty()) {
+            propertiesSwitch(loop.properties(), additional);
+        }
+        for(PatternCall pattern : loop.patterns()) {
+            Label skip = code.label();
+            code.getStatic(className, field(pattern.pattern()), pattern.pattern().type().descriptor);
+            code.aload(NAME);
+            code.invokeInterface("java/util/function/Predicate", "test", "(L" + OBJECT + ";)Z");
+            code.jump(IFEQ, skip);
+            validateValue(pattern.method(), additional);
+            code.place(skip);
+        }
+        if(additional) {
+            Label skip = code.label();
+            code.iload(MATCHED);
+            code.jump(IFNE, skip);
+            code.aload(VALUE);
+            code.invokeStatic(className, "v" + loop.additional(), VALIDATE);
+            code.jump(IFEQ, returnFalse);
+            code.place(skip);
+        }
+        if(loop.propertyNames() != null) {
+            code.aload(NAME);
+            code.invokeStatic("com/fasterxml/jackson/databind/node/TextNode", "valueOf",
+                    "(L" + STRING + ";)Lcom/fasterxml/jackson/databind/node/TextNode;");
+            code.invokeStatic(className, "v" + loop.propertyNames(), VALIDATE);
+            code.jump(IFEQ, returnFalse);
+        }
+        code.jump(GOTO, next);
+        code.place(end);
+    }
+
+    /**
+     * The same dispatch as javac generates for the switch over strings: by the hash code, then by equals
+     */
+    private void propertiesSwitch(Map<String, Integer> properties, boolean additional) {
+        Map<Integer, List<String>> byHash = new TreeMap<>();
+        properties.keySet().forEach(name -> byHash.computeIfAbsent(name.hashCode(), key -> new ArrayList<>()).add(name));
+        int[] keys = byHash.keySet().stream().mapToInt(Integer::intValue).toArray();
+        Label[] targets = new Label[keys.length];
+        for(int idx = 0; idx < keys.length; idx++) {
+            targets[idx] = code.label();
+        }
+        Label end = code.label();
+        code.aload(NAME);
+        code.invokeVirtual(STRING, "hashCode", "()I");
+        code.lookupSwitch(keys, targets, end);
+        int idx = 0;
+        for(List<String> names : byHash.values()) {
+            code.place(targets[idx++]);
+            for(String name : names) {
+                Label other = code.label();
+                code.aload(NAME);
+                code.ldcString(name);
+                code.invokeVirtual(STRING, "equals", "(L" + OBJECT + ";)Z");
+                code.jump(IFEQ, other);
+                validateValue(properties.get(name), additional);
+                code.jump(GOTO, end);
+                code.place(other);
+            }
+            code.jump(GOTO, end);
+        }
+        code.place(end);
+    }
+
+    private void validateValue(int method, boolean additional) {
+        code.aload(VALUE);
+        code.invokeStatic(className, "v" + method, VALIDATE);
+        code.jump(IFEQ, returnFalse);
+        if(additional) {
+            code.iconst(1);
+            code.istore(MATCHED);
+        }
+    }
+
+    private void arrayLoop(ArrayLoop loop) {
+        Label end = code.label();
+        code.aload(0);
+        code.invokeVirtual(JSON_NODE, "isArray", "()Z");
+        code.jump(IFEQ, end);
+        for(int idx = 0; idx < loop.prefixItems().size(); idx++) {
+            Label skip = code.label();
+            code.aload(0);
+            code.invokeVirtual(JSON_NODE, "size", "()I");
+            code.iconst(idx);
+            code.jump(IF_ICMPLE, skip);
+            code.aload(0);
+            code.iconst(idx);
+            code.invokeVirtual(JSON_NODE, "get", "(I)" + NODE);
+            code.invokeStatic(className, "v" + loop.prefixItems().get(idx), VALIDATE);
+            code.jump(IFEQ, returnFalse);
+            code.place(skip);
+        }
+        if(loop.items() != null) {
+            Label next = code.label();
+            Label done = code.label();
+            code.iconst(loop.prefixItems().size());
+            code.istore(INDEX);
+            code.place(next);
+            code.iload(INDEX);
+            code.aload(0);
+            code.invokeVirtual(JSON_NODE, "size", "()I");
+            code.jump(IF_ICMPGE, done);
+            code.aload(0);
+            code.iload(INDEX);
+            code.invokeVirtual(JSON_NODE, "get", "(I)" + NODE);
+            code.invokeStatic(className, "v" + loop.items(), VALIDATE);
+            code.jump(IFEQ, returnFalse);
+            code.iinc(INDEX, 1);
+            code.jump(GOTO, next);
+            code.place(done);
+        }
+        if(loop.contains() != null) {
+            Label next = code.label();
+            Label skip = code.label();
+            Label done = code.label();
+            code.iconst(0);
+            code.istore(COUNT);
+            code.iconst(0);
+            code.istore(INDEX);
+            code.place(next);
+            code.iload(INDEX);
+            code.aload(0);
+            code.invokeVirtual(JSON_NODE, "size", "()I");
+            code.jump(IF_ICMPGE, done);
+            code.aload(0);
+            code.iload(INDEX);
+            code.invokeVirtual(JSON_NODE, "get", "(I)" + NODE);
+            code.invokeStatic(className, "v" + loop.contains(), VALIDATE);
+            code.jump(IFEQ, skip);
+            code.iinc(COUNT, 1);
+            code.place(skip);
+            code.iinc(INDEX, 1);
+            code.jump(GOTO, next);
+            code.place(done);
+            code.iload(COUNT);
+            code.iconst(loop.minContains());
+            code.jump(IF_ICMPLT, returnFalse);
+            if(loop.maxContains() >= 0) {
+                code.iload(COUNT);
+                code.iconst(loop.maxContains());
+                code.jump(IF_ICMPGT, returnFalse);
+            }
+        }
+        code.place(end);
+    }
+
+    /**
+     * Falls through if the condition is true
+     */
+    private void jumpIfFalse(Condition condition, Label target) {
+        switch(condition) {
+            case Always always -> {
+                if(!always.value()) {
+                    code.jump(GOTO, target);
+                }
+            }
+            case Not not -> jumpIfTrue(not.condition(), target);
+            case AnyOf anyOf -> {
+                if(anyOf.conditions().isEmpty()) {
+                    code.jump(GOTO, target);
+                    return;
+                }
+                Label matched = code.label();
+                List<Condition> conditions = anyOf.conditions();
+                for(int idx = 0; idx < conditions.size() - 1; idx++) {
+                    jumpIfTrue(conditions.get(idx), matched);
+                }
+                jumpIfFalse(conditions.getLast(), target);
+                code.place(matched);
+            }
+            case OneOf oneOf -> {
+                oneOfCount(oneOf);
+                code.jump(IF_ICMPNE, target);
+            }
+            case IfThenElse ite -> ifThenElse(ite, target, false);
+            case Helper helper -> {
+                helper(helper);
+                code.jump(IFEQ, target);
+            }
+            case Call call -> {
+                call(call);
+                code.jump(IFEQ, target);
+            }
+        }
+    }
+
+    /**
+     * Falls through if the condition is false
+     */
+    private void jumpIfTrue(Condition condition, Label target) {
+        switch(condition) {
+            case Always always -> {
+                if(always.value()) {
+                    code.jump(GOTO, target);
+                }
+            }
+            case Not not -> jumpIfFalse(not.condition(), target);
+            case AnyOf anyOf -> anyOf.conditions().forEach(item -> jumpIfTrue(item, target));
+            case OneOf oneOf -> {
+                oneOfCount(oneOf);
+                code.jump(IF_ICMPEQ, target);
+            }
+            case IfThenElse ite -> ifThenElse(ite, target, true);
+            case Helper helper -> {
+                helper(helper);
+                code.jump(IFNE, target);
+            }
+            case Call call -> {
+                call(call);
+                code.jump(IFNE, target);
+            }
+        }
+    }
+
+    private void ifThenElse(IfThenElse ite, Label target, boolean jumpIfTrue) {
+        Label otherwise = code.label();
+        Label end = code.label();
+        jumpIfFalse(ite.condition(), otherwise);
+        branch(ite.then(), target, jumpIfTrue);
+        code.jump(GOTO, end);
+        code.place(otherwise);
+        branch(ite.otherwise(), target, jumpIfTrue);
+        code.place(end);
+    }
+
+    private void branch(Condition condition, Label target, boolean jumpIfTrue) {
+        if(jumpIfTrue) {
+            jumpIfTrue(condition, target);
+        }
+        else {
+            jumpIfFalse(condition, target);
+        }
+    }
+
+    /**
+     * Leaves the count of the valid subschemas and 1 on the stack
+     */
+    private void oneOfCount(OneOf oneOf) {
+        code.iconst(0);
+        for(Call call : oneOf.calls()) {
+            call(call);
+            code.op(IADD, -1);
+        }
+        code.iconst(1);
+    }
+
+    private void call(Call call) {
+        code.aload(0);
+        code.invokeStatic(className, "v" + call.method(), VALIDATE);
+    }
+
+    private void helper(Helper helper) {
+        var descriptor = new StringBuilder("(").append(NODE);
+        code.aload(0);
+        for(Object arg : helper.args()) {
+            switch(arg) {
+                case Integer value -> {
+                    code.iconst(value);
+                    descriptor.append('I');
+                }
+                case String value -> {
+                    code.ldcString(value);
+                    descriptor.append("L").append(STRING).append(';');
+                }
+                case Constant constant -> {
+                    code.getStatic(className, field(constant), constant.type().descriptor);
+                    descriptor.append(constant.type().descriptor);
+                }
+                default -> throw new IllegalStateException("Unexpected argument " + arg);
+            }
+        }
+        code.invokeStatic(SUPPORT, helper.name(), descriptor.append(")Z").toString());
+    }
+
+    private static String field(Constant constant) {
+        return "C" + constant.index();
+    }
+}
@@ -0,0 +1,451 @@
+package io.github.georgeakulov.json_schema.codegen;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Minimal writer of the class file for the generated validators: the constant pool, static fields and
+ * the methods without the exception tables.<br/>
+ * The class file version 49 has no stack map frames, so the type inference verifier checks the code.
+ */
+final class ClassFileWriter {
+
+    static final int ACC_PUBLIC = 0x0001;
+    static final int ACC_PRIVATE = 0x0002;
+    static final int ACC_STATIC = 0x0008;
+    static final int ACC_FINAL = 0x0010;
+    static final int ACC_SUPER = 0x0020;
+
+    private static final int VERSION = 49;
+
+    private final ByteArrayOutputStream pool = new ByteArrayOutputStream();
+    private final Map<String, Integer> entries = new HashMap<>();
+    private int poolCount = 1;
+    private final int thisClass;
+    private final int superClass;
+    private final int[] interfaces;
+    private final List<byte[]> fields = new ArrayList<>();
+    private final List<byte[]> methods = new ArrayList<>();
+
+    /**
+     * @param name internal name of the class
+     */
+    ClassFileWriter(String name, String superName, String... interfaceNames) {
+        this.thisClass = classRef(name);
+        this.superClass = classRef(superName);
+        this.interfaces = new int[interfaceNames.length];
+        for(int i = 0; i < interfaceNames.length; i++) {
+            interfaces[i] = classRef(interfaceNames[i]);
+        }
+    }
+
+    void field(int access, String name, String descriptor) {
+        var bytes = new ByteArrayOutputStream();
+        write(bytes, out -> {
+            out.writeShort(access);
+            out.writeShort(utf8(name));
+            out.writeShort(utf8(descriptor));
+            out.writeShort(0);
+        });
+        fields.add(bytes.toByteArray());
+    }
+
+    /**
+     * @return the code of the method, is added to the class by {@link Code#end()}
+     */
+    Code method(int access, String name, String descriptor, int argumentSlots) {
+        return new Code(access, name, descriptor, argumentSlots);
+    }
+
+    byte[] toBytes() {
+        var bytes = new ByteArrayOutputStream();
+        write(bytes, out -> {
+            out.writeInt(0xCAFEBABE);
+            out.writeShort(0);
+            out.writeShort(VERSION);
+            out.writeShort(poolCount);
+            pool.writeTo(out);
+            out.writeShort(ACC_FINAL | ACC_SUPER);
+            out.writeShort(thisClass);
+            out.writeShort(superClass);
+            out.writeShort(interfaces.length);
+            for(int item : interfaces) {
+                out.writeShort(item);
+            }
+            out.writeShort(fields.size());
+            for(byte[] field : fields) {
+                out.write(field);
+            }
+            out.writeShort(methods.size());
+            for(byte[] method : methods) {
+                out.write(method);
+            }
+            out.writeShort(0);
+        });
+        return bytes.toByteArray();
+    }
+
+    int utf8(String value) {
+        return entry("U" + value, out -> {
+            out.writeByte(1);
+            out.writeUTF(value);
+        });
+    }
+
+    int integer(int value) {
+        return entry("I" + value, out -> {
+            out.writeByte(3);
+            out.writeInt(value);
+        });
+    }
+
+    int classRef(String internalName) {
+        int name = utf8(internalName);
+        return entry("C" + internalName, out -> {
+            out.writeByte(7);
+            out.writeShort(name);
+        });
+    }
+
+    int string(String value) {
+        int utf8 = utf8(value);
+        return entry("S" + value, out -> {
+            out.writeByte(8);
+            out.writeShort(utf8);
+        });
+    }
+
+    int fieldRef(String owner, String name, String descriptor) {
+        return memberRef(9, owner, name, descriptor);
+    }
+
+    int methodRef(String owner, String name, String descriptor) {
+        return memberRef(10, owner, name, descriptor);
+    }
+
+    int interfaceMethodRef(String owner, String name, String descriptor) {
+        return memberRef(11, owner, name, descriptor);
+    }
+
+    private int memberRef(int tag, String owner, String name, String descriptor) {
+        int ownerRef = classRef(owner);
+        int nameUtf8 = utf8(name);
+        int descriptorUtf8 = utf8(descriptor);
+        int nameAndType = entry("N" + name + ' ' + descriptor, out -> {
+            out.writeByte(12);
+            out.writeShort(nameUtf8);
+            out.writeShort(descriptorUtf8);
+        });
+        return entry("M" + tag + owner + '.' + name + descriptor, out -> {
+            out.writeByte(tag);
+            out.writeShort(ownerRef);
+            out.writeShort(nameAndType);
+        });
+    }
+
+    private int entry(String key, Writer writer) {
+        Integer index = entries.get(key);
+        if(index == null) {
+            if(poolCount == 0xFFFF) {
+                throw new IllegalStateException("The constant pool is too large");
+            }
+            write(pool, writer);
+            index = poolCount++;
+            entries.put(key, index);
+        }
+        return index;
+    }
+
+    private static void write(ByteArrayOutputStream bytes, Writer writer) {
+        try {
+            var out = new DataOutputStream(bytes);
+            writer.write(out);
+            out.flush();
+        }
+        catch(IOException e) {
+            // Strings longer than 65535 bytes
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private interface Writer {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    static final class Label {
+        private int position = -1;
+        // Pairs of the instruction position and the offset position
+        private final List<int[]> references = new ArrayList<>();
+        private final List<int[]> wideReferences = new ArrayList<>();
+    }
+
+    /**
+     * Bytecode of the method. Tracks the stack depth, all the branches of the generated code
+     * are taken with the empty stack
+     */
+    final class Code {
+
+        private final int access;
+        private final String name;
+        private final String descriptor;
+        private final List<Label> labels = new ArrayList<>();
+        private byte[] code = new byte[64];
+        private int length;
+        private int stack;
+        private int maxStack;
+        private int maxLocals;
+
+        private Code(int access, String name, String descriptor, int argumentSlots) {
+            this.access = access;
+            this.name = name;
+            this.descriptor = descriptor;
+            this.maxLocals = argumentSlots;
+        }
+
+        Label label() {
+            var label = new Label();
+            labels.add(label);
+            return label;
+        }
+
+        void place(Label label) {
+            label.position = length;
+        }
+
+        void op(int opcode, int stackChange) {
+            u1(opcode);
+            changeStack(stackChange);
+        }
+
+        void iconst(int value) {
+            if(value >= -1 && value <= 5) {
+                op(0x03 + value, 1);
+            }
+            else if(value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE) {
+                op(0x10, 1);
+                u1(value);
+            }
+            else if(value >= Short.MIN_VALUE && value <= Short.MAX_VALUE) {
+                op(0x11, 1);
+                u2(value);
+            }
+            else {
+                ldc(integer(value));
+            }
+        }
+
+        void ldcString(String value) {
+            ldc(string(value));
+        }
+
+        void ldcClass(String internalName) {
+            ldc(classRef(internalName));
+        }
+
+        private void ldc(int index) {
+            if(index <= 0xFF) {
+                op(0x12, 1);
+                u1(index);
+            }
+            else {
+                op(0x13, 1);
+                u2(index);
+            }
+        }
+
+        void aload(int slot) {
+            local(0x19, slot, 1);
+        }
+
+        void astore(int slot) {
+            local(0x3A, slot, -1);
+        }
+
+        void iload(int slot) {
+            local(0x15, slot, 1);
+        }
+
+        void istore(int slot) {
+            local(0x36, slot, -1);
+        }
+
+        void iinc(int slot, int value) {
+            maxLocals = Math.max(maxLocals, slot + 1);
+            u1(0x84);
+            u1(slot);
+            u1(value);
+        }
+
+        private void local(int opcode, int slot, int stackChange) {
+            maxLocals = Math.max(maxLocals, slot + 1);
+            op(opcode, stackChange);
+            u1(slot);
+        }
+
+        void invokeStatic(String owner, String methodName, String methodDescriptor) {
+            op(0xB8, returnSize(methodDescriptor) - argumentsSize(methodDescriptor));
+            u2(methodRef(owner, methodName, methodDescriptor));
+        }
+
+        void invokeVirtual(String owner, String methodName, String methodDescriptor) {
+            op(0xB6, returnSize(methodDescriptor) - argumentsSize(methodDescriptor) - 1);
+            u2(methodRef(owner, methodName, methodDescriptor));
+        }
+
+        void invokeSpecial(String owner, String methodName, String methodDescriptor) {
+            op(0xB7, returnSize(methodDescriptor) - argumentsSize(methodDescriptor) - 1);
+            u2(methodRef(owner, methodName, methodDescriptor));
+        }
+
+        void invokeInterface(String owner, String methodName, String methodDescriptor) {
+            int arguments = argumentsSize(methodDescriptor);
+            op(0xB9, returnSize(methodDescriptor) - arguments - 1);
+            u2(interfaceMethodRef(owner, methodName, methodDescriptor));
+            u1(arguments + 1);
+            u1(0);
+        }
+
+        void getStatic(String owner, String fieldName, String fieldDescriptor) {
+            op(0xB2, 1);
+            u2(fieldRef(owner, fieldName, fieldDescriptor));
+        }
+
+        void putStatic(String owner, String fieldName, String fieldDescriptor) {
+            op(0xB3, -1);
+            u2(fieldRef(owner, fieldName, fieldDescriptor));
+        }
+
+        void checkcast(String internalName) {
+            op(0xC0, 0);
+            u2(classRef(internalName));
+        }
+
+        /**
+         * @param opcode the branch opcode: ifeq, ifne, if_icmp*, goto
+         */
+        void jump(int opcode, Label target) {
+            int position = length;
+            op(opcode, switch(opcode) {
+                case 0x99, 0x9A, 0x9B, 0x9C, 0x9D, 0x9E -> -1;
+                case 0x9F, 0xA0, 0xA1, 0xA2, 0xA3, 0xA4 -> -2;
+                default -> 0;
+            });
+            target.references.add(new int[] {position, length});
+            u2(0);
+        }
+
+        void lookupSwitch(int[] keys, Label[] targets, Label defaultTarget) {
+            int position = length;
+            op(0xAB, -1);
+            while(length % 4 != 0) {
+                u1(0);
+            }
+            defaultTarget.wideReferences.add(new int[] {position, length});
+            u4(0);
+            u4(keys.length);
+            for(int i = 0; i < keys.length; i++) {
+                u4(keys[i]);
+                targets[i].wideReferences.add(new int[] {position, length});
+                u4(0);
+            }
+        }
+
+        void end() {
+            for(Label label : labels) {
+                if(label.position < 0 && !(label.references.isEmpty() && label.wideReferences.isEmpty())) {
+                    throw new IllegalStateException("The label isn`t placed in " + name);
+                }
+                for(int[] reference : label.references) {
+                    int offset = label.position - reference[0];
+                    if(offset < Short.MIN_VALUE || offset > Short.MAX_VALUE) {
+                        throw new IllegalStateException("The method " + name + " is too large");
+                    }
+                    code[reference[1]] = (byte) (offset >> 8);
+                    code[reference[1] + 1] = (byte) offset;
+                }
+                for(int[] reference : label.wideReferences) {
+                    int offset = label.position - reference[0];
+                    for(int i = 0; i < 4; i++) {
+                        code[reference[1] + i] = (byte) (offset >> (24 - i * 8));
+                    }
+                }
+            }
+            if(length > 0xFFFF) {
+                throw new IllegalStateException("The method " + name + " is too large");
+            }
+            var bytes = new ByteArrayOutputStream();
+            int nameUtf8 = utf8(name);
+            int descriptorUtf8 = utf8(descriptor);
+            int codeUtf8 = utf8("Code");
+            write(bytes, out -> {
+                out.writeShort(access);
+                out.writeShort(nameUtf8);
+                out.writeShort(descriptorUtf8);
+                out.writeShort(1);
+                out.writeShort(codeUtf8);
+                out.writeInt(12 + length);
+                out.writeShort(maxStack);
+                out.writeShort(maxLocals);
+                out.writeInt(length);
+                out.write(code, 0, length);
+                out.writeShort(0);
+                out.writeShort(0);
+            });
+            methods.add(bytes.toByteArray());
+        }
+
+        private void changeStack(int change) {
+            stack += change;
+            maxStack = Math.max(maxStack, stack);
+        }
+
+        private void u1(int value) {
+            if(length == code.length) {
+                code = Arrays.copyOf(code, length * 2);
+            }
+            code[length++] = (byte) value;
+        }
+
+        private void u2(int value) {
+            u1(value >> 8);
+            u1(value);
+        }
+
+        private void u4(int value) {
+            u2(value >> 16);
+            u2(value);
+        }
+    }
+
+    /**
+     * Only the int, boolean and reference types are used by the generated code
+     */
+    private static int argumentsSize(String descriptor) {
+        int size = 0;
+        int idx = 1;
+        while(descriptor.charAt(idx) != ')') {
+            char type = descriptor.charAt(idx);
+            while(type == '[') {
+                type = descriptor.charAt(++idx);
+            }
+            if(type == 'L') {
+                idx = descriptor.indexOf(';', idx);
+            }
+            size += type == 'J' || type == 'D' ? 2 : 1;
+            idx++;
+        }
+        return size;
+    }
+
+    private static int returnSize(String descriptor) {
+        char type = descriptor.charAt(descriptor.indexOf(')') + 1);
+        return type == 'V' ? 0 : type == 'J' || type == 'D' ? 2 : 1;
+    }
+}
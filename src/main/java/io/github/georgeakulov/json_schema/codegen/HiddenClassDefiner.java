@@ -0,0 +1,44 @@
+package io.github.georgeakulov.json_schema.codegen;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.github.georgeakulov.json_schema.common.SchemaCompileException;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.function.Predicate;
+
+/**
+ * Runtime backend of the {@link ValidatorGenerator}: the validator bytecode is emitted directly from the schema
+ * and defined as the hidden class, so it is unloaded together with the schema.<br/>
+ * Doesn`t need the java compiler, works on the JRE and jlink images under any class loader
+ * that sees the library and Jackson.
+ */
+public final class HiddenClassDefiner {
+
+    private static final String CLASS_NAME = HiddenClassDefiner.class.getPackageName().replace('.', '/') + "/GeneratedValidator";
+
+    private HiddenClassDefiner() {
+    }
+
+    /**
+     * @param schema Draft 2020-12 schema supported by {@link ValidatorGenerator}
+     * @return the validator, gives only the validity of the instance
+     * @throws SchemaCompileException if the schema is invalid or is not supported by the generator
+     * @throws IllegalStateException if the class can`t be generated or defined
+     */
+    @SuppressWarnings("unchecked")
+    public static Predicate<JsonNode> define(JsonNode schema) {
+        ValidatorPlan plan = ValidatorPlan.create(schema);
+        byte[] bytes = BytecodeGenerator.generate(plan, CLASS_NAME);
+        Object[] constants = plan.getConstants().stream()
+                .map(ValidatorPlan.Constant::create)
+                .toArray();
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup().defineHiddenClassWithClassData(bytes, constants, true);
+            return (Predicate<JsonNode>) lookup.findConstructor(lookup.lookupClass(), MethodType.methodType(void.class)).invoke();
+        }
+        catch(Throwable e) {
+            throw new IllegalStateException("The validator class can`t be defined", e);
+        }
+    }
+}
@@ -0,0 +1,260 @@
+package io.github.georgeakulov.json_schema.codegen;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.github.georgeakulov.json_schema.SchemaBuilder;
+import io.github.georgeakulov.json_schema.codegen.ValidatorPlan.AnyOf;
+import io.github.georgeakulov.json_schema.codegen.ValidatorPlan.Always;
+import io.github.georgeakulov.json_schema.codegen.ValidatorPlan.ArrayLoop;
+import io.github.georgeakulov.json_schema.codegen.ValidatorPlan.Call;
+import io.github.georgeakulov.json_schema.codegen.ValidatorPlan.Check;
+import io.github.georgeakulov.json_schema.codegen.ValidatorPlan.Condition;
+import io.github.georgeakulov.json_schema.codegen.ValidatorPlan.Constant;
+import io.github.georgeakulov.json_schema.codegen.ValidatorPlan.Helper;
+import io.github.georgeakulov.json_schema.codegen.ValidatorPlan.IfThenElse;
+import io.github.georgeakulov.json_schema.codegen.ValidatorPlan.Method;
+import io.github.georgeakulov.json_schema.codegen.ValidatorPlan.Not;
+import io.github.georgeakulov.json_schema.codegen.ValidatorPlan.ObjectLoop;
+import io.github.georgeakulov.json_schema.codegen.ValidatorPlan.OneOf;
+import io.github.georgeakulov.json_schema.codegen.ValidatorPlan.Require;
+import io.github.georgeakulov.json_schema.common.JsonUtils;
+import io.github.georgeakulov.json_schema.common.SchemaCompileException;
+
+import javax.lang.model.SourceVersion;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Generator of the Java source of the boolean validator for the fixed Draft 2020-12 schema.<br/>
+ * Every subschema becomes the static method with the straight-line keyword checks, the properties are dispatched
+ * by {@code switch} over the property names and the local {@code $ref} becomes the direct method call.
+ * The generated class implements {@link java.util.function.Predicate} of {@link JsonNode} and gives
+ * the same validity as the schema compiled by {@link SchemaBuilder} with the default settings
+ * (format assertions disabled). It is the validity only fast path, the errors and annotations
+ * are given by the compiled schema.<br/>
+ * Only the local json pointer references are supported, the schemas with dynamic references, unevaluated
+ * and content keywords or the embedded resources are rejected.
+ * @see HiddenClassDefiner the same validator as the hidden class at runtime
+ */
+public final class ValidatorGenerator {
+
+    private final StringBuilder code = new StringBuilder();
+    private int indent;
+
+    private ValidatorGenerator() {
+    }
+
+    /**
+     * @param schema json schema
+     * @param className fully qualified name of the generated class
+     * @return Java source of the validator class
+     * @throws NullPointerException if any argument is null
+     * @throws IllegalArgumentException if {@code className} is not valid class name
+     * @throws SchemaCompileException if the schema is invalid or is not supported by the generator
+     */
+    public static String generate(JsonNode schema, String className) {
+        Objects.requireNonNull(schema, "The schema is null");
+        Objects.requireNonNull(className, "The class name is null");
+        if(!SourceVersion.isName(className)) {
+            throw new IllegalArgumentException("The class name " + className + " is not valid");
+        }
+        return new ValidatorGenerator().source(ValidatorPlan.create(schema), className);
+    }
+
+    /**
+     * Writes the validator source to the output directory
+     * <br/>
+     * Arguments: schema file, output directory, fully qualified class name
+     */
+    public static void main(String[] args) throws IOException {
+        if(args.length != 3) {
+            throw new IllegalArgumentException("Usage: ValidatorGenerator <schema file> <output directory> <class name>");
+        }
+        JsonNode schema;
+        try(InputStream is = Files.newInputStream(Path.of(args[0]))) {
+            schema = JsonUtils.parse(is);
+        }
+        String source = generate(schema, args[2]);
+        Path target = Path.of(args[1]).resolve(args[2].replace('.', '/') + ".java");
+        Files.createDirectories(target.getParent());
+        Files.writeString(target, source, StandardCharsets.UTF_8);
+    }
+
+    private String source(ValidatorPlan plan, String className) {
+        int dot = className.lastIndexOf('.');
+        if(dot > 0) {
+            code.append("package ").append(className, 0, dot).append(";\n\n");
+        }
+        code.append("""
+                import com.fasterxml.jackson.databind.JsonNode;
+                import com.fasterxml.jackson.databind.node.TextNode;
+                import io.github.georgeakulov.json_schema.codegen.ValidatorSupport;
+
+                import java.math.BigDecimal;
+                import java.util.Map;
+                import java.util.Set;
+                import java.util.function.Predicate;
+
+                /**
+                 * Generated by {@link io.github.georgeakulov.json_schema.codegen.ValidatorGenerator}, do not edit
+                 */
+                public final class\s""")
+                .append(className.substring(dot + 1))
+                .append(" implements Predicate<JsonNode> {\n\n");
+        indent = 1;
+        for(Constant constant : plan.getConstants()) {
+            line("private static final " + constant.type().javaType + " " + constant(constant) + " = "
+                    + constant.type().initializer + "(" + literal(constant.value()) + ");");
+        }
+        if(!plan.getConstants().isEmpty()) {
+            code.append('\n');
+        }
+        open("public static boolean isValid(JsonNode node) {");
+        line("return v0(node);");
+        close();
+        code.append('\n');
+        line("@Override");
+        open("public boolean test(JsonNode node) {");
+        line("return isValid(node);");
+        close();
+        plan.getMethods().forEach(this::method);
+        return code.append("}\n").toString();
+    }
+
+    private void method(Method method) {
+        code.append('\n');
+        open("private static boolean v" + method.index() + "(JsonNode node) {");
+        for(Check check : method.checks()) {
+            switch(check) {
+                case Require require when require.condition() instanceof Always always && !always.value() -> line("return false;");
+                case Require require when require.condition() instanceof Not not -> line("if(" + expression(not.condition()) + ") return false;");
+                case Require require -> line("if(!" + expression(require.condition()) + ") return false;");
+                case ObjectLoop loop -> objectLoop(loop);
+                case ArrayLoop loop -> arrayLoop(loop);
+            }
+        }
+        if(method.checks().stream().noneMatch(check -> check instanceof Require require && require.condition() instanceof Always)) {
+            line("return true;");
+        }
+        close();
+    }
+
+    private void objectLoop(ObjectLoop loop) {
+        String matched = loop.additional() == null ? "" : " matched = true;";
+        open("if(node.isObject()) {");
+        open("for(Map.Entry<String, JsonNode> property : node.properties()) {");
+        line("String name = property.getKey();");
+        line("JsonNode value = property.getValue();");
+        if(loop.additional() != null) {
+            line("boolean matched = false;");
+        }
+        if(!loop.properties().isEmpty()) {
+            open("switch(name) {");
+            loop.properties().forEach((name, method) ->
+                    line("case " + literal(name) + " -> { if(!v" + method + "(value)) return false;" + matched + " }"));
+            line("default -> { }");
+            close();
+        }
+        loop.patterns().forEach(pattern -> line("if(" + constant(pattern.pattern()) + ".test(name)) { if(!v"
+                + pattern.method() + "(value)) return false;" + matched + " }"));
+        if(loop.additional() != null) {
+            line("if(!matched && !v" + loop.additional() + "(value)) return false;");
+        }
+        if(loop.propertyNames() != null) {
+            line("if(!v" + loop.propertyNames() + "(TextNode.valueOf(name))) return false;");
+        }
+        close();
+        close();
+    }
+
+    private void arrayLoop(ArrayLoop loop) {
+        open("if(node.isArray()) {");
+        for(int idx = 0; idx < loop.prefixItems().size(); idx++) {
+            line("if(node.size() > " + idx + " && !v" + loop.prefixItems().get(idx) + "(node.get(" + idx + "))) return false;");
+        }
+        if(loop.items() != null) {
+            open("for(int i = " + loop.prefixItems().size() + "; i < node.size(); i++) {");
+            line("if(!v" + loop.items() + "(node.get(i))) return false;");
+            close();
+        }
+        if(loop.contains() != null) {
+            line("int count = 0;");
+            open("for(JsonNode item : node) {");
+            line("if(v" + loop.contains() + "(item)) count++;");
+            close();
+            line("if(count < " + loop.minContains() + ") return false;");
+            if(loop.maxContains() >= 0) {
+                line("if(count > " + loop.maxContains() + ") return false;");
+            }
+        }
+        close();
+    }
+
+    private static String expression(Condition condition) {
+        return switch(condition) {
+            case Always always -> String.valueOf(always.value());
+            case Helper helper -> helper.args().stream()
+                    .map(arg -> switch(arg) {
+                        case Constant constant -> constant(constant);
+                        case String str -> literal(str);
+                        default -> String.valueOf(arg);
+                    })
+                    .collect(Collectors.joining(", ", "ValidatorSupport." + helper.name() + "(node" + (helper.args().isEmpty() ? "" : ", "), ")"));
+            case Call call -> "v" + call.method() + "(node)";
+            case Not not -> "!" + expression(not.condition());
+            case AnyOf anyOf -> anyOf.conditions().stream()
+                    .map(ValidatorGenerator::expression)
+                    .collect(Collectors.joining(" || ", "(", ")"));
+            case OneOf oneOf -> oneOf.calls().stream()
+                    .map(call -> "(" + expression(call) + " ? 1 : 0)")
+                    .collect(Collectors.joining(" + ", "((", ") == 1)"));
+            case IfThenElse ite -> "(" + expression(ite.condition()) + " ? " + expression(ite.then())
+                    + " : " + expression(ite.otherwise()) + ")";
+        };
+    }
+
+    private static String constant(Constant constant) {
+        return "C" + constant.index();
+    }
+
+    static String literal(String value) {
+        var sb = new StringBuilder(value.length() + 2).append('"');
+        for(int i = 0; i < value.length(); i++) {
+            char ch = value.charAt(i);
+            switch(ch) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                default -> {
+                    if(ch < 0x20 || ch > 0x7E) {
+                        sb.append(String.format("\\u%04x", (int) ch));
+                    }
+                    else {
+                        sb.append(ch);
+                    }
+                }
+            }
+        }
+        return sb.append('"').toString();
+    }
+
+    private void line(String text) {
+        code.append("    ".repeat(indent)).append(text).append('\n');
+    }
+
+    private void open(String text) {
+        line(text);
+        indent++;
+    }
+
+    private void close() {
+        indent--;
+        line("}");
+    }
+}
@@ -0,0 +1,321 @@
+package io.github.georgeakulov.json_schema.codegen;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.github.georgeakulov.json_schema.SchemaBuilder;
+import io.github.georgeakulov.json_schema.dialects.Defaults;
+import org.jspecify.annotations.Nullable;
+
+import java.math.BigDecimal;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+import static io.github.georgeakulov.json_schema.common.SchemaCompileException.checkIt;
+
+/**
+ * Validity checks of the Draft 2020-12 schema, shared by the source ({@link ValidatorGenerator})
+ * and the bytecode ({@link BytecodeGenerator}) backends.<br/>
+ * Every subschema becomes the method of the checks. The leaf keyword checks are the calls of the
+ * {@link ValidatorSupport} helpers, the local {@code $ref} and the applicators are the calls of the other methods.
+ */
+final class ValidatorPlan {
+
+    private static final Set<String> UNSUPPORTED = Set.of(
+            "$anchor", "$dynamicAnchor", "$dynamicRef", "$recursiveAnchor", "$recursiveRef", "$vocabulary",
+            "unevaluatedItems", "unevaluatedProperties", "contentEncoding", "contentMediaType", "contentSchema"
+    );
+
+    private static final Map<String, Integer> TYPES = Map.of(
+            "null", ValidatorSupport.TYPE_NULL,
+            "string", ValidatorSupport.TYPE_STRING,
+            "boolean", ValidatorSupport.TYPE_BOOLEAN,
+            "number", ValidatorSupport.TYPE_NUMBER,
+            "integer", ValidatorSupport.TYPE_INTEGER,
+            "array", ValidatorSupport.TYPE_ARRAY,
+            "object", ValidatorSupport.TYPE_OBJECT
+    );
+
+    private final JsonNode root;
+    private final List<Method> methods = new ArrayList<>();
+    private final Map<String, Integer> methodIndexes = new HashMap<>();
+    private final Deque<Pending> pending = new ArrayDeque<>();
+    private final List<Constant> constants = new ArrayList<>();
+
+    private ValidatorPlan(JsonNode root) {
+        this.root = root;
+    }
+
+    /**
+     * @return the plan, the entry method has index 0
+     * @throws io.github.georgeakulov.json_schema.common.SchemaCompileException if the schema is invalid or is not supported by the generator
+     */
+    static ValidatorPlan create(JsonNode schema) {
+        Objects.requireNonNull(schema, "The schema is null");
+        JsonNode dialect = schema.path("$schema");
+        checkIt(dialect.isMissingNode() || Defaults.DIALECT_2020_12.toString().equals(dialect.asText()),
+                "Only the {0} dialect is supported by the generator", Defaults.DIALECT_2020_12);
+        var plan = new ValidatorPlan(schema);
+        plan.method(JsonPointer.empty(), schema);
+        while(!plan.pending.isEmpty()) {
+            plan.methods.add(plan.build(plan.pending.poll()));
+        }
+        // The keyword values are checked by the interpreted compilation, the references are local after generation
+        SchemaBuilder.create()
+                .setDraft202012DefaultDialect()
+                .compile(schema);
+        return plan;
+    }
+
+    List<Method> getMethods() {
+        return methods;
+    }
+
+    List<Constant> getConstants() {
+        return constants;
+    }
+
+    private int method(JsonPointer pointer, JsonNode schema) {
+        return methodIndexes.computeIfAbsent(pointer.toString(), key -> {
+            pending.add(new Pending(methodIndexes.size(), pointer, schema));
+            return methodIndexes.size();
+        });
+    }
+
+    private Call call(JsonPointer pointer, JsonNode schema) {
+        return new Call(method(pointer, schema));
+    }
+
+    private Constant constant(ConstantType type, String value) {
+        var constant = new Constant(constants.size(), type, value);
+        constants.add(constant);
+        return constant;
+    }
+
+    private Method build(Pending item) {
+        JsonNode schema = item.schema();
+        JsonPointer ptr = item.pointer();
+        List<Check> checks = new ArrayList<>();
+        if(schema.isBoolean()) {
+            if(!schema.booleanValue()) {
+                checks.add(new Require(new Always(false)));
+            }
+            return new Method(item.index(), checks);
+        }
+        checkIt(schema.isObject(), "The schema {0} must be an object or boolean", ptr);
+        checkIt(ptr.matches() || !schema.has("$id"), "The embedded resource {0} is not supported by the generator", ptr);
+        for(Map.Entry<String, JsonNode> entry : schema.properties()) {
+            String keyword = entry.getKey();
+            JsonNode value = entry.getValue();
+            JsonPointer keywordPtr = ptr.appendProperty(keyword);
+            checkIt(!UNSUPPORTED.contains(keyword), "The keyword {0} at {1} is not supported by the generator", keyword, ptr);
+            switch(keyword) {
+                case "$ref" -> require(checks, resolveRef(value.asText(), ptr));
+                case "type" -> require(checks, helper("hasType", typeMask(value, keywordPtr)));
+                case "enum" -> require(checks, helper("isInEnum", constant(ConstantType.ENUM, value.toString())));
+                case "const" -> require(checks, helper("isEqual", constant(ConstantType.JSON, value.toString())));
+                case "minimum", "maximum", "exclusiveMinimum", "exclusiveMaximum", "multipleOf" ->
+                        require(checks, helper(keyword, constant(ConstantType.DECIMAL, value.decimalValue().toString())));
+                case "minLength", "maxLength", "minProperties", "maxProperties", "minItems", "maxItems" ->
+                        require(checks, helper(keyword, value.intValue()));
+                case "pattern" -> require(checks, helper("matches", constant(ConstantType.PATTERN, value.asText())));
+                case "required" -> value.forEach(name -> require(checks, helper("required", name.asText())));
+                case "dependentRequired" -> value.properties().forEach(dependency -> dependency.getValue().forEach(name ->
+                        require(checks, helper("dependentRequired", dependency.getKey(), name.asText()))));
+                case "dependentSchemas" -> value.properties().forEach(dependency -> require(checks, new AnyOf(List.of(
+                        new Not(helper("hasProperty", dependency.getKey())),
+                        call(keywordPtr.appendProperty(dependency.getKey()), dependency.getValue())))));
+                case "uniqueItems" -> {
+                    if(value.booleanValue()) {
+                        require(checks, helper("uniqueItems"));
+                    }
+                }
+                case "allOf" -> items(value, keywordPtr).forEach(call -> require(checks, call));
+                case "anyOf" -> require(checks, new AnyOf(List.copyOf(items(value, keywordPtr))));
+                case "oneOf" -> require(checks, new OneOf(items(value, keywordPtr)));
+                case "not" -> require(checks, new Not(call(keywordPtr, value)));
+                case "if" -> {
+                    if(schema.has("then") || schema.has("else")) {
+                        Condition then = schema.has("then") ? call(ptr.appendProperty("then"), schema.get("then")) : new Always(true);
+                        Condition otherwise = schema.has("else") ? call(ptr.appendProperty("else"), schema.get("else")) : new Always(true);
+                        require(checks, new IfThenElse(call(keywordPtr, value), then, otherwise));
+                    }
+                }
+                default -> {
+                    // Annotations, unknown keywords and the keywords processed by objectLoop and arrayLoop
+                }
+            }
+        }
+        objectLoop(checks, schema, ptr);
+        arrayLoop(checks, schema, ptr);
+        return new Method(item.index(), checks);
+    }
+
+    private void objectLoop(List<Check> checks, JsonNode schema, JsonPointer ptr) {
+        JsonNode properties = schema.path("properties");
+        JsonNode patternProperties = schema.path("patternProperties");
+        JsonNode additional = schema.get("additionalProperties");
+        JsonNode propertyNames = schema.get("propertyNames");
+        if(properties.isEmpty() && patternProperties.isEmpty() && additional == null && propertyNames == null) {
+            return;
+        }
+        Map<String, Integer> propertyMethods = new LinkedHashMap<>();
+        properties.properties().forEach(property -> propertyMethods.put(property.getKey(),
+                method(ptr.appendProperty("properties").appendProperty(property.getKey()), property.getValue())));
+        List<PatternCall> patterns = new ArrayList<>();
+        patternProperties.properties().forEach(property -> patterns.add(new PatternCall(
+                constant(ConstantType.PATTERN, property.getKey()),
+                method(ptr.appendProperty("patternProperties").appendProperty(property.getKey()), property.getValue()))));
+        checks.add(new ObjectLoop(
+                propertyMethods,
+                patterns,
+                additional == null ? null : method(ptr.appendProperty("additionalProperties"), additional),
+                propertyNames == null ? null : method(ptr.appendProperty("propertyNames"), propertyNames)
+        ));
+    }
+
+    private void arrayLoop(List<Check> checks, JsonNode schema, JsonPointer ptr) {
+        JsonNode prefixItems = schema.path("prefixItems");
+        JsonNode items = schema.get("items");
+        JsonNode contains = schema.get("contains");
+        if(prefixItems.isEmpty() && items == null && contains == null) {
+            return;
+        }
+        checkIt(items == null || !items.isArray(), "The array form of items at {0} is not supported by the generator", ptr);
+        checks.add(new ArrayLoop(
+                items(prefixItems, ptr.appendProperty("prefixItems")).stream().map(Call::method).toList(),
+                items == null ? null : method(ptr.appendProperty("items"), items),
+                contains == null ? null : method(ptr.appendProperty("contains"), contains),
+                schema.path("minContains").asInt(1),
+                schema.has("maxContains") ? schema.get("maxContains").intValue() : -1
+        ));
+    }
+
+    private Call resolveRef(String ref, JsonPointer ptr) {
+        checkIt(ref.startsWith("#"), "The reference {0} at {1} is not supported by the generator, only local json pointers are allowed", ref, ptr);
+        // Decoded the same way as by the schemas registry
+        String fragment = URLDecoder.decode(ref.substring(1), StandardCharsets.UTF_8);
+        checkIt(fragment.isEmpty() || fragment.startsWith("/"), "The reference {0} at {1} is not supported by the generator, anchors aren`t allowed", ref, ptr);
+        JsonPointer target = fragment.isEmpty() ? JsonPointer.empty() : JsonPointer.compile(fragment);
+        JsonNode schema = root.at(target);
+        checkIt(!schema.isMissingNode(), "The reference {0} at {1} is not found", ref, ptr);
+        return call(target, schema);
+    }
+
+    private static int typeMask(JsonNode value, JsonPointer ptr) {
+        int mask = 0;
+        for(JsonNode type : value.isArray() ? value : List.of(value)) {
+            Integer bit = TYPES.get(type.asText());
+            checkIt(bit != null, "The type {0} at {1} is unknown", type, ptr);
+            mask |= bit;
+        }
+        return mask;
+    }
+
+    private List<Call> items(JsonNode array, JsonPointer arrayPtr) {
+        List<Call> calls = new ArrayList<>(array.size());
+        for(int idx = 0; idx < array.size(); idx++) {
+            calls.add(call(arrayPtr.appendIndex(idx), array.get(idx)));
+        }
+        return calls;
+    }
+
+    private static void require(List<Check> checks, Condition condition) {
+        checks.add(new Require(condition));
+    }
+
+    private static Helper helper(String name, Object... args) {
+        return new Helper(name, List.of(args));
+    }
+
+    private record Pending(int index, JsonPointer pointer, JsonNode schema) {}
+
+    /**
+     * The method {@code boolean v<index>(JsonNode node)}, the checks are applied in order
+     */
+    record Method(int index, List<Check> checks) {}
+
+    sealed interface Check permits Require, ObjectLoop, ArrayLoop {}
+
+    /**
+     * The node is invalid if the condition is false
+     */
+    record Require(Condition condition) implements Check {}
+
+    /**
+     * Applied to the object node: each field is dispatched to the method of the property with the same name,
+     * to the methods of the matched patterns and to additional method if neither matches.
+     * The property names are checked by the property names method
+     */
+    record ObjectLoop(Map<String, Integer> properties, List<PatternCall> patterns,
+                      @Nullable Integer additional, @Nullable Integer propertyNames) implements Check {}
+
+    record PatternCall(Constant pattern, int method) {}
+
+    /**
+     * Applied to the array node: the prefix items methods by index, the items method after them and
+     * the count of the items valid by the contains method
+     * @param maxContains -1 if not limited
+     */
+    record ArrayLoop(List<Integer> prefixItems, @Nullable Integer items, @Nullable Integer contains,
+                     int minContains, int maxContains) implements Check {}
+
+    sealed interface Condition permits Always, Helper, Call, Not, AnyOf, OneOf, IfThenElse {}
+
+    record Always(boolean value) implements Condition {}
+
+    /**
+     * Call of {@code ValidatorSupport.<name>(node, args...)}, the arguments are Integer, String or Constant
+     */
+    record Helper(String name, List<Object> args) implements Condition {}
+
+    /**
+     * Call of the method against the same node
+     */
+    record Call(int method) implements Condition {}
+
+    record Not(Condition condition) implements Condition {}
+
+    record AnyOf(List<Condition> conditions) implements Condition {}
+
+    record OneOf(List<Call> calls) implements Condition {}
+
+    record IfThenElse(Call condition, Condition then, Condition otherwise) implements Condition {}
+
+    /**
+     * The constant created from the string once per generated class
+     */
+    record Constant(int index, ConstantType type, String value) {
+        Object create() {
+            return type.factory.apply(value);
+        }
+    }
+
+    enum ConstantType {
+        DECIMAL("BigDecimal", "Ljava/math/BigDecimal;", "new BigDecimal", BigDecimal::new),
+        JSON("JsonNode", "Lcom/fasterxml/jackson/databind/JsonNode;", "ValidatorSupport.parse", ValidatorSupport::parse),
+        ENUM("Set<JsonNode>", "Ljava/util/Set;", "ValidatorSupport.enumSet", ValidatorSupport::enumSet),
+        PATTERN("Predicate<String>", "Ljava/util/function/Predicate;", "ValidatorSupport.pattern", ValidatorSupport::pattern);
+
+        final String javaType;
+        final String descriptor;
+        final String initializer;
+        private final Function<String, Object> factory;
+
+        ConstantType(String javaType, String descriptor, String initializer, Function<String, Object> factory) {
+            this.javaType = javaType;
+            this.descriptor = descriptor;
+            this.initializer = initializer;
+            this.factory = factory;
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package io.github.georgeakulov.json_schema.codegen;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.github.georgeakulov.json_schema.common.JsonNodeComparator;
+import io.github.georgeakulov.json_schema.common.JsonUtils;
+import io.github.georgeakulov.json_schema.common.regex.RegexFactory;
+import io.github.georgeakulov.json_schema.compilers.Utils;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Predicate;
+
+/**
+ * Runtime helpers of the validators generated by {@link ValidatorGenerator} and {@link HiddenClassDefiner}.<br/>
+ * The helpers repeat the checks of the interpreted keyword validators, so both give the same validity.
+ * The keyword helpers return true if the node is valid, the node of the other type is valid.
+ */
+public final class ValidatorSupport {
+
+    public static final int TYPE_NULL = 1;
+    public static final int TYPE_STRING = 1 << 1;
+    public static final int TYPE_BOOLEAN = 1 << 2;
+    public static final int TYPE_NUMBER = 1 << 3;
+    public static final int TYPE_INTEGER = 1 << 4;
+    public static final int TYPE_ARRAY = 1 << 5;
+    public static final int TYPE_OBJECT = 1 << 6;
+
+    private ValidatorSupport() {
+    }
+
+    public static JsonNode parse(String json) {
+        return JsonUtils.parse(json);
+    }
+
+    public static Set<JsonNode> enumSet(String jsonArray) {
+        Set<JsonNode> set = new TreeSet<>(JsonNodeComparator.JSON_NODE_COMPARATOR);
+        parse(jsonArray).forEach(set::add);
+        return Collections.unmodifiableSet(set);
+    }
+
+    public static Predicate<String> pattern(String regex) {
+        return RegexFactory.jdk().compile(regex);
+    }
+
+    public static boolean isEqual(JsonNode instance, JsonNode value) {
+        return Utils.checkEquality(instance, value);
+    }
+
+    public static boolean isInteger(JsonNode node) {
+        return node.isNumber() && node.decimalValue().remainder(BigDecimal.ONE).compareTo(BigDecimal.ZERO) == 0;
+    }
+
+    public static boolean isMultipleOf(JsonNode node, BigDecimal divisor) {
+        return node.decimalValue().divideAndRemainder(divisor)[1].abs().compareTo(BigDecimal.ZERO) == 0;
+    }
+
+    public static int length(JsonNode node) {
+        String str = node.textValue();
+        return str.codePointCount(0, str.length());
+    }
+
+    public static boolean isUnique(JsonNode array) {
+        Set<JsonNode> checked = new HashSet<>();
+        for(JsonNode item : array) {
+            if(!checked.add(item)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param types mask of the {@code TYPE_*} constants
+     */
+    public static boolean hasType(JsonNode node, int types) {
+        return (types & TYPE_NULL) != 0 && node.isNull()
+                || (types & TYPE_STRING) != 0 && node.isTextual()
+                || (types & TYPE_BOOLEAN) != 0 && node.isBoolean()
+                || (types & TYPE_NUMBER) != 0 && node.isNumber()
+                || (types & TYPE_INTEGER) != 0 && isInteger(node)
+                || (types & TYPE_ARRAY) != 0 && node.isArray()
+                || (types & TYPE_OBJECT) != 0 && node.isObject();
+    }
+
+    public static boolean isInEnum(JsonNode node, Set<JsonNode> values) {
+        return values.contains(node);
+    }
+
+    public static boolean minimum(JsonNode node, BigDecimal value) {
+        return !node.isNumber() || node.decimalValue().compareTo(value) >= 0;
+    }
+
+    public static boolean maximum(JsonNode node, BigDecimal value) {
+        return !node.isNumber() || node.decimalValue().compareTo(value) <= 0;
+    }
+
+    public static boolean exclusiveMinimum(JsonNode node, BigDecimal value) {
+        return !node.isNumber() || node.decimalValue().compareTo(value) > 0;
+    }
+
+    public static boolean exclusiveMaximum(JsonNode node, BigDecimal value) {
+        return !node.isNumber() || node.decimalValue().compareTo(value) < 0;
+    }
+
+    public static boolean multipleOf(JsonNode node, BigDecimal divisor) {
+        return !node.isNumber() || isMultipleOf(node, divisor);
+    }
+
+    public static boolean minLength(JsonNode node, int value) {
+        return !node.isTextual() || length(node) >= value;
+    }
+
+    public static boolean maxLength(JsonNode node, int value) {
+        return !node.isTextual() || length(node) <= value;
+    }
+
+    public static boolean matches(JsonNode node, Predicate<String> pattern) {
+        return !node.isTextual() || pattern.test(node.textValue());
+    }
+
+    public static boolean required(JsonNode node, String name) {
+        return !node.isObject() || node.has(name);
+    }
+
+    public static boolean hasProperty(JsonNode node, String name) {
+        return node.isObject() && node.has(name);
+    }
+
+    public static boolean dependentRequired(JsonNode node, String property, String name) {
+        return !hasProperty(node, property) || node.has(name);
+    }
+
+    public static boolean minProperties(JsonNode node, int value) {
+        return !node.isObject() || node.size() >= value;
+    }
+
+    public static boolean maxProperties(JsonNode node, int value) {
+        return !node.isObject() || node.size() <= value;
+    }
+
+    public static boolean minItems(JsonNode node, int value) {
+        return !node.isArray() || node.size() >= value;
+    }
+
+    public static boolean maxItems(JsonNode node, int value) {
+        return !node.isArray() || node.size() <= value;
+    }
+
+    public static boolean uniqueItems(JsonNode node) {
+        return !node.isArray() || isUnique(node);
+    }
+}
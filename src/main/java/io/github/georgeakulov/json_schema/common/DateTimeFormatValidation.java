@@ -1,295 +1,216 @@
 package io.github.georgeakulov.json_schema.common;
 
-import java.math.BigDecimal;
-import java.time.format.DateTimeFormatterBuilder;
-import java.time.format.DateTimeParseException;
-import java.time.format.ResolverStyle;
-import java.time.format.SignStyle;
-import java.time.temporal.*;
-
+/**
+ * Validation of the RFC 3339 date, time, date-time and ISO 8601 duration formats.<br/>
+ * All validations are single pass scanners over the string chars: no parsing objects are created
+ * and no exceptions are thrown for invalid values.
+ */
 public class DateTimeFormatValidation {
 
+    // Ranks of the duration units, units must follow in ascending rank order
+    private static final int YEARS = 1;
+    private static final int MONTHS = 2;
+    private static final int WEEKS = 3;
+    private static final int DAYS = 4;
+    private static final int HOURS = 5;
+    private static final int MINUTES = 6;
+    private static final int SECONDS = 7;
+
+    private static final int MINUTES_IN_DAY = 24 * 60;
+    private static final int LAST_MINUTE_OF_DAY = 23 * 60 + 59;
+
+    /**
+     * full-date = date-fullyear "-" date-month "-" date-mday
+     */
     public static boolean validateDate(String value) {
-
-        try {
-            var accessor = new DateTimeFormatterBuilder()
-                    .appendValue(ChronoField.YEAR, 4, 4, SignStyle.NOT_NEGATIVE)
-                    .appendLiteral('-')
-                    .appendValue(ChronoField.MONTH_OF_YEAR, 2, 2, SignStyle.NOT_NEGATIVE)
-                    .appendLiteral('-')
-                    .appendValue(ChronoField.DAY_OF_MONTH, 2, 2, SignStyle.NOT_NEGATIVE)
-                    .toFormatter()
-                    .withResolverStyle(ResolverStyle.STRICT)
-                    .parse(value);
-        }
-        catch(DateTimeParseException e) {
-            return false;
-        }
-        return true;
+        return value.length() == 10 && isDate(value, 0);
     }
 
+    /**
+     * full-time = partial-time time-offset
+     */
     public static boolean validateTime(String value) {
+        return isTime(value, 0);
+    }
 
-            int position = 0;
-            var hour = parsePart(value, position, 23);
-            if(hour == null) {
-                return false;
-            }
-            position += 3;
-            var minutes = parsePart(value, position, 59);
-            if(minutes == null) {
-                return false;
-            }
-            position += 3;
-
-            var res = parseDec(value, position);
-            if(res == null) {
-                return false;
-            }
-
-            position += res.length;
-            long seconds = res.value.longValue();
-
-            if(seconds < 0 || seconds > 60) {
-                return false;
-            }
+    /**
+     * date-time = full-date "T" full-time
+     */
+    public static boolean validateDateTime(String value) {
+        if(value.length() < 11) {
+            return false;
+        }
+        char separator = value.charAt(10);
+        return (separator == 'T' || separator == 't') && isDate(value, 0) && isTime(value, 11);
+    }
 
-            if(value.length() <= position) {
+    /**
+     * duration = "P" (dur-date / dur-time / dur-week), units are checked in ISO 8601 order,
+     * so the intermediate units may be omitted. Only seconds may have the fraction part.
+     */
+    public static boolean validateDuration(String value) {
+        int len = value.length();
+        if(len < 3 || value.charAt(0) != 'P') {
+            return false;
+        }
+        int pos = 1;
+        int lastUnit = 0;
+        boolean time = false;
+        while(pos < len) {
+            if(lastUnit == WEEKS) {
+                // Weeks can not be combined with other units
                 return false;
             }
-
-            var ch = value.charAt(position);
-            position ++;
-
-            Integer oh = 0, om = 0;
-
-            if(ch == '+' || ch == '-') {
-                oh = parsePart(value, position, 23);
-                if(oh == null) {
+            if(value.charAt(pos) == 'T') {
+                if(time) {
                     return false;
                 }
-                position += 3;
-                om = parseAndCheck(value, position, 59);
-                if(om == null) {
+                time = true;
+                lastUnit = DAYS;
+                if(++pos == len) {
                     return false;
                 }
-                position += 2;
             }
-            else if(!(ch == 'Z' || ch == 'z')) {
+            int start = pos;
+            pos = skipDigits(value, pos, len);
+            if(pos == start) {
                 return false;
             }
-
-            if(seconds == 60) {
-                var time = hour * 60 + minutes;
-                var offset = oh * 60 + om;
-                int calc;
-                if(ch == '-') {
-                    calc = time + offset;
-                }
-                else if(ch == '+') {
-                    calc = time - offset;
-                }
-                else {
-                    calc = time;
-                }
-                if(calc < 0) {
-                    calc += 1440;
-                }
-
-                if(! (calc / 60 == 23 && calc % 60 == 59)) {
+            boolean fraction = false;
+            if(time && pos < len && value.charAt(pos) == '.') {
+                start = ++pos;
+                pos = skipDigits(value, pos, len);
+                if(pos == start) {
                     return false;
                 }
+                fraction = true;
             }
-            return value.length() == position;
-    }
-
-    public static boolean validateDateTime(String value) {
-        var parts = value.split("[Tt]");
-        return parts.length == 2 && validateDate(parts[0]) & validateTime(parts[1]);
-    }
-
-    public static boolean validateDuration(String value) {
-
-        var parts = value.split("T", -1);
-        return switch(parts.length) {
-            case 1 -> validateDurationDate(parts[0]) && parts[0].length() > 1;
-            case 2 -> validateDurationDate(parts[0]) && validateDurationTime(parts[1]) && value.length() > 2;
-            default -> false;
-        };
-    }
-
-    private static boolean validateDurationTime(String value) {
-
-        if(value.isEmpty()) {
-            return false;
-        }
-
-        int position = 0;
-        int bits = 0;
-        while(position < value.length()) {
-
-            var len = length(value, position);
-            if(len == 0 || position + len >= value.length()) {
+            if(pos == len) {
                 return false;
             }
-            var type = value.charAt(position + len);
-
-            try {
-                var bit = switch (type) {
-                    case 'H' -> {
-                        Long.parseLong(value, position, position + len, 10);
-                        yield 1;
-                    }
-                    case 'M' -> {
-                        Long.parseLong(value, position, position + len, 10);
-                        yield  2;
-                    }
-                    case 'S' -> {
-                        new BigDecimal(value.toCharArray(), position, len);
-                        yield  4;
-                    }
-                    default -> 0;
-                };
-
-                if(bit == 0) {
-                    return false;
-                }
-                if(bit <= bits) {
-                    return false;
-                }
-
-                bits |= bit;
-            }
-            catch(NumberFormatException ignore) {
+            int unit = time ? timeUnit(value.charAt(pos)) : dateUnit(value.charAt(pos));
+            if(unit <= lastUnit || (fraction && unit != SECONDS) || (unit == WEEKS && lastUnit != 0)) {
                 return false;
             }
-
-            position += len + 1;
+            lastUnit = unit;
+            pos++;
         }
         return true;
     }
 
-    private static boolean validateDurationDate(String value) {
+    private static boolean isDate(String value, int from) {
+        int year = digits(value, from, 4);
+        int month = digits(value, from + 5, 2);
+        int day = digits(value, from + 8, 2);
+        return year >= 0
+                && value.charAt(from + 4) == '-'
+                && value.charAt(from + 7) == '-'
+                && month >= 1 && month <= 12
+                && day >= 1 && day <= daysInMonth(year, month);
+    }
 
-        if(value.isEmpty() || value.charAt(0) != 'P') {
+    private static boolean isTime(String value, int from) {
+        int len = value.length();
+        // The shortest time is HH:MM:SSZ
+        if(len - from < 9) {
             return false;
         }
-
-        int position = 1;
-        int bits = 0;
-        while(position < value.length()) {
-
-            var seq = parseSeqInt(value, position);
-            if(seq == null) {
-                return false;
-            }
-
-            var bit = switch(seq.type) {
-                case 'Y' -> 1;
-                case 'M' -> 2;
-                case 'W' -> bits > 0 ? 0 : 8;
-                case 'D' -> 4;
-                default -> 0;
-            };
-
-            if(bit == 0 || bit < bits) {
+        int hour = digits(value, from, 2);
+        int minute = digits(value, from + 3, 2);
+        int second = digits(value, from + 6, 2);
+        if(hour < 0 || hour > 23 || value.charAt(from + 2) != ':'
+                || minute < 0 || minute > 59 || value.charAt(from + 5) != ':'
+                || second < 0 || second > 60) {
+            return false;
+        }
+        int pos = from + 8;
+        if(value.charAt(pos) == '.') {
+            int start = ++pos;
+            pos = skipDigits(value, pos, len);
+            if(pos == start) {
                 return false;
             }
-
-            bits |= bit;
-
-            position += seq.length;
         }
-
-        return true;
-    }
-
-    private static Seq parseSeqInt(String value, int pos) {
-        int p = pos;
-        var seq = parseInt(value, p);
-        if(seq == null) {
-            return null;
-        }
-        p += seq.length;
-        if(p < value.length()) {
-            return new Seq(value.charAt(p), p - pos + 1);
+        if(pos >= len) {
+            return false;
         }
-        return null;
-    }
-
-    static SeqInt parseInt(String value, int pos) {
-        int p = pos;
-        int result = 0;
-        while(p < value.length()) {
-            var ch = value.codePointAt(p);
-            if(ch < '0' || ch > '9') {
-                break;
+        char zone = value.charAt(pos++);
+        int offset = 0;
+        if(zone == '+' || zone == '-') {
+            if(len - pos != 5) {
+                return false;
             }
-            if(p - pos > 0 && result == 0) {
-                return null;
+            int offsetHour = digits(value, pos, 2);
+            int offsetMinute = digits(value, pos + 3, 2);
+            if(offsetHour < 0 || offsetHour > 23 || value.charAt(pos + 2) != ':' || offsetMinute < 0 || offsetMinute > 59) {
+                return false;
             }
-            result *= 10;
-            result += (ch - '0');
-            p++;
+            offset = offsetHour * 60 + offsetMinute;
+            if(zone == '-') {
+                offset = -offset;
+            }
+        }
+        else if((zone != 'Z' && zone != 'z') || pos != len) {
+            return false;
         }
-        return new SeqInt(result, p - pos);
+
+        // The leap second is allowed only at the end of the UTC day
+        return second != 60 || Math.floorMod(hour * 60 + minute - offset, MINUTES_IN_DAY) == LAST_MINUTE_OF_DAY;
     }
 
-    private static SeqDec parseDec(String value, int pos) {
-        int len = length(value, pos);
+    private static int daysInMonth(int year, int month) {
+        return switch(month) {
+            case 2 -> (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28;
+            case 4, 6, 9, 11 -> 30;
+            default -> 31;
+        };
+    }
 
-        try {
-            var decimal = new BigDecimal(value.toCharArray(), pos, len);
-            return new SeqDec(decimal, len);
-        }
-        catch(NumberFormatException ignore) {
-            return null;
-        }
+    private static int dateUnit(char ch) {
+        return switch(ch) {
+            case 'Y' -> YEARS;
+            case 'M' -> MONTHS;
+            case 'W' -> WEEKS;
+            case 'D' -> DAYS;
+            default -> 0;
+        };
     }
 
-    private static Integer parsePart(String from, int position, int max) {
-        var result = parseAndCheck(from, position, max);
-        if(result == null) {
-            return null;
-        }
-        position += 2;
-        if(from.length() <= position || from.charAt(position) != ':') {
-            return null;
-        }
-        return result;
+    private static int timeUnit(char ch) {
+        return switch(ch) {
+            case 'H' -> HOURS;
+            case 'M' -> MINUTES;
+            case 'S' -> SECONDS;
+            default -> 0;
+        };
     }
 
-    private static int length(String value, int pos) {
-        int start = pos;
-        for(; pos < value.length(); pos++) {
-            var ch = value.codePointAt(pos);
-            if(!((ch >= '0' && ch <= '9') || ch == '.')) {
-                break;
+    /**
+     * @return value of exactly count ASCII digits at the position or -1
+     */
+    private static int digits(String value, int pos, int count) {
+        int result = 0;
+        for(int i = pos; i < pos + count; i++) {
+            char ch = value.charAt(i);
+            if(ch < '0' || ch > '9') {
+                return -1;
             }
+            result = result * 10 + (ch - '0');
         }
-        return pos - start;
+        return result;
     }
 
-    private static Integer parseAndCheck(String from, int position, int max) {
-        int value = 0;
-        if(from.length() < position + 2) {
-            return null;
-        }
-        for(int i = 0; i < 2; i++) {
-            int ch = from.codePointAt(position + i);
+    /**
+     * @return position of the first not ASCII digit char
+     */
+    static int skipDigits(String value, int pos, int to) {
+        while(pos < to) {
+            char ch = value.charAt(pos);
             if(ch < '0' || ch > '9') {
-                return null;
+                break;
             }
-            value *= 10;
-            value += (ch - '0');
-        }
-        if(value <= max) {
-            return value;
+            pos++;
         }
-        return null;
+        return pos;
     }
-
-    record SeqInt(int value, int length){}
-    private record SeqDec(BigDecimal value, int length){}
-    private record Seq(char type, int length){}
 }
@@ -0,0 +1,111 @@
+package io.github.georgeakulov.json_schema.common;
+
+/**
+ * Index based scanners of the textual IP addresses.
+ * The scanners check the range of the string in place and never allocate.
+ */
+public final class IpAddresses {
+
+    private static final int IPV6_GROUPS = 8;
+
+    private IpAddresses() {
+    }
+
+    /**
+     * Dotted-decimal IPv4 address: four decimal octets without leading zeros
+     */
+    public static boolean isIpv4(String value, int from, int to) {
+        int pos = from;
+        for(int octet = 0; octet < 4; octet++) {
+            if(octet > 0) {
+                if(pos >= to || value.charAt(pos) != '.') {
+                    return false;
+                }
+                pos++;
+            }
+            int start = pos;
+            int number = 0;
+            while(pos < to && pos - start < 4) {
+                char ch = value.charAt(pos);
+                if(ch < '0' || ch > '9') {
+                    break;
+                }
+                number = number * 10 + (ch - '0');
+                pos++;
+            }
+            int len = pos - start;
+            if(len == 0 || len > 3 || number > 255 || (len > 1 && value.charAt(start) == '0')) {
+                return false;
+            }
+        }
+        return pos == to;
+    }
+
+    /**
+     * RFC 4291 IPv6 address: up to eight hex groups, one "::" compression and optional trailing IPv4 part
+     */
+    public static boolean isIpv6(String value, int from, int to) {
+        if(from >= to) {
+            return false;
+        }
+        int pos = from;
+        int groups = 0;
+        boolean compressed = false;
+        if(value.charAt(pos) == ':') {
+            if(pos + 1 >= to || value.charAt(pos + 1) != ':') {
+                return false;
+            }
+            compressed = true;
+            pos += 2;
+            if(pos == to) {
+                return true;
+            }
+        }
+        while(true) {
+            int start = pos;
+            while(pos < to && isHex(value.charAt(pos)) && pos - start < 5) {
+                pos++;
+            }
+            if(pos < to && value.charAt(pos) == '.') {
+                // The IPv4 part is the last one and takes two groups
+                if(!isIpv4(value, start, to)) {
+                    return false;
+                }
+                groups += 2;
+                break;
+            }
+            int len = pos - start;
+            if(len == 0 || len > 4) {
+                return false;
+            }
+            groups++;
+            if(pos == to) {
+                break;
+            }
+            if(value.charAt(pos) != ':' || groups >= IPV6_GROUPS) {
+                return false;
+            }
+            pos++;
+            if(pos < to && value.charAt(pos) == ':') {
+                if(compressed) {
+                    return false;
+                }
+                compressed = true;
+                pos++;
+                if(pos == to) {
+                    break;
+                }
+            }
+            else if(pos == to) {
+                // Single trailing colon
+                return false;
+            }
+        }
+        // The compression replaces one group at least
+        return compressed ? groups < IPV6_GROUPS : groups == IPV6_GROUPS;
+    }
+
+    static boolean isHex(char ch) {
+        return (ch >= '0' && ch <= '9') || (ch >= 'a' && ch <= 'f') || (ch >= 'A' && ch <= 'F');
+    }
+}
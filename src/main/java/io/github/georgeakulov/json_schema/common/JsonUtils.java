@@ -1,6 +1,9 @@
 package io.github.georgeakulov.json_schema.common;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.json.JsonMapper;
 
 import java.io.IOException;
@@ -9,6 +12,9 @@ import java.io.InputStream;
 public class JsonUtils {
 
     private final static JsonMapper JSON_MAPPER = new JsonMapper();
+    private final static ObjectReader CONTENT_READER = JSON_MAPPER.reader()
+            .without(JsonParser.Feature.AUTO_CLOSE_SOURCE)
+            .with(DeserializationFeature.FAIL_ON_TRAILING_TOKENS);
 
     public static JsonNode parse(String jsonString) {
         try {
@@ -27,4 +33,33 @@ public class JsonUtils {
             throw new IllegalArgumentException("Error on parse json", e);
         }
     }
+
+    /**
+     * Streaming parse of the json content, the stream is read by chunks and is not closed
+     * @throws IOException on invalid json or on read error of the stream
+     */
+    public static JsonNode readTree(InputStream is) throws IOException {
+        JsonNode node = CONTENT_READER.readTree(is);
+        if(node == null || node.isMissingNode()) {
+            throw new IOException("No json content");
+        }
+        return node;
+    }
+
+    /**
+     * Streaming check that the content is exactly one json value, the tree is not built
+     * @throws IOException on invalid json or on read error of the stream
+     */
+    public static void checkJson(InputStream is) throws IOException {
+        try(JsonParser parser = JSON_MAPPER.createParser(is)) {
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            if(parser.nextToken() == null) {
+                throw new IOException("No json content");
+            }
+            parser.skipChildren();
+            if(parser.nextToken() != null) {
+                throw new IOException("Unexpected content after json value");
+            }
+        }
+    }
 }
@@ -0,0 +1,159 @@
+package io.github.georgeakulov.json_schema.common;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Approximate size of the object graph for the 64-bit JVM with compressed references.<br/>
+ * Fields of the jdk classes aren`t accessible, so collections and maps are estimated by their content,
+ * other jdk objects by the shallow size only.
+ */
+public final class ObjectSizeEstimator {
+
+    private static final int HEADER = 12;
+    private static final int ARRAY_HEADER = 16;
+    private static final int REFERENCE = 4;
+    private static final int COLLECTION_ENTRY = 32;
+
+    private final Predicate<Object> shared;
+    private final Map<Class<?>, Layout> layouts = new IdentityHashMap<>();
+
+    private ObjectSizeEstimator(Predicate<Object> shared) {
+        this.shared = shared;
+    }
+
+    /**
+     * @param root root of the graph
+     * @param shared objects shared with other graphs, aren`t counted and traversed
+     * @return estimated size of the objects reachable from {@code root} in bytes
+     */
+    public static long estimate(Object root, Predicate<Object> shared) {
+        return new ObjectSizeEstimator(shared).walk(root);
+    }
+
+    private long walk(Object root) {
+        Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        Deque<Object> stack = new ArrayDeque<>();
+        stack.push(root);
+        long size = 0;
+        while(!stack.isEmpty()) {
+            Object current = stack.pop();
+            if(!visited.add(current) || isSkipped(current)) {
+                continue;
+            }
+            size += visit(current, stack);
+        }
+        return size;
+    }
+
+    private boolean isSkipped(Object obj) {
+        return obj instanceof Class<?> || obj instanceof ClassLoader || obj instanceof Thread
+                || obj instanceof Enum<?> || shared.test(obj);
+    }
+
+    private long visit(Object obj, Deque<Object> stack) {
+        Class<?> type = obj.getClass();
+        if(type.isArray()) {
+            int length = Array.getLength(obj);
+            if(type.getComponentType().isPrimitive()) {
+                return align(ARRAY_HEADER + (long) length * primitiveSize(type.getComponentType()));
+            }
+            for(Object item : (Object[]) obj) {
+                pushNonNull(stack, item);
+            }
+            return align(ARRAY_HEADER + (long) length * REFERENCE);
+        }
+        if(obj instanceof String str) {
+            return align(HEADER + 12) + align(ARRAY_HEADER + str.length());
+        }
+        if(isJdk(type)) {
+            if(obj instanceof Collection<?> collection) {
+                collection.forEach(item -> pushNonNull(stack, item));
+                return align(HEADER + 16) + (long) collection.size() * COLLECTION_ENTRY;
+            }
+            if(obj instanceof Map<?, ?> map) {
+                map.forEach((key, value) -> {
+                    pushNonNull(stack, key);
+                    pushNonNull(stack, value);
+                });
+                return align(HEADER + 24) + (long) map.size() * COLLECTION_ENTRY;
+            }
+            return layout(type).size;
+        }
+        Layout layout = layout(type);
+        for(Field field : layout.references) {
+            try {
+                pushNonNull(stack, field.get(obj));
+            }
+            catch(IllegalAccessException ignore) {
+                // Not accessible field isn`t traversed
+            }
+        }
+        return layout.size;
+    }
+
+    private Layout layout(Class<?> type) {
+        return layouts.computeIfAbsent(type, ignore -> {
+            long size = HEADER;
+            List<Field> references = new ArrayList<>();
+            for(Class<?> current = type; current != null; current = current.getSuperclass()) {
+                for(Field field : current.getDeclaredFields()) {
+                    if(Modifier.isStatic(field.getModifiers())) {
+                        continue;
+                    }
+                    if(field.getType().isPrimitive()) {
+                        size += primitiveSize(field.getType());
+                    }
+                    else {
+                        size += REFERENCE;
+                        if(!isJdk(current) && field.trySetAccessible()) {
+                            references.add(field);
+                        }
+                    }
+                }
+            }
+            return new Layout(align(size), references.toArray(Field[]::new));
+        });
+    }
+
+    private static void pushNonNull(Deque<Object> stack, Object obj) {
+        if(obj != null) {
+            stack.push(obj);
+        }
+    }
+
+    private static boolean isJdk(Class<?> type) {
+        String name = type.getName();
+        return name.startsWith("java.") || name.startsWith("javax.") || name.startsWith("jdk.") || name.startsWith("sun.");
+    }
+
+    private static int primitiveSize(Class<?> type) {
+        if(type == long.class || type == double.class) {
+            return 8;
+        }
+        if(type == int.class || type == float.class) {
+            return 4;
+        }
+        if(type == short.class || type == char.class) {
+            return 2;
+        }
+        return 1;
+    }
+
+    private static long align(long size) {
+        return (size + 7) & ~7L;
+    }
+
+    private record Layout(long size, Field[] references) {}
+}
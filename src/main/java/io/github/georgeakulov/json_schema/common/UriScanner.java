@@ -0,0 +1,262 @@
+package io.github.georgeakulov.json_schema.common;
+
+/**
+ * Single pass scanner of the RFC 3986 URI and RFC 3987 IRI references.<br/>
+ * The scanner follows the grammar of the specifications and checks the string in place,
+ * no {@link java.net.URI} is constructed and no exception is thrown for the invalid values.
+ */
+public final class UriScanner {
+
+    // Character classes of the ASCII characters
+    private static final int UNRESERVED_OR_SUB_DELIM = 1;
+    private static final int COLON = 2;
+    private static final int AT = 4;
+    private static final int SLASH = 8;
+    private static final int QUESTION = 16;
+    private static final int SCHEME = 32;
+
+    private static final int USERINFO = UNRESERVED_OR_SUB_DELIM | COLON;
+    private static final int REG_NAME = UNRESERVED_OR_SUB_DELIM;
+    private static final int PATH = UNRESERVED_OR_SUB_DELIM | COLON | AT | SLASH;
+    private static final int QUERY = PATH | QUESTION;
+
+    private static final byte[] CLASSES = new byte[128];
+
+    static {
+        for(char ch = 'a'; ch <= 'z'; ch++) {
+            CLASSES[ch] = UNRESERVED_OR_SUB_DELIM | SCHEME;
+            CLASSES[Character.toUpperCase(ch)] = UNRESERVED_OR_SUB_DELIM | SCHEME;
+        }
+        for(char ch = '0'; ch <= '9'; ch++) {
+            CLASSES[ch] = UNRESERVED_OR_SUB_DELIM | SCHEME;
+        }
+        for(char ch : "-.".toCharArray()) {
+            CLASSES[ch] = UNRESERVED_OR_SUB_DELIM | SCHEME;
+        }
+        for(char ch : "_~!$&'()*,;=".toCharArray()) {
+            CLASSES[ch] = UNRESERVED_OR_SUB_DELIM;
+        }
+        CLASSES['+'] = UNRESERVED_OR_SUB_DELIM | SCHEME;
+        CLASSES[':'] = COLON;
+        CLASSES['@'] = AT;
+        CLASSES['/'] = SLASH;
+        CLASSES['?'] = QUESTION;
+    }
+
+    private UriScanner() {
+    }
+
+    /**
+     * @return true if value is absolute URI: scheme ":" hier-part [ "?" query ] [ "#" fragment ]
+     */
+    public static boolean isUri(String value) {
+        return scan(value, false, true);
+    }
+
+    /**
+     * @return true if value is URI or relative reference
+     */
+    public static boolean isUriReference(String value) {
+        return scan(value, false, false);
+    }
+
+    /**
+     * @return true if value is absolute IRI
+     */
+    public static boolean isIri(String value) {
+        return scan(value, true, true);
+    }
+
+    /**
+     * @return true if value is IRI or relative IRI reference
+     */
+    public static boolean isIriReference(String value) {
+        return scan(value, true, false);
+    }
+
+    private static boolean scan(String value, boolean iri, boolean absolute) {
+        int len = value.length();
+        int schemeEnd = schemeEnd(value);
+        if(absolute && schemeEnd < 0) {
+            return false;
+        }
+        int pos = schemeEnd + 1;
+        if(value.startsWith("//", pos)) {
+            pos = scanAuthority(value, pos + 2, iri);
+            if(pos < 0) {
+                return false;
+            }
+        }
+        else if(schemeEnd < 0 && hasColonInFirstSegment(value)) {
+            // The first segment of relative path can`t contain colon
+            return false;
+        }
+        pos = scanChars(value, pos, len, PATH, iri, false);
+        if(pos >= 0 && pos < len && value.charAt(pos) == '?') {
+            pos = scanChars(value, pos + 1, len, QUERY, iri, true);
+        }
+        if(pos >= 0 && pos < len && value.charAt(pos) == '#') {
+            pos = scanChars(value, pos + 1, len, QUERY, iri, false);
+        }
+        return pos == len;
+    }
+
+    /**
+     * @return index of the colon after the scheme or -1 if value has no scheme
+     */
+    private static int schemeEnd(String value) {
+        int len = value.length();
+        if(len == 0 || !isAlpha(value.charAt(0))) {
+            return -1;
+        }
+        int pos = 1;
+        while(pos < len && hasClass(value.charAt(pos), SCHEME)) {
+            pos++;
+        }
+        return pos < len && value.charAt(pos) == ':' ? pos : -1;
+    }
+
+    private static boolean hasColonInFirstSegment(String value) {
+        for(int pos = 0; pos < value.length(); pos++) {
+            char ch = value.charAt(pos);
+            if(ch == ':') {
+                return true;
+            }
+            if(ch == '/' || ch == '?' || ch == '#') {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * authority = [ userinfo "@" ] host [ ":" port ]
+     * @return end of the authority or -1 if authority is invalid
+     */
+    private static int scanAuthority(String value, int from, boolean iri) {
+        int end = from;
+        while(end < value.length()) {
+            char ch = value.charAt(end);
+            if(ch == '/' || ch == '?' || ch == '#') {
+                break;
+            }
+            end++;
+        }
+        int hostStart = from;
+        int at = value.indexOf('@', from);
+        if(at >= 0 && at < end) {
+            if(scanChars(value, from, at, USERINFO, iri, false) != at) {
+                return -1;
+            }
+            hostStart = at + 1;
+        }
+        int hostEnd;
+        if(hostStart < end && value.charAt(hostStart) == '[') {
+            int close = value.indexOf(']', hostStart);
+            if(close < 0 || close >= end || !isIpLiteral(value, hostStart + 1, close)) {
+                return -1;
+            }
+            hostEnd = close + 1;
+        }
+        else {
+            hostEnd = scanChars(value, hostStart, end, REG_NAME, iri, false);
+            if(hostEnd < 0) {
+                return -1;
+            }
+        }
+        if(hostEnd < end) {
+            if(value.charAt(hostEnd) != ':') {
+                return -1;
+            }
+            for(int pos = hostEnd + 1; pos < end; pos++) {
+                char ch = value.charAt(pos);
+                if(ch < '0' || ch > '9') {
+                    return -1;
+                }
+            }
+        }
+        return end;
+    }
+
+    /**
+     * IP-literal = "[" ( IPv6address / IPvFuture ) "]", the brackets are excluded from the range
+     */
+    private static boolean isIpLiteral(String value, int from, int to) {
+        if(from < to && (value.charAt(from) == 'v' || value.charAt(from) == 'V')) {
+            // IPvFuture = "v" 1*HEXDIG "." 1*( unreserved / sub-delims / ":" )
+            int pos = from + 1;
+            while(pos < to && IpAddresses.isHex(value.charAt(pos))) {
+                pos++;
+            }
+            if(pos == from + 1 || pos >= to || value.charAt(pos) != '.' || pos + 1 == to) {
+                return false;
+            }
+            for(pos++; pos < to; pos++) {
+                char ch = value.charAt(pos);
+                if(!hasClass(ch, UNRESERVED_OR_SUB_DELIM | COLON)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return IpAddresses.isIpv6(value, from, to);
+    }
+
+    /**
+     * Skips the allowed characters and the percent-encoded octets
+     * @return index of the first not allowed character or -1 on invalid percent-encoding
+     */
+    private static int scanChars(String value, int from, int to, int allowed, boolean iri, boolean iprivate) {
+        int pos = from;
+        while(pos < to) {
+            char ch = value.charAt(pos);
+            if(ch < 0x80) {
+                if(ch == '%') {
+                    if(pos + 2 >= to) {
+                        return -1;
+                    }
+                    if(!IpAddresses.isHex(value.charAt(pos + 1)) || !IpAddresses.isHex(value.charAt(pos + 2))) {
+                        return -1;
+                    }
+                    pos += 3;
+                    continue;
+                }
+                if((CLASSES[ch] & allowed) == 0) {
+                    return pos;
+                }
+                pos++;
+            }
+            else {
+                if(!iri) {
+                    return pos;
+                }
+                int cp = value.codePointAt(pos);
+                if(!(isUcschar(cp) || (iprivate && isIprivate(cp)))) {
+                    return pos;
+                }
+                pos += Character.charCount(cp);
+            }
+        }
+        return pos;
+    }
+
+    private static boolean isUcschar(int cp) {
+        if(cp < 0x10000) {
+            return (cp >= 0xA0 && cp <= 0xD7FF) || (cp >= 0xF900 && cp <= 0xFDCF) || (cp >= 0xFDF0 && cp <= 0xFFEF);
+        }
+        // %x10000-1FFFD / %x20000-2FFFD / ... / %xE1000-EFFFD
+        return cp <= 0xEFFFD && (cp & 0xFFFF) <= 0xFFFD && !(cp >= 0xE0000 && cp < 0xE1000);
+    }
+
+    private static boolean isIprivate(int cp) {
+        return (cp >= 0xE000 && cp <= 0xF8FF) || (cp >= 0xF0000 && (cp & 0xFFFF) <= 0xFFFD);
+    }
+
+    private static boolean isAlpha(char ch) {
+        return (ch >= 'a' && ch <= 'z') || (ch >= 'A' && ch <= 'Z');
+    }
+
+    private static boolean hasClass(char ch, int mask) {
+        return ch < 0x80 && (CLASSES[ch] & mask) != 0;
+    }
+}
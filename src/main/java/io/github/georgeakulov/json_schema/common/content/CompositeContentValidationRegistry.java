@@ -4,11 +4,17 @@ import org.jspecify.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class CompositeContentValidationRegistry implements IContentValidationRegistry {
 
     private final List<IContentValidationRegistry> registryList = new ArrayList<>();
+    // The registry resolving the media type, NOT_FOUND if no one resolves it
+    private final Map<MimeType, IContentValidationRegistry> resolvedTypes = new ConcurrentHashMap<>();
+
+    private static final IContentValidationRegistry NOT_FOUND = new SimpleContentValidationRegistry();
 
     public CompositeContentValidationRegistry(IContentValidationRegistry contentValidationRegistry) {
         this.registryList.add(contentValidationRegistry);
@@ -16,10 +22,12 @@ public class CompositeContentValidationRegistry implements IContentValidationReg
 
     public void addFirst(IContentValidationRegistry registry) {
         this.registryList.addFirst(registry);
+        this.resolvedTypes.clear();
     }
 
     public void addLast(IContentValidationRegistry registry) {
         this.registryList.addLast(registry);
+        this.resolvedTypes.clear();
     }
 
     @Override
@@ -32,11 +40,29 @@ public class CompositeContentValidationRegistry implements IContentValidationReg
     }
 
     @Override
-    public @Nullable ExceptionableCons getContentTypeFn(MimeType mimeType) {
+    public @Nullable ExceptionableDecoder getContentDecoderFn(String contentEncoding) {
+        // The decoder is taken only from the registry which resolves the encoding
         return registryList.stream()
-                .map(registry -> registry.getContentTypeFn(mimeType))
-                .filter(Objects::nonNull)
+                .filter(registry -> registry.getContentEncodingFn(contentEncoding) != null)
                 .findFirst()
+                .map(registry -> registry.getContentDecoderFn(contentEncoding))
                 .orElse(null);
     }
+
+    @Override
+    public @Nullable ExceptionableStreamCons getContentTypeStreamFn(MimeType mimeType) {
+        return resolveTypeRegistry(mimeType).getContentTypeStreamFn(mimeType);
+    }
+
+    @Override
+    public @Nullable ExceptionableCons getContentTypeFn(MimeType mimeType) {
+        return resolveTypeRegistry(mimeType).getContentTypeFn(mimeType);
+    }
+
+    private IContentValidationRegistry resolveTypeRegistry(MimeType mimeType) {
+        return resolvedTypes.computeIfAbsent(mimeType, type -> registryList.stream()
+                .filter(registry -> registry.getContentTypeFn(type) != null)
+                .findFirst()
+                .orElse(NOT_FOUND));
+    }
 }
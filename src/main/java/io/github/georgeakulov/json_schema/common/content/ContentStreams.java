@@ -0,0 +1,144 @@
+package io.github.georgeakulov.json_schema.common.content;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Base64;
+
+/**
+ * Decoding streams over the string instance values.<br/>
+ * The streams read the string chars in place and decode them on the fly, so the encoded value
+ * is never copied to an intermediate byte array. Invalid encoding is reported by {@link IOException} on read.
+ */
+final class ContentStreams {
+
+    private ContentStreams() {
+    }
+
+    static InputStream sevenBit(String value) {
+        return new CharsInputStream(value) {
+            @Override
+            int next() throws IOException {
+                int ch = nextChar();
+                if(ch >= 0x80) {
+                    throw new IOException("Unexpected character: " + (char) ch);
+                }
+                return ch;
+            }
+        };
+    }
+
+    static InputStream base64(String value) {
+        var chars = new CharsInputStream(value);
+        return new FilterInputStream(Base64.getDecoder().wrap(chars)) {
+
+            @Override
+            public int read() throws IOException {
+                return checkEnd(super.read());
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                return checkEnd(super.read(b, off, len));
+            }
+
+            // The decoder stream stops on padding and ignores the rest of the chars
+            private int checkEnd(int result) throws IOException {
+                if(result < 0 && chars.peekChar() >= 0) {
+                    throw new IOException("Unexpected characters after base64 padding");
+                }
+                return result;
+            }
+        };
+    }
+
+    static InputStream quotedPrintable(String value) {
+        return new CharsInputStream(value) {
+            @Override
+            int next() throws IOException {
+                while(true) {
+                    int ch = nextChar();
+                    if(ch != '=') {
+                        if(ch < 0 || (ch >= 33 && ch <= 60) || (ch >= 62 && ch <= 126) || ch == 9 || ch == 32) {
+                            return ch;
+                        }
+                        throw new IOException(String.format("The symbol %c must be encoded", ch));
+                    }
+                    int first = nextChar();
+                    if(first == '\r' || first == '\n') {
+                        // Soft line break
+                        if(first == '\r' && peekChar() == '\n') {
+                            nextChar();
+                        }
+                        continue;
+                    }
+                    int h1 = first < 0 ? -1 : Character.digit(first, 16);
+                    int second = nextChar();
+                    int h2 = second < 0 ? -1 : Character.digit(second, 16);
+                    if(h1 < 0 || h2 < 0) {
+                        throw new IOException("Invalid or not full hex pair after '='");
+                    }
+                    return (h1 << 4) | h2;
+                }
+            }
+        };
+    }
+
+    /**
+     * Reads the stream to the end, so the decoding errors of the whole content are raised
+     */
+    static void drain(InputStream is) throws IOException {
+        is.transferTo(OutputStream.nullOutputStream());
+    }
+
+    /**
+     * Stream of the string chars, chars out of Latin-1 are replaced with 0xff which is invalid in all encodings
+     */
+    private static class CharsInputStream extends InputStream {
+
+        private final String value;
+        private int pos;
+
+        CharsInputStream(String value) {
+            this.value = value;
+        }
+
+        int nextChar() {
+            if(pos >= value.length()) {
+                return -1;
+            }
+            char ch = value.charAt(pos++);
+            return ch > 0xff ? 0xff : ch;
+        }
+
+        int peekChar() {
+            return pos >= value.length() ? -1 : value.charAt(pos);
+        }
+
+        int next() throws IOException {
+            return nextChar();
+        }
+
+        @Override
+        public int read() throws IOException {
+            return next();
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if(len == 0) {
+                return 0;
+            }
+            int count = 0;
+            while(count < len) {
+                int ch = next();
+                if(ch < 0) {
+                    break;
+                }
+                b[off + count++] = (byte) ch;
+            }
+            return count == 0 ? -1 : count;
+        }
+    }
+}
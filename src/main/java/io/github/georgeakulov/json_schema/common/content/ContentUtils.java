@@ -1,188 +1,267 @@
 package io.github.georgeakulov.json_schema.common.content;
 
-import com.fasterxml.jackson.core.JsonPointer;
 import com.fasterxml.jackson.databind.JsonNode;
 import io.github.georgeakulov.json_schema.common.JsonUtils;
 import io.github.georgeakulov.json_schema.common.SchemaCompileException;
+import io.github.georgeakulov.json_schema.common.content.IContentValidationRegistry.ExceptionableCons;
+import io.github.georgeakulov.json_schema.common.content.IContentValidationRegistry.ExceptionableDecoder;
 import io.github.georgeakulov.json_schema.common.content.IContentValidationRegistry.ExceptionableOp;
+import io.github.georgeakulov.json_schema.common.content.IContentValidationRegistry.ExceptionableStreamCons;
 import io.github.georgeakulov.json_schema.compilers.ICompiler.IValidatorAction;
+import io.github.georgeakulov.json_schema.compilers.IValidationContext;
+import io.github.georgeakulov.json_schema.compilers.IValidator;
 import io.github.georgeakulov.json_schema.results.EErrorType;
 import io.github.georgeakulov.json_schema.results.IValidationResult;
+import io.github.georgeakulov.json_schema.results.InstancePath;
 import io.github.georgeakulov.json_schema.results.ValidationError;
 import io.github.georgeakulov.json_schema.results.ValidationResultFactory;
+import org.jspecify.annotations.Nullable;
 import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
-import java.io.ByteArrayOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
-import java.util.function.BiFunction;
-import java.util.function.Function;
 
 public class ContentUtils {
 
     static final ExceptionableOp IDENTITY = str -> str;
-    static final IContentValidationRegistry.ExceptionableCons EMPTY = str -> {};
+    static final ExceptionableCons EMPTY = str -> {};
 
-    public static BiFunction<JsonPointer, JsonNode, Iterable<IValidationResult>> prepareValidation(
-            IContentValidationRegistry registry,
-            ValidationItem<String> contentEncoding,
-            ValidationItem<MimeType> contentType,
-            ValidationItem<Function<JsonNode, Publisher<IValidationResult>>> contentSchema) {
-
-        ContentValidator validator = null;
-        if(contentEncoding != null) {
-            var func = registry.getContentEncodingFn(contentEncoding.value());
-            validator = new ContentValidator(
-                    contentEncoding.action(),
-                    func == null ? IDENTITY : func,
-                    EErrorType.CONTENT_ENCODING,
-                    contentEncoding.value()
-            );
-        }
-
-        if(contentType != null) {
-            var cons = registry.getContentTypeFn(contentType.value());
-            var type = new ContentValidator(
-                    contentType.action(),
-                    toOp(cons == null ? EMPTY : cons),
-                    EErrorType.CONTENT_TYPE,
-                    contentType.value()
-            );
-            if(validator == null) {
-                validator = type;
-            }
-            else {
-                validator.next = type;
-            }
-        }
+    /**
+     * Streaming validators of the json and jwt media types. The content pipeline recognizes them
+     * and parses the content once for both the media type and the content schema
+     */
+    static final ExceptionableStreamCons JSON_CONTENT = JsonUtils::checkJson;
+    static final ExceptionableStreamCons JWT_CONTENT = MediaTypeValidators::checkJwt;
 
-        if(contentSchema != null) {
-
-            Objects.requireNonNull(validator)
-                    .next = new ContentValidator(
-                            contentSchema.action(),
-                            str -> {
-                                JsonNode node = JsonUtils.parse(str);
-                                IValidationResult result = Objects.requireNonNull(
-                                        Mono.from(contentSchema.value().apply(node))
-                                        .block()
-                                );
-                                if(!result.isOk()) {
-                                    throw new IllegalArgumentException("Invalid content schema");
-                                }
-                                return str;
-                            },
-                            EErrorType.CONTENT_SCHEMA
-                    );
-        }
-
-        ContentValidator resolved = SchemaCompileException.checkNonNull(validator, "No validators resolved");
+    /**
+     * @param contentSchema validator of the decoded content, it is called with the context of the validated instance
+     */
+    public static IValidator prepareValidation(
+            IContentValidationRegistry registry,
+            @Nullable ValidationItem<String> contentEncoding,
+            @Nullable ValidationItem<MimeType> contentType,
+            @Nullable ValidationItem<IValidator> contentSchema) {
 
-        return (pointer, node) -> {
-            var collector = new ResultCollector();
-            resolved.validate(node, pointer, collector);
-            return collector.validationResult;
-        };
+        SchemaCompileException.checkIt(contentEncoding != null || contentType != null, "No validators resolved");
+        return new ContentPipeline(registry, contentEncoding, contentType, contentSchema);
     }
 
     public record ValidationItem<T>(IValidatorAction action, T value){}
 
-    private static class ResultCollector {
-        private final List<IValidationResult> validationResult = new ArrayList<>(3);
-        private String prevResult;
-    }
+    /**
+     * Validation of the contentEncoding, contentMediaType and contentSchema keywords in that order,
+     * validation stops on the first failed keyword.<br/>
+     * If the encoding has a streaming decoder, the decoded content is piped to the media type validator
+     * or to the json parser without intermediate strings or byte arrays.<br/>
+     * The content schema result is composed into the returned publisher, the validation never blocks.
+     */
+    private static class ContentPipeline implements IValidator {
 
-    private static ExceptionableOp toOp(IContentValidationRegistry.ExceptionableCons cons) {
-        return val -> {
-            cons.accept(val);
-            return val;
-        };
-    }
+        private final @Nullable Step encoding;
+        private final ExceptionableOp encodingOp;
+        private final @Nullable ExceptionableDecoder decoder;
+        private final @Nullable Step type;
+        private final ExceptionableCons typeCons;
+        private final @Nullable ExceptionableStreamCons typeStreamCons;
+        private final @Nullable Step schema;
+        private final @Nullable IValidator schemaFn;
+        private final ContentParser contentParser;
+        private final boolean parsedByType;
+        private final boolean streaming;
+
+        ContentPipeline(IContentValidationRegistry registry,
+                        @Nullable ValidationItem<String> contentEncoding,
+                        @Nullable ValidationItem<MimeType> contentType,
+                        @Nullable ValidationItem<IValidator> contentSchema) {
+            if(contentEncoding != null) {
+                var op = registry.getContentEncodingFn(contentEncoding.value());
+                encoding = new Step(contentEncoding.action(), EErrorType.CONTENT_ENCODING, contentEncoding.value());
+                encodingOp = op == null ? IDENTITY : op;
+                decoder = op == null ? null : registry.getContentDecoderFn(contentEncoding.value());
+            }
+            else {
+                encoding = null;
+                encodingOp = IDENTITY;
+                decoder = null;
+            }
+            if(contentType != null) {
+                var cons = registry.getContentTypeFn(contentType.value());
+                type = new Step(contentType.action(), EErrorType.CONTENT_TYPE, contentType.value());
+                typeCons = cons == null ? EMPTY : cons;
+                typeStreamCons = cons == null ? null : registry.getContentTypeStreamFn(contentType.value());
+            }
+            else {
+                type = null;
+                typeCons = EMPTY;
+                typeStreamCons = null;
+            }
+            if(contentSchema != null) {
+                schema = new Step(contentSchema.action(), EErrorType.CONTENT_SCHEMA);
+                schemaFn = contentSchema.value();
+            }
+            else {
+                schema = null;
+                schemaFn = null;
+            }
+            // The jwt content is validated by the content schema as array of the header and the payload
+            boolean jwt = contentType != null && contentType.value().isJwt();
+            contentParser = jwt ? MediaTypeValidators::parseJwt : JsonUtils::readTree;
+            parsedByType = schema != null && typeStreamCons == (jwt ? JWT_CONTENT : JSON_CONTENT);
+            // The unknown media type needs no content, the known one must be able to read the stream
+            streaming = decoder != null && (type == null || typeCons == EMPTY || typeStreamCons != null);
+        }
 
-    private static class ContentValidator {
-        private final IValidatorAction action;
-        private final ExceptionableOp operation;
-        private final EErrorType errType;
-        private final Object[] args;
-        private ContentValidator next;
-
-        public ContentValidator(IValidatorAction action, ExceptionableOp operation, EErrorType errType, Object ... args) {
-            this.action = action;
-            this.operation = operation;
-            this.errType = errType;
-            this.args = args;
+        @Override
+        public Publisher<IValidationResult> validate(JsonNode node, InstancePath pointer, IValidationContext context) {
+            List<IValidationResult> results = new ArrayList<>(3);
+            if(!node.isTextual()) {
+                for(Step step : new Step[]{encoding, type, schema}) {
+                    if(step != null) {
+                        results.add(step.ok(pointer));
+                    }
+                }
+                return Flux.fromIterable(results);
+            }
+            JsonNode contentNode = streaming
+                    ? validateStream(node.textValue(), pointer, results)
+                    : validateText(node.textValue(), pointer, results);
+            if(contentNode == null) {
+                return Flux.fromIterable(results);
+            }
+            var schema = Objects.requireNonNull(this.schema);
+            return Flux.concat(
+                    Flux.fromIterable(results),
+                    // The content is the separate document, but it shares the limits, the metrics and the reuse of the instance
+                    Mono.from(Objects.requireNonNull(schemaFn).validate(contentNode, InstancePath.empty(), context))
+                            .map(result -> result.isOk() ? schema.ok(pointer) : schema.error(pointer))
+            );
         }
 
-        void validate(JsonNode node, JsonPointer pointer, ResultCollector resultCollector) {
-            var id = action.compileAction().createId(pointer);
-            if(node.isTextual()) {
+        /**
+         * @return parsed content to validate by the content schema or null if the validation is finished
+         */
+        private @Nullable JsonNode validateText(String value, InstancePath pointer, List<IValidationResult> results) {
+            String content = value;
+            if(encoding != null) {
                 try {
-                    String resolve = resultCollector.prevResult == null ? node.textValue() : resultCollector.prevResult;
-                    resultCollector.prevResult = operation.apply(resolve);
-                    resultCollector.validationResult.add(ValidationResultFactory.createOk(id));
-                    if(next != null) {
-                        next.validate(node, pointer, resultCollector);
+                    String decoded = encodingOp.apply(value);
+                    if(decoded != null) {
+                        content = decoded;
                     }
+                    results.add(encoding.ok(pointer));
                 }
                 catch(Exception e) {
-                    resultCollector.validationResult.add(
-                            ValidationError.create(id, errType, args)
-                    );
+                    results.add(encoding.error(pointer));
+                    return null;
                 }
             }
-            else {
-                resultCollector.validationResult.add(ValidationResultFactory.createOk(id));
+            if(type != null) {
+                try {
+                    typeCons.accept(content);
+                    results.add(type.ok(pointer));
+                }
+                catch(Exception e) {
+                    results.add(type.error(pointer));
+                    return null;
+                }
             }
+            if(schema != null) {
+                try {
+                    return contentParser.parse(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+                }
+                catch(Exception e) {
+                    results.add(schema.error(pointer));
+                }
+            }
+            return null;
         }
-    }
 
-    static String checkQuotedPrintable(String s) {
-        var baos = new ByteArrayOutputStream();
-        byte [] data = s.getBytes(StandardCharsets.US_ASCII);
-        int i = 0;
-        while(i < data.length) {
-            int c = data[i] & 0xff;
-            if(c == '=') {
-                if (++i >= data.length) {
-                    throw new IllegalArgumentException("Unexpected line end");
+        private @Nullable JsonNode validateStream(String value, InstancePath pointer, List<IValidationResult> results) {
+            var decoder = Objects.requireNonNull(this.decoder);
+            var encoding = Objects.requireNonNull(this.encoding);
+            JsonNode contentNode = null;
+            try(InputStream is = decoder.decode(value)) {
+                if(parsedByType) {
+                    contentNode = contentParser.parse(is);
                 }
-
-                // May be \r
-                int next = data[++i] & 0xff;
-                if(next == '\r' || next == '\n') {
-                    i++;
-                    if(next == '\r' && i < data.length &&  (data[i] & 0xff) == '\n') {
-                        i++;
-                    }
-                    continue;
+                else if(type != null && typeStreamCons != null) {
+                    typeStreamCons.accept(is);
                 }
-
-                if(++i < data.length) {
-                    int next_more = data[i] & 0xff;
-                    int h1 = Character.digit(next, 16);
-                    int h2 = Character.digit(next_more, 16);
-                    if(h1 < 0 || h2 < 0) {
-                        throw new IllegalArgumentException(String.format("Invalid hex digit at sequence %c, %c", next, next_more));
-                    }
-                    baos.write(((h1 << 4) | h2) & 0xff);
-                    i++;
+                // The rest of the content must be correctly encoded too
+                ContentStreams.drain(is);
+            }
+            catch(Exception e) {
+                // The failure is caused either by the decoder or by the content
+                if(!isEncodingValid(decoder, value)) {
+                    results.add(encoding.error(pointer));
+                    return null;
+                }
+                results.add(encoding.ok(pointer));
+                if(type != null) {
+                    results.add(type.error(pointer));
                 }
-                else {
-                    throw new IllegalArgumentException("Not full HEX pair");
+                else if(parsedByType) {
+                    results.add(Objects.requireNonNull(schema).error(pointer));
                 }
+                return null;
             }
-            else {
-                if((c >= 33 && c <= 60) || (c >= 62 && c <= 126) || c == 9 || c == 32) {
-                    baos.write(c);
-                    i++;
+            results.add(encoding.ok(pointer));
+            if(type != null) {
+                results.add(type.ok(pointer));
+            }
+            if(schema != null && contentNode == null) {
+                try(InputStream is = decoder.decode(value)) {
+                    contentNode = contentParser.parse(is);
                 }
-                else {
-                    throw new IllegalArgumentException(String.format("The symbol %c must be encoded", c));
+                catch(Exception e) {
+                    results.add(schema.error(pointer));
                 }
             }
+            return schema == null ? null : contentNode;
+        }
+
+        private static boolean isEncodingValid(ExceptionableDecoder decoder, String value) {
+            try(InputStream is = decoder.decode(value)) {
+                ContentStreams.drain(is);
+                return true;
+            }
+            catch(Exception e) {
+                return false;
+            }
+        }
+    }
+
+    private interface ContentParser {
+        JsonNode parse(InputStream is) throws Exception;
+    }
+
+    /**
+     * @return string form of the stream validator for the content decoded to string
+     */
+    static ExceptionableCons toStringCons(ExceptionableStreamCons cons) {
+        return value -> cons.accept(new ByteArrayInputStream(value.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private record Step(IValidatorAction action, EErrorType errType, Object... args) {
+
+        IValidationResult ok(InstancePath pointer) {
+            return ValidationResultFactory.createOk(action.compileAction().createId(pointer));
+        }
+
+        IValidationResult error(InstancePath pointer) {
+            return ValidationError.create(action.compileAction().createId(pointer), errType, args);
+        }
+    }
+
+    static String checkQuotedPrintable(String s) throws IOException {
+        try(InputStream is = ContentStreams.quotedPrintable(s)) {
+            return new String(is.readAllBytes(), StandardCharsets.UTF_8);
         }
-        return baos.toString(StandardCharsets.UTF_8);
     }
 
     static String check7BitEncoding(String s) {
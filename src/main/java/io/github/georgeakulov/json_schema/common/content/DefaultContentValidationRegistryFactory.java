@@ -1,7 +1,5 @@
 package io.github.georgeakulov.json_schema.common.content;
 
-import io.github.georgeakulov.json_schema.common.JsonUtils;
-
 public class DefaultContentValidationRegistryFactory {
 
     private static final SimpleContentValidationRegistry INSTANCE  = new SimpleContentValidationRegistry();
@@ -14,15 +12,32 @@ public class DefaultContentValidationRegistryFactory {
     }
 
     static {
-        INSTANCE.addContentEncodingValidator("7bit", ContentUtils::check7BitEncoding);
-        INSTANCE.addContentEncodingValidator("base64", ContentUtils::checkBase64);
-        INSTANCE.addContentEncodingValidator("quoted-printable", ContentUtils::checkQuotedPrintable);
+        INSTANCE.addContentEncodingValidator("7bit", ContentUtils::check7BitEncoding, ContentStreams::sevenBit);
+        INSTANCE.addContentEncodingValidator("base64", ContentUtils::checkBase64, ContentStreams::base64);
+        INSTANCE.addContentEncodingValidator("quoted-printable", ContentUtils::checkQuotedPrintable, ContentStreams::quotedPrintable);
     }
 
     static {
+        // Added first, the more specific jwt validator takes precedence
         INSTANCE.addContentTypeValidator(new MimeTypeValidator(
                 MimeType::hasJsonContent,
-                JsonUtils::parse
+                ContentUtils.toStringCons(ContentUtils.JSON_CONTENT),
+                ContentUtils.JSON_CONTENT
+        ));
+        INSTANCE.addContentTypeValidator(new MimeTypeValidator(
+                MimeType::isJwt,
+                ContentUtils.toStringCons(ContentUtils.JWT_CONTENT),
+                ContentUtils.JWT_CONTENT
+        ));
+        INSTANCE.addContentTypeValidator(new MimeTypeValidator(
+                MimeType::hasXmlContent,
+                ContentUtils.toStringCons(MediaTypeValidators::checkXml),
+                MediaTypeValidators::checkXml
+        ));
+        INSTANCE.addContentTypeValidator(new MimeTypeValidator(
+                MimeType::isCsv,
+                ContentUtils.toStringCons(MediaTypeValidators::checkCsv),
+                MediaTypeValidators::checkCsv
         ));
     }
 }
@@ -2,6 +2,8 @@ package io.github.georgeakulov.json_schema.common.content;
 
 import org.jspecify.annotations.Nullable;
 
+import java.io.InputStream;
+
 public interface IContentValidationRegistry {
 
     @Nullable
@@ -10,10 +12,40 @@ public interface IContentValidationRegistry {
     @Nullable
     ExceptionableCons getContentTypeFn(MimeType mimeType);
 
+    /**
+     * Streaming form of the contentEncoding validator, it complements the validator returned by
+     * {@link #getContentEncodingFn(String)} of this registry and is used instead of it when present.
+     * @return decoder or null if the encoding has no streaming decoder in this registry
+     */
+    default @Nullable ExceptionableDecoder getContentDecoderFn(String contentEncoding) {
+        return null;
+    }
+
+    /**
+     * Streaming form of the contentMediaType validator, it complements the validator returned by
+     * {@link #getContentTypeFn(MimeType)} of this registry and is used instead of it when present.
+     * @return validator of the decoded content or null if the media type has no streaming validator in this registry
+     */
+    default @Nullable ExceptionableStreamCons getContentTypeStreamFn(MimeType mimeType) {
+        return null;
+    }
+
     interface ExceptionableOp {
         @Nullable String apply(String s) throws Exception;
     }
 
     interface ExceptionableCons {
         void accept(String s) throws Exception;
-    }}
+    }
+
+    interface ExceptionableDecoder {
+        /**
+         * @return stream of the decoded content, invalid encoding is reported by exception on read
+         */
+        InputStream decode(String s) throws Exception;
+    }
+
+    interface ExceptionableStreamCons {
+        void accept(InputStream content) throws Exception;
+    }
+}
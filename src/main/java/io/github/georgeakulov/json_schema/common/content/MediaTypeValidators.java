@@ -0,0 +1,187 @@
+package io.github.georgeakulov.json_schema.common.content;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import io.github.georgeakulov.json_schema.common.JsonUtils;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Base64;
+
+/**
+ * Validators of the common media types working on the decoded byte stream
+ */
+final class MediaTypeValidators {
+
+    private static final XMLInputFactory XML_FACTORY = createXmlFactory();
+
+    private MediaTypeValidators() {
+    }
+
+    /**
+     * Compact JWT (RFC 7519): JWS with three or JWE with five base64url parts.
+     * The header of both and the payload of JWS must be json objects.
+     */
+    static void checkJwt(InputStream is) throws IOException {
+        parseJwtParts(is.readAllBytes());
+    }
+
+    /**
+     * @return array of the header and the payload as in the contentSchema example of the specification,
+     * the payload of JWE is encrypted and is not included
+     */
+    static JsonNode parseJwt(InputStream is) throws IOException {
+        return parseJwtParts(is.readAllBytes());
+    }
+
+    private static JsonNode parseJwtParts(byte[] token) throws IOException {
+        int dots = 0;
+        for(byte ch : token) {
+            if(ch == '.') {
+                dots++;
+            }
+        }
+        if(dots != 2 && dots != 4) {
+            throw new IOException("The JWT must have 3 or 5 parts. Actual: " + (dots + 1));
+        }
+        // JWE payload is encrypted, only the header is json
+        int jsonParts = dots == 2 ? 2 : 1;
+        var result = JsonNodeFactory.instance.arrayNode(jsonParts);
+        int start = 0;
+        for(int part = 0; part <= dots; part++) {
+            int end = start;
+            while(end < token.length && token[end] != '.') {
+                end++;
+            }
+            checkBase64Url(token, start, end);
+            if(part < jsonParts) {
+                var node = JsonUtils.readTree(Base64.getUrlDecoder().wrap(new ByteArrayInputStream(token, start, end - start)));
+                if(!node.isObject()) {
+                    throw new IOException("The JWT header and payload must be json objects");
+                }
+                result.add(node);
+            }
+            start = end + 1;
+        }
+        return result;
+    }
+
+    private static void checkBase64Url(byte[] value, int from, int to) throws IOException {
+        for(int i = from; i < to; i++) {
+            int ch = value[i];
+            if(!((ch >= 'A' && ch <= 'Z') || (ch >= 'a' && ch <= 'z') || (ch >= '0' && ch <= '9') || ch == '-' || ch == '_')) {
+                throw new IOException("Invalid base64url character in JWT");
+            }
+        }
+        if((to - from) % 4 == 1) {
+            throw new IOException("Invalid length of base64url part in JWT");
+        }
+    }
+
+    /**
+     * Well-formedness of XML document. DTDs and external entities are not processed.
+     */
+    static void checkXml(InputStream is) throws IOException {
+        try {
+            XMLStreamReader reader = XML_FACTORY.createXMLStreamReader(is);
+            try {
+                while(reader.hasNext()) {
+                    reader.next();
+                }
+            }
+            finally {
+                reader.close();
+            }
+        }
+        catch(XMLStreamException e) {
+            throw new IOException(e);
+        }
+    }
+
+    private static XMLInputFactory createXmlFactory() {
+        var factory = XMLInputFactory.newDefaultFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+
+    // States of the csv scanner
+    private static final int FIELD_START = 0;
+    private static final int UNQUOTED = 1;
+    private static final int QUOTED = 2;
+    private static final int QUOTE_IN_QUOTED = 3;
+
+    /**
+     * RFC 4180 structure: quoted fields are closed and escaped and all records have as many fields as the header
+     */
+    static void checkCsv(InputStream is) throws IOException {
+        var in = new BufferedInputStream(is);
+        int headerFields = -1;
+        int fields = 1;
+        int state = FIELD_START;
+        boolean recordStarted = false;
+        boolean skipLf = false;
+        int ch;
+        while((ch = in.read()) >= 0) {
+            if(skipLf) {
+                skipLf = false;
+                if(ch == '\n') {
+                    continue;
+                }
+            }
+            if(state == QUOTED) {
+                if(ch == '"') {
+                    state = QUOTE_IN_QUOTED;
+                }
+                continue;
+            }
+            if(ch == '\r' || ch == '\n') {
+                headerFields = checkRecord(headerFields, fields);
+                fields = 1;
+                state = FIELD_START;
+                recordStarted = false;
+                skipLf = ch == '\r';
+                continue;
+            }
+            recordStarted = true;
+            if(ch == ',') {
+                fields++;
+                state = FIELD_START;
+            }
+            else if(ch == '"') {
+                if(state == UNQUOTED) {
+                    throw new IOException("Quote in the unquoted csv field");
+                }
+                // Escaped quote in the quoted field or the start of the quoted field
+                state = QUOTED;
+            }
+            else if(state == QUOTE_IN_QUOTED) {
+                throw new IOException("Unexpected character after the quoted csv field");
+            }
+            else {
+                state = UNQUOTED;
+            }
+        }
+        if(state == QUOTED) {
+            throw new IOException("Not closed quoted csv field");
+        }
+        if(recordStarted) {
+            headerFields = checkRecord(headerFields, fields);
+        }
+        if(headerFields < 0) {
+            throw new IOException("No csv header");
+        }
+    }
+
+    private static int checkRecord(int headerFields, int fields) throws IOException {
+        if(headerFields >= 0 && fields != headerFields) {
+            throw new IOException("Expected " + headerFields + " csv fields. Actual: " + fields);
+        }
+        return fields;
+    }
+}
@@ -2,8 +2,14 @@ package io.github.georgeakulov.json_schema.common.content;
 
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 
+/**
+ * Parsed and normalized media type. Type, subtype and parameters are lower case,
+ * so equal media types written differently are equal and have the same hash code.
+ */
 public class MimeType {
 
     private final String type;
@@ -45,31 +51,52 @@ public class MimeType {
     }
 
     public boolean hasJsonContent() {
-        return isApplication() && (subType.endsWith("json") || subType.equals("jwt"));
+        return isApplication() && (subType.endsWith("json") || isJwt());
+    }
+
+    public boolean isJwt() {
+        return isApplication() && subType.equals("jwt");
+    }
+
+    /**
+     * @return true for application/xml, text/xml and the types with "+xml" suffix
+     */
+    public boolean hasXmlContent() {
+        return ((isApplication() || isText()) && subType.equals("xml")) || subType.endsWith("+xml");
+    }
+
+    public boolean isCsv() {
+        return isText() && subType.equals("csv");
     }
 
     private MimeType(String fromString) {
-        String[] parts = fromString.split(";");
-        String mime = parts[0];
-        int idx = mime.indexOf("/");
-        if (idx < 0) {
-            type = mime.trim().toLowerCase();
+        int end = fromString.indexOf(';');
+        if(end < 0) {
+            end = fromString.length();
+        }
+        int idx = fromString.indexOf('/');
+        if (idx < 0 || idx > end) {
+            type = normalize(fromString, 0, end);
             subType = "";
         } else {
-            type = mime.substring(0, idx).trim().toLowerCase();
-            subType = mime.substring(idx + 1).trim().toLowerCase();
+            type = normalize(fromString, 0, idx);
+            subType = normalize(fromString, idx + 1, end);
         }
 
         Map<String, String> params = new HashMap<>();
-        for (int i = 1; i < parts.length; i++) {
-            String part = parts[i];
-            int assignIdx = part.indexOf('=');
-            if (assignIdx < 0) {
-                params.put(part.trim().toLowerCase(), null);
+        while(end < fromString.length()) {
+            int start = end + 1;
+            end = fromString.indexOf(';', start);
+            if(end < 0) {
+                end = fromString.length();
+            }
+            int assignIdx = fromString.indexOf('=', start);
+            if (assignIdx < 0 || assignIdx > end) {
+                params.put(normalize(fromString, start, end), null);
             } else {
-                String key = part.substring(0, assignIdx).trim().toLowerCase();
-                String value = part.substring(assignIdx + 1).trim().toLowerCase();
-                if (value.startsWith("\"") && value.endsWith("\"")) {
+                String key = normalize(fromString, start, assignIdx);
+                String value = normalize(fromString, assignIdx + 1, end);
+                if (value.length() > 1 && value.startsWith("\"") && value.endsWith("\"")) {
                     value = value.substring(1, value.length() - 1);
                 }
                 params.put(key, value);
@@ -78,6 +105,22 @@ public class MimeType {
         this.params = Collections.unmodifiableMap(params);
     }
 
+    private static String normalize(String value, int from, int to) {
+        return value.substring(from, to).trim().toLowerCase(Locale.ROOT);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof MimeType mimeType)) return false;
+        return type.equals(mimeType.type) && subType.equals(mimeType.subType) && params.equals(mimeType.params);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, subType, params);
+    }
+
     @Override
     public String toString() {
         final StringBuilder sb = new StringBuilder("MimeType{");
@@ -1,6 +1,14 @@
 package io.github.georgeakulov.json_schema.common.content;
 
+import org.jspecify.annotations.Nullable;
+
 import java.util.function.Predicate;
 
-public record MimeTypeValidator(Predicate<MimeType> predicate, IContentValidationRegistry.ExceptionableCons validator) {
+public record MimeTypeValidator(Predicate<MimeType> predicate,
+                                IContentValidationRegistry.ExceptionableCons validator,
+                                IContentValidationRegistry.@Nullable ExceptionableStreamCons streamValidator) {
+
+    public MimeTypeValidator(Predicate<MimeType> predicate, IContentValidationRegistry.ExceptionableCons validator) {
+        this(predicate, validator, null);
+    }
 }
@@ -3,35 +3,68 @@ package io.github.georgeakulov.json_schema.common.content;
 import org.jspecify.annotations.Nullable;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class SimpleContentValidationRegistry implements IContentValidationRegistry {
 
     private final Map<String, ExceptionableOp> contentEncoding = new HashMap<>();
+    private final Map<String, ExceptionableDecoder> contentDecoders = new HashMap<>();
     private final List<MimeTypeValidator> contentTypeValidators = new ArrayList<>();
+    // Resolved validators by normalized media type, NOT_FOUND if no validator matches
+    private final Map<MimeType, MimeTypeValidator> resolvedTypes = new ConcurrentHashMap<>();
+
+    private static final MimeTypeValidator NOT_FOUND = new MimeTypeValidator(type -> false, ContentUtils.EMPTY);
 
     @Override
     public @Nullable ExceptionableOp getContentEncodingFn(String contentEncoding) {
         return this.contentEncoding.get(contentEncoding);
     }
 
+    @Override
+    public @Nullable ExceptionableDecoder getContentDecoderFn(String contentEncoding) {
+        return this.contentDecoders.get(contentEncoding);
+    }
+
     @Override
     public @Nullable ExceptionableCons getContentTypeFn(MimeType mimeType) {
-        return contentTypeValidators.stream()
-                .filter(val -> val.predicate().test(mimeType))
-                .map(MimeTypeValidator::validator)
-                .findAny()
-                .orElse(null);
+        var validator = findContentTypeValidator(mimeType);
+        return validator == null ? null : validator.validator();
+    }
+
+    @Override
+    public @Nullable ExceptionableStreamCons getContentTypeStreamFn(MimeType mimeType) {
+        var validator = findContentTypeValidator(mimeType);
+        return validator == null ? null : validator.streamValidator();
+    }
+
+    private @Nullable MimeTypeValidator findContentTypeValidator(MimeType mimeType) {
+        var validator = resolvedTypes.computeIfAbsent(mimeType, type -> contentTypeValidators.stream()
+                .filter(val -> val.predicate().test(type))
+                .findFirst()
+                .orElse(NOT_FOUND));
+        return validator == NOT_FOUND ? null : validator;
     }
 
     public void addAllContentEncodingValidator(Map<String, ExceptionableOp> validators) {
         this.contentEncoding.putAll(validators);
+        this.contentDecoders.keySet().removeAll(validators.keySet());
     }
 
     public void addContentTypeValidator(MimeTypeValidator validator) {
         this.contentTypeValidators.addFirst(validator);
+        this.resolvedTypes.clear();
     }
 
+    /**
+     * Add the validator, the streaming decoder of the same encoding is removed
+     */
     public void addContentEncodingValidator(String encoding, ExceptionableOp op) {
         this.contentEncoding.put(encoding, op);
+        this.contentDecoders.remove(encoding);
+    }
+
+    public void addContentEncodingValidator(String encoding, ExceptionableOp op, ExceptionableDecoder decoder) {
+        this.contentEncoding.put(encoding, op);
+        this.contentDecoders.put(encoding, decoder);
     }
 }
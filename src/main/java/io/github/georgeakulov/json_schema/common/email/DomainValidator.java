@@ -62,8 +62,6 @@ public class DomainValidator implements Serializable {
         }
     }
 
-    // Regular expression strings for hostnames (derived from RFC2396 and RFC 1123)
-
     private static class LazyHolder { // IODH
 
         /**
@@ -86,27 +84,14 @@ public class DomainValidator implements Serializable {
     @Serial
     private static final long serialVersionUID = -4407125112880174009L;
 
-    // RFC2396: domainlabel   = alphanum | alphanum *( alphanum | "-" ) alphanum
-    // Max 63 characters
-    private static final String DOMAIN_LABEL_REGEX = "\\p{Alnum}(?>[\\p{Alnum}-]{0,61}\\p{Alnum})?";
-
-    // RFC2396 toplabel = alpha | alpha *( alphanum | "-" ) alphanum
-    // Max 63 characters
-    private static final String TOP_LABEL_REGEX = "\\p{Alpha}(?>[\\p{Alnum}-]{0,61}\\p{Alnum})?";
+    // Max characters of the domain label
+    private static final int MAX_LABEL_LENGTH = 63;
 
     /**
      * The above instances must only be returned via the getInstance() methods.
      * This is to ensure that the override data arrays are properly protected.
      */
 
-    // RFC2396 hostname = *( domainlabel "." ) toplabel [ "." ]
-    // Note that the regex currently requires both a domain label and a top level label, whereas
-    // the RFC does not. This is because the regex is used to detect if a TLD is present.
-    // If the match fails, input is checked against DOMAIN_LABEL_REGEX (hostnameRegex)
-    // RFC1123 sec 2.1 allows hostnames to start with a digit
-    private static final String DOMAIN_NAME_REGEX =
-            "^(?:" + DOMAIN_LABEL_REGEX + "\\.)+(" + TOP_LABEL_REGEX + ")\\.?$";
-
     /**
      * Gets the singleton instance of this validator. It will not consider local addresses as valid.
      *
@@ -136,7 +121,11 @@ public class DomainValidator implements Serializable {
         if (input == null) {
             return true;
         }
-        for (int i = 0; i < input.length(); i++) {
+        return isOnlyASCII(input, 0, input.length());
+    }
+
+    private static boolean isOnlyASCII(final String input, int from, int to) {
+        for (int i = from; i < to; i++) {
             if (input.charAt(i) > 0x7F) { // CHECKSTYLE IGNORE MagicNumber
                 return false;
             }
@@ -187,20 +176,6 @@ public class DomainValidator implements Serializable {
     /** Whether to allow local overrides. */
     private final boolean allowLocal;
 
-    /**
-     * RegexValidator for matching domains.
-     */
-    private final RegexValidator domainRegex =
-            new RegexValidator(DOMAIN_NAME_REGEX);
-
-    /**
-     * RegexValidator for matching a local hostname
-     */
-    // RFC1123 sec 2.1 allows hostnames to start with a digit
-    private final RegexValidator hostnameRegex =
-            new RegexValidator(DOMAIN_LABEL_REGEX);
-
-
     /*
      * It is vital that instances are immutable. This is because the default instances are shared.
      */
@@ -232,35 +207,87 @@ public class DomainValidator implements Serializable {
         if (domain == null) {
             return false;
         }
-        final String ascii = unicodeToASCII(domain);
-        // hosts must be equally reachable via punycode and Unicode
-        // Unicode is never shorter than punycode, so check punycode
-        // if domain did not convert, then it will be caught by ASCII
-        // checks in the regexes below
-        if (ascii.length() > MAX_DOMAIN_LENGTH) {
-            return false;
-        }
-        final String[] groups = domainRegex.match(ascii);
-        if (groups != null && groups.length > 0) {
-            return true;
+        return isValid(domain, 0, domain.length());
+    }
+
+    /**
+     * Tests whether the range of the string is a valid domain name, the ASCII range is checked in place.
+     */
+    boolean isValid(final String value, int from, int to) {
+        if (!isOnlyASCII(value, from, to)) {
+            final String ascii = unicodeToASCII(value.substring(from, to));
+            // hosts must be equally reachable via punycode and Unicode
+            // Unicode is never shorter than punycode, so check punycode
+            // if domain did not convert, then it will be caught by ASCII
+            // checks in the scanner below
+            return matchDomain(ascii, 0, ascii.length(), allowLocal);
         }
-        return allowLocal && hostnameRegex.isValid(ascii);
+        return matchDomain(value, from, to, allowLocal);
     }
 
     public boolean isValidHostname(String domain) {
         if(domain == null || domain.isBlank()) {
             return false;
         }
+        return matchDomain(domain, 0, domain.length(), true);
+    }
 
-        if(domain.length() > MAX_DOMAIN_LENGTH) {
+    // RFC2396 hostname = *( domainlabel "." ) toplabel [ "." ]
+    // Note that both a domain label and a top level label are required, whereas
+    // the RFC does not. This is used to detect if a TLD is present.
+    // Otherwise input is checked to be the single domainlabel if local addresses allowed.
+    // RFC1123 sec 2.1 allows hostnames to start with a digit
+    private static boolean matchDomain(String value, int from, int to, boolean allowLocal) {
+        if (to - from > MAX_DOMAIN_LENGTH) {
             return false;
         }
+        int labels = 0;
+        int lastLabel = from;
+        boolean trailingDot = false;
+        int pos = from;
+        while (pos < to) {
+            int start = pos;
+            while (pos < to && value.charAt(pos) != '.') {
+                pos++;
+            }
+            if (!isLabel(value, start, pos)) {
+                return false;
+            }
+            labels++;
+            lastLabel = start;
+            if (pos < to) {
+                pos++;
+                trailingDot = pos == to;
+            }
+        }
+        if (labels > 1) {
+            // RFC2396 toplabel = alpha | alpha *( alphanum | "-" ) alphanum
+            return isAlpha(value.charAt(lastLabel));
+        }
+        return labels == 1 && allowLocal && !trailingDot;
+    }
 
-        final String[] groups = domainRegex.match(domain);
-        if(groups != null && groups.length > 0) {
-            return true;
+    // RFC2396: domainlabel   = alphanum | alphanum *( alphanum | "-" ) alphanum
+    // Max 63 characters
+    private static boolean isLabel(String value, int from, int to) {
+        int len = to - from;
+        if (len == 0 || len > MAX_LABEL_LENGTH || !isAlnum(value.charAt(from)) || !isAlnum(value.charAt(to - 1))) {
+            return false;
         }
+        for (int i = from + 1; i < to - 1; i++) {
+            char ch = value.charAt(i);
+            if (ch != '-' && !isAlnum(ch)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isAlpha(char ch) {
+        return (ch >= 'a' && ch <= 'z') || (ch >= 'A' && ch <= 'Z');
+    }
 
-        return hostnameRegex.isValid(domain);
+    private static boolean isAlnum(char ch) {
+        return isAlpha(ch) || (ch >= '0' && ch <= '9');
     }
-}
\ No newline at end of file
+}
@@ -18,8 +18,6 @@ package io.github.georgeakulov.json_schema.common.email;
 
 import java.io.Serial;
 import java.io.Serializable;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * <p>Perform email validations.</p>
@@ -38,18 +36,8 @@ public class EmailValidator implements Serializable {
     @Serial
     private static final long serialVersionUID = 1705927040799295880L;
 
-    private static final String SPECIAL_CHARS = "\\p{Cntrl}\\(\\)<>@,;:'\\\\\\\"\\.\\[\\]";
-    private static final String VALID_CHARS = "(\\\\.)|[^\\s" + SPECIAL_CHARS + "]";
-    private static final String QUOTED_USER = "(\"(\\\\\"|[^\"])*\")";
-    private static final String WORD = "((" + VALID_CHARS + "|')+|" + QUOTED_USER + ")";
-
-    private static final String EMAIL_REGEX = "^(.+)@(\\S+)$";
-    private static final String IP_DOMAIN_REGEX = "^\\[(.*)\\]$";
-    private static final String USER_REGEX = "^" + WORD + "(\\." + WORD + ")*$";
-
-    private static final Pattern EMAIL_PATTERN = Pattern.compile(EMAIL_REGEX);
-    private static final Pattern IP_DOMAIN_PATTERN = Pattern.compile(IP_DOMAIN_REGEX);
-    private static final Pattern USER_PATTERN = Pattern.compile(USER_REGEX);
+    // Chars which can not appear in the unquoted user name without escaping, except of controls and whitespaces
+    private static final String SPECIAL_CHARS = "()<>@,;:\\\".[]";
 
     private static final int MAX_USERNAME_LEN = 64;
 
@@ -139,16 +127,23 @@ public class EmailValidator implements Serializable {
         if (email == null || email.endsWith(".")) { // check this first - it's cheap!
             return false;
         }
-        // Check the whole email address structure
-        final Matcher emailMatcher = EMAIL_PATTERN.matcher(email);
-        if (!emailMatcher.matches()) {
+        // Check the whole email address structure: user@domain
+        final int length = email.length();
+        final int at = email.lastIndexOf('@');
+        if (at <= 0 || at == length - 1) {
             return false;
         }
-        if (!isValidUser(emailMatcher.group(1))) {
-            return false;
+        for (int i = 0; i < at; i++) {
+            if (isLineTerminator(email.charAt(i))) {
+                return false;
+            }
         }
-
-        return isValidDomain(emailMatcher.group(2));
+        for (int i = at + 1; i < length; i++) {
+            if (isWhitespace(email.charAt(i))) {
+                return false;
+            }
+        }
+        return isValidUser(email, 0, at) && isValidDomain(email, at + 1, length);
     }
 
     /**
@@ -158,19 +153,24 @@ public class EmailValidator implements Serializable {
      * @return true if the email address's domain is valid.
      */
     protected boolean isValidDomain(final String domain) {
-        // see if domain is an IP address in brackets
-        final Matcher ipDomainMatcher = IP_DOMAIN_PATTERN.matcher(domain);
+        return !domain.isEmpty() && isValidDomain(domain, 0, domain.length());
+    }
 
-        if (ipDomainMatcher.matches()) {
-            final InetAddressValidator inetAddressValidator =
-                    InetAddressValidator.getInstance();
-            return inetAddressValidator.isValid(ipDomainMatcher.group(1));
+    private boolean isValidDomain(final String value, final int from, final int to) {
+        // see if domain is an IP address in brackets
+        if (to - from >= 2 && value.charAt(from) == '[' && value.charAt(to - 1) == ']') {
+            for (int i = from + 1; i < to - 1; i++) {
+                if (isLineTerminator(value.charAt(i))) {
+                    return false;
+                }
+            }
+            return InetAddressValidator.getInstance().isValid(value, from + 1, to - 1);
         }
         // Domain is symbolic name
         if (allowTld) {
-            return domainValidator.isValid(domain) || !domain.startsWith(".");
+            return domainValidator.isValid(value, from, to) || value.charAt(from) != '.';
         }
-        return domainValidator.isValid(domain);
+        return domainValidator.isValid(value, from, to);
     }
 
     /**
@@ -180,12 +180,67 @@ public class EmailValidator implements Serializable {
      * @return true if the username is valid.
      */
     protected boolean isValidUser(final String user) {
+        return user != null && isValidUser(user, 0, user.length());
+    }
+
+    private static boolean isValidUser(final String value, final int from, final int to) {
+        if (to - from > MAX_USERNAME_LEN) {
+            return false;
+        }
+        return matchWords(value, from, to);
+    }
 
-        if (user == null || user.length() > MAX_USERNAME_LEN) {
+    /*
+     * user = word *("." word)
+     * word = 1*(atom-char / "'" / "\" any-char) / quoted-user
+     * The quoted user may end on any quote, but all inner quotes must be escaped, so the ends are tried in order.
+     */
+    private static boolean matchWords(final String value, final int from, final int to) {
+        if (from >= to) {
+            return false;
+        }
+        if (value.charAt(from) == '"') {
+            for (int i = from + 1; i < to; i++) {
+                if (value.charAt(i) == '"') {
+                    if (i + 1 == to || value.charAt(i + 1) == '.' && matchWords(value, i + 2, to)) {
+                        return true;
+                    }
+                    if (value.charAt(i - 1) != '\\') {
+                        // The unescaped quote must close the quoted user
+                        return false;
+                    }
+                }
+            }
+            return false;
+        }
+        int pos = from;
+        while (pos < to) {
+            final char ch = value.charAt(pos);
+            if (ch == '\\' && pos + 1 < to) {
+                pos += 2;
+            } else if (isAtomChar(ch)) {
+                pos++;
+            } else {
+                break;
+            }
+        }
+        if (pos == from) {
             return false;
         }
+        return pos == to || value.charAt(pos) == '.' && matchWords(value, pos + 1, to);
+    }
 
-        return USER_PATTERN.matcher(user).matches();
+    private static boolean isAtomChar(final char ch) {
+        return ch > 0x1F && ch != 0x7F && !isWhitespace(ch) && SPECIAL_CHARS.indexOf(ch) < 0;
     }
 
-}
\ No newline at end of file
+    // Same set as regex \s
+    private static boolean isWhitespace(final char ch) {
+        return ch == ' ' || ch >= '\t' && ch <= '\r';
+    }
+
+    // Chars which are not matched by regex dot
+    private static boolean isLineTerminator(final char ch) {
+        return ch == '\n' || ch == '\r' || ch == '\u0085' || ch == '\u2028' || ch == '\u2029';
+    }
+}
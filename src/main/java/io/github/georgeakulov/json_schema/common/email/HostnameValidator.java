@@ -1,33 +1,14 @@
 package io.github.georgeakulov.json_schema.common.email;
 
-import io.github.georgeakulov.json_schema.common.RangeCollections;
-import io.github.georgeakulov.json_schema.common.RangeCollections.Range;
 import io.github.georgeakulov.json_schema.common.unicode.*;
 
-import java.util.Objects;
-import java.util.function.BiPredicate;
 import java.util.function.Predicate;
-import java.util.regex.Pattern;
 
 public class HostnameValidator {
 
-    private static final String ONLY_ASCII_REGEX = "^([\\x00-\\x7f]+)$";
-    private static final Predicate<String> ONLY_ASCII_PATTERN = Pattern.compile(ONLY_ASCII_REGEX).asMatchPredicate();
-    private static final String VALID_LDH_CHARS_REGEX = "^([0-9a-z\\-]+)$";
-    private static final Predicate<String> VALID_LDH_CHARS_PATTERN = Pattern.compile(VALID_LDH_CHARS_REGEX, Pattern.CASE_INSENSITIVE).asMatchPredicate();
-
-    private static final RangeCollections.IntRangeMap<BiPredicate<String, Integer>> CONTEXTUAL_RULES = new RangeCollections.IntRangeMap<>();
-    static {
-        CONTEXTUAL_RULES.put(0x200c, HostnameValidator::zeroWidthNonJoiner);
-        CONTEXTUAL_RULES.put(0x200d, HostnameValidator::zeroWidthJoiner);
-        CONTEXTUAL_RULES.put(0x00b7, HostnameValidator::middleDot);
-        CONTEXTUAL_RULES.put(0x0375, HostnameValidator::greekLowerNumeralSign);
-        CONTEXTUAL_RULES.put(0x05f3, HostnameValidator::hebrewPunctuationGeresh);
-        CONTEXTUAL_RULES.put(0x05f4, HostnameValidator::hebrewPunctuationGershayim);
-        CONTEXTUAL_RULES.put(0x30fb, HostnameValidator::katakanaMiddleDot);
-        CONTEXTUAL_RULES.put(new Range(0x0660, 0x0669), HostnameValidator::arabicIndicDigits);
-        CONTEXTUAL_RULES.put(new Range(0x06f0, 0x06f9), HostnameValidator::extendedArabicIndicDigits);
-    }
+    private static final int MAX_HOSTNAME_LENGTH = 253;
+    private static final int MAX_LABEL_LENGTH = 63;
+    private static final String ACE_PREFIX = "xn--";
 
     private static final HostnameValidator INSTANCE = new HostnameValidator();
 
@@ -35,147 +16,137 @@ public class HostnameValidator {
     }
 
     public static Predicate<String> getHostNameValidator() {
-        return str -> {
-            try {
-                return INSTANCE.validateHostname(str);
-            }
-            catch(Exception e) {
-                return false;
-            }
-        };
+        return INSTANCE::validateHostname;
     }
 
     public static Predicate<String> getIDNAHostnameValidator() {
-        return str -> {
-            try {
-                return INSTANCE.validateIDNAHostname(str);
-            }
-            catch(Exception e) {
-                return false;
-            }
-        };
+        return INSTANCE::validateIDNAHostname;
     }
 
     private boolean validateIDNAHostname(String hostname) {
 
-        if(!checkFullLength(hostname)) {
+        int length = hostname.length();
+        if(length > MAX_HOSTNAME_LENGTH) {
             // too long
             return false;
         }
 
-        if(ONLY_ASCII_PATTERN.test(hostname)) {
+        if(isOnlyAscii(hostname, 0, length)) {
             return validateHostname(hostname);
         }
 
-        String [] labels = hostname.split("[\u002e\u3002\uff0e\uff61]", -1);
-        if(labels.length == 0) {
-            // No labels
-            return false;
-        }
-
-        for(String label : labels) {
+        int start = 0;
+        while(true) {
+            int end = start;
+            while(end < length && !isLabelSeparator(hostname.charAt(end))) {
+                end++;
+            }
 
-            if(!commonLabelCheck(label)) {
+            if(!commonLabelCheck(start, end)) {
                 return false;
             }
 
-            if(ONLY_ASCII_PATTERN.test(label)) {
+            if(isOnlyAscii(hostname, start, end)) {
 
-                if(!validateDLHLabel(label)) {
+                if(!validateDLHLabel(hostname, start, end)) {
                     // Invalid DLH label
                     return false;
                 }
             }
             else {
-                if(!validateUnicodeLabel(label)){
+                if(!validateUnicodeLabel(hostname.substring(start, end))){
                     // Invalid U-label
                     return false;
                 }
             }
+            if(end == length) {
+                return true;
+            }
+            start = end + 1;
         }
-        return true;
     }
 
     private boolean validateHostname(String hostname) {
 
-        if(!checkFullLength(hostname)) {
+        int length = hostname.length();
+        if(length > MAX_HOSTNAME_LENGTH) {
             // too long
             return false;
         }
 
-        if(!ONLY_ASCII_PATTERN.test(hostname)) {
+        if(!isOnlyAscii(hostname, 0, length)) {
             // Contains nonascii
             return false;
         }
 
-        String[] labels = hostname.split("\\.", -1);
-        if(labels.length == 0) {
-            // No labels
-            return false;
-        }
-
-        for (String label : labels) {
+        int start = 0;
+        while(true) {
+            int end = hostname.indexOf('.', start);
+            if(end < 0) {
+                end = length;
+            }
 
-            if(!commonLabelCheck(label)) {
+            if(!commonLabelCheck(start, end)) {
                 return false;
             }
 
-            if(!validateDLHLabel(label)) {
+            if(!validateDLHLabel(hostname, start, end)) {
                 return false;
             }
+            if(end == length) {
+                return true;
+            }
+            start = end + 1;
         }
-        return true;
     }
 
-    private boolean commonLabelCheck(String label) {
-        if(label.isEmpty()) {
-            // label empty
-            return false;
-        }
-
-        // label too long
-        return label.length() <= 63;
+    private boolean commonLabelCheck(int start, int end) {
+        int length = end - start;
+        // label empty or too long
+        return length > 0 && length <= MAX_LABEL_LENGTH;
     }
 
-    private boolean validateDLHLabel(String label) {
+    private boolean validateDLHLabel(String hostname, int start, int end) {
 
-        if(label.startsWith("xn--")) {
+        if(hostname.startsWith(ACE_PREFIX, start)) {
             // Invalid A-label
-            return validateALabel(label);
+            return validateALabel(hostname.substring(start + ACE_PREFIX.length(), end));
         }
         else {
 
             // Invalid DLH
-            return validateDLH(label);
+            return validateDLH(hostname, start, end);
         }
     }
 
-    private boolean validateDLH(String label) {
+    private boolean validateDLH(String hostname, int start, int end) {
 
-        if(!VALID_LDH_CHARS_PATTERN.test(label)) {
-            // Non valid DLH symbols found
-            return false;
+        for(int i = start; i < end; i++) {
+            char ch = hostname.charAt(i);
+            if(!((ch >= 'a' && ch <= 'z') || (ch >= 'A' && ch <= 'Z') || (ch >= '0' && ch <= '9') || ch == '-')) {
+                // Non valid DLH symbols found
+                return false;
+            }
         }
 
-        if(!checkHyphens(label)) {
+        if(hostname.charAt(start) == '-' || hostname.charAt(end - 1) == '-') {
             // Invalid hyphens found
             return false;
         }
 
         // Illegal ACE -- on 3 and 4 positions
-        return label.length() <= 3 || !label.substring(2).startsWith("--");
+        return end - start <= 3 || hostname.charAt(start + 2) != '-' || hostname.charAt(start + 3) != '-';
     }
 
-    private boolean validateALabel(String label) {
-        label = label.toLowerCase();
-        var unic = Punycode.decode(label.toLowerCase().substring(4));
-        return validateUnicodeLabel(unic);
+    private boolean validateALabel(String punycode) {
+        var unic = Punycode.decode(punycode.toLowerCase());
+        return unic != null && validateUnicodeLabel(unic);
     }
 
     private boolean validateUnicodeLabel(String unic) {
 
-        if(!checkHyphens(unic)) {
-            // wrong hyphens
+        if(unic.isEmpty() || !checkHyphens(unic)) {
+            // empty or wrong hyphens
             return false;
         }
 
@@ -211,14 +182,34 @@ public class HostnameValidator {
         return true;
     }
 
-    private boolean checkFullLength(String hostname) {
-        return hostname.length() <= 253;
+    private static boolean isOnlyAscii(String value, int start, int end) {
+        for(int i = start; i < end; i++) {
+            if(value.charAt(i) > 0x7f) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // RFC3490 3.1 full stop, ideographic full stop, fullwidth full stop, halfwidth ideographic full stop
+    private static boolean isLabelSeparator(char ch) {
+        return ch == '\u002e' || ch == '\u3002' || ch == '\uff0e' || ch == '\uff61';
     }
 
     private boolean checkContext(int code, String label, int pos) {
-        var rule = CONTEXTUAL_RULES.get(code);
-        Objects.requireNonNull(rule, () -> "Can`t find rule for " + code);
-        return rule.test(label, pos);
+        return switch(code) {
+            case 0x200c -> zeroWidthNonJoiner(label, pos);
+            case 0x200d -> zeroWidthJoiner(label, pos);
+            case 0x00b7 -> middleDot(label, pos);
+            case 0x0375 -> greekLowerNumeralSign(label, pos);
+            case 0x05f3 -> hebrewPunctuationGeresh(label, pos);
+            case 0x05f4 -> hebrewPunctuationGershayim(label, pos);
+            case 0x30fb -> katakanaMiddleDot(label, pos);
+            case 0x0660, 0x0661, 0x0662, 0x0663, 0x0664, 0x0665, 0x0666, 0x0667, 0x0668, 0x0669 -> arabicIndicDigits(label, pos);
+            case 0x06f0, 0x06f1, 0x06f2, 0x06f3, 0x06f4, 0x06f5, 0x06f6, 0x06f7, 0x06f8, 0x06f9 -> extendedArabicIndicDigits(label, pos);
+            // No rule, no permission
+            default -> false;
+        };
     }
 
     private boolean checkHyphens(String label) {
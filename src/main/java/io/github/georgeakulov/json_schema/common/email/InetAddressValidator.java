@@ -17,12 +17,10 @@
 
 package io.github.georgeakulov.json_schema.common.email;
 
+import io.github.georgeakulov.json_schema.common.IpAddresses;
+
 import java.io.Serial;
 import java.io.Serializable;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
-import java.util.regex.Pattern;
 
 /**
  * <p><strong>InetAddress</strong> validation and conversion routines ({@code java.net.InetAddress}).</p>
@@ -39,35 +37,16 @@ public class InetAddressValidator implements Serializable {
 
     private static final int MAX_BYTE = 128;
 
-    private static final int IPV4_MAX_OCTET_VALUE = 255;
-
-    private static final int MAX_UNSIGNED_SHORT = 0xffff;
-
-    private static final int BASE_16 = 16;
+    private static final String IPV6_TAG = "IPv6:";
 
     @Serial
     private static final long serialVersionUID = -919201640201914789L;
 
-    private static final String IPV4_REGEX = "^(\\d{1,3})\\.(\\d{1,3})\\.(\\d{1,3})\\.(\\d{1,3})$";
-
-    // Max number of hex groups (separated by :) in an IPV6 address
-    private static final int IPV6_MAX_HEX_GROUPS = 8;
-
-    // Max hex digits in each IPv6 group
-    private static final int IPV6_MAX_HEX_DIGITS_PER_GROUP = 4;
-
     /**
      * Singleton instance of this class.
      */
     private static final InetAddressValidator VALIDATOR = new InetAddressValidator();
 
-    private static final Pattern DIGITS_PATTERN = Pattern.compile("\\d{1,3}");
-
-    private static final Pattern ID_CHECK_PATTERN = Pattern.compile("[^\\s/%]+");
-
-    /** IPv4 RegexValidator */
-    private static final RegexValidator IPV4_VALIDATOR = new RegexValidator(IPV4_REGEX);
-
     /**
      * Returns the singleton instance of this validator.
      *
@@ -91,7 +70,14 @@ public class InetAddressValidator implements Serializable {
      * @return true if the string validates as an IP address
      */
     public boolean isValid(final String inetAddress) {
-        return isValidInet4Address(inetAddress) || isValidInet6Address(inetAddress);
+        return isValid(inetAddress, 0, inetAddress.length());
+    }
+
+    /**
+     * Checks if the range of the string is a valid IPv4 or IPv6 address.
+     */
+    boolean isValid(final String value, int from, int to) {
+        return IpAddresses.isIpv4(value, from, to) || isValidInet6Address(value, from, to);
     }
 
     /**
@@ -101,27 +87,7 @@ public class InetAddressValidator implements Serializable {
      * @return true if the argument contains a valid IPv4 address
      */
     public boolean isValidInet4Address(final String inet4Address) {
-        // verify that address conforms to generic IPv4 format
-        final String[] groups = IPV4_VALIDATOR.match(inet4Address);
-        if (groups == null) {
-            return false;
-        }
-        // verify that address subgroups are legal
-        for (final String ipSegment : groups) {
-            if (isBlank(ipSegment)) {
-                return false;
-            }
-            int iIpSegment;
-            try {
-                iIpSegment = Integer.parseInt(ipSegment);
-            } catch (final NumberFormatException e) {
-                return false;
-            }
-            if (iIpSegment > IPV4_MAX_OCTET_VALUE || ipSegment.length() > 1 && ipSegment.startsWith("0")) {
-                return false;
-            }
-        }
-        return true;
+        return IpAddresses.isIpv4(inet4Address, 0, inet4Address.length());
     }
 
     /**
@@ -132,97 +98,57 @@ public class InetAddressValidator implements Serializable {
      * @since 1.4.1
      */
     public boolean isValidInet6Address(String inet6Address) {
-        String[] parts;
+        return isValidInet6Address(inet6Address, 0, inet6Address.length());
+    }
+
+    private boolean isValidInet6Address(String value, int from, int to) {
         // remove prefix size. This will appear after the zone id (if any)
-        parts = inet6Address.split("/", -1);
-        if (parts.length > 2) {
-            return false; // can only have one prefix specifier
-        }
-        if (parts.length == 2) {
-            if (!DIGITS_PATTERN.matcher(parts[1]).matches()) {
+        int prefix = value.lastIndexOf('/', to - 1);
+        if(prefix >= from) {
+            if(value.lastIndexOf('/', prefix - 1) >= from) {
+                return false; // can only have one prefix specifier
+            }
+            int bits = 0;
+            int len = to - prefix - 1;
+            if(len < 1 || len > 3) {
                 return false; // not a valid number
             }
-            final int bits = Integer.parseInt(parts[1]); // cannot fail because of RE check
-            if (bits < 0 || bits > MAX_BYTE) {
+            for(int i = prefix + 1; i < to; i++) {
+                char ch = value.charAt(i);
+                if(ch < '0' || ch > '9') {
+                    return false; // not a valid number
+                }
+                bits = bits * 10 + (ch - '0');
+            }
+            if(bits > MAX_BYTE) {
                 return false; // out of range
             }
+            to = prefix;
         }
         // remove zone-id
-        parts = parts[0].split("%", -1);
-        // The id syntax is implementation independent, but it presumably cannot allow:
-        // whitespace, '/' or '%'
-        if (parts.length > 2 || parts.length == 2 && !ID_CHECK_PATTERN.matcher(parts[1]).matches()) {
-            return false; // invalid id
-        }
-        inet6Address = parts[0];
-        if(inet6Address.startsWith("IPv6:")) {
-            inet6Address = inet6Address.substring("IPv6:".length());
-        }
-        final boolean containsCompressedZeroes = inet6Address.contains("::");
-        if (containsCompressedZeroes && inet6Address.indexOf("::") != inet6Address.lastIndexOf("::")) {
-            return false;
-        }
-        final boolean startsWithCompressed = inet6Address.startsWith("::");
-        final boolean endsWithCompressed = inet6Address.endsWith("::");
-        final boolean endsWithSep = inet6Address.endsWith(":");
-        if (inet6Address.startsWith(":") && !startsWithCompressed || endsWithSep && !endsWithCompressed) {
-            return false;
-        }
-        String[] octets = inet6Address.split(":");
-        if (containsCompressedZeroes) {
-            final List<String> octetList = new ArrayList<>(Arrays.asList(octets));
-            if (endsWithCompressed) {
-                // String.split() drops ending empty segments
-                octetList.add("");
-            } else if (startsWithCompressed && !octetList.isEmpty()) {
-                octetList.removeFirst();
+        int zone = value.indexOf('%', from);
+        if(zone >= 0 && zone < to) {
+            // The id syntax is implementation independent, but it presumably cannot allow:
+            // whitespace, '/' or '%'
+            if(zone + 1 == to) {
+                return false; // invalid id
             }
-            octets = octetList.toArray(new String[0]);
-        }
-        if (octets.length > IPV6_MAX_HEX_GROUPS) {
-            return false;
-        }
-        int validOctets = 0;
-        int emptyOctets = 0; // consecutive empty chunks
-        for (int index = 0; index < octets.length; index++) {
-            final String octet = octets[index];
-            if (isBlank(octet)) {
-                emptyOctets++;
-                if (emptyOctets > 1) {
-                    return false;
-                }
-            } else {
-                emptyOctets = 0;
-                // Is last chunk an IPv4 address?
-                if (index == octets.length - 1 && octet.contains(".")) {
-                    if (!isValidInet4Address(octet)) {
-                        return false;
-                    }
-                    validOctets += 2;
-                    continue;
-                }
-                if (octet.length() > IPV6_MAX_HEX_DIGITS_PER_GROUP) {
-                    return false;
-                }
-                int octetInt;
-                try {
-                    octetInt = Integer.parseInt(octet, BASE_16);
-                } catch (final NumberFormatException e) {
-                    return false;
-                }
-                if (octetInt < 0 || octetInt > MAX_UNSIGNED_SHORT) {
-                    return false;
+            for(int i = zone + 1; i < to; i++) {
+                char ch = value.charAt(i);
+                if(ch == '%' || ch == '/' || isWhitespace(ch)) {
+                    return false; // invalid id
                 }
             }
-            validOctets++;
+            to = zone;
         }
-        if (validOctets > IPV6_MAX_HEX_GROUPS || validOctets < IPV6_MAX_HEX_GROUPS && !containsCompressedZeroes) {
-            return false;
+        if(value.startsWith(IPV6_TAG, from)) {
+            from += IPV6_TAG.length();
         }
-        return true;
+        return IpAddresses.isIpv6(value, from, to);
     }
 
-    private static boolean isBlank(String str) {
-        return str == null || str.isBlank();
+    // Same set as regex \s
+    private static boolean isWhitespace(char ch) {
+        return ch == ' ' || (ch >= '\t' && ch <= '\r');
     }
-}
\ No newline at end of file
+}
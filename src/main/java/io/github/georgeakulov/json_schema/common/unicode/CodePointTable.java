@@ -0,0 +1,77 @@
+package io.github.georgeakulov.json_schema.common.unicode;
+
+/**
+ * Immutable set of code points stored as sorted, disjoint and not adjacent ranges
+ * in two primitive arrays. The lookup is a binary search without boxing and allocation.
+ */
+public final class CodePointTable {
+
+    static final CodePointTable EMPTY = new CodePointTable(new int[0], new int[0]);
+
+    private final int[] starts;
+    private final int[] ends;
+
+    private CodePointTable(int[] starts, int[] ends) {
+        this.starts = starts;
+        this.ends = ends;
+    }
+
+    public boolean contains(int codePoint) {
+        int last = starts.length - 1;
+        if(last < 0 || codePoint < starts[0] || codePoint > ends[last]) {
+            return false;
+        }
+        int low = 0;
+        int high = last;
+        // Search the last range which starts not after the code point
+        while(low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if(starts[mid] <= codePoint) {
+                low = mid;
+            }
+            else {
+                high = mid - 1;
+            }
+        }
+        return codePoint <= ends[low];
+    }
+
+    /**
+     * @return count of the ranges in the table
+     */
+    public int size() {
+        return starts.length;
+    }
+
+    @Override
+    public String toString() {
+        var sb = new StringBuilder("CodePointTable{");
+        for(int i = 0; i < starts.length; i++) {
+            if(i > 0) {
+                sb.append(',');
+            }
+            sb.append(Integer.toHexString(starts[i]));
+            if(ends[i] != starts[i]) {
+                sb.append('-').append(Integer.toHexString(ends[i]));
+            }
+        }
+        return sb.append('}').toString();
+    }
+
+    /**
+     * The ranges are merged by the {@code generateUnicodeTables} build task, here they are only checked
+     * @param starts sorted starts of the disjoint ranges
+     * @param ends inclusive ends of the ranges
+     */
+    static CodePointTable of(int[] starts, int[] ends) {
+        if(starts.length != ends.length) {
+            throw new IllegalArgumentException("Different count of range starts and ends");
+        }
+        for(int i = 0; i < starts.length; i++) {
+            if(starts[i] > ends[i] || (i > 0 && starts[i] <= ends[i - 1] + 1)) {
+                throw new IllegalArgumentException("The ranges are not sorted and merged at index " + i);
+            }
+        }
+        return starts.length == 0 ? EMPTY : new CodePointTable(starts, ends);
+    }
+}
@@ -1,20 +1,17 @@
 package io.github.georgeakulov.json_schema.common.unicode;
 
-import io.github.georgeakulov.json_schema.common.RangeCollections.IntRangeSet;
-
-import java.util.HashMap;
-import java.util.Map;
-
 public class IDNA {
 
-    private static final Map<String, IntRangeSet> IDNA_TABLE = preloadIDNA();
+    private static final CodePointTable CONTEXTO = UnicodeTables.get("IDNA.CONTEXTO");
+    private static final CodePointTable CONTEXTJ = UnicodeTables.get("IDNA.CONTEXTJ");
+    private static final CodePointTable DISALLOWED = UnicodeTables.get("IDNA.DISALLOWED");
 
     public static boolean isContexto(int ch) {
-        return containsIn("CONTEXTO", ch);
+        return CONTEXTO.contains(ch);
     }
 
     public static boolean isContextj(int ch) {
-        return containsIn("CONTEXTJ", ch);
+        return CONTEXTJ.contains(ch);
     }
 
     public static boolean isContext(int ch) {
@@ -22,29 +19,10 @@ public class IDNA {
     }
 
     public static boolean isDisallowed(int ch) {
-        return containsIn("DISALLOWED", ch);
+        return DISALLOWED.contains(ch);
     }
 
     public static boolean isUnassigned(int ch) {
         return !Character.isDefined(ch);
     }
-
-    private static boolean containsIn(String name, int ch) {
-        var set = IDNA_TABLE.get(name);
-        if(set != null) {
-            return set.contains(ch);
-        }
-        return false;
-    }
-
-    private static Map<String, IntRangeSet> preloadIDNA() {
-        Map<String, IntRangeSet> result = new HashMap<>();
-        ParseUtils.forEachLine("IDNA2008Short.zz", line -> {
-            var parseResult = ParseUtils.parseLine(line);
-            if(parseResult != null) {
-                result.put(parseResult.name(), parseResult.rangeSet());
-            }
-        });
-        return result;
-    }
 }
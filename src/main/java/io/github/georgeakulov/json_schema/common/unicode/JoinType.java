@@ -1,43 +1,25 @@
 package io.github.georgeakulov.json_schema.common.unicode;
 
-import io.github.georgeakulov.json_schema.common.RangeCollections.IntRangeSet;
-
-import java.util.HashMap;
-import java.util.Map;
-
 public class JoinType {
 
-    private static final Map<String, IntRangeSet> JOIN_TYPES = preloadJoinTypes();
+    private static final CodePointTable TRANSPARENT = UnicodeTables.get("JoinType.T");
+    private static final CodePointTable DUAL = UnicodeTables.get("JoinType.D");
+    private static final CodePointTable LEFT = UnicodeTables.get("JoinType.L");
+    private static final CodePointTable RIGHT = UnicodeTables.get("JoinType.R");
 
     public static boolean isNotTransparent(int code) {
-        return !evalType("T", code);
+        return !TRANSPARENT.contains(code);
     }
 
     public static boolean isDual(int code) {
-        return evalType("D", code);
+        return DUAL.contains(code);
     }
 
     public static boolean isLeft(int code) {
-        return evalType("L", code);
+        return LEFT.contains(code);
     }
 
     public static boolean isRight(int code) {
-        return evalType("R", code);
-    }
-
-    private static boolean evalType(String type, int code) {
-        var range = JOIN_TYPES.get(type);
-        return range != null && range.contains(code);
-    }
-
-    private static Map<String, IntRangeSet> preloadJoinTypes() {
-        Map<String, IntRangeSet> result = new HashMap<>();
-        ParseUtils.forEachLine("DerivedJoiningTypeShort.zz", line -> {
-            var parseResult = ParseUtils.parseLine(line);
-            if(parseResult != null) {
-                result.put(parseResult.name(), parseResult.rangeSet());
-            }
-        });
-        return result;
+        return RIGHT.contains(code);
     }
 }
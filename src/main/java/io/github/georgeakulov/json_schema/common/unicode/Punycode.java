@@ -1,5 +1,7 @@
 package io.github.georgeakulov.json_schema.common.unicode;
 
+import org.jspecify.annotations.Nullable;
+
 public class Punycode {
 
     private static final int BASE = 36;
@@ -14,7 +16,10 @@ public class Punycode {
     private static final int ACE_MAX_LENGTH = 256;
     private static final int DELIMITER = 0x2D; // Hyphe
 
-    public static String decode(String input)  {
+    /**
+     * @return decoded label or null if the input is not valid punycode
+     */
+    public static @Nullable String decode(String input)  {
         StringBuilder output = new StringBuilder();
 
         int n = INITIAL_N;
@@ -25,20 +30,20 @@ public class Punycode {
         // let b the number of input code points before the last delimiter or 0 if there is none
         // then copy the first b code pints to the output
         if (ACE_MAX_LENGTH * 2 < input.length()) {
-            throw new PunycodeException("Output would exceed space");
+            return null; // Output would exceed space
         }
 
         // b marks the delimiter character position
         int b = Math.max(0, input.lastIndexOf(DELIMITER));
         if (b > ACE_MAX_LENGTH) {
-            throw new PunycodeException("Output would exceed space");
+            return null; // Output would exceed space
         }
 
         // copy the basic code points until delimiter character
         for (int j = 0; j < b; j++) {
             char c = input.charAt(j);
             if (!isBasic(c)) {
-                throw new PunycodeException("Invalid input character");
+                return null; // Invalid input character
             }
             output.append(c);
         }
@@ -54,12 +59,12 @@ public class Punycode {
             int oldi = i;
             for (int k = BASE; ; k += BASE) {
                 if (index >= input.length()) {
-                    throw new PunycodeException("Input is invalid!");
+                    return null; // Input is invalid!
                 }
                 int codepoint = input.charAt(index++);
                 int digit = decodeDigit(codepoint);
                 if (digit >= BASE || digit > (Integer.MAX_VALUE - i) / w) {
-                    throw new PunycodeException("Overflow");
+                    return null; // Overflow
                 }
 
                 i += digit * w;
@@ -67,7 +72,7 @@ public class Punycode {
 
                 if (digit < t) break;
                 if (w > Integer.MAX_VALUE / (BASE - t)) {
-                    throw new PunycodeException("Input needs wider integers");
+                    return null; // Input needs wider integers
                 }
                 w *= (BASE - t);
             }
@@ -78,13 +83,13 @@ public class Punycode {
             // 'i' was supposed to wrap from output.length + 1 to 0,
             // incrementing n each time, so we'll fix that now
             if (i / (out + 1) > Integer.MAX_VALUE - n) {
-                throw new PunycodeException("Input needs wider integers");
+                return null; // Input needs wider integers
             }
             n = n + i / (out + 1);
             i = i % (out + 1);
 
             if (out >= ACE_MAX_LENGTH) {
-                throw new PunycodeException("Output would exceed space");
+                return null; // Output would exceed space
             }
 
             output.insert(i, (char)n);
@@ -117,10 +122,4 @@ public class Punycode {
         }
         return k + (difference + 1) * delta / (delta + SKEW);
     }
-
-    private static class PunycodeException extends RuntimeException {
-        public PunycodeException(String message) {
-            super(message);
-        }
-    }
 }
@@ -1,14 +1,5 @@
 package io.github.georgeakulov.json_schema.common.unicode;
 
-import io.github.georgeakulov.json_schema.common.RangeCollections.IntRangeSet;
-
-import java.util.Arrays;
-import java.util.EnumMap;
-import java.util.Map;
-import java.util.Objects;
-import java.util.function.Function;
-import java.util.stream.Collectors;
-
 public class Scripts {
 
     public enum EScript {
@@ -30,25 +21,17 @@ public class Scripts {
     }
 
     public static boolean isInScript(EScript script, int code) {
-        return DATA.get(script).contains(code);
+        return DATA[script.ordinal()].contains(code);
     }
 
-    private static final EnumMap<EScript, IntRangeSet> DATA = preloadScript();
-
-    private static EnumMap<EScript, IntRangeSet> preloadScript() {
-        Map<String, EScript> reverse = Arrays.stream(EScript.values()).collect(Collectors.toMap(
-                EScript::getDictName,
-                Function.identity()
-        ));
-        EnumMap<EScript, IntRangeSet> result = new EnumMap<>(EScript.class);
-        ParseUtils.forEachLine("ScriptsShort.zz", line -> {
-            var parseResult = ParseUtils.parseLine(line);
-            if(parseResult != null) {
-                var script = reverse.get(parseResult.name());
-                Objects.requireNonNull(script, "wrong resource data ");
-                result.put(script, parseResult.rangeSet());
-            }
-        });
+    private static final CodePointTable[] DATA = preloadScript();
+
+    private static CodePointTable[] preloadScript() {
+        EScript[] scripts = EScript.values();
+        CodePointTable[] result = new CodePointTable[scripts.length];
+        for(EScript script : scripts) {
+            result[script.ordinal()] = UnicodeTables.get("Script." + script.getDictName());
+        }
         return result;
     }
 }
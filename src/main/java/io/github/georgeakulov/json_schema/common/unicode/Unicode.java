@@ -1,21 +1,10 @@
 package io.github.georgeakulov.json_schema.common.unicode;
 
-import io.github.georgeakulov.json_schema.common.RangeCollections.IntRangeSet;
-
 public class Unicode {
 
-    private static final IntRangeSet VIRAMA = preloadUnicodeData();
+    private static final CodePointTable VIRAMA = UnicodeTables.get("Virama");
 
     public static boolean isVirama(int codePoint) {
         return VIRAMA.contains(codePoint);
     }
-
-    private static IntRangeSet preloadUnicodeData() {
-        IntRangeSet rangeSet = new IntRangeSet();
-        ParseUtils.forEachLine(
-                "UnicodeDataShort.zz",
-                line -> rangeSet.addAll(ParseUtils.parseNumbers(line))
-        );
-        return rangeSet;
-    }
 }
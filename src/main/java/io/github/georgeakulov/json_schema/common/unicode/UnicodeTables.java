@@ -0,0 +1,52 @@
+package io.github.georgeakulov.json_schema.common.unicode;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Code point tables precomputed at build time by the {@code generateUnicodeTables} task.
+ * The resource is read with a single bulk read, ranges are already sorted and merged.
+ */
+final class UnicodeTables {
+
+    private static final String RESOURCE = "unicode-tables.bin";
+
+    private static final Map<String, CodePointTable> TABLES = load();
+
+    private UnicodeTables() {
+    }
+
+    static CodePointTable get(String name) {
+        return Objects.requireNonNull(TABLES.get(name), () -> "Unknown unicode table: " + name);
+    }
+
+    private static Map<String, CodePointTable> load() {
+        byte[] data;
+        try(var is = UnicodeTables.class.getResourceAsStream(RESOURCE)) {
+            data = Objects.requireNonNull(is, "Resource not found: " + RESOURCE).readAllBytes();
+        }
+        catch(IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        var buffer = ByteBuffer.wrap(data);
+        int count = buffer.getInt();
+        Map<String, CodePointTable> result = HashMap.newHashMap(count);
+        for(int i = 0; i < count; i++) {
+            // Names are ASCII, so the modified UTF-8 of DataOutput.writeUTF is plain bytes
+            byte[] name = new byte[Short.toUnsignedInt(buffer.getShort())];
+            buffer.get(name);
+            int size = buffer.getInt();
+            int[] starts = new int[size];
+            int[] ends = new int[size];
+            buffer.asIntBuffer().get(starts).get(ends);
+            buffer.position(buffer.position() + size * 2 * Integer.BYTES);
+            result.put(new String(name, StandardCharsets.US_ASCII), CodePointTable.of(starts, ends));
+        }
+        return result;
+    }
+}
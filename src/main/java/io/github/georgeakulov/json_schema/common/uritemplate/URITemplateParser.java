@@ -2,6 +2,110 @@ package io.github.georgeakulov.json_schema.common.uritemplate;
 
 public class URITemplateParser {
 
+    /**
+     * Validation only scan of the RFC 6570 template. Unlike {@link #parse(String)} it creates no
+     * substrings or variables and throws no exceptions, the accepted templates are the same.
+     * @return true if the template is valid
+     */
+    public static boolean isValid(String value) {
+        int len = value.length();
+        int pos = 0;
+        while(pos < len) {
+            char ch = value.charAt(pos);
+            if(ch == '}') {
+                return false;
+            }
+            if(ch == '{') {
+                int end = value.indexOf('}', pos + 1);
+                if(end < 0 || !isValidExpression(value, pos + 1, end)) {
+                    return false;
+                }
+                pos = end;
+            }
+            pos++;
+        }
+        return true;
+    }
+
+    /**
+     * expression = "{" [ operator ] variable-list "}", the braces are excluded from the range
+     */
+    private static boolean isValidExpression(String value, int from, int to) {
+        if(from < to && URITemplateOperator.valueOf(value.charAt(from)).isPresent()) {
+            from++;
+        }
+        int pos = from;
+        while(true) {
+            // varspec = varname [ ":" max-length / "*" ]
+            pos = skipVarName(value, pos, to);
+            if(pos < 0) {
+                return false;
+            }
+            if(pos < to && value.charAt(pos) == URIVarComponent.PREFIX_SEPARATOR) {
+                pos = skipMaxLength(value, pos + 1, to);
+                if(pos < 0) {
+                    return false;
+                }
+            }
+            else if(pos < to && value.charAt(pos) == URIVarComponent.EXPLODE_MODIFIER) {
+                pos++;
+            }
+            if(pos == to) {
+                return true;
+            }
+            if(value.charAt(pos) != ',') {
+                return false;
+            }
+            pos++;
+        }
+    }
+
+    /**
+     * varname = varchar *( ["."] varchar ), varchar = ALPHA / DIGIT / "_" / pct-encoded
+     * @return end of the name or -1 if name is invalid
+     */
+    private static int skipVarName(String value, int pos, int to) {
+        boolean expectChar = true;
+        while(pos < to) {
+            char ch = value.charAt(pos);
+            if(ch == '%') {
+                if(pos + 2 >= to || !isHex(value.charAt(pos + 1)) || !isHex(value.charAt(pos + 2))) {
+                    return -1;
+                }
+                pos += 3;
+            }
+            else if((ch >= 'a' && ch <= 'z') || (ch >= 'A' && ch <= 'Z') || (ch >= '0' && ch <= '9') || ch == '_') {
+                pos++;
+            }
+            else if(ch == URIVarComponent.NAME_SEPARATOR && !expectChar) {
+                pos++;
+                expectChar = true;
+                continue;
+            }
+            else {
+                break;
+            }
+            expectChar = false;
+        }
+        return expectChar ? -1 : pos;
+    }
+
+    /**
+     * max-length = %x31-39 0*3DIGIT
+     * @return end of the length or -1 if length is invalid
+     */
+    private static int skipMaxLength(String value, int pos, int to) {
+        int start = pos;
+        while(pos < to && pos - start < 4 && value.charAt(pos) >= '0' && value.charAt(pos) <= '9') {
+            pos++;
+        }
+        return pos == start || value.charAt(start) == '0' ? -1 : pos;
+    }
+
+    private static boolean isHex(char ch) {
+        return (ch >= '0' && ch <= '9') || (ch >= 'a' && ch <= 'f') || (ch >= 'A' && ch <= 'F');
+    }
+
     public static boolean parse(String value) {
         try {
             URITemplateParser.parse(value, new URITemplateParserListener(){});
@@ -13,7 +13,7 @@ public class URITemplateVariable {
     private final List<URIVarComponent> components;
 
     public static URITemplateVariable parse(String template) {
-        if ((template.charAt(0) == '{') && (template.charAt(template.length() - 1) == '}')) {
+        if (!template.isEmpty() && (template.charAt(0) == '{') && (template.charAt(template.length() - 1) == '}')) {
             template = template.substring(1, template.length() - 1);
         }
         if (template.isEmpty()) {
@@ -27,7 +27,7 @@ public class URITemplateVariable {
                 throw new URITemplateSyntaxException("Name not specified: {" + modifier.get().operatorChar() + "}");
             }
         }
-        List<URIVarComponent> components = stream(specs.split(","))
+        List<URIVarComponent> components = stream(specs.split(",", -1))
                 .map(URIVarComponent::parse)
                 .collect(toList());
         return new URITemplateVariable(modifier.orElse(NONE), components);
@@ -53,6 +53,9 @@ public class URIVarComponent {
             return new URIVarComponent(spec.substring(0, spec.length() - 1), null, true);
         } else if (idx > 0) {
             try {
+                if (spec.charAt(idx + 1) < '1' || spec.charAt(idx + 1) > '9') {
+                    throw new NumberFormatException();
+                }
                 int length = Integer.parseInt(spec.substring(idx + 1));
                 return new URIVarComponent(spec.substring(0, idx), length, false);
             } catch (NumberFormatException e) {
@@ -87,8 +90,8 @@ public class URIVarComponent {
             throw new URITemplateSyntaxException(format("Name (%s) must be (varchar *([\".\"] varchar))", name));
         }
         this.name = name;
-        if (prefixLength != null && (prefixLength <= 0 || prefixLength > 10000)) {
-            throw new URITemplateSyntaxException(format("Prefix length (%d) must be an integer number between 1 and 10000 inclusive", prefixLength));
+        if (prefixLength != null && (prefixLength <= 0 || prefixLength >= 10000)) {
+            throw new URITemplateSyntaxException(format("Prefix length (%d) must be an integer number between 1 and 9999 inclusive", prefixLength));
         }
         this.prefixLength = prefixLength;
         this.explode = explode;
@@ -6,6 +6,7 @@ import io.github.georgeakulov.json_schema.dialects.Defaults;
 import io.github.georgeakulov.json_schema.results.IValidationResult;
 import io.github.georgeakulov.json_schema.results.IValidationResult.ISchemaLocator;
 import io.github.georgeakulov.json_schema.results.IValidationResult.IValidationId;
+import io.github.georgeakulov.json_schema.results.InstancePath;
 import io.github.georgeakulov.json_schema.results.ValidationResultFactory;
 import org.reactivestreams.Publisher;
 import reactor.core.publisher.Flux;
@@ -44,7 +45,7 @@ public class AdditionalPropertiesCompiler implements INamedCompiler, IValidators
     public void transform(Map<String, IValidatorAction> validators, CompileContext compileContext, ISchemaLocator locator) {
 
         var current = validators.get(getKeyword());
-        if(current == null) {
+        if(current == null || ObjectKeywordsTransformer.isFused(current)) {
             return;
         }
 
@@ -67,7 +68,7 @@ public class AdditionalPropertiesCompiler implements INamedCompiler, IValidators
             IValidator original,
             List<IValidationResult> validationResults,
             JsonNode instance,
-            JsonPointer instancePtr,
+            InstancePath instancePtr,
             IValidationContext context) {
 
         Set<String> evaluatedFields = BaseFinisherValidator.filterAnnotationsProperty(validationResults, instancePtr);
@@ -75,7 +76,7 @@ public class AdditionalPropertiesCompiler implements INamedCompiler, IValidators
         return Flux.fromStream(instance.propertyStream())
                 .filter(prop -> !evaluatedFields.contains(prop.getKey()))
                 .flatMap(prop -> {
-                    JsonPointer instanceConcretePtr = instancePtr.appendProperty(prop.getKey());
+                    InstancePath instanceConcretePtr = instancePtr.appendProperty(prop.getKey());
                     return Mono.from(original.validate(prop.getValue(), instanceConcretePtr, context))
                             .map(validationResult -> {
 
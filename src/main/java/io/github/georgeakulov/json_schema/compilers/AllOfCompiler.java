@@ -32,12 +32,13 @@ public class AllOfCompiler extends BaseSomeOfCompiler {
     @Override
     public @Nullable IValidator compile(JsonNode schemaNode, CompileContext compileContext, ISchemaLocator schemaLocator) {
         List<IValidator> validators = super.prepareValidators(schemaNode, schemaLocator, compileContext);
+        var schemaId = ValidationResultFactory.createSchemaId(schemaLocator);
         return (instance, instancePtr, context) ->
             Flux.fromIterable(validators)
                     .flatMap(validator -> validator.validate(instance, instancePtr, context))
                     .subscribeOn(compileContext.getConfig().getScheduler())
                     .reduce(
-                            ValidationResultFactory.createContainer(ValidationResultFactory.createId(schemaLocator, instancePtr)),
+                            ValidationResultFactory.createContainer(ValidationResultFactory.createId(schemaId, instancePtr)),
                             ValidationResultFactory.ValidationResultContainer::append
                     )
                     .map(val -> val);
@@ -33,6 +33,7 @@ public class AnyOfCompiler extends BaseSomeOfCompiler {
     @Override
     public @Nullable IValidator compile(JsonNode schemaNode, CompileContext compileContext, IValidationResult.ISchemaLocator schemaLocator) {
         List<IValidator> validators = super.prepareValidators(schemaNode, schemaLocator, compileContext);
+        var schemaId = ValidationResultFactory.createSchemaId(schemaLocator);
         return (instance, instancePtr, context) ->
             Flux.fromIterable(validators)
                     .flatMap(validator -> validator.validate(instance, instancePtr, context))
@@ -41,7 +42,7 @@ public class AnyOfCompiler extends BaseSomeOfCompiler {
                     .collectList()
                     .map(list -> {
 
-                        var id = ValidationResultFactory.createId(schemaLocator, instancePtr);
+                        var id = ValidationResultFactory.createId(schemaId, instancePtr);
 
                         if(list.isEmpty()) {
                             return ValidationError.create(id, EErrorType.ANY_OF);
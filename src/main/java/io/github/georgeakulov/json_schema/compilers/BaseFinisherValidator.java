@@ -1,10 +1,10 @@
 package io.github.georgeakulov.json_schema.compilers;
 
-import com.fasterxml.jackson.core.JsonPointer;
 import com.fasterxml.jackson.databind.JsonNode;
 import io.github.georgeakulov.json_schema.compilers.ICompiler.IValidatorAction;
 import io.github.georgeakulov.json_schema.results.IValidationResult;
 import io.github.georgeakulov.json_schema.results.IValidationResult.IValidationId;
+import io.github.georgeakulov.json_schema.results.InstancePath;
 import io.github.georgeakulov.json_schema.results.ValidationResultFactory;
 import org.reactivestreams.Publisher;
 import reactor.core.publisher.Flux;
@@ -28,7 +28,7 @@ public class BaseFinisherValidator implements IValidatorAction, IValidator {
                 IValidator original,
                 List<IValidationResult> prevValidationResult,
                 JsonNode instance,
-                JsonPointer instancePtr,
+                InstancePath instancePtr,
                 IValidationContext context);
     }
 
@@ -54,7 +54,7 @@ public class BaseFinisherValidator implements IValidatorAction, IValidator {
     }
 
     @Override
-    public Publisher<IValidationResult> validate(JsonNode instance, JsonPointer instancePtr, IValidationContext context) {
+    public Publisher<IValidationResult> validate(JsonNode instance, InstancePath instancePtr, IValidationContext context) {
         var id = original.compileAction().createId(instancePtr);
         if(typeFilter.test(instance)) {
             return Flux.fromIterable(dependent)
@@ -68,7 +68,7 @@ public class BaseFinisherValidator implements IValidatorAction, IValidator {
         return ValidationResultFactory.createOk(id).publish();
     }
 
-    public static Stream<IValidationId> preFilter(List<IValidationResult> validationResults, JsonPointer childOf) {
+    public static Stream<IValidationId> preFilter(List<IValidationResult> validationResults, InstancePath childOf) {
         return validationResults.stream()
                 .parallel()
                 .flatMap(IValidationResult::asStream)
@@ -77,20 +77,20 @@ public class BaseFinisherValidator implements IValidatorAction, IValidator {
                 .filter(id -> isChildOf(id, childOf));
     }
 
-    public static Set<String> filterAnnotationsProperty(List<IValidationResult> validationResults, JsonPointer childOf) {
+    public static Set<String> filterAnnotationsProperty(List<IValidationResult> validationResults, InstancePath childOf) {
         return preFilter(validationResults, childOf)
-                .map(id -> id.getInstanceRef().last().getMatchingProperty())
+                .map(id -> id.getInstancePath().getMatchingProperty())
                 .collect(Collectors.toSet());
     }
 
-    public static Set<Integer> filterAnnotationsItems(List<IValidationResult> validationResults, JsonPointer instancePtr) {
+    public static Set<Integer> filterAnnotationsItems(List<IValidationResult> validationResults, InstancePath instancePtr) {
         return preFilter(validationResults, instancePtr)
-                .map(id -> id.getInstanceRef().last().getMatchingIndex())
+                .map(id -> id.getInstancePath().getMatchingIndex())
                 .filter(idx -> idx >= 0)
                 .collect(Collectors.toSet());
     }
 
-    public static boolean isChildOf(IValidationId id, JsonPointer pointer) {
-        return id.getInstanceRef().head().equals(pointer);
+    public static boolean isChildOf(IValidationId id, InstancePath pointer) {
+        return id.getInstancePath().isChildOf(pointer);
     }
 }
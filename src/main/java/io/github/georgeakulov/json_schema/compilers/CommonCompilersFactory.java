@@ -5,6 +5,7 @@ import io.github.georgeakulov.json_schema.compilers.v2019.Items2019Compiler;
 import io.github.georgeakulov.json_schema.compilers.v2019.RecursiveRefCompiler;
 import io.github.georgeakulov.json_schema.compilers.v2020.Items2020CompilerFactory;
 import io.github.georgeakulov.json_schema.compilers.v2020.PrefixItemsFactory;
+import io.github.georgeakulov.json_schema.dialects.Defaults;
 
 public class CommonCompilersFactory {
 
@@ -65,6 +66,11 @@ public class CommonCompilersFactory {
                 .addCompiler(new RecursiveRefCompiler())
                 .addCompiler(new DefinitionsCompiler())
                 .addCompiler(new ContentTypesCompilerFactory())
+
+                .addTransformer(new ObjectKeywordsTransformer(),
+                        Defaults.DRAFT_2020_12_APPLICATOR,
+                        Defaults.DRAFT_2019_09_APPLICATOR,
+                        Defaults.DRAFT_07_CORE)
         ;
     }
 
@@ -1,20 +1,26 @@
 package io.github.georgeakulov.json_schema.compilers;
 
+import io.github.georgeakulov.json_schema.FormatCache;
 import io.github.georgeakulov.json_schema.IContentProcessing.ContentValidationLevel;
 import io.github.georgeakulov.json_schema.IExternalResolver;
 import io.github.georgeakulov.json_schema.IRegexPredicateFactory;
+import io.github.georgeakulov.json_schema.IValidationMetrics;
 import io.github.georgeakulov.json_schema.common.content.CompositeContentValidationRegistry;
 import io.github.georgeakulov.json_schema.common.content.DefaultContentValidationRegistryFactory;
 import io.github.georgeakulov.json_schema.common.content.IContentValidationRegistry;
 import io.github.georgeakulov.json_schema.common.regex.RegexFactory;
 import io.github.georgeakulov.json_schema.loaders.IResourceLoader;
+import io.github.georgeakulov.json_schema.loaders.LoadedResources;
+import org.jspecify.annotations.Nullable;
 import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.Executors;
 import java.util.function.Predicate;
 
@@ -28,10 +34,16 @@ public class CompileConfig {
     private Scheduler scheduler = Schedulers.fromExecutorService(Executors.newVirtualThreadPerTaskExecutor());
 
     private final Map<String, Predicate<String>> formats = new HashMap<>();
+    private final Set<String> cacheableFormats = new HashSet<>();
+    private FormatCache formatCache;
     private final CompositeContentValidationRegistry contentValidationRegistry =
             new CompositeContentValidationRegistry(DefaultContentValidationRegistryFactory.getDefault());
     private ContentValidationLevel contentValidationLevel= ContentValidationLevel.DEFAULT;
     private boolean allowEmbedResourceLoaders;
+    private LoadedResources loadedResources = new LoadedResources();
+    private IValidationMetrics metrics = IValidationMetrics.NOOP;
+    private @Nullable CompileStatistics statistics;
+    private CompilePhaseTimer phaseTimer = new CompilePhaseTimer(metrics);
 
     public boolean isFormatEnabled() {
         return formatEnabled;
@@ -118,6 +130,24 @@ public class CompileConfig {
         return formats;
     }
 
+    public CompileConfig addCacheableFormats(Set<String> cacheableFormats) {
+        this.cacheableFormats.addAll(cacheableFormats);
+        return this;
+    }
+
+    public Set<String> getCacheableFormats() {
+        return cacheableFormats;
+    }
+
+    public CompileConfig setFormatCache(FormatCache formatCache) {
+        this.formatCache = formatCache;
+        return this;
+    }
+
+    public FormatCache getFormatCache() {
+        return formatCache;
+    }
+
     public CompileConfig addFirstContentValidationRegistry(IContentValidationRegistry contentValidationRegistry) {
         this.contentValidationRegistry.addFirst(contentValidationRegistry);
         return this;
@@ -131,4 +161,48 @@ public class CompileConfig {
     public boolean isAllowEmbedResourceLoaders() {
         return allowEmbedResourceLoaders;
     }
+
+    public CompileConfig setLoadedResources(LoadedResources loadedResources) {
+        if(loadedResources != null) {
+            this.loadedResources = loadedResources;
+        }
+        return this;
+    }
+
+    public LoadedResources getLoadedResources() {
+        return loadedResources;
+    }
+
+    public CompileConfig setMetrics(IValidationMetrics metrics) {
+        if(metrics != null) {
+            this.metrics = metrics;
+            this.phaseTimer = new CompilePhaseTimer(metrics, statistics);
+        }
+        return this;
+    }
+
+    /**
+     * @param statistics collector of the compile report, null disables the report
+     */
+    public CompileConfig setCompileStatistics(@Nullable CompileStatistics statistics) {
+        this.statistics = statistics;
+        this.phaseTimer = new CompilePhaseTimer(metrics, statistics);
+        return this;
+    }
+
+    public @Nullable CompileStatistics getCompileStatistics() {
+        return statistics;
+    }
+
+    public IValidationMetrics getMetrics() {
+        return metrics;
+    }
+
+    public boolean isMetricsEnabled() {
+        return metrics != IValidationMetrics.NOOP;
+    }
+
+    public CompilePhaseTimer getPhaseTimer() {
+        return phaseTimer;
+    }
 }
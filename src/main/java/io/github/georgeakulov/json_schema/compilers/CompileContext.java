@@ -1,17 +1,17 @@
 package io.github.georgeakulov.json_schema.compilers;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import io.github.georgeakulov.json_schema.IValidationMetrics.CompilePhase;
 import io.github.georgeakulov.json_schema.dialects.Dialect;
 import io.github.georgeakulov.json_schema.loaders.IReferenceResolver;
 import io.github.georgeakulov.json_schema.loaders.SchemasRegistry;
-import io.github.georgeakulov.json_schema.results.IValidationResult;
 import io.github.georgeakulov.json_schema.results.IValidationResult.ISchemaLocator;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
-import org.reactivestreams.Publisher;
 
+import java.net.URI;
 import java.util.*;
-import java.util.function.Function;
+import java.util.function.Predicate;
 
 public class CompileContext implements IReferenceResolver {
 
@@ -42,8 +42,15 @@ public class CompileContext implements IReferenceResolver {
         return rootCompiler.compile(schema, this, schemaPointer);
     }
 
-    public Function<JsonNode, Publisher<IValidationResult>> compileRoot(JsonNode schema) {
-        return rootCompiler.compileSchema(schema, null, compileConfig);
+    /**
+     * Compile the independent root schema
+     * @param defaultDialect dialect of the schema if it has no $schema keyword
+     */
+    /**
+     * Compiles the separate root schema, e.g. the content schema
+     */
+    public IValidator compileRoot(JsonNode schema, @Nullable URI defaultDialect) {
+        return rootCompiler.compileRootValidator(schema, defaultDialect, compileConfig);
     }
 
     public CompileContext withRegistry(SchemasRegistry registry) {
@@ -77,17 +84,62 @@ public class CompileContext implements IReferenceResolver {
     }
 
     public @NonNull IResolutionResult resolveRef(@NonNull String reference, @NonNull ISchemaLocator schemaLocator) {
-        return schemaRegistry.resolveRef(reference, schemaLocator);
+        onRef();
+        compileConfig.getPhaseTimer().enter(CompilePhase.RESOLVE);
+        try {
+            return schemaRegistry.resolveRef(reference, schemaLocator);
+        }
+        finally {
+            compileConfig.getPhaseTimer().exit();
+        }
     }
 
     @Override
     public @NonNull IResolutionResult resolveDynamicRef(String refValue, @NonNull ISchemaLocator schemaLocator) {
-        return schemaRegistry.resolveDynamicRef(refValue, schemaLocator);
+        onRef();
+        compileConfig.getPhaseTimer().enter(CompilePhase.RESOLVE);
+        try {
+            return schemaRegistry.resolveDynamicRef(refValue, schemaLocator);
+        }
+        finally {
+            compileConfig.getPhaseTimer().exit();
+        }
     }
 
     @Override
     public @NonNull IResolutionResult resolveRecursiveRef(String refValue, @NonNull ISchemaLocator schemaLocator) {
-        return schemaRegistry.resolveRecursiveRef(refValue, schemaLocator);
+        onRef();
+        compileConfig.getPhaseTimer().enter(CompilePhase.RESOLVE);
+        try {
+            return schemaRegistry.resolveRecursiveRef(refValue, schemaLocator);
+        }
+        finally {
+            compileConfig.getPhaseTimer().exit();
+        }
+    }
+
+    /**
+     * Compiles the regular expression by the configured factory
+     */
+    public Predicate<String> compileRegex(String pattern) {
+        CompileStatistics statistics = compileConfig.getCompileStatistics();
+        if(statistics != null) {
+            statistics.onRegex();
+        }
+        compileConfig.getPhaseTimer().enter(CompilePhase.REGEX);
+        try {
+            return compileConfig.getRegexpFactory().compile(pattern);
+        }
+        finally {
+            compileConfig.getPhaseTimer().exit();
+        }
+    }
+
+    private void onRef() {
+        CompileStatistics statistics = compileConfig.getCompileStatistics();
+        if(statistics != null) {
+            statistics.onRef();
+        }
     }
 
     public @NonNull ISchemaLocator resolveId(String idValue, ISchemaLocator locator) {
@@ -0,0 +1,67 @@
+package io.github.georgeakulov.json_schema.compilers;
+
+import io.github.georgeakulov.json_schema.IValidationMetrics;
+import io.github.georgeakulov.json_schema.IValidationMetrics.CompilePhase;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Accumulates the durations of the compilation phases. The nested phase pauses the outer one,
+ * the totals are passed to the metrics when the outermost phase is finished.
+ * The allocated bytes are tracked only for the compile report.
+ */
+public class CompilePhaseTimer {
+
+    private final IValidationMetrics metrics;
+    private final @Nullable CompileStatistics statistics;
+    private final long[] totals = new long[CompilePhase.values().length];
+    private final long[] allocated = new long[CompilePhase.values().length];
+    private final Deque<CompilePhase> phases = new ArrayDeque<>();
+    private long last;
+    private long lastAllocated;
+
+    public CompilePhaseTimer(IValidationMetrics metrics) {
+        this(metrics, null);
+    }
+
+    public CompilePhaseTimer(IValidationMetrics metrics, @Nullable CompileStatistics statistics) {
+        this.metrics = metrics;
+        this.statistics = statistics;
+    }
+
+    public void enter(CompilePhase phase) {
+        long now = System.nanoTime();
+        long nowAllocated = statistics == null ? 0 : CompileStatistics.allocatedBytes();
+        if(!phases.isEmpty()) {
+            totals[phases.peek().ordinal()] += now - last;
+            allocated[phases.peek().ordinal()] += nowAllocated - lastAllocated;
+        }
+        phases.push(phase);
+        last = now;
+        lastAllocated = nowAllocated;
+    }
+
+    public void exit() {
+        long now = System.nanoTime();
+        long nowAllocated = statistics == null ? 0 : CompileStatistics.allocatedBytes();
+        CompilePhase current = phases.pop();
+        totals[current.ordinal()] += now - last;
+        allocated[current.ordinal()] += nowAllocated - lastAllocated;
+        last = now;
+        lastAllocated = nowAllocated;
+        if(phases.isEmpty()) {
+            for(CompilePhase phase : CompilePhase.values()) {
+                if(totals[phase.ordinal()] > 0) {
+                    metrics.recordCompilePhase(phase, totals[phase.ordinal()]);
+                    if(statistics != null) {
+                        statistics.addPhase(phase, totals[phase.ordinal()], allocated[phase.ordinal()]);
+                    }
+                    totals[phase.ordinal()] = 0;
+                    allocated[phase.ordinal()] = 0;
+                }
+            }
+        }
+    }
+}
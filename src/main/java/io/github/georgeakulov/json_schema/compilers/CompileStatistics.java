@@ -0,0 +1,126 @@
+package io.github.georgeakulov.json_schema.compilers;
+
+import io.github.georgeakulov.json_schema.CompileReport.Phase;
+import io.github.georgeakulov.json_schema.CompileReport.SubschemaTiming;
+import io.github.georgeakulov.json_schema.IValidationMetrics.CompilePhase;
+import io.github.georgeakulov.json_schema.results.IValidationResult.ISchemaLocator;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Collects the counters and timings of the single compilation for the compile report. Isn`t thread safe.
+ */
+public final class CompileStatistics {
+
+    private static final com.sun.management.ThreadMXBean THREADS = threads();
+
+    private final boolean allocationTracked = THREADS != null && THREADS.isThreadAllocatedMemoryEnabled();
+    private final long start = System.nanoTime();
+    private final long[] phaseNanos = new long[CompilePhase.values().length];
+    private final long[] phaseBytes = new long[CompilePhase.values().length];
+    private final List<SubschemaTiming> subschemas = new ArrayList<>();
+    private final Deque<long[]> compiling = new ArrayDeque<>();
+    private int refCount;
+    private int externalLoadCount;
+    private int regexCount;
+    private int validatorCount;
+
+    /**
+     * The jvm wide tracking isn`t switched on here, it is enabled by default on HotSpot
+     * @return bytes allocated by the current thread or -1 if not supported or disabled
+     */
+    static long allocatedBytes() {
+        return THREADS == null || !THREADS.isThreadAllocatedMemoryEnabled() ? -1 : THREADS.getCurrentThreadAllocatedBytes();
+    }
+
+    void addPhase(CompilePhase phase, long nanos, long bytes) {
+        phaseNanos[phase.ordinal()] += nanos;
+        phaseBytes[phase.ordinal()] += bytes;
+    }
+
+    public void enterSubschema() {
+        // start time and the time of the nested subschemas
+        compiling.push(new long[] {System.nanoTime(), 0});
+    }
+
+    public void exitSubschema(ISchemaLocator schema) {
+        long[] current = compiling.pop();
+        long total = System.nanoTime() - current[0];
+        if(!compiling.isEmpty()) {
+            compiling.peek()[1] += total;
+        }
+        subschemas.add(new SubschemaTiming(schema, Math.max(0, total - current[1]), total));
+    }
+
+    public void onRef() {
+        refCount++;
+    }
+
+    public void onExternalLoad() {
+        externalLoadCount++;
+    }
+
+    public void onRegex() {
+        regexCount++;
+    }
+
+    public void onValidators(int count) {
+        validatorCount += count;
+    }
+
+    /**
+     * @return the time from the creation of the statistics
+     */
+    public long getElapsedNanos() {
+        return System.nanoTime() - start;
+    }
+
+    public Map<CompilePhase, Phase> getPhases() {
+        Map<CompilePhase, Phase> result = new EnumMap<>(CompilePhase.class);
+        for(CompilePhase phase : CompilePhase.values()) {
+            if(phaseNanos[phase.ordinal()] > 0) {
+                result.put(phase, new Phase(phaseNanos[phase.ordinal()], allocationTracked ? phaseBytes[phase.ordinal()] : -1));
+            }
+        }
+        return result;
+    }
+
+    public List<SubschemaTiming> getSubschemas() {
+        return subschemas;
+    }
+
+    public int getRefCount() {
+        return refCount;
+    }
+
+    public int getExternalLoadCount() {
+        return externalLoadCount;
+    }
+
+    public int getRegexCount() {
+        return regexCount;
+    }
+
+    public int getValidatorCount() {
+        return validatorCount;
+    }
+
+    private static com.sun.management.ThreadMXBean threads() {
+        try {
+            if(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                    && bean.isThreadAllocatedMemorySupported()) {
+                return bean;
+            }
+        }
+        catch(LinkageError | UnsupportedOperationException ignore) {
+            // Not HotSpot jvm
+        }
+        return null;
+    }
+}
@@ -1,14 +1,16 @@
 package io.github.georgeakulov.json_schema.compilers;
 
-import com.fasterxml.jackson.core.JsonPointer;
 import com.fasterxml.jackson.databind.JsonNode;
+import io.github.georgeakulov.json_schema.IValidationMetrics.CompilePhase;
 import io.github.georgeakulov.json_schema.compilers.ICompiler.ICompileAction;
 import io.github.georgeakulov.json_schema.compilers.ICompiler.IValidatorAction;
+import io.github.georgeakulov.json_schema.dialects.Dialect;
 import io.github.georgeakulov.json_schema.dialects.DialectRegistry;
 import io.github.georgeakulov.json_schema.dialects.DialectResolver;
 import io.github.georgeakulov.json_schema.loaders.SchemasRegistry;
 import io.github.georgeakulov.json_schema.results.IValidationResult;
 import io.github.georgeakulov.json_schema.results.IValidationResult.ISchemaLocator;
+import io.github.georgeakulov.json_schema.results.InstancePath;
 import io.github.georgeakulov.json_schema.results.ValidationResultFactory;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
@@ -27,19 +29,28 @@ public class Compiler {
     }
 
     public Function<JsonNode, Publisher<IValidationResult>> compileSchema(JsonNode schema, @Nullable URI defaultSchemaUri, @Nullable CompileConfig config) {
+        IValidator validator = compileRootValidator(schema, defaultSchemaUri, config);
+        return instance -> Mono.from(validator.validate(instance, InstancePath.empty(), new SimpleValidationContext()));
+    }
+
+    public IValidator compileRootValidator(JsonNode schema, @Nullable URI defaultSchemaUri, @Nullable CompileConfig config) {
         config = config == null ? new CompileConfig() : config;
-        SchemasRegistry registry = new SchemasRegistry(
-                new DialectResolver(DialectRegistry.getInstance()),
-                config
-        );
-        ISchemaLocator locator = registry.registerInitialSchema(schema, defaultSchemaUri);
-        CompileContext context = new CompileContext(config)
-                .withCompiler(this)
-                .withRegistry(registry);
-
-        IValidator validator = context.compile(schema, locator);
-
-        return instance -> Mono.from(validator.validate(instance, JsonPointer.empty(), new SimpleValidationContext()));
+        config.getPhaseTimer().enter(CompilePhase.COMPILE);
+        try {
+            SchemasRegistry registry = new SchemasRegistry(
+                    new DialectResolver(DialectRegistry.getInstance()),
+                    config
+            );
+            ISchemaLocator locator = registry.registerInitialSchema(schema, defaultSchemaUri);
+            CompileContext context = new CompileContext(config)
+                    .withCompiler(this)
+                    .withRegistry(registry);
+
+            return context.compile(schema, locator);
+        }
+        finally {
+            config.getPhaseTimer().exit();
+        }
     }
 
     IValidator compile(JsonNode schema, CompileContext parentContext, ISchemaLocator schemaLocator) {
@@ -50,6 +61,20 @@ public class Compiler {
             return recursiveValidator;
         }
 
+        CompileStatistics statistics = parentContext.getConfig().getCompileStatistics();
+        if(statistics == null) {
+            return compileSchemaObject(schema, parentContext, schemaLocator, invoke);
+        }
+        statistics.enterSubschema();
+        try {
+            return compileSchemaObject(schema, parentContext, schemaLocator, invoke);
+        }
+        finally {
+            statistics.exitSubschema(schemaLocator);
+        }
+    }
+
+    private IValidator compileSchemaObject(JsonNode schema, CompileContext parentContext, ISchemaLocator schemaLocator, Invoke invoke) {
         CompileContext compileContext = parentContext.onNewSchemaObject();
 
         if(schema.isBoolean()) {
@@ -65,20 +90,44 @@ public class Compiler {
             else {
 
                 var keywordValidators = createValidators(foundCompilers, compileContext);
+                if(compileContext.getConfig().getCompileStatistics() != null) {
+                    compileContext.getConfig().getCompileStatistics().onValidators(keywordValidators.size());
+                }
 
                 transformValidators(keywordValidators, compileContext, schemaLocator);
 
+                var schemaId = ValidationResultFactory.createSchemaId(schemaLocator);
+                if(compileContext.getConfig().isMetricsEnabled()) {
+                    // The keywords fused by ObjectKeywordsTransformer are measured one by one inside the fused validator
+                    keywordValidators.replaceAll((keyword, action) -> ObjectKeywordsTransformer.isFused(action) ? action : new ValidatorAction(
+                            new MeasuredValidator(schemaId, keyword, action.validator()), action.compileAction()));
+                }
                 invoke.laterValidator = (node, instancePtr, context) -> {
+                    var previous = context.optReusableResult(invoke, instancePtr);
+                    if(previous != null) {
+                        return previous.publish();
+                    }
                     var ctxt = context.recreate(instancePtr);
-                    return Flux.fromIterable(keywordValidators.values())
+                    var budget = ctxt.getBudget();
+                    if(budget != null) {
+                        budget.enter(schemaId, instancePtr);
+                    }
+                    var results = Flux.fromIterable(keywordValidators.values())
                             .map(IValidatorAction::validator)
-                            .flatMap(validator -> validator.validate(node, instancePtr, ctxt))
+                            .flatMap(validator -> validator.validate(node, instancePtr, ctxt));
+                    if(budget != null) {
+                        results = results.doOnNext(result -> budget.onResult(schemaId, instancePtr, result));
+                    }
+                    return results
                             .reduce(
-                                    ValidationResultFactory.createContainer(schemaLocator, instancePtr),
+                                    ValidationResultFactory.createSchemaContainer(ValidationResultFactory.createId(schemaId, instancePtr), invoke),
                                     ValidationResultFactory.ValidationResultContainer::append
                             )
                             .map(value -> value);
                 };
+                if(compileContext.getConfig().isMetricsEnabled()) {
+                    invoke.laterValidator = new MeasuredValidator(schemaId, null, invoke.laterValidator);
+                }
             }
 
         } else {
@@ -89,16 +138,16 @@ public class Compiler {
     }
 
     private void transformValidators(Map<String, IValidatorAction> keywordValidators, CompileContext compileContext, ISchemaLocator schemaLocator) {
-        compileContext.getDialect(schemaLocator)
-                .getTransformers()
-                .sorted(Comparator.comparing(IValidatorsTransformer::getOrder))
-                .forEach(transformer -> transformer.transform(keywordValidators, compileContext, schemaLocator));
+        for(IValidatorsTransformer transformer : compileContext.getDialect(schemaLocator).getTransformers()) {
+            transformer.transform(keywordValidators, compileContext, schemaLocator);
+        }
     }
 
     private IValidator schemaOk(ISchemaLocator schemaLocation) {
+        var schemaId = ValidationResultFactory.createSchemaId(schemaLocation);
         return (instance, instancePtr, context) ->
                 ValidationResultFactory
-                        .createOk(schemaLocation, instancePtr)
+                        .createOk(schemaId, instancePtr)
                         .publish();
     }
 
@@ -124,17 +173,14 @@ public class Compiler {
     }
 
     private static List<ICompileAction> prepareCompilers(JsonNode schema, ISchemaLocator locator, CompileContext compileContext) {
-        List<@NonNull ICompileAction> foundCompilers = schema.propertyStream()
-                .map(entry -> {
-                    var compiler = compileContext.getDialect(locator)
-                            .optCompiler(entry.getKey());
-                    if(compiler != null) {
-                        return CompileAction.of(entry.getKey(), compiler, entry.getValue(), locator.appendProperty(entry.getKey()));
-                    }
-                    return null;
-                })
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList());
+        Dialect dialect = compileContext.getDialect(locator);
+        List<@NonNull ICompileAction> foundCompilers = new ArrayList<>();
+        for(Map.Entry<String, JsonNode> entry : schema.properties()) {
+            var compiler = dialect.optCompiler(entry.getKey());
+            if(compiler != null) {
+                foundCompilers.add(CompileAction.of(entry.getKey(), compiler, entry.getValue(), locator.appendProperty(entry.getKey())));
+            }
+        }
 
         // Sort compiler for compilation order
         List<ICompileAction> sortedCompilersResolution = new ArrayList<>(foundCompilers);
@@ -146,9 +192,14 @@ public class Compiler {
         return foundCompilers;
     }
 
-    record CompileAction(String keyword, ICompiler compiler, JsonNode schemaNode, ISchemaLocator locator) implements ICompileAction {
+    record CompileAction(String keyword, ICompiler compiler, JsonNode schemaNode, ISchemaLocator locator, ISchemaLocator schemaId) implements ICompileAction {
         static ICompileAction of(String keyword, ICompiler compiler, JsonNode schemaNode, ISchemaLocator locator) {
-            return  new CompileAction(keyword, compiler, schemaNode, locator);
+            return  new CompileAction(keyword, compiler, schemaNode, locator, ValidationResultFactory.createSchemaId(locator));
+        }
+
+        @Override
+        public IValidationResult.IValidationId createId(InstancePath ptr) {
+            return ValidationResultFactory.createId(schemaId, ptr);
         }
     }
 
@@ -159,7 +210,7 @@ public class Compiler {
         IValidator laterValidator;
 
         @Override
-        public Publisher<IValidationResult> validate(JsonNode instance, JsonPointer instanceLocation, IValidationContext context) {
+        public Publisher<IValidationResult> validate(JsonNode instance, InstancePath instanceLocation, IValidationContext context) {
             return laterValidator.validate(instance, instanceLocation, context);
         }
     }
@@ -42,6 +42,15 @@ public class CompilerRegistry {
         return this;
     }
 
+    CompilerRegistry addTransformer(IValidatorsTransformer transformer, URI ... vocabularies) {
+        Objects.requireNonNull(transformer);
+        for (URI vocabulary : vocabularies) {
+            registries.computeIfAbsent(vocabulary, ignore -> new VocabularyCompilersRegistry())
+                    .addTransformer(transformer);
+        }
+        return this;
+    }
+
     public record VocabularySupport(List<String> keywords, URI vocabulary) implements IVocabularySupport {
         public static VocabularySupport of(String keyword, URI vocabulary) {
             return new VocabularySupport(List.of(keyword), vocabulary);
@@ -29,8 +29,9 @@ public class ConstCompiler implements INamedCompiler {
 
     @Override
     public @NonNull IValidator compile(JsonNode schemaNode, CompileContext compileContext, IValidationResult.ISchemaLocator schemaLocator) {
+        var schemaId = ValidationResultFactory.createSchemaId(schemaLocator);
         return (node, instancePtr, context) -> {
-            var id = ValidationResultFactory.createId(schemaLocator, instancePtr);
+            var id = ValidationResultFactory.createId(schemaId, instancePtr);
             if (Utils.checkEquality(node, schemaNode)) {
                 return ValidationResultFactory.createOk(id).publish();
             }
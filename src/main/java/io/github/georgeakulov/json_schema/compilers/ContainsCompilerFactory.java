@@ -7,6 +7,7 @@ import io.github.georgeakulov.json_schema.dialects.Vocabulary;
 import io.github.georgeakulov.json_schema.results.EErrorType;
 import io.github.georgeakulov.json_schema.results.IValidationResult;
 import io.github.georgeakulov.json_schema.results.IValidationResult.ISchemaLocator;
+import io.github.georgeakulov.json_schema.results.InstancePath;
 import io.github.georgeakulov.json_schema.results.ValidationError;
 import io.github.georgeakulov.json_schema.results.ValidationResultFactory;
 import org.jspecify.annotations.Nullable;
@@ -53,7 +54,7 @@ public class ContainsCompilerFactory implements ICompilerFactory {
 
         @Override
         public IValidator compile(JsonNode schemaNode, CompileContext compileContext, ISchemaLocator schemaLocator) {
-            this.schemaLocation = schemaLocator;
+            this.schemaLocation = ValidationResultFactory.createSchemaId(schemaLocator);
             validator = compileContext.compile(schemaNode, schemaLocator);
             minContains = resolveDependentContainsParameters(compileContext, "minContains");
             maxContains = resolveDependentContainsParameters(compileContext, "maxContains");
@@ -61,11 +62,15 @@ public class ContainsCompilerFactory implements ICompilerFactory {
             return this::validate;
         }
 
-        private Publisher<IValidationResult> validate(JsonNode instance, JsonPointer instancePtr, IValidationContext validationContext) {
+        private Publisher<IValidationResult> validate(JsonNode instance, InstancePath instancePtr, IValidationContext validationContext) {
 
             var id = ValidationResultFactory.createId(schemaLocation, instancePtr);
 
             if(instance.isArray()) {
+                var budget = validationContext.getBudget();
+                if(budget != null) {
+                    budget.charge(schemaLocation, instancePtr, instance.size());
+                }
                 return Flux.range(0, instance.size())
                         .flatMap(idx -> {
                             var itemPtr = instancePtr.appendIndex(idx);
@@ -1,6 +1,5 @@
 package io.github.georgeakulov.json_schema.compilers;
 
-import com.fasterxml.jackson.core.JsonPointer;
 import com.fasterxml.jackson.databind.JsonNode;
 import io.github.georgeakulov.json_schema.IContentProcessing.ContentValidationLevel;
 import io.github.georgeakulov.json_schema.common.content.ContentUtils;
@@ -13,19 +12,18 @@ import io.github.georgeakulov.json_schema.dialects.Defaults;
 import io.github.georgeakulov.json_schema.dialects.Vocabulary;
 import io.github.georgeakulov.json_schema.results.IValidationResult;
 import io.github.georgeakulov.json_schema.results.IValidationResult.ISchemaLocator;
+import io.github.georgeakulov.json_schema.results.InstancePath;
 import org.jspecify.annotations.Nullable;
 import org.reactivestreams.Publisher;
-import reactor.core.publisher.Flux;
 
 import java.net.URI;
 import java.util.List;
 import java.util.Map;
-import java.util.function.BiFunction;
-import java.util.function.Function;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static io.github.georgeakulov.json_schema.results.ValidationResultFactory.createId;
+import static io.github.georgeakulov.json_schema.results.ValidationResultFactory.createSchemaId;
 import static io.github.georgeakulov.json_schema.results.ValidationResultFactory.createOk;
 
 public class ContentTypesCompilerFactory implements ICompilerFactory, IValidatorsTransformer {
@@ -73,8 +71,9 @@ public class ContentTypesCompilerFactory implements ICompilerFactory, IValidator
         public @Nullable IValidator compileImpl(JsonNode schemaNode, CompileContext compileContext, ISchemaLocator schemaLocator) {
             LocatedSchemaCompileException.checkIt(schemaNode.isTextual(), "The contentMediaType value must be a string. Actual {0}", schemaNode);
             contentMediaType = MimeType.create(schemaNode.asText());
+            var schemaId = createSchemaId(schemaLocator);
             return (instance, instanceLocation, context) ->
-                    createOk(createId(schemaLocator, instanceLocation))
+                    createOk(createId(schemaId, instanceLocation))
                             .publish();
         }
     }
@@ -87,8 +86,9 @@ public class ContentTypesCompilerFactory implements ICompilerFactory, IValidator
         public @Nullable IValidator compileImpl(JsonNode schemaNode, CompileContext compileContext, ISchemaLocator schemaLocator) {
             LocatedSchemaCompileException.checkIt(schemaNode.isTextual(), "The contentEncoding value must be a string. Actual {0}", schemaNode);
             contentEncoding = schemaNode.asText();
+            var schemaId = createSchemaId(schemaLocator);
             return (instance, instanceLocation, context) ->
-                    createOk(createId(schemaLocator, instanceLocation))
+                    createOk(createId(schemaId, instanceLocation))
                             .publish();
         }
     }
@@ -96,17 +96,18 @@ public class ContentTypesCompilerFactory implements ICompilerFactory, IValidator
     private static class ContentSchemaCompiler extends BaseContentCompiler {
 
         private ContentMediaTypeCompiler contentMediaTypeCompiler;
-            private Function<JsonNode, Publisher<IValidationResult>> func;
+        private IValidator contentValidator;
 
         @Override
         public @Nullable IValidator compileImpl(JsonNode schemaNode, CompileContext compileContext, ISchemaLocator schemaLocator) {
 
             if(contentMediaTypeCompiler != null && contentMediaTypeCompiler.contentMediaType.hasJsonContent()) {
-                var value = compileContext.compileRoot(schemaNode);
+                var value = compileContext.compileRoot(schemaNode, compileContext.getDialect(schemaLocator).getURI());
                 if(compileContext.getConfig().getContentValidationLevel() == ContentValidationLevel.ENCODING_AND_SCHEMA) {
-                    func = value;
+                    contentValidator = value;
+                    var schemaId = createSchemaId(schemaLocator);
                     return (instance, instanceLocation, context) ->
-                            createOk(createId(schemaLocator, instanceLocation))
+                            createOk(createId(schemaId, instanceLocation))
                             .publish();
                 }
             }
@@ -140,7 +141,7 @@ public class ContentTypesCompilerFactory implements ICompilerFactory, IValidator
     private static class ContentValidator implements IValidatorAction, IValidator {
         private final IValidatorAction mediaType;
         private final IValidatorAction encoding;
-        private final BiFunction<JsonPointer, JsonNode, Iterable<IValidationResult>> validator;
+        private final IValidator validator;
 
         public ContentValidator(CompileContext compileContext, IValidatorAction mediaType, IValidatorAction encoding, IValidatorAction contentSchema) {
             this.mediaType = mediaType;
@@ -149,7 +150,7 @@ public class ContentTypesCompilerFactory implements ICompilerFactory, IValidator
                     compileContext.getConfig().getContentValidationRegistry(),
                     encoding == null ? null : (new ValidationItem<>(encoding, ((ContentEncodingCompiler)encoding.compileAction().compiler()).contentEncoding)),
                     mediaType == null ? null : new ValidationItem<>(mediaType, ((ContentMediaTypeCompiler)mediaType.compileAction().compiler()).contentMediaType),
-                    contentSchema == null ? null : new ValidationItem<>(contentSchema, ((ContentSchemaCompiler)contentSchema.compileAction().compiler()).func)
+                    contentSchema == null ? null : new ValidationItem<>(contentSchema, ((ContentSchemaCompiler)contentSchema.compileAction().compiler()).contentValidator)
             );
         }
 
@@ -159,8 +160,8 @@ public class ContentTypesCompilerFactory implements ICompilerFactory, IValidator
         }
 
         @Override
-        public Publisher<IValidationResult> validate(JsonNode instance, JsonPointer instanceLocation, IValidationContext context) {
-            return Flux.fromIterable(validator.apply(instanceLocation, instance));
+        public Publisher<IValidationResult> validate(JsonNode instance, InstancePath instanceLocation, IValidationContext context) {
+            return validator.validate(instance, instanceLocation, context);
         }
 
         private IValidatorAction firstNonNull() {
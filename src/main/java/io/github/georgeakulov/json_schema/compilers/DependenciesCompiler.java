@@ -9,6 +9,7 @@ import io.github.georgeakulov.json_schema.dialects.Defaults;
 import io.github.georgeakulov.json_schema.results.EErrorType;
 import io.github.georgeakulov.json_schema.results.IValidationResult;
 import io.github.georgeakulov.json_schema.results.IValidationResult.ISchemaLocator;
+import io.github.georgeakulov.json_schema.results.InstancePath;
 import io.github.georgeakulov.json_schema.results.ValidationError;
 import io.github.georgeakulov.json_schema.results.ValidationResultFactory;
 import org.jspecify.annotations.Nullable;
@@ -16,10 +17,10 @@ import org.reactivestreams.Publisher;
 import reactor.core.publisher.Flux;
 
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.HashSet;
-import java.util.Map;
+import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static io.github.georgeakulov.json_schema.common.LocatedSchemaCompileException.checkIt;
@@ -44,17 +45,28 @@ public class DependenciesCompiler implements INamedCompiler {
     public @Nullable IValidator compile(JsonNode schemaNode, CompileContext compileContext, ISchemaLocator schemaLocator) {
 
         checkIt(schemaNode.isObject(), schemaLocator, "The {0} keyword value must be an object", getKeyword());
-        Map<String, SubValidator> validators = schemaNode.propertyStream()
-                .collect(Collectors.toMap(
-                        Map.Entry::getKey,
-                        entry -> createSubValidator(schemaLocator, compileContext, entry)
-                ));
+        List<IValidator> validators = new ArrayList<>();
+        DependentRequiredValidator requiredValidator = new DependentRequiredValidator(schemaLocator);
+        schemaNode.propertyStream()
+                .forEach(entry -> {
+                    switch (entry.getValue().getNodeType()) {
+                        case OBJECT, BOOLEAN -> validators.add(new DependentSchemaSubValidator(
+                                schemaLocator.appendProperty(entry.getKey()), entry.getKey(), entry.getValue(), compileContext));
+                        case ARRAY -> requiredValidator.addRule(entry.getKey(), (ArrayNode) entry.getValue());
+                        default -> throw LocatedSchemaCompileException.create(
+                                schemaLocator, "Values of {0} keyword properties must be an array or object", getKeyword());
+                    }
+                });
+        if(!requiredValidator.rules.isEmpty()) {
+            validators.add(requiredValidator);
+        }
         if(validators.isEmpty()) {
             return null;
         }
+        var schemaId = ValidationResultFactory.createSchemaId(schemaLocator);
         return (instance, instancePtr, context) -> {
-            var id = ValidationResultFactory.createId(schemaLocator, instancePtr);
-            return Flux.fromIterable(validators.values())
+            var id = ValidationResultFactory.createId(schemaId, instancePtr);
+            return Flux.fromIterable(validators)
                     .parallel()
                     .flatMap(validator -> validator.validate(instance, instancePtr, context))
                     .sequential()
@@ -66,15 +78,6 @@ public class DependenciesCompiler implements INamedCompiler {
         };
     }
 
-    private SubValidator createSubValidator(ISchemaLocator locator, CompileContext context, Map.Entry<String, JsonNode> schemaEntry) {
-        return switch(schemaEntry.getValue().getNodeType()) {
-            case OBJECT, BOOLEAN -> new DependentSchemaSubValidator(locator.appendProperty(schemaEntry.getKey()), schemaEntry.getKey(), schemaEntry.getValue(), context);
-            case ARRAY -> new DependentRequiredSubValidator(locator, schemaEntry.getKey(), (ArrayNode) schemaEntry.getValue());
-            default ->
-                throw LocatedSchemaCompileException.create(locator, "Values of {0} keyword properties must be an array or object", getKeyword());
-        };
-    }
-
     @Override
     public void preprocess(IPreprocessorMediator mediator, String keyword, JsonNode node, JsonPointer pointer) {
         node.propertyStream()
@@ -86,24 +89,26 @@ public class DependenciesCompiler implements INamedCompiler {
 
         protected final String property;
         protected final ISchemaLocator locator;
+        protected final ISchemaLocator schemaId;
 
         public SubValidator(String property, ISchemaLocator locator) {
             this.property = property;
             this.locator = locator;
+            this.schemaId = ValidationResultFactory.createSchemaId(locator);
         }
 
-        public abstract Publisher<IValidationResult> validateImpl(JsonNode instance, JsonPointer instancePtr, IValidationContext context);
+        public abstract Publisher<IValidationResult> validateImpl(JsonNode instance, InstancePath instancePtr, IValidationContext context);
 
         @Override
-        public Publisher<IValidationResult> validate(JsonNode instance, JsonPointer instanceLocation, IValidationContext context) {
+        public Publisher<IValidationResult> validate(JsonNode instance, InstancePath instanceLocation, IValidationContext context) {
             if(instance.isObject()) {
                 return validateImpl(instance, instanceLocation, context);
             }
             return createOk(instanceLocation).publish();
         }
 
-        protected IValidationResult createOk(JsonPointer instancePtr) {
-            return ValidationResultFactory.createOk(locator, instancePtr);
+        protected IValidationResult createOk(InstancePath instancePtr) {
+            return ValidationResultFactory.createOk(schemaId, instancePtr);
         }
     }
 
@@ -116,7 +121,7 @@ public class DependenciesCompiler implements INamedCompiler {
         }
 
         @Override
-        public Publisher<IValidationResult> validateImpl(JsonNode instance, JsonPointer instancePtr, IValidationContext context) {
+        public Publisher<IValidationResult> validateImpl(JsonNode instance, InstancePath instancePtr, IValidationContext context) {
             if(instance.has(property)) {
                 return validator.validate(instance, instancePtr, context);
             }
@@ -125,14 +130,23 @@ public class DependenciesCompiler implements INamedCompiler {
     }
 
 
-    private class DependentRequiredSubValidator extends SubValidator {
+    /**
+     * All property dependencies of the keyword, checked by one pass over the instance fields
+     */
+    private class DependentRequiredValidator implements IValidator {
 
-        private final Set<String> required = new HashSet<>();
+        private final ISchemaLocator locator;
+        private final ISchemaLocator schemaId;
+        private final PropertySlots slots = new PropertySlots();
+        private final List<DependentRule> rules = new ArrayList<>();
 
-        public DependentRequiredSubValidator(ISchemaLocator locator, String key, ArrayNode value) {
-
-            super(key, locator);
+        private DependentRequiredValidator(ISchemaLocator locator) {
+            this.locator = locator;
+            this.schemaId = ValidationResultFactory.createSchemaId(locator);
+        }
 
+        private void addRule(String key, ArrayNode value) {
+            Set<String> required = new HashSet<>();
             value.valueStream()
                     .peek(val ->
                             checkIt(val.getNodeType() == JsonNodeType.STRING, locator,
@@ -141,21 +155,30 @@ public class DependenciesCompiler implements INamedCompiler {
                             checkIt(required.add(val.textValue()), locator,
                                     "The {0} keyword for property {1} contains duplicated strings", getKeyword(), key)
                     );
+            rules.add(new DependentRule(key, slots.slot(key), slots.mask(required)));
         }
 
         @Override
-        public Publisher<IValidationResult> validateImpl(JsonNode instance, JsonPointer instancePtr, IValidationContext context) {
-            if(instance.has(property)) {
-                if(!this.required.stream()
-                        .allMatch(instance::has)) {
-                    return ValidationError.create(
-                            ValidationResultFactory.createId(locator, instancePtr),
-                            EErrorType.DEPENDENCIES,
-                            property
-                    ).publish();
+        public Publisher<IValidationResult> validate(JsonNode instance, InstancePath instancePtr, IValidationContext context) {
+            var id = ValidationResultFactory.createId(schemaId, instancePtr);
+            if(instance.isObject()) {
+                long[] present = slots.collect(instance);
+                List<IValidationResult> errors = null;
+                for (DependentRule rule : rules) {
+                    if(PropertySlots.isSet(present, rule.slot()) && !rule.required().isSatisfied(present)) {
+                        if(errors == null) {
+                            errors = new ArrayList<>();
+                        }
+                        errors.add(ValidationError.create(id, EErrorType.DEPENDENCIES, rule.property()));
+                    }
+                }
+                if(errors != null) {
+                    return Flux.fromIterable(errors);
                 }
             }
-            return createOk(instancePtr).publish();
+            return ValidationResultFactory.createOk(id).publish();
         }
     }
+
+    private record DependentRule(String property, int slot, PropertySlots.Mask required) {}
 }
@@ -3,13 +3,16 @@ package io.github.georgeakulov.json_schema.compilers;
 import com.fasterxml.jackson.databind.JsonNode;
 import io.github.georgeakulov.json_schema.dialects.Defaults;
 import io.github.georgeakulov.json_schema.results.EErrorType;
+import io.github.georgeakulov.json_schema.results.IValidationResult;
 import io.github.georgeakulov.json_schema.results.IValidationResult.ISchemaLocator;
+import io.github.georgeakulov.json_schema.results.InstancePath;
 import io.github.georgeakulov.json_schema.results.ValidationError;
 import io.github.georgeakulov.json_schema.results.ValidationResultFactory;
 import org.jspecify.annotations.Nullable;
-import reactor.core.publisher.Flux;
+import org.reactivestreams.Publisher;
 
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -36,33 +39,15 @@ public class DependentRequiredCompiler implements INamedCompiler {
     @Override
     public @Nullable IValidator compile(JsonNode schemaNode, CompileContext compileContext, ISchemaLocator schemaLocator) {
         checkIt(schemaNode.isObject(), schemaLocator, "The {0} keyword value must be an object. Actual: {1}", getKeyword(), schemaNode.getNodeType());
+        var slots = new PropertySlots();
         List<DependentRule> rules = schemaNode.propertyStream()
-                .map(entry -> new DependentRule(entry.getKey(), parse(schemaLocator, entry.getKey(), entry.getValue())))
+                .map(entry -> new DependentRule(
+                        entry.getKey(),
+                        slots.slot(entry.getKey()),
+                        slots.mask(parse(schemaLocator, entry.getKey(), entry.getValue()))
+                ))
                 .toList();
-        return (instance, instancePtr, context) -> {
-
-            var id = ValidationResultFactory.createId(schemaLocator, instancePtr);
-
-            if(instance.isObject()) {
-                return Flux.fromIterable(rules)
-                                .filter(rule -> instance.has(rule.prop()))
-                                .filter(rule -> !rule.dependent().stream()
-                                        .allMatch(instance::has))
-                                .collectList()
-                                .map(invRules -> {
-                                    if(invRules.isEmpty()) {
-                                        return ValidationResultFactory.createOk(id);
-                                    }
-                                    else {
-                                        return ValidationError.create(id,
-                                                EErrorType.DEPENDENT_REQUIRED,
-                                                invRules.stream().map(rule -> rule.prop).collect(Collectors.joining(","))
-                                        );
-                                    }
-                                });
-            }
-            return ValidationResultFactory.createOk(id).publish();
-        };
+        return new DependentRequiredValidator(ValidationResultFactory.createSchemaId(schemaLocator), slots, rules);
     }
 
     private Set<String> parse(ISchemaLocator locator, String propertyName, JsonNode value) {
@@ -84,6 +69,52 @@ public class DependentRequiredCompiler implements INamedCompiler {
         return props;
     }
 
-    private record DependentRule(String prop, Set<String> dependent) {}
+    private record DependentRule(String prop, int slot, PropertySlots.Mask dependent) {}
+
+    private record DependentRequiredValidator(ISchemaLocator schemaId, PropertySlots slots, List<DependentRule> rules) implements IObjectKeywordValidator {
+
+        @Override
+        public Publisher<IValidationResult> validate(JsonNode instance, InstancePath instancePtr, IValidationContext context) {
+            if(instance.isObject()) {
+                return check(slots.collect(instance), instancePtr);
+            }
+            return ValidationResultFactory.createOk(schemaId, instancePtr).publish();
+        }
+
+        @Override
+        public IFieldsVisitor visitObject(JsonNode instance, InstancePath instancePtr, IValidationContext context) {
+            long[] present = slots.empty();
+            return new IFieldsVisitor() {
+                @Override
+                public boolean visitField(String name, JsonNode value) {
+                    slots.mark(present, name);
+                    return false;
+                }
+
+                @Override
+                public Publisher<IValidationResult> finish() {
+                    return check(present, instancePtr);
+                }
+            };
+        }
+
+        private Publisher<IValidationResult> check(long[] present, InstancePath instancePtr) {
+            var id = ValidationResultFactory.createId(schemaId, instancePtr);
+            List<String> invalidProps = null;
+            for (DependentRule rule : rules) {
+                if(PropertySlots.isSet(present, rule.slot()) && !rule.dependent().isSatisfied(present)) {
+                    if(invalidProps == null) {
+                        invalidProps = new ArrayList<>();
+                    }
+                    invalidProps.add(rule.prop());
+                }
+            }
+            if(invalidProps != null) {
+                return ValidationError.create(id, EErrorType.DEPENDENT_REQUIRED, String.join(",", invalidProps))
+                        .publish();
+            }
+            return ValidationResultFactory.createOk(id).publish();
+        }
+    }
 
 }
@@ -3,11 +3,12 @@ package io.github.georgeakulov.json_schema.compilers;
 import com.fasterxml.jackson.core.JsonPointer;
 import com.fasterxml.jackson.databind.JsonNode;
 import io.github.georgeakulov.json_schema.dialects.Defaults;
+import io.github.georgeakulov.json_schema.results.IValidationResult;
 import io.github.georgeakulov.json_schema.results.IValidationResult.ISchemaLocator;
+import io.github.georgeakulov.json_schema.results.InstancePath;
 import io.github.georgeakulov.json_schema.results.ValidationResultFactory;
 import org.jspecify.annotations.Nullable;
-import reactor.core.publisher.Flux;
-import reactor.core.publisher.Mono;
+import org.reactivestreams.Publisher;
 
 import java.net.URI;
 import java.util.Map;
@@ -42,30 +43,32 @@ public class DependentSchemasCompiler implements INamedCompiler {
                         entry -> compileContext.compile(entry.getValue(), schemaLocator.appendProperty(entry.getKey()))
                 ));
 
-        return (instance, instancePtr, context) -> {
+        return new DependentSchemasValidator(ValidationResultFactory.createSchemaId(schemaLocator), validators);
+    }
 
-            var id = ValidationResultFactory.createId(schemaLocator, instancePtr);
-            if(instance.isObject()) {
-                return Flux.fromStream(instance.propertyStream())
-                        .filter(entry -> validators.containsKey(entry.getKey()))
-                        .parallel()
-                        .flatMap(entry -> {
-                            var validator = validators.get(entry.getKey());
-                            if(validator == null) {
-                                return Mono.empty();
-                            }
+    private record DependentSchemasValidator(ISchemaLocator schemaId, Map<String, IValidator> validators) implements IObjectKeywordValidator {
 
-                            return validator.validate(instance, instancePtr, context);
-                        })
-                        .sequential()
-                        .reduce(
-                                ValidationResultFactory.createContainer(id),
-                                ValidationResultFactory.ValidationResultContainer::append
-                        )
-                        .map(val -> val);
+        @Override
+        public Publisher<IValidationResult> validate(JsonNode instance, InstancePath instancePtr, IValidationContext context) {
+            if(instance.isObject()) {
+                return IObjectKeywordValidator.visitFields(visitObject(instance, instancePtr, context), instance);
             }
-            return ValidationResultFactory.createOk(id).publish();
-        };
+            return ValidationResultFactory.createOk(schemaId, instancePtr).publish();
+        }
+
+        @Override
+        public IFieldsVisitor visitObject(JsonNode instance, InstancePath instancePtr, IValidationContext context) {
+            return new ContainerVisitor(ValidationResultFactory.createId(schemaId, instancePtr)) {
+                @Override
+                public boolean visitField(String name, JsonNode value) {
+                    var validator = validators.get(name);
+                    if(validator != null) {
+                        add(validator.validate(instance, instancePtr, context));
+                    }
+                    return false;
+                }
+            };
+        }
     }
 
     @Override
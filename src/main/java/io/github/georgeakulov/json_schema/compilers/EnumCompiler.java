@@ -48,9 +48,10 @@ public class EnumCompiler implements INamedCompiler {
             set.add(element);
         });
 
+        var schemaId = ValidationResultFactory.createSchemaId(schemaLocator);
         return (node, instancePtr, context) -> {
 
-            var id = ValidationResultFactory.createId(schemaLocator, instancePtr);
+            var id = ValidationResultFactory.createId(schemaId, instancePtr);
             if(set.contains(node)) {
                 return ValidationResultFactory.createOk(id).publish();
             }
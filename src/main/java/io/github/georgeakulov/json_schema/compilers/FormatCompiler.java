@@ -10,12 +10,14 @@ import io.github.georgeakulov.json_schema.common.uritemplate.URITemplateParser;
 import io.github.georgeakulov.json_schema.dialects.Defaults;
 import io.github.georgeakulov.json_schema.dialects.Dialect;
 import io.github.georgeakulov.json_schema.results.IValidationResult;
+import io.github.georgeakulov.json_schema.results.InstancePath;
 import io.github.georgeakulov.json_schema.results.ValidationError;
 import org.jspecify.annotations.Nullable;
 import org.reactivestreams.Publisher;
 import reactor.core.publisher.Mono;
 
 import java.net.URI;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
@@ -23,9 +25,16 @@ import static io.github.georgeakulov.json_schema.common.LocatedSchemaCompileExce
 import static io.github.georgeakulov.json_schema.common.LocatedSchemaCompileException.create;
 import static io.github.georgeakulov.json_schema.results.EErrorType.FORMAT;
 import static io.github.georgeakulov.json_schema.results.ValidationResultFactory.createId;
+import static io.github.georgeakulov.json_schema.results.ValidationResultFactory.createSchemaId;
 
 public class FormatCompiler implements INamedCompiler {
 
+    // Pure built-in formats worth caching, the cheap scanners are faster than the cache lookup
+    private static final Set<String> CACHEABLE_DEFAULT_FORMATS = Set.of(
+            "uri", "uri-reference", "iri", "iri-reference", "uri-template",
+            "email", "idn-email", "hostname", "idn-hostname"
+    );
+
     @Override
     public String getKeyword() {
         return "format";
@@ -50,12 +59,19 @@ public class FormatCompiler implements INamedCompiler {
             return null;
         }
 
-        Predicate<String> predicate = compileContext.getConfig().getFormats().get(schemaNode.textValue());
+        String format = schemaNode.textValue();
+        CompileConfig config = compileContext.getConfig();
+        Predicate<String> predicate = config.getFormats().get(format);
+        boolean cacheable = config.getCacheableFormats().contains(format);
         if(predicate == null) {
             predicate = getDefaultFormats(schemaNode, compileContext, schemaLocator);
+            cacheable = CACHEABLE_DEFAULT_FORMATS.contains(format);
         }
         if(predicate != null) {
-            return new FormatValidator(schemaNode.textValue(), schemaLocator, predicate);
+            if(cacheable && config.getFormatCache() != null) {
+                predicate = config.getFormatCache().wrap(format, predicate);
+            }
+            return new FormatValidator(format, schemaLocator, predicate);
         }
         return null;
     }
@@ -72,7 +88,7 @@ public class FormatCompiler implements INamedCompiler {
             case "uri-reference" -> CommonFormatValidations.getURIReferenceValidator();
             case "ipv4" -> CommonFormatValidations.getIpv4Validator();
             case "ipv6" -> CommonFormatValidations.getIpv6Validator();
-            case "uri-template" -> URITemplateParser::parse;
+            case "uri-template" -> URITemplateParser::isValid;
             case "json-pointer" -> CommonFormatValidations.getJsonPointerValidator();
             case "relative-json-pointer" -> CommonFormatValidations.getRelativeJsonPointerValidator();
             case "iri" -> CommonFormatValidations.getIriValidator();
@@ -97,12 +113,12 @@ public class FormatCompiler implements INamedCompiler {
 
         public FormatValidator(String format, IValidationResult.ISchemaLocator locator, Predicate<String> validator) {
             this.format = format;
-            this.locator = locator;
+            this.locator = createSchemaId(locator);
             this.validator = validator;
         }
 
         @Override
-        public Publisher<IValidationResult> validate(JsonNode instance, JsonPointer instanceLocation, IValidationContext context) {
+        public Publisher<IValidationResult> validate(JsonNode instance, InstancePath instanceLocation, IValidationContext context) {
             return Mono.just(createId(locator, instanceLocation))
                     .filter(id -> instance.isTextual())
                     .filter(id -> !validator.test(instance.textValue()))
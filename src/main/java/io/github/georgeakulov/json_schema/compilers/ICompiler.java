@@ -5,6 +5,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import io.github.georgeakulov.json_schema.compilers.base.BaseSomeOfCompiler;
 import io.github.georgeakulov.json_schema.results.IValidationResult.ISchemaLocator;
 import io.github.georgeakulov.json_schema.results.IValidationResult.IValidationId;
+import io.github.georgeakulov.json_schema.results.InstancePath;
 import io.github.georgeakulov.json_schema.results.ValidationResultFactory;
 import org.jspecify.annotations.Nullable;
 
@@ -34,7 +35,7 @@ public interface ICompiler {
         ICompiler compiler();
         ISchemaLocator locator();
 
-        default IValidationId createId(JsonPointer ptr) {
+        default IValidationId createId(InstancePath ptr) {
             return ValidationResultFactory.createId(locator(), ptr);
         }
     }
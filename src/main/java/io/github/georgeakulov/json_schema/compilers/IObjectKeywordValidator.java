@@ -0,0 +1,84 @@
+package io.github.georgeakulov.json_schema.compilers;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.github.georgeakulov.json_schema.results.IValidationResult;
+import io.github.georgeakulov.json_schema.results.IValidationResult.IValidationId;
+import io.github.georgeakulov.json_schema.results.InstancePath;
+import io.github.georgeakulov.json_schema.results.ValidationResultFactory;
+import org.jspecify.annotations.Nullable;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Validator of the object keyword, which can be fed with the instance fields one by one.<br/>
+ * The {@link ObjectKeywordsTransformer} uses it to walk the fields of the object instance once
+ * for all object keywords of the schema.
+ */
+public interface IObjectKeywordValidator extends IValidator {
+
+    /**
+     * @param instance object instance
+     * @return visitor of the instance fields
+     */
+    IFieldsVisitor visitObject(JsonNode instance, InstancePath instancePtr, IValidationContext context);
+
+    interface IFieldsVisitor {
+
+        /**
+         * @return true if the field is evaluated by the keyword in terms of additionalProperties
+         */
+        boolean visitField(String name, JsonNode value);
+
+        /**
+         * @return keyword validation result, called after all fields are visited
+         */
+        Publisher<IValidationResult> finish();
+    }
+
+    /**
+     * Feed the visitor by all fields of the object instance
+     */
+    static Publisher<IValidationResult> visitFields(IFieldsVisitor visitor, JsonNode instance) {
+        for (Map.Entry<String, JsonNode> entry : instance.properties()) {
+            visitor.visitField(entry.getKey(), entry.getValue());
+        }
+        return visitor.finish();
+    }
+
+    /**
+     * Visitor which reduces the results of the per field validations into one container
+     */
+    abstract class ContainerVisitor implements IFieldsVisitor {
+
+        private final IValidationId id;
+        private @Nullable List<Publisher<IValidationResult>> results;
+
+        protected ContainerVisitor(IValidationId id) {
+            this.id = id;
+        }
+
+        protected void add(Publisher<IValidationResult> result) {
+            if(results == null) {
+                results = new ArrayList<>();
+            }
+            results.add(result);
+        }
+
+        @Override
+        public Publisher<IValidationResult> finish() {
+            if(results == null) {
+                return ValidationResultFactory.createContainer(id).publish();
+            }
+            return Flux.merge(results)
+                    .reduce(
+                            ValidationResultFactory.createContainer(id),
+                            ValidationResultFactory.ValidationResultContainer::append
+                    )
+                    .map(value -> value);
+        }
+    }
+}
@@ -1,8 +1,62 @@
 package io.github.georgeakulov.json_schema.compilers;
 
-import com.fasterxml.jackson.core.JsonPointer;
+import io.github.georgeakulov.json_schema.IValidationMetrics;
+import io.github.georgeakulov.json_schema.results.IValidationResult;
+import io.github.georgeakulov.json_schema.results.InstancePath;
+import org.jspecify.annotations.Nullable;
 
 public interface IValidationContext {
 
-    IValidationContext recreate(JsonPointer pointer);
+    IValidationContext recreate(InstancePath pointer);
+
+    /**
+     * @param origin compiled schema validator
+     * @param instancePath location of validated value
+     * @return result of the previous validation of the same value by the same validator, if it still actual
+     */
+    default @Nullable IValidationResult optReusableResult(Object origin, InstancePath instancePath) {
+        return null;
+    }
+
+    /**
+     * @return the metrics if this validation is measured, otherwise null
+     */
+    default @Nullable IValidationMetrics getMetrics() {
+        return null;
+    }
+
+    /**
+     * @return the context for the schema referenced by {@code $ref}
+     */
+    default IValidationContext enterRef() {
+        return this;
+    }
+
+    /**
+     * @return count of the {@code $ref} passed to reach the current schema, is tracked only for the measured validation
+     */
+    default int getRefDepth() {
+        return 0;
+    }
+
+    /**
+     * @return the frame of the calling measured validator if this validation is profiled, otherwise null
+     */
+    default @Nullable ValidationFrame getFrame() {
+        return null;
+    }
+
+    /**
+     * @return the context for the validators called by the measured validator
+     */
+    default IValidationContext withFrame(ValidationFrame frame) {
+        return this;
+    }
+
+    /**
+     * @return the resource limits of this validation or null if the validation is unlimited
+     */
+    default @Nullable ValidationBudget getBudget() {
+        return null;
+    }
 }
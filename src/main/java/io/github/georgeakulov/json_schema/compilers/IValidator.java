@@ -1,12 +1,12 @@
 package io.github.georgeakulov.json_schema.compilers;
 
-import com.fasterxml.jackson.core.JsonPointer;
 import com.fasterxml.jackson.databind.JsonNode;
 import io.github.georgeakulov.json_schema.results.IValidationResult;
+import io.github.georgeakulov.json_schema.results.InstancePath;
 import org.reactivestreams.Publisher;
 
 @FunctionalInterface
 public interface IValidator {
 
-    Publisher<IValidationResult> validate(JsonNode instance, JsonPointer instanceLocation, IValidationContext context);
+    Publisher<IValidationResult> validate(JsonNode instance, InstancePath instanceLocation, IValidationContext context);
 }
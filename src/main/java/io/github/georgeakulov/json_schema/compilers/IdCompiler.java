@@ -3,6 +3,9 @@ package io.github.georgeakulov.json_schema.compilers;
 import com.fasterxml.jackson.databind.JsonNode;
 import io.github.georgeakulov.json_schema.dialects.Defaults;
 import io.github.georgeakulov.json_schema.results.IValidationResult.ISchemaLocator;
+import io.github.georgeakulov.json_schema.results.IValidationResult.IValidationId;
+import io.github.georgeakulov.json_schema.results.InstancePath;
+import io.github.georgeakulov.json_schema.results.ValidationResultFactory;
 import org.jspecify.annotations.Nullable;
 
 import java.net.URI;
@@ -48,7 +51,7 @@ public class IdCompiler implements INamedCompiler {
             }
         }
         ISchemaLocator changeLocator = compileContext.resolveId(idValue, idAction.locator());
-        if(changeLocator.getSchemaUUID().equals(schemaLocator.getSchemaUUID())) {
+        if(changeLocator.getResourceId() == schemaLocator.getResourceId()) {
             return;
         }
         List<ICompileAction> updatedActions = current.stream()
@@ -69,7 +72,7 @@ public class IdCompiler implements INamedCompiler {
     }
 
     public static boolean isSame(ISchemaLocator before, ISchemaLocator after) {
-        return Objects.equals(before.getSchemaUUID(), after.getSchemaUUID())
+        return before.getResourceId() == after.getResourceId()
                 && Objects.equals(before.getSchemaRef(), after.getSchemaRef());
     }
 
@@ -77,10 +80,12 @@ public class IdCompiler implements INamedCompiler {
 
         private final ICompileAction action;
         private final ISchemaLocator updatedLocator;
+        private final ISchemaLocator schemaId;
 
         private ChangeLocatorAction(ICompileAction action, ISchemaLocator updatedLocator) {
             this.action = action;
             this.updatedLocator = updatedLocator;
+            this.schemaId = ValidationResultFactory.createSchemaId(updatedLocator);
         }
 
         @Override
@@ -102,5 +107,10 @@ public class IdCompiler implements INamedCompiler {
         public ISchemaLocator locator() {
             return updatedLocator;
         }
+
+        @Override
+        public IValidationId createId(InstancePath ptr) {
+            return ValidationResultFactory.createId(schemaId, ptr);
+        }
     }
 }
@@ -6,6 +6,7 @@ import io.github.georgeakulov.json_schema.compilers.ICompiler.IValidatorAction;
 import io.github.georgeakulov.json_schema.dialects.Defaults;
 import io.github.georgeakulov.json_schema.dialects.Vocabulary;
 import io.github.georgeakulov.json_schema.results.IValidationResult;
+import io.github.georgeakulov.json_schema.results.InstancePath;
 import io.github.georgeakulov.json_schema.results.ValidationResultFactory;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
@@ -59,10 +60,10 @@ public class IfThenElseCompilerFactory implements ICompilerFactory, IValidatorsT
         }
 
         @Override
-        public Publisher<IValidationResult> validate(JsonNode instance, JsonPointer instanceLocation, IValidationContext context) {
+        public Publisher<IValidationResult> validate(JsonNode instance, InstancePath instanceLocation, IValidationContext context) {
             return Flux.defer(() -> conditionValidator.validator().validate(instance, instanceLocation, context))
                     .flatMap(validationResult -> {
-                        var id = ValidationResultFactory.createId(conditionValidator.compileAction().locator(), instanceLocation);
+                        var id = conditionValidator.compileAction().createId(instanceLocation);
                         ValidationResultFactory.ValidationResultContainer container = ValidationResultFactory.createContainer(id);
                         validationResult.asStream()
                                 .filter(vr -> vr.getType() == IValidationResult.Type.ANNOTATION)
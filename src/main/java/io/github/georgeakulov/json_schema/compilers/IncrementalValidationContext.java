@@ -0,0 +1,185 @@
+package io.github.georgeakulov.json_schema.compilers;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.github.georgeakulov.json_schema.IValidationMetrics;
+import io.github.georgeakulov.json_schema.results.IValidationResult;
+import io.github.georgeakulov.json_schema.results.IValidationResult.IValidationResultContainer;
+import io.github.georgeakulov.json_schema.results.InstancePath;
+import io.github.georgeakulov.json_schema.results.ValidationResultFactory.SchemaResultContainer;
+import org.jspecify.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Validation context for revalidation of modified document.<br/>
+ * Results of (sub)schemas from the previous validation are reused for the values which are
+ * neither ancestors nor descendants of changed locations. Validators of the changed values and
+ * all their parents (so object level keywords as required, dependentRequired, unevaluated* too) are run again.<br/>
+ * The validators run again get the wrapped context, so its metrics and resource limits apply to the revalidation.
+ */
+public class IncrementalValidationContext implements IValidationContext {
+
+    private final Map<ResultKey, IValidationResult> reusable;
+    private final IValidationContext context;
+
+    public IncrementalValidationContext(IValidationResult previousResult, Collection<JsonPointer> changedPaths) {
+        this(previousResult, changedPaths, new SimpleValidationContext());
+    }
+
+    /**
+     * @param budget the resource limits of the revalidation
+     */
+    public IncrementalValidationContext(IValidationResult previousResult, Collection<JsonPointer> changedPaths, @Nullable ValidationBudget budget) {
+        this(previousResult, changedPaths, new SimpleValidationContext(null, budget));
+    }
+
+    /**
+     * @param context the context of the validators which are run again, e.g. with the metrics and the resource limits
+     */
+    public IncrementalValidationContext(IValidationResult previousResult, Collection<JsonPointer> changedPaths, IValidationContext context) {
+        this.reusable = new HashMap<>();
+        this.context = Objects.requireNonNull(context, "The context is null");
+        Set<InstancePath> changed = new HashSet<>();
+        Set<InstancePath> changedParents = new HashSet<>();
+        for (JsonPointer changedPath : changedPaths) {
+            InstancePath path = InstancePath.of(changedPath);
+            changed.add(path);
+            for(InstancePath parent = path.parent(); parent != null; parent = parent.parent()) {
+                changedParents.add(parent);
+            }
+        }
+        collectReusable(previousResult, changed, changedParents);
+    }
+
+    private IncrementalValidationContext(Map<ResultKey, IValidationResult> reusable, IValidationContext context) {
+        this.reusable = reusable;
+        this.context = context;
+    }
+
+    /**
+     * Resolves the locations changed by RFC 6902 JSON Patch
+     * @param patch array of patch operations
+     * @param patchedDocument document after patch application
+     * @return changed locations
+     * @throws IllegalArgumentException if {@code patch} is not valid JSON Patch
+     */
+    public static List<JsonPointer> resolveChangedPaths(JsonNode patch, JsonNode patchedDocument) {
+        if(!patch.isArray()) {
+            throw new IllegalArgumentException("The JSON Patch must be an array of operations");
+        }
+        List<JsonPointer> result = new ArrayList<>();
+        for (JsonNode operation : patch) {
+            String op = operation.path("op").asText();
+            switch (op) {
+                case "add", "remove", "copy" -> result.add(changedByStructural(patchPath(operation, "path"), patchedDocument));
+                case "replace" -> result.add(patchPath(operation, "path"));
+                case "move" -> {
+                    result.add(changedByStructural(patchPath(operation, "from"), patchedDocument));
+                    result.add(changedByStructural(patchPath(operation, "path"), patchedDocument));
+                }
+                case "test" -> {}
+                default -> throw new IllegalArgumentException("Unknown JSON Patch operation: " + operation);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public IValidationContext recreate(InstancePath pointer) {
+        return new IncrementalValidationContext(reusable, context.recreate(pointer));
+    }
+
+    @Override
+    public @Nullable IValidationResult optReusableResult(Object origin, InstancePath instancePath) {
+        if(reusable.isEmpty()) {
+            return null;
+        }
+        return reusable.get(new ResultKey(origin, instancePath));
+    }
+
+    @Override
+    public @Nullable IValidationMetrics getMetrics() {
+        return context.getMetrics();
+    }
+
+    @Override
+    public IValidationContext enterRef() {
+        return new IncrementalValidationContext(reusable, context.enterRef());
+    }
+
+    @Override
+    public int getRefDepth() {
+        return context.getRefDepth();
+    }
+
+    @Override
+    public @Nullable ValidationFrame getFrame() {
+        return context.getFrame();
+    }
+
+    @Override
+    public IValidationContext withFrame(ValidationFrame frame) {
+        return new IncrementalValidationContext(reusable, context.withFrame(frame));
+    }
+
+    @Override
+    public @Nullable ValidationBudget getBudget() {
+        return context.getBudget();
+    }
+
+    private void collectReusable(IValidationResult result, Set<InstancePath> changed, Set<InstancePath> changedParents) {
+        if(result instanceof SchemaResultContainer container && !isAffected(container.getId().getInstancePath(), changed, changedParents)) {
+            reusable.putIfAbsent(new ResultKey(container.getOrigin(), container.getId().getInstancePath()), container);
+        }
+        if(result instanceof IValidationResultContainer container) {
+            container.getNestedResults().forEach(nested -> collectReusable(nested, changed, changedParents));
+        }
+    }
+
+    private static boolean isAffected(InstancePath path, Set<InstancePath> changed, Set<InstancePath> changedParents) {
+        if(changedParents.contains(path)) {
+            return true;
+        }
+        for(InstancePath current = path; current != null; current = current.parent()) {
+            if(changed.contains(current)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static JsonPointer patchPath(JsonNode operation, String field) {
+        JsonNode value = operation.get(field);
+        if(value == null || !value.isTextual()) {
+            throw new IllegalArgumentException("The JSON Patch operation must contains string field " + field + ": " + operation);
+        }
+        return JsonPointer.compile(value.textValue());
+    }
+
+    /**
+     * Inserting or removing of array item shifts all following items, so the whole array is changed
+     */
+    private static JsonPointer changedByStructural(JsonPointer path, JsonNode document) {
+        JsonPointer parent = path.head();
+        if(parent != null && document.at(parent).isArray()) {
+            return parent;
+        }
+        return path;
+    }
+
+    private record ResultKey(Object origin, InstancePath instancePath) {
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof ResultKey other
+                    && origin == other.origin
+                    && instancePath.equals(other.instancePath);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(origin) + instancePath.hashCode();
+        }
+    }
+}
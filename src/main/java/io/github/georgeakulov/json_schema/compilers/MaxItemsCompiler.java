@@ -28,8 +28,9 @@ public class MaxItemsCompiler extends BaseIntegerCompiler {
     protected IValidator compile(int maxItems, CompileContext compileContext, ISchemaLocator schemaLocation) {
         checkIt(maxItems >= 0, schemaLocation,
                 "The {0} keyword value must be non-negative. Actual: {1}", getKeyword(), maxItems);
+        var schemaId = ValidationResultFactory.createSchemaId(schemaLocation);
         return (instance, instancePtr,context) -> {
-            var id = ValidationResultFactory.createId(schemaLocation, instancePtr);
+            var id = ValidationResultFactory.createId(schemaId, instancePtr);
 
             if(instance.isArray() && instance.size() > maxItems) {
                 return ValidationError.create(id, EErrorType.MAX_ITEMS, getKeyword(), maxItems, instance.size())
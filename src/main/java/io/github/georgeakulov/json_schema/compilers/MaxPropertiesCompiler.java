@@ -34,9 +34,10 @@ public class MaxPropertiesCompiler extends BaseIntegerCompiler {
         checkIt(maxProperties >= 0, schemaLocation,
                 "The value of {0} keyword must be non negative integer. Actual: {1}", getKeyword(), maxProperties);
 
+        var schemaId = ValidationResultFactory.createSchemaId(schemaLocation);
         return (instance, instancePtr, context) -> {
 
-            var id = ValidationResultFactory.createId(schemaLocation, instancePtr);
+            var id = ValidationResultFactory.createId(schemaId, instancePtr);
             if(instance.isObject() && instance.size() > maxProperties) {
                 return ValidationError.create(
                         id, EErrorType.MAX_PROPERTIES, maxProperties, instance.size()
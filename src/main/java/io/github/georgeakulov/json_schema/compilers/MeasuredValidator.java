@@ -0,0 +1,145 @@
+package io.github.georgeakulov.json_schema.compilers;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.github.georgeakulov.json_schema.IValidationMetrics;
+import io.github.georgeakulov.json_schema.compilers.IObjectKeywordValidator.IFieldsVisitor;
+import io.github.georgeakulov.json_schema.results.IValidationResult;
+import io.github.georgeakulov.json_schema.results.IValidationResult.ISchemaLocator;
+import io.github.georgeakulov.json_schema.results.InstancePath;
+import org.jspecify.annotations.Nullable;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Measures the duration of the schema or keyword validation, if the validation is sampled
+ */
+class MeasuredValidator implements IValidator {
+
+    private final ISchemaLocator schemaId;
+    private final @Nullable String keyword;
+    private final IValidator validator;
+    private final String location;
+
+    /**
+     * @param keyword the measured keyword or null for the whole schema object
+     */
+    MeasuredValidator(ISchemaLocator schemaId, @Nullable String keyword, IValidator validator) {
+        this.schemaId = schemaId;
+        this.keyword = keyword;
+        this.validator = validator;
+        this.location = keyword == null ? "" : location(schemaId, keyword);
+    }
+
+    /**
+     * @return the measured keyword fused by {@link ObjectKeywordsTransformer}, the field visits and
+     * the keyword result are measured as one keyword validation
+     */
+    static IObjectKeywordValidator fields(ISchemaLocator schemaId, String keyword, IObjectKeywordValidator validator) {
+        return new MeasuredObjectKeywordValidator(schemaId, keyword, validator);
+    }
+
+    @Override
+    public Publisher<IValidationResult> validate(JsonNode instance, InstancePath instancePtr, IValidationContext context) {
+        IValidationMetrics metrics = context.getMetrics();
+        if(metrics == null) {
+            return validator.validate(instance, instancePtr, context);
+        }
+        ValidationFrame parent = context.getFrame();
+        ValidationFrame frame = createFrame(metrics, parent);
+        var recorded = new AtomicBoolean();
+        long start = System.nanoTime();
+        Runnable record = () -> {
+            if(recorded.compareAndSet(false, true)) {
+                record(metrics, parent, frame, System.nanoTime() - start);
+            }
+        };
+        // Is recorded before the result is passed to the parent, so the parent sees the nested time
+        return Flux.from(validator.validate(instance, instancePtr, frame == null ? context : context.withFrame(frame)))
+                .doOnTerminate(record)
+                .doOnCancel(record);
+    }
+
+    final @Nullable ValidationFrame createFrame(IValidationMetrics metrics, @Nullable ValidationFrame parent) {
+        // Only keywords are profiled, the pointer of the schema object is the same as of the keyword containing it
+        return keyword != null && metrics.isProfiling() ? new ValidationFrame(parent, location) : null;
+    }
+
+    final void record(IValidationMetrics metrics, @Nullable ValidationFrame parent, @Nullable ValidationFrame frame, long nanos) {
+        if(keyword == null) {
+            metrics.recordSchema(schemaId, nanos);
+        }
+        else {
+            metrics.recordKeyword(schemaId, keyword, nanos);
+        }
+        if(frame != null) {
+            if(parent != null) {
+                parent.addNestedNanos(nanos);
+            }
+            metrics.recordFrame(location, frame.getStack(), nanos, Math.max(0, nanos - frame.getNestedNanos()));
+        }
+    }
+
+    private static String location(ISchemaLocator schemaId, String keyword) {
+        var sb = new StringBuilder();
+        if(schemaId.getId() != null) {
+            sb.append(schemaId.getId());
+        }
+        else if(schemaId.getOriginUri() != null) {
+            sb.append(schemaId.getOriginUri());
+        }
+        return sb.append('#').append(schemaId.getSchemaRef())
+                .append('/').append(keyword.replace("~", "~0").replace("/", "~1"))
+                .toString();
+    }
+
+    private static final class MeasuredObjectKeywordValidator extends MeasuredValidator implements IObjectKeywordValidator {
+
+        private final IObjectKeywordValidator validator;
+
+        private MeasuredObjectKeywordValidator(ISchemaLocator schemaId, String keyword, IObjectKeywordValidator validator) {
+            super(schemaId, keyword, validator);
+            this.validator = validator;
+        }
+
+        @Override
+        public IFieldsVisitor visitObject(JsonNode instance, InstancePath instancePtr, IValidationContext context) {
+            IValidationMetrics metrics = context.getMetrics();
+            if(metrics == null) {
+                return validator.visitObject(instance, instancePtr, context);
+            }
+            ValidationFrame parent = context.getFrame();
+            ValidationFrame frame = createFrame(metrics, parent);
+            long start = System.nanoTime();
+            IFieldsVisitor visitor = validator.visitObject(instance, instancePtr, frame == null ? context : context.withFrame(frame));
+            long[] visitNanos = {System.nanoTime() - start};
+            return new IFieldsVisitor() {
+                @Override
+                public boolean visitField(String name, JsonNode value) {
+                    long fieldStart = System.nanoTime();
+                    try {
+                        return visitor.visitField(name, value);
+                    }
+                    finally {
+                        visitNanos[0] += System.nanoTime() - fieldStart;
+                    }
+                }
+
+                @Override
+                public Publisher<IValidationResult> finish() {
+                    var recorded = new AtomicBoolean();
+                    long finishStart = System.nanoTime();
+                    Runnable record = () -> {
+                        if(recorded.compareAndSet(false, true)) {
+                            record(metrics, parent, frame, visitNanos[0] + System.nanoTime() - finishStart);
+                        }
+                    };
+                    return Flux.from(visitor.finish())
+                            .doOnTerminate(record)
+                            .doOnCancel(record);
+                }
+            };
+        }
+    }
+}
@@ -31,9 +31,10 @@ public class MinItemsCompiler extends BaseIntegerCompiler {
     @Override
     protected IValidator compile(int minItems, CompileContext compileContext, ISchemaLocator schemaLocation) {
         checkIt(minItems >= 0, schemaLocation, "The {0} keyword value must be non-negative. Actual: {1}", getKeyword(), minItems);
+        var schemaId = ValidationResultFactory.createSchemaId(schemaLocation);
         return (node, instancePtr, context) -> {
 
-            var id = ValidationResultFactory.createId(schemaLocation, instancePtr);
+            var id = ValidationResultFactory.createId(schemaId, instancePtr);
 
             if(node.isArray() && node.size() < minItems) {
                 return ValidationError.create(id, EErrorType.MIN_ITEMS, minItems, node.size())
@@ -34,9 +34,10 @@ public class MinPropertiesCompiler extends BaseIntegerCompiler {
         checkIt(minProperties >= 0, schemaLocation,
                 "The {0} keyword value must be non negative integer. Actual: {1}", getKeyword(), minProperties);
 
+        var schemaId = ValidationResultFactory.createSchemaId(schemaLocation);
         return (instance, instancePtr, context) -> {
 
-            var id = ValidationResultFactory.createId(schemaLocation, instancePtr);
+            var id = ValidationResultFactory.createId(schemaId, instancePtr);
 
             if(instance.isObject() && instance.size() < minProperties) {
                 return ValidationError.create(id, EErrorType.MIN_PROPERTIES, minProperties, instance.size())
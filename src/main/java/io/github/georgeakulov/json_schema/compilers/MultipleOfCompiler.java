@@ -36,9 +36,10 @@ public class MultipleOfCompiler implements INamedCompiler {
         BigDecimal schemaValue = schemaNode.decimalValue();
         checkIt(schemaNode.decimalValue().compareTo(BigDecimal.ZERO) > 0, schemaLocator,
                 "The {0} keyword value must be a positive number", getKeyword());
+        var schemaId = ValidationResultFactory.createSchemaId(schemaLocator);
         return (node, instancePtr, context) -> {
 
-            var id = ValidationResultFactory.createId(schemaLocator, instancePtr);
+            var id = ValidationResultFactory.createId(schemaId, instancePtr);
 
             if(node.decimalValue().divideAndRemainder(schemaValue)[1].abs().compareTo(BigDecimal.ZERO) > 0) {
                 return ValidationError.create(id, EErrorType.MULTIPLE_OF, node, schemaNode)
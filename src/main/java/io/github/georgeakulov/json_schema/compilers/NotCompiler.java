@@ -33,12 +33,13 @@ public class NotCompiler implements INamedCompiler {
     @Override
     public @Nullable IValidator compile(JsonNode schemaNode, CompileContext compileContext, IValidationResult.ISchemaLocator schemaLocator) {
         IValidator validator = compileContext.compile(schemaNode, schemaLocator);
+        var schemaId = ValidationResultFactory.createSchemaId(schemaLocator);
         return (instance, instancePtr, context) ->
             Flux.defer(() -> validator.validate(instance, instancePtr, context))
                     .filter(result -> !result.isOk())
                     .collectList()
                     .map(invalidResults -> {
-                        var id = ValidationResultFactory.createId(schemaLocator, instancePtr);
+                        var id = ValidationResultFactory.createId(schemaId, instancePtr);
 
                         if(invalidResults.isEmpty()) {
                             return ValidationError.create(id, NOT);
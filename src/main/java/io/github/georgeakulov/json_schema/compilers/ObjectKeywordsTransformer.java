@@ -0,0 +1,226 @@
+package io.github.georgeakulov.json_schema.compilers;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.github.georgeakulov.json_schema.compilers.ICompiler.ICompileAction;
+import io.github.georgeakulov.json_schema.compilers.ICompiler.IValidatorAction;
+import io.github.georgeakulov.json_schema.compilers.IObjectKeywordValidator.ContainerVisitor;
+import io.github.georgeakulov.json_schema.compilers.IObjectKeywordValidator.IFieldsVisitor;
+import io.github.georgeakulov.json_schema.results.IValidationResult;
+import io.github.georgeakulov.json_schema.results.IValidationResult.ISchemaLocator;
+import io.github.georgeakulov.json_schema.results.IValidationResult.IValidationId;
+import io.github.georgeakulov.json_schema.results.InstancePath;
+import io.github.georgeakulov.json_schema.results.ValidationResultFactory;
+import org.jspecify.annotations.Nullable;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Fuse the object keywords of the schema into one validator, which walks the fields of the object instance once
+ * and dispatches every field to all interested keywords. Each keyword still produces its own result.<br/>
+ * The additionalProperties keyword is fused only with properties and patternProperties,
+ * because the fields evaluated by them are known during the same walk.<br/>
+ * The unevaluatedProperties keyword isn`t fused: the fields evaluated by the in-place applicators
+ * ({@code allOf}, {@code $ref}, {@code if} etc.) are known only after their results, so it walks the fields itself.
+ */
+public class ObjectKeywordsTransformer implements IValidatorsTransformer {
+
+    private static final String ADDITIONAL_PROPERTIES = "additionalProperties";
+
+    // Keywords which evaluate fields in terms of additionalProperties
+    private static final List<String> EVALUATING_KEYWORDS = List.of("properties", "patternProperties");
+
+    // The key of the fused validator is the first fused keyword in order: evaluating, additionalProperties, others.
+    // So the keywords producing annotations go first and unevaluatedProperties still finds the fused validator
+    private static final List<String> OTHER_KEYWORDS = List.of("dependentSchemas", "propertyNames", "required", "dependentRequired");
+
+    // Must be transformed before additionalProperties
+    @Override
+    public int getOrder() {
+        return -1;
+    }
+
+    @Override
+    public void transform(Map<String, IValidatorAction> validators, CompileContext compileContext, ISchemaLocator locator) {
+
+        List<String> evaluating = EVALUATING_KEYWORDS.stream()
+                .filter(validators::containsKey)
+                .toList();
+        boolean evaluatingFusible = evaluating.stream().allMatch(keyword -> isFusible(validators.get(keyword)));
+
+        List<String> fused = new ArrayList<>();
+        if(evaluatingFusible) {
+            fused.addAll(evaluating);
+        }
+        IValidatorAction additional = evaluatingFusible ? validators.get(ADDITIONAL_PROPERTIES) : null;
+        OTHER_KEYWORDS.stream()
+                .filter(keyword -> isFusible(validators.get(keyword)))
+                .forEach(fused::add);
+
+        if(fused.size() + (additional == null ? 0 : 1) < 2) {
+            return;
+        }
+
+        String key = additional != null && (fused.isEmpty() || !evaluating.contains(fused.getFirst()))
+                ? ADDITIONAL_PROPERTIES
+                : fused.getFirst();
+        ICompileAction compileAction = validators.get(key).compileAction();
+        // The fused validator isn`t measured as the whole, each keyword is measured by itself
+        boolean measured = compileContext.getConfig().isMetricsEnabled();
+        var schemaId = ValidationResultFactory.createSchemaId(locator);
+        Function<String, IObjectKeywordValidator> fieldsValidator = keyword -> {
+            var validator = keyword.equals(ADDITIONAL_PROPERTIES)
+                    ? new AdditionalPropertiesValidator(additional)
+                    : (IObjectKeywordValidator) validators.get(keyword).validator();
+            return measured ? MeasuredValidator.fields(schemaId, keyword, validator) : validator;
+        };
+        var objectValidator = new ObjectKeywordsValidator(
+                compileAction,
+                fused.stream()
+                        .filter(evaluating::contains)
+                        .map(fieldsValidator)
+                        .toList(),
+                additional == null ? null : fieldsValidator.apply(ADDITIONAL_PROPERTIES),
+                fused.stream()
+                        .filter(keyword -> !evaluating.contains(keyword))
+                        .map(fieldsValidator)
+                        .toList()
+        );
+        Stream.concat(fused.stream(), Stream.of(ADDITIONAL_PROPERTIES))
+                .filter(keyword -> additional != null || !ADDITIONAL_PROPERTIES.equals(keyword))
+                .forEach(validators::remove);
+        validators.put(key, objectValidator);
+    }
+
+    /**
+     * @return true if the action is the fused validator, which already applies additionalProperties
+     */
+    static boolean isFused(IValidatorAction action) {
+        return action instanceof ObjectKeywordsValidator;
+    }
+
+    private static boolean isFusible(@Nullable IValidatorAction action) {
+        return action != null && action.validator() instanceof IObjectKeywordValidator;
+    }
+
+    private record ObjectKeywordsValidator(
+            ICompileAction compileAction,
+            List<IObjectKeywordValidator> evaluating,
+            @Nullable IObjectKeywordValidator additional,
+            List<IObjectKeywordValidator> others) implements IValidatorAction, IValidator {
+
+        @Override
+        public IValidator validator() {
+            return this;
+        }
+
+        @Override
+        public Publisher<IValidationResult> validate(JsonNode instance, InstancePath instancePtr, IValidationContext context) {
+
+            if(!instance.isObject()) {
+                var results = Flux.fromStream(Stream.concat(evaluating.stream(), others.stream()))
+                        .flatMap(validator -> validator.validate(instance, instancePtr, context));
+                if(additional != null) {
+                    results = results.concatWith(additional.validate(instance, instancePtr, context));
+                }
+                return results;
+            }
+
+            var evaluatingVisitors = new IFieldsVisitor[evaluating.size()];
+            for (int i = 0; i < evaluatingVisitors.length; i++) {
+                evaluatingVisitors[i] = evaluating.get(i).visitObject(instance, instancePtr, context);
+            }
+            var otherVisitors = new IFieldsVisitor[others.size()];
+            for (int i = 0; i < otherVisitors.length; i++) {
+                otherVisitors[i] = others.get(i).visitObject(instance, instancePtr, context);
+            }
+            var additionalVisitor = additional == null ? null : additional.visitObject(instance, instancePtr, context);
+
+            for (Map.Entry<String, JsonNode> entry : instance.properties()) {
+                String name = entry.getKey();
+                JsonNode value = entry.getValue();
+                boolean evaluated = false;
+                for (IFieldsVisitor visitor : evaluatingVisitors) {
+                    evaluated |= visitor.visitField(name, value);
+                }
+                if(!evaluated && additionalVisitor != null) {
+                    additionalVisitor.visitField(name, value);
+                }
+                for (IFieldsVisitor visitor : otherVisitors) {
+                    visitor.visitField(name, value);
+                }
+            }
+
+            List<Publisher<IValidationResult>> results = new ArrayList<>(evaluatingVisitors.length + otherVisitors.length + 1);
+            for (IFieldsVisitor visitor : evaluatingVisitors) {
+                results.add(visitor.finish());
+            }
+            if(additionalVisitor != null) {
+                results.add(additionalVisitor.finish());
+            }
+            for (IFieldsVisitor visitor : otherVisitors) {
+                results.add(visitor.finish());
+            }
+            return Flux.merge(results);
+        }
+    }
+
+    /**
+     * The additionalProperties keyword applied to the fields not evaluated by the fused keywords
+     */
+    private record AdditionalPropertiesValidator(IValidatorAction additional) implements IObjectKeywordValidator {
+
+        @Override
+        public IFieldsVisitor visitObject(JsonNode instance, InstancePath instancePtr, IValidationContext context) {
+            return new AdditionalFieldsVisitor(additional, instancePtr, context);
+        }
+
+        /**
+         * Called only for the non object instance
+         */
+        @Override
+        public Publisher<IValidationResult> validate(JsonNode instance, InstancePath instancePtr, IValidationContext context) {
+            return ValidationResultFactory.createOk(additional.compileAction().createId(instancePtr)).publish();
+        }
+    }
+
+    private static class AdditionalFieldsVisitor extends ContainerVisitor {
+
+        private final IValidator additional;
+        private final ISchemaLocator schemaId;
+        private final InstancePath instancePtr;
+        private final IValidationContext context;
+
+        AdditionalFieldsVisitor(IValidatorAction additional, InstancePath instancePtr, IValidationContext context) {
+            this(additional.validator(), additional.compileAction().createId(instancePtr), instancePtr, context);
+        }
+
+        private AdditionalFieldsVisitor(IValidator additional, IValidationId id, InstancePath instancePtr, IValidationContext context) {
+            super(id);
+            this.additional = additional;
+            this.schemaId = id.getSchemaLocator();
+            this.instancePtr = instancePtr;
+            this.context = context;
+        }
+
+        @Override
+        public boolean visitField(String name, JsonNode value) {
+            InstancePath fieldPtr = instancePtr.appendProperty(name);
+            add(Mono.from(additional.validate(value, fieldPtr, context))
+                    .map(validationResult -> {
+                        // Analyse field checking results
+                        if(validationResult.isOk()) {
+                            return ValidationResultFactory.createAnnotation(schemaId, fieldPtr);
+                        }
+                        return validationResult;
+                    }));
+            return true;
+        }
+    }
+}
@@ -33,6 +33,7 @@ public class OneOfCompiler extends BaseSomeOfCompiler {
     @Override
     public @Nullable IValidator compile(JsonNode schemaNode, CompileContext compileContext, IValidationResult.ISchemaLocator schemaLocator) {
         List<IValidator> validators = prepareValidators(schemaNode, schemaLocator, compileContext);
+        var schemaId = ValidationResultFactory.createSchemaId(schemaLocator);
         return (instance, instancePtr, context) ->
             Flux.fromIterable(validators)
                     .flatMap(validator -> validator.validate(instance, instancePtr, context))
@@ -40,7 +41,7 @@ public class OneOfCompiler extends BaseSomeOfCompiler {
                     .subscribeOn(compileContext.getConfig().getScheduler())
                     .collectList()
                     .map(list -> {
-                        var id = ValidationResultFactory.createId(schemaLocator, instancePtr);
+                        var id = ValidationResultFactory.createId(schemaId, instancePtr);
                         if(list.isEmpty()) {
                             return ValidationError.create(id, EErrorType.ONE_OF_EMPTY);
                         }
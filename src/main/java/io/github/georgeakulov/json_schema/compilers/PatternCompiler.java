@@ -34,11 +34,12 @@ public class PatternCompiler implements INamedCompiler {
         checkIt(schemaNode.isTextual(), schemaLocator,
                 "The {0} keyword value must be a string", getKeyword());
         String patternStr = schemaNode.asText();
-        Predicate<String> patternPredicate = compileContext.getConfig().getRegexpFactory().compile(patternStr);
+        Predicate<String> patternPredicate = compileContext.compileRegex(patternStr);
 
+        var schemaId = ValidationResultFactory.createSchemaId(schemaLocator);
         return (node, instancePtr, context) -> {
 
-            var id = ValidationResultFactory.createId(schemaLocator, instancePtr);
+            var id = ValidationResultFactory.createId(schemaId, instancePtr);
 
             if(node.isTextual() && !patternPredicate.test(node.asText())) {
                 return ValidationError.create(id, EErrorType.PATTERN, node.asText(), patternStr)
@@ -38,7 +38,7 @@ public class PatternPropertiesCompiler extends BasePropertiesCompiler implements
                 .forEach(property ->
                     patternPropertiesTask.addValidator(
                             property.getKey(),
-                            compileContext.getConfig().getRegexpFactory().compile(property.getKey()),
+                            compileContext.compileRegex(property.getKey()),
                             compileContext.compile(property.getValue(), schemaLocator.appendProperty(property.getKey()))
                     )
                 );
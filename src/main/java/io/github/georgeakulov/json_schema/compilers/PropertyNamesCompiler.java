@@ -6,7 +6,8 @@ import com.fasterxml.jackson.databind.node.TextNode;
 import io.github.georgeakulov.json_schema.dialects.Defaults;
 import io.github.georgeakulov.json_schema.results.IValidationResult;
 import io.github.georgeakulov.json_schema.results.ValidationResultFactory;
-import reactor.core.publisher.Flux;
+import io.github.georgeakulov.json_schema.results.InstancePath;
+import org.reactivestreams.Publisher;
 
 import java.net.URI;
 import java.util.stream.Stream;
@@ -32,23 +33,29 @@ public class PropertyNamesCompiler implements INamedCompiler{
 
         IValidator valueValidator = compileContext.compile(schemaNode, schemaLocator);
 
-        return (instance, instancePtr,context) -> {
+        return new PropertyNamesValidator(ValidationResultFactory.createSchemaId(schemaLocator), valueValidator);
+    }
 
-            var id = ValidationResultFactory.createId(schemaLocator, instancePtr);
+    private record PropertyNamesValidator(IValidationResult.ISchemaLocator schemaId, IValidator valueValidator) implements IObjectKeywordValidator {
 
+        @Override
+        public Publisher<IValidationResult> validate(JsonNode instance, InstancePath instancePtr, IValidationContext context) {
             if(instance.isObject()) {
-                return Flux.fromStream(instance.propertyStream())
-                        .parallel()
-                        .flatMap(entry -> valueValidator.validate(TextNode.valueOf(entry.getKey()), instancePtr.appendProperty(entry.getKey()), context))
-                        .sequential()
-                        .reduce(
-                                ValidationResultFactory.createContainer(id),
-                                ValidationResultFactory.ValidationResultContainer::append
-                        )
-                        .map(val -> val);
+                return IObjectKeywordValidator.visitFields(visitObject(instance, instancePtr, context), instance);
             }
-            return ValidationResultFactory.createOk(id).publish();
-        };
+            return ValidationResultFactory.createOk(schemaId, instancePtr).publish();
+        }
+
+        @Override
+        public IFieldsVisitor visitObject(JsonNode instance, InstancePath instancePtr, IValidationContext context) {
+            return new ContainerVisitor(ValidationResultFactory.createId(schemaId, instancePtr)) {
+                @Override
+                public boolean visitField(String name, JsonNode value) {
+                    add(valueValidator.validate(TextNode.valueOf(name), instancePtr.appendProperty(name), context));
+                    return false;
+                }
+            };
+        }
     }
 
     @Override
@@ -0,0 +1,103 @@
+package io.github.georgeakulov.json_schema.compilers;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.*;
+
+/**
+ * Compiled set of property names used by object keywords (required, dependentRequired, dependencies).<br/>
+ * Each name owns a bit slot, so presence of all names is collected in one pass over the instance
+ * fields and checked by masks. Names of the missing properties are materialized only on error.
+ */
+final class PropertySlots {
+
+    private final Map<String, Integer> slots = new HashMap<>();
+    private final List<String> names = new ArrayList<>();
+
+    int slot(String name) {
+        return slots.computeIfAbsent(name, key -> {
+            names.add(key);
+            return names.size() - 1;
+        });
+    }
+
+    Mask mask(Collection<String> maskNames) {
+        long[] bits = new long[words()];
+        for (String name : maskNames) {
+            int slot = slot(name);
+            if(slot / 64 >= bits.length) {
+                bits = Arrays.copyOf(bits, slot / 64 + 1);
+            }
+            bits[slot / 64] |= 1L << slot;
+        }
+        return new Mask(bits);
+    }
+
+    /**
+     * @param object object instance
+     * @return bits of slots for the names present in the object
+     */
+    long[] collect(JsonNode object) {
+        long[] present = empty();
+        for (Iterator<String> it = object.fieldNames(); it.hasNext(); ) {
+            mark(present, it.next());
+        }
+        return present;
+    }
+
+    /**
+     * @return bits with no slot set, to be filled by {@link #mark(long[], String)}
+     */
+    long[] empty() {
+        return new long[words()];
+    }
+
+    /**
+     * Set the slot of the name if the name is known
+     */
+    void mark(long[] present, String name) {
+        Integer slot = slots.get(name);
+        if(slot != null) {
+            present[slot / 64] |= 1L << slot;
+        }
+    }
+
+    static boolean isSet(long[] present, int slot) {
+        return (present[slot / 64] & (1L << slot)) != 0;
+    }
+
+    private int words() {
+        return (names.size() + 63) / 64;
+    }
+
+    final class Mask {
+
+        private final long[] bits;
+
+        private Mask(long[] bits) {
+            this.bits = bits;
+        }
+
+        boolean isSatisfied(long[] present) {
+            for (int i = 0; i < bits.length; i++) {
+                if((present[i] & bits[i]) != bits[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        List<String> missing(long[] present) {
+            List<String> result = new ArrayList<>();
+            for (int i = 0; i < bits.length; i++) {
+                long absent = bits[i] & ~present[i];
+                while(absent != 0) {
+                    int bit = Long.numberOfTrailingZeros(absent);
+                    result.add(names.get(i * 64 + bit));
+                    absent &= absent - 1;
+                }
+            }
+            return result;
+        }
+    }
+}
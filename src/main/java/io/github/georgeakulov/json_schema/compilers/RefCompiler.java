@@ -43,7 +43,17 @@ public class RefCompiler implements INamedCompiler {
                 "The {0} keyword resolution result is invalid. Reference not exists in resolve result {1}",
                 getKeyword(), result);
 
-        return  compileContext.compile(navigatedToPtr, locator);
+        IValidator validator = compileContext.compile(navigatedToPtr, locator);
+        if(!compileContext.getConfig().isMetricsEnabled()) {
+            return validator;
+        }
+        return (instance, instancePtr, context) -> {
+            IValidationContext refContext = context.enterRef();
+            if(refContext.getMetrics() != null) {
+                refContext.getMetrics().recordRefDepth(refContext.getRefDepth());
+            }
+            return validator.validate(instance, instancePtr, refContext);
+        };
     }
 
     @Override
@@ -3,10 +3,13 @@ package io.github.georgeakulov.json_schema.compilers;
 import com.fasterxml.jackson.databind.JsonNode;
 import io.github.georgeakulov.json_schema.dialects.Defaults;
 import io.github.georgeakulov.json_schema.results.EErrorType;
+import io.github.georgeakulov.json_schema.results.IValidationResult;
 import io.github.georgeakulov.json_schema.results.IValidationResult.ISchemaLocator;
+import io.github.georgeakulov.json_schema.results.InstancePath;
 import io.github.georgeakulov.json_schema.results.ValidationError;
 import io.github.georgeakulov.json_schema.results.ValidationResultFactory;
 import org.jspecify.annotations.Nullable;
+import org.reactivestreams.Publisher;
 
 import java.net.URI;
 import java.util.stream.Collectors;
@@ -43,20 +46,45 @@ public class RequiredCompiler implements INamedCompiler {
         if(namesSet.isEmpty()) {
             return null;
         }
-        return (instance, instancePtr, context) -> {
+        var slots = new PropertySlots();
+        var requiredMask = slots.mask(schemaNode.valueStream().map(JsonNode::asText).toList());
+        return new RequiredValidator(ValidationResultFactory.createSchemaId(schemaLocator), slots, requiredMask);
+    }
 
-            var id = ValidationResultFactory.createId(schemaLocator, instancePtr);
+    private record RequiredValidator(ISchemaLocator schemaId, PropertySlots slots, PropertySlots.Mask requiredMask) implements IObjectKeywordValidator {
 
+        @Override
+        public Publisher<IValidationResult> validate(JsonNode instance, InstancePath instancePtr, IValidationContext context) {
             if(instance.isObject()) {
-                var missingProperties = namesSet.stream().filter(name -> !instance.has(name))
-                        .toList();
-                if(!missingProperties.isEmpty()) {
-                    return ValidationError.create(id, EErrorType.REQUIRED, String.join(",", missingProperties))
-                            .publish();
-                }
+                return check(slots.collect(instance), instancePtr);
             }
+            return ValidationResultFactory.createOk(schemaId, instancePtr).publish();
+        }
+
+        @Override
+        public IFieldsVisitor visitObject(JsonNode instance, InstancePath instancePtr, IValidationContext context) {
+            long[] present = slots.empty();
+            return new IFieldsVisitor() {
+                @Override
+                public boolean visitField(String name, JsonNode value) {
+                    slots.mark(present, name);
+                    return false;
+                }
 
+                @Override
+                public Publisher<IValidationResult> finish() {
+                    return check(present, instancePtr);
+                }
+            };
+        }
+
+        private Publisher<IValidationResult> check(long[] present, InstancePath instancePtr) {
+            var id = ValidationResultFactory.createId(schemaId, instancePtr);
+            if(!requiredMask.isSatisfied(present)) {
+                return ValidationError.create(id, EErrorType.REQUIRED, String.join(",", requiredMask.missing(present)))
+                        .publish();
+            }
             return ValidationResultFactory.createOk(id).publish();
-        };
+        }
     }
 }
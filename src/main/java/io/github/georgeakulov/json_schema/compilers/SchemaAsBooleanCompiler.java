@@ -16,8 +16,9 @@ public class SchemaAsBooleanCompiler implements ICompiler {
     @Override
     public IValidator compile(JsonNode schemaNode, CompileContext compileContext, ISchemaLocator schemaLocator) {
         checkIt(schemaNode.isBoolean(), schemaLocator, "Illegal value node. Expected boolean, actual {0}", schemaNode.getNodeType());
+        var schemaId = ValidationResultFactory.createSchemaId(schemaLocator);
         return (instance, instancePtr, context) -> {
-            var id = ValidationResultFactory.createId(schemaLocator, instancePtr);
+            var id = ValidationResultFactory.createId(schemaId, instancePtr);
             if(schemaNode.booleanValue()) {
                 return ValidationResultFactory.createOk(id).publish();
             }
@@ -1,17 +1,79 @@
 package io.github.georgeakulov.json_schema.compilers;
 
-import com.fasterxml.jackson.core.JsonPointer;
+import io.github.georgeakulov.json_schema.IValidationMetrics;
+import io.github.georgeakulov.json_schema.results.InstancePath;
+import org.jspecify.annotations.Nullable;
 
 public class SimpleValidationContext implements IValidationContext {
 
+    private final @Nullable IValidationMetrics metrics;
+    private final int refDepth;
+    private final @Nullable ValidationFrame frame;
+    private final @Nullable ValidationBudget budget;
+
     public SimpleValidationContext() {
+        this(null, null);
+    }
+
+    /**
+     * @param metrics the metrics of the measured validation
+     */
+    public SimpleValidationContext(@Nullable IValidationMetrics metrics) {
+        this(metrics, null);
+    }
+
+    /**
+     * @param metrics the metrics of the measured validation
+     * @param budget the resource limits of the validation
+     */
+    public SimpleValidationContext(@Nullable IValidationMetrics metrics, @Nullable ValidationBudget budget) {
+        this(metrics, 0, null, budget);
     }
 
     public SimpleValidationContext(SimpleValidationContext simpleValidationContext) {
+        this(simpleValidationContext.metrics, simpleValidationContext.refDepth, simpleValidationContext.frame, simpleValidationContext.budget);
+    }
+
+    private SimpleValidationContext(@Nullable IValidationMetrics metrics, int refDepth, @Nullable ValidationFrame frame,
+                                    @Nullable ValidationBudget budget) {
+        this.metrics = metrics;
+        this.refDepth = refDepth;
+        this.frame = frame;
+        this.budget = budget;
     }
 
     @Override
-    public IValidationContext recreate(JsonPointer pointer) {
+    public IValidationContext recreate(InstancePath pointer) {
         return new SimpleValidationContext(this);
     }
+
+    @Override
+    public @Nullable IValidationMetrics getMetrics() {
+        return metrics;
+    }
+
+    @Override
+    public IValidationContext enterRef() {
+        return metrics == null ? this : new SimpleValidationContext(metrics, refDepth + 1, frame, budget);
+    }
+
+    @Override
+    public int getRefDepth() {
+        return refDepth;
+    }
+
+    @Override
+    public @Nullable ValidationFrame getFrame() {
+        return frame;
+    }
+
+    @Override
+    public IValidationContext withFrame(ValidationFrame frame) {
+        return new SimpleValidationContext(metrics, refDepth, frame, budget);
+    }
+
+    @Override
+    public @Nullable ValidationBudget getBudget() {
+        return budget;
+    }
 }
@@ -48,9 +48,10 @@ public class TypeCompiler implements INamedCompiler {
             validTypes.add(resolveType(schemaLocator, schemaNode.textValue(), compileContext.getConfig()));
         }
 
+        var schemaId = ValidationResultFactory.createSchemaId(schemaLocator);
         return (instance, instancePtr, context) -> {
 
-            var id = ValidationResultFactory.createId(schemaLocator, instancePtr);
+            var id = ValidationResultFactory.createId(schemaId, instancePtr);
 
             return validTypes.stream()
                     .parallel()
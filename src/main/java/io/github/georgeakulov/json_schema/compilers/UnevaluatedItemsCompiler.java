@@ -6,6 +6,7 @@ import com.fasterxml.jackson.databind.node.ArrayNode;
 import io.github.georgeakulov.json_schema.dialects.Defaults;
 import io.github.georgeakulov.json_schema.results.IValidationResult;
 import io.github.georgeakulov.json_schema.results.IValidationResult.IValidationId;
+import io.github.georgeakulov.json_schema.results.InstancePath;
 import io.github.georgeakulov.json_schema.results.ValidationResultFactory;
 import org.jspecify.annotations.Nullable;
 import org.reactivestreams.Publisher;
@@ -103,7 +104,7 @@ public class UnevaluatedItemsCompiler implements INamedCompiler, IValidatorsTran
         }
 
         @Override
-        public Publisher<IValidationResult> validate(JsonNode instance, JsonPointer instancePtr, IValidationContext context) {
+        public Publisher<IValidationResult> validate(JsonNode instance, InstancePath instancePtr, IValidationContext context) {
             var id = current.compileAction().createId(instancePtr);
             if(instance.isArray()) {
                 return Flux.fromIterable(preferred)
@@ -119,7 +120,7 @@ public class UnevaluatedItemsCompiler implements INamedCompiler, IValidatorsTran
         }
 
         private Publisher<? extends IValidationResult> validate(IValidationId id, List<IValidationResult> list,
-                                                                ArrayNode instance, JsonPointer instancePtr,
+                                                                ArrayNode instance, InstancePath instancePtr,
                                                                 IValidationContext context) {
             Set<Integer> evaluated = extractEvaluated(list, instancePtr);
 
@@ -128,7 +129,7 @@ public class UnevaluatedItemsCompiler implements INamedCompiler, IValidatorsTran
                             .boxed())
                     .parallel()
                     .flatMap(idx -> {
-                            JsonPointer itemIdxPtr = instancePtr.appendIndex(idx);
+                            InstancePath itemIdxPtr = instancePtr.appendIndex(idx);
                             return ValidationResultFactory.tryAppendAnnotation(
                                     () -> current.validator().validate(instance.get(idx), itemIdxPtr, context),
                                     ValidationResultFactory.createId(id.getSchemaLocator(), itemIdxPtr)
@@ -141,21 +142,21 @@ public class UnevaluatedItemsCompiler implements INamedCompiler, IValidatorsTran
                     );
         }
 
-        private Set<Integer> extractEvaluated(List<IValidationResult> list, JsonPointer instancePtr) {
+        private Set<Integer> extractEvaluated(List<IValidationResult> list, InstancePath instancePtr) {
             return list.stream()
                     .parallel()
                     .flatMap(IValidationResult::asStream)
                     .filter(vr -> vr.getType() == IValidationResult.Type.ANNOTATION)
                     .map(IValidationResult::getId)
                     .filter(id -> isChildOf(id, instancePtr))
-                    .map(id -> id.getInstanceRef().last().getMatchingIndex())
+                    .map(id -> id.getInstancePath().getMatchingIndex())
                     .filter(idx -> idx >= 0)
                     .collect(Collectors.toSet());
 
         }
 
-        private boolean isChildOf(IValidationResult.IValidationId id, JsonPointer pointer) {
-            return id.getInstanceRef().head().equals(pointer);
+        private boolean isChildOf(IValidationResult.IValidationId id, InstancePath pointer) {
+            return id.getInstancePath().isChildOf(pointer);
         }
     }
 }
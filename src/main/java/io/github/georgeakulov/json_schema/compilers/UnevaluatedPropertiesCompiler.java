@@ -7,6 +7,7 @@ import io.github.georgeakulov.json_schema.compilers.base.BasePropertiesCollector
 import io.github.georgeakulov.json_schema.dialects.Defaults;
 import io.github.georgeakulov.json_schema.results.IValidationResult;
 import io.github.georgeakulov.json_schema.results.IValidationResult.IValidationId;
+import io.github.georgeakulov.json_schema.results.InstancePath;
 import io.github.georgeakulov.json_schema.results.ValidationResultFactory;
 import org.jspecify.annotations.Nullable;
 import org.reactivestreams.Publisher;
@@ -101,7 +102,7 @@ public class UnevaluatedPropertiesCompiler implements INamedCompiler, IValidator
                 IValidationId id,
                 List<IValidationResult> list,
                 ObjectNode instance,
-                JsonPointer instancePtr,
+                InstancePath instancePtr,
                 IValidationContext context) {
 
             Set<String> evaluated = extractEvaluatedFields(list, instancePtr);
@@ -127,18 +128,18 @@ public class UnevaluatedPropertiesCompiler implements INamedCompiler, IValidator
                     .map(vr -> vr);
         }
 
-        private Set<String> extractEvaluatedFields(List<IValidationResult> list, JsonPointer childOf) {
+        private Set<String> extractEvaluatedFields(List<IValidationResult> list, InstancePath childOf) {
             return list.stream()
                     .flatMap(IValidationResult::asStream)
                     .filter(vr -> vr.getType() == IValidationResult.Type.ANNOTATION)
                     .map(IValidationResult::getId)
                     .filter(id -> isChildOf(id, childOf))
-                    .map(id -> id.getInstanceRef().last().getMatchingProperty())
+                    .map(id -> id.getInstancePath().getMatchingProperty())
                     .collect(Collectors.toSet());
         }
 
-        private boolean isChildOf(IValidationResult.IValidationId id, JsonPointer pointer) {
-            return id.getInstanceRef().head().equals(pointer);
+        private boolean isChildOf(IValidationResult.IValidationId id, InstancePath pointer) {
+            return id.getInstancePath().isChildOf(pointer);
         }
     }
 }
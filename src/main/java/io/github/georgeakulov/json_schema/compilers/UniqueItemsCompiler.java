@@ -36,9 +36,14 @@ public class UniqueItemsCompiler implements INamedCompiler {
         checkIt(schemaNode.isBoolean(), schemaLocator,
                 "The {0} keyword value must be the boolean", getKeyword());
         if(schemaNode.booleanValue()) {
+            var schemaId = ValidationResultFactory.createSchemaId(schemaLocator);
             return (instance, instanceLocation, context) -> {
-                var id = ValidationResultFactory.createId(schemaLocator, instanceLocation);
+                var id = ValidationResultFactory.createId(schemaId, instanceLocation);
                 if(instance.isArray()) {
+                    var budget = context.getBudget();
+                    if(budget != null) {
+                        budget.charge(schemaId, instanceLocation, instance.size());
+                    }
                     Set<JsonNode> checkedSet = new HashSet<>();
                     for(int idx = 0; idx < instance.size(); idx++) {
                         var node = instance.get(idx);
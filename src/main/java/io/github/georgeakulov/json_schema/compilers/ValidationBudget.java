@@ -0,0 +1,104 @@
+package io.github.georgeakulov.json_schema.compilers;
+
+import io.github.georgeakulov.json_schema.results.EErrorType;
+import io.github.georgeakulov.json_schema.results.IValidationResult;
+import io.github.georgeakulov.json_schema.results.IValidationResult.ISchemaLocator;
+import io.github.georgeakulov.json_schema.results.IValidationResult.IValidationId;
+import io.github.georgeakulov.json_schema.results.IValidationResult.IValidationResultError;
+import io.github.georgeakulov.json_schema.results.InstancePath;
+import io.github.georgeakulov.json_schema.results.ValidationError;
+import io.github.georgeakulov.json_schema.results.ValidationResultFactory;
+import org.jspecify.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Resources consumed by the single validation. Is checked by the schema validators, zero limit is not checked.
+ * On the exceeded limit the {@link ValidationLimitException} is thrown, it aborts the validation.
+ */
+public final class ValidationBudget {
+
+    private final int maxDepth;
+    private final long maxNodes;
+    private final long maxNanos;
+    private final long deadline;
+    private final boolean hasDeadline;
+    private final int maxEvaluatedErrors;
+    private final AtomicLong nodes = new AtomicLong();
+    private final AtomicInteger errors = new AtomicInteger();
+    private final Queue<IValidationResult> foundErrors = new ConcurrentLinkedQueue<>();
+    private @Nullable IValidationId rootId;
+
+    /**
+     * @param maxNanos max duration from now
+     */
+    public ValidationBudget(int maxDepth, long maxNodes, long maxNanos, int maxEvaluatedErrors) {
+        this.maxDepth = maxDepth;
+        this.maxNodes = maxNodes;
+        this.maxNanos = maxNanos;
+        this.hasDeadline = maxNanos > 0;
+        this.deadline = System.nanoTime() + maxNanos;
+        this.maxEvaluatedErrors = maxEvaluatedErrors;
+    }
+
+    /**
+     * Called before the evaluation of the schema against the instance value
+     */
+    void enter(ISchemaLocator schemaId, InstancePath instancePtr) {
+        if(rootId == null) {
+            // The root schema is entered first and synchronously
+            rootId = ValidationResultFactory.createId(schemaId, instancePtr);
+        }
+        if(maxDepth > 0 && instancePtr.getDepth() > maxDepth) {
+            throw exceeded(schemaId, instancePtr, "depth", maxDepth);
+        }
+        if(maxNodes > 0 && nodes.incrementAndGet() > maxNodes) {
+            throw exceeded(schemaId, instancePtr, "nodes", maxNodes);
+        }
+        if(hasDeadline && System.nanoTime() - deadline > 0) {
+            throw exceeded(schemaId, instancePtr, "time", Duration.ofNanos(maxNanos));
+        }
+    }
+
+    /**
+     * Charges the nodes by the keyword which iterates the instance values itself, e.g. {@code uniqueItems}
+     */
+    void charge(ISchemaLocator schemaId, InstancePath instancePtr, long nodesCount) {
+        if(maxNodes > 0 && nodes.addAndGet(nodesCount) > maxNodes) {
+            throw exceeded(schemaId, instancePtr, "nodes", maxNodes);
+        }
+    }
+
+    /**
+     * Called for each keyword result of the schema. The errors of the discarded branches are counted too
+     */
+    void onResult(ISchemaLocator schemaId, InstancePath instancePtr, IValidationResult result) {
+        if(maxEvaluatedErrors > 0 && result instanceof IValidationResultError) {
+            foundErrors.add(result);
+            if(errors.incrementAndGet() >= maxEvaluatedErrors) {
+                throw exceeded(schemaId, instancePtr, "evaluated errors", maxEvaluatedErrors);
+            }
+        }
+    }
+
+    /**
+     * @return the result of the aborted validation: the evaluated errors found before and the limit error
+     */
+    public IValidationResult createAbortedResult(ValidationLimitException exception) {
+        var result = ValidationResultFactory.createContainer(rootId == null ? exception.getError().getId() : rootId);
+        if(maxEvaluatedErrors > 0) {
+            foundErrors.stream().limit(maxEvaluatedErrors).forEach(result::append);
+        }
+        return result.append(exception.getError());
+    }
+
+    private static ValidationLimitException exceeded(ISchemaLocator schemaId, InstancePath instancePtr, String limit, Object value) {
+        // The value is passed as string to avoid number grouping in the message
+        var id = ValidationResultFactory.createId(schemaId, instancePtr);
+        return new ValidationLimitException(ValidationError.create(id, EErrorType.LIMIT_EXCEEDED, limit, String.valueOf(value)));
+    }
+}
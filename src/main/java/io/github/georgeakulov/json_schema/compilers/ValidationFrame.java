@@ -0,0 +1,48 @@
+package io.github.georgeakulov.json_schema.compilers;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The call of the measured validator in the profiled validation. Collects the durations of the nested
+ * measured validators to calculate the self time.
+ */
+public final class ValidationFrame {
+
+    private final @Nullable ValidationFrame parent;
+    private final String location;
+    private final LongAdder nestedNanos = new LongAdder();
+    private String stack;
+
+    ValidationFrame(@Nullable ValidationFrame parent, String location) {
+        this.parent = parent;
+        this.location = location;
+    }
+
+    public @Nullable ValidationFrame getParent() {
+        return parent;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    /**
+     * @return locations from the root to this frame separated by {@code ;}
+     */
+    public String getStack() {
+        if(stack == null) {
+            stack = parent == null ? location : parent.getStack() + ';' + location;
+        }
+        return stack;
+    }
+
+    long getNestedNanos() {
+        return nestedNanos.sum();
+    }
+
+    void addNestedNanos(long nanos) {
+        nestedNanos.add(nanos);
+    }
+}
@@ -0,0 +1,27 @@
+package io.github.georgeakulov.json_schema.compilers;
+
+import io.github.georgeakulov.json_schema.results.ValidationError;
+
+/**
+ * Aborts the validation on the exceeded {@link ValidationBudget} limit, is converted to the validation result
+ * by the schema. Has no stack trace.
+ */
+public class ValidationLimitException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    // The results aren`t serializable
+    private final transient ValidationError error;
+
+    ValidationLimitException(ValidationError error) {
+        super(error.getError(), null, false, false);
+        this.error = error;
+    }
+
+    /**
+     * @return the limit error, null if the exception is deserialized
+     */
+    public ValidationError getError() {
+        return error;
+    }
+}
@@ -3,6 +3,7 @@ package io.github.georgeakulov.json_schema.compilers;
 import io.github.georgeakulov.json_schema.dialects.Vocabulary;
 import org.jspecify.annotations.Nullable;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
@@ -35,11 +36,20 @@ public class VocabularyCompilersRegistry {
         tryAddTransformers(compilerFactory);
     }
 
+    void addTransformer(IValidatorsTransformer transformer) {
+        checkNonNull(transformer, "Transformer is null");
+        transformers.add(transformer);
+    }
+
     @Nullable
     public Function<Vocabulary, ICompiler> getCompiler(String keyword) {
         return compilers.get(keyword);
     }
 
+    public Map<String, Function<Vocabulary, ICompiler>> getCompilers() {
+        return Collections.unmodifiableMap(compilers);
+    }
+
     private void tryAddTransformers(Object mayBeTransformer) {
         if(mayBeTransformer instanceof IValidatorsTransformer) {
             transformers.add((IValidatorsTransformer) mayBeTransformer);
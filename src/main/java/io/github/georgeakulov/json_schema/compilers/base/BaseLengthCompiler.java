@@ -1,6 +1,5 @@
 package io.github.georgeakulov.json_schema.compilers.base;
 
-import com.fasterxml.jackson.core.JsonPointer;
 import com.fasterxml.jackson.databind.JsonNode;
 import io.github.georgeakulov.json_schema.common.LocatedSchemaCompileException;
 import io.github.georgeakulov.json_schema.compilers.INamedCompiler;
@@ -10,6 +9,7 @@ import io.github.georgeakulov.json_schema.compilers.Utils;
 import io.github.georgeakulov.json_schema.results.EErrorType;
 import io.github.georgeakulov.json_schema.results.IValidationResult;
 import io.github.georgeakulov.json_schema.results.IValidationResult.ISchemaLocator;
+import io.github.georgeakulov.json_schema.results.InstancePath;
 import io.github.georgeakulov.json_schema.results.ValidationError;
 import io.github.georgeakulov.json_schema.results.ValidationResultFactory;
 import org.reactivestreams.Publisher;
@@ -31,7 +31,7 @@ public abstract class BaseLengthCompiler implements INamedCompiler {
 
         public Validator(ISchemaLocator schemaLocation, BiPredicate<Integer, Integer> compareFunc, JsonNode schemaNode, EErrorType errorType) {
             this.errorType = errorType;
-            this.schemaLocation = schemaLocation;
+            this.schemaLocation = ValidationResultFactory.createSchemaId(schemaLocation);
             this.compareFunc = compareFunc;
 
             value = Utils.getCheckedInteger(schemaLocation, schemaNode, "The value of %s keyword, must be integer. Actual: %s", getKeyword(), schemaNode);
@@ -40,7 +40,7 @@ public abstract class BaseLengthCompiler implements INamedCompiler {
         }
 
         @Override
-        public Publisher<IValidationResult> validate(JsonNode instance, JsonPointer instanceLocation, IValidationContext context) {
+        public Publisher<IValidationResult> validate(JsonNode instance, InstancePath instanceLocation, IValidationContext context) {
             var id = ValidationResultFactory.createId(schemaLocation, instanceLocation);
             if(instance.isTextual()) {
                 String str = instance.asText();
@@ -22,9 +22,10 @@ public abstract class BaseNumberCompiler implements INamedCompiler {
         checkIt(schemaNode.isNumber(), schemaLocator,
                 "Value of %s keyword must be a number. Actual: %s", getKeyword(), schemaNode);
         BigDecimal decimal = schemaNode.decimalValue();
+        var schemaId = ValidationResultFactory.createSchemaId(schemaLocator);
         return (instance, instancePtr, context) -> {
 
-            var id = ValidationResultFactory.createId(schemaLocator, instancePtr);
+            var id = ValidationResultFactory.createId(schemaId, instancePtr);
             if(instance.isNumber()) {
                 return analyse(id, schemaNode, instance, decimal.compareTo(instance.decimalValue())).publish();
             }
@@ -1,12 +1,12 @@
 package io.github.georgeakulov.json_schema.compilers.base;
 
-import com.fasterxml.jackson.core.JsonPointer;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.github.georgeakulov.json_schema.compilers.ICompiler.IValidatorAction;
 import io.github.georgeakulov.json_schema.compilers.IValidationContext;
 import io.github.georgeakulov.json_schema.compilers.IValidator;
 import io.github.georgeakulov.json_schema.results.IValidationResult;
+import io.github.georgeakulov.json_schema.results.InstancePath;
 import io.github.georgeakulov.json_schema.results.ValidationResultFactory;
 import org.reactivestreams.Publisher;
 import reactor.core.publisher.Flux;
@@ -24,7 +24,7 @@ public abstract class BasePropertiesCollectorValidator implements IValidator {
     }
 
     @Override
-    public Publisher<IValidationResult> validate(JsonNode instance, JsonPointer instancePtr, IValidationContext context) {
+    public Publisher<IValidationResult> validate(JsonNode instance, InstancePath instancePtr, IValidationContext context) {
         var id = original.compileAction().createId(instancePtr);
         if(instance.isObject()) {
             return Flux.fromIterable(validators)
@@ -44,6 +44,6 @@ public abstract class BasePropertiesCollectorValidator implements IValidator {
             IValidationResult.IValidationId id,
             List<IValidationResult> internalResults,
             ObjectNode instance,
-            JsonPointer instancePtr,
+            InstancePath instancePtr,
             IValidationContext context);
 }
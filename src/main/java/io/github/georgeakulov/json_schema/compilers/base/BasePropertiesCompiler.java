@@ -4,61 +4,68 @@ import com.fasterxml.jackson.core.JsonPointer;
 import com.fasterxml.jackson.databind.JsonNode;
 import io.github.georgeakulov.json_schema.compilers.CompileConfig;
 import io.github.georgeakulov.json_schema.compilers.INamedCompiler;
+import io.github.georgeakulov.json_schema.compilers.IObjectKeywordValidator;
 import io.github.georgeakulov.json_schema.compilers.IValidationContext;
 import io.github.georgeakulov.json_schema.compilers.IValidator;
 import io.github.georgeakulov.json_schema.results.IValidationResult;
 import io.github.georgeakulov.json_schema.results.IValidationResult.ISchemaLocator;
+import io.github.georgeakulov.json_schema.results.InstancePath;
 import io.github.georgeakulov.json_schema.results.ValidationResultFactory;
 import org.reactivestreams.Publisher;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
-import java.util.Objects;
+import java.util.Iterator;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
 public abstract class BasePropertiesCompiler implements INamedCompiler {
 
-    public static class PropertiesValidator implements IValidator {
+    public static class PropertiesValidator implements IObjectKeywordValidator {
 
         private final ISchemaLocator schemaLocation;
         private final Function<String, Stream<IValidator>> validatorResolver;
         private final CompileConfig config;
         public PropertiesValidator(ISchemaLocator schemaLocation, Function<String, Stream<IValidator>> validatorResolver, CompileConfig config) {
-            this.schemaLocation = schemaLocation;
+            this.schemaLocation = ValidationResultFactory.createSchemaId(schemaLocation);
             this.validatorResolver = validatorResolver;
             this.config = config;
         }
 
         @Override
-        public Publisher<IValidationResult> validate(JsonNode instance, JsonPointer instancePtr, IValidationContext context) {
+        public Publisher<IValidationResult> validate(JsonNode instance, InstancePath instancePtr, IValidationContext context) {
 
             if(instance.isObject()) {
-
-                return Flux.fromStream(instance.propertyStream())
-                        .flatMap(entry ->
-                                Flux.fromStream(
-                                    validatorResolver.apply(entry.getKey())
-                                            .filter(Objects::nonNull)
-                                            .map(validator -> new FieldValidator(entry.getKey(), schemaLocation, validator))
-                                )
-                        )
-                        .flatMap(named -> named.validate(instance.get(named.name()), instancePtr, context))
-                        .reduce(
-                                ValidationResultFactory.createContainer(schemaLocation, instancePtr),
-                                ValidationResultFactory.ValidationResultContainer::append
-                        )
-                        .map(value -> value);
+                return IObjectKeywordValidator.visitFields(visitObject(instance, instancePtr, context), instance);
             }
 
             return ValidationResultFactory.createOk(schemaLocation, instancePtr)
                     .publish();
         }
+
+        @Override
+        public IFieldsVisitor visitObject(JsonNode instance, InstancePath instancePtr, IValidationContext context) {
+            return new ContainerVisitor(ValidationResultFactory.createId(schemaLocation, instancePtr)) {
+                @Override
+                public boolean visitField(String name, JsonNode value) {
+                    Iterator<IValidator> validators = validatorResolver.apply(name).iterator();
+                    boolean evaluated = false;
+                    while(validators.hasNext()) {
+                        IValidator validator = validators.next();
+                        if(validator != null) {
+                            add(new FieldValidator(name, schemaLocation, validator).validate(value, instancePtr, context));
+                            evaluated = true;
+                        }
+                    }
+                    return evaluated;
+                }
+            };
+        }
     }
 
     public record FieldValidator(String name, ISchemaLocator schemaLocation, IValidator validator) implements IValidator {
         @Override
-        public Publisher<IValidationResult> validate(JsonNode instance, JsonPointer instancePtr, IValidationContext context) {
+        public Publisher<IValidationResult> validate(JsonNode instance, InstancePath instancePtr, IValidationContext context) {
             var ptr = instancePtr.appendProperty(name);
             return Mono.from(validator.validate(instance, ptr, context))
                     .flatMapMany(validationResult -> {
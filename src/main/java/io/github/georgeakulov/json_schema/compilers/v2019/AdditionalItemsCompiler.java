@@ -6,6 +6,7 @@ import io.github.georgeakulov.json_schema.compilers.*;
 import io.github.georgeakulov.json_schema.dialects.Defaults;
 import io.github.georgeakulov.json_schema.results.IValidationResult;
 import io.github.georgeakulov.json_schema.results.IValidationResult.IValidationId;
+import io.github.georgeakulov.json_schema.results.InstancePath;
 import io.github.georgeakulov.json_schema.results.ValidationResultFactory;
 import org.jspecify.annotations.Nullable;
 import org.reactivestreams.Publisher;
@@ -73,7 +74,7 @@ public class AdditionalItemsCompiler implements INamedCompiler, IValidatorsTrans
             IValidator validator,
             List<IValidationResult> internalResults,
             JsonNode instance,
-            JsonPointer instancePtr,
+            InstancePath instancePtr,
             IValidationContext context) {
 
         Set<Integer> proceed = BaseFinisherValidator.filterAnnotationsItems(internalResults, instancePtr);
@@ -82,7 +83,7 @@ public class AdditionalItemsCompiler implements INamedCompiler, IValidatorsTrans
                         .boxed())
                 .parallel()
                 .flatMap(idx -> {
-                    JsonPointer itemIdxPtr = instancePtr.appendIndex(idx);
+                    InstancePath itemIdxPtr = instancePtr.appendIndex(idx);
                     return ValidationResultFactory.tryAppendAnnotation(
                             () -> validator.validate(instance.get(idx), itemIdxPtr, context),
                             ValidationResultFactory.createId(id.getSchemaLocator(), itemIdxPtr)
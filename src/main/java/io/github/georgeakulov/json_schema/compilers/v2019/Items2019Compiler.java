@@ -6,6 +6,7 @@ import io.github.georgeakulov.json_schema.compilers.*;
 import io.github.georgeakulov.json_schema.dialects.Defaults;
 import io.github.georgeakulov.json_schema.results.IValidationResult;
 import io.github.georgeakulov.json_schema.results.IValidationResult.ISchemaLocator;
+import io.github.georgeakulov.json_schema.results.InstancePath;
 import io.github.georgeakulov.json_schema.results.ValidationResultFactory;
 import org.jspecify.annotations.Nullable;
 import org.reactivestreams.Publisher;
@@ -38,16 +39,16 @@ public class Items2019Compiler implements INamedCompiler {
             for(int idx = 0; idx < schemaNode.size(); idx++) {
                 validators.add(compileContext.compile(schemaNode.get(idx), schemaLocator.appendIndex(idx)));
             }
-            return new ArrayValidator(validators, compileContext.getConfig(), schemaLocator);
+            return new ArrayValidator(validators, compileContext.getConfig(), ValidationResultFactory.createSchemaId(schemaLocator));
         }
         else {
-            return new SingleValidator(compileContext.compile(schemaNode, schemaLocator), compileContext.getConfig(), schemaLocator);
+            return new SingleValidator(compileContext.compile(schemaNode, schemaLocator), compileContext.getConfig(), ValidationResultFactory.createSchemaId(schemaLocator));
         }
     }
 
     private record ArrayValidator(List<IValidator> validators, CompileConfig config, ISchemaLocator locator) implements IValidator {
         @Override
-        public Publisher<IValidationResult> validate(JsonNode instance, JsonPointer instancePtr, IValidationContext context) {
+        public Publisher<IValidationResult> validate(JsonNode instance, InstancePath instancePtr, IValidationContext context) {
             var id = ValidationResultFactory.createId(locator, instancePtr);
             if(instance.isArray()) {
                 return Flux.range(0, Math.min(validators.size(), instance.size()))
@@ -72,7 +73,7 @@ public class Items2019Compiler implements INamedCompiler {
     private record SingleValidator(IValidator validator, CompileConfig config, ISchemaLocator locator) implements IValidator {
 
         @Override
-        public Publisher<IValidationResult> validate(JsonNode instance, JsonPointer instancePtr, IValidationContext context) {
+        public Publisher<IValidationResult> validate(JsonNode instance, InstancePath instancePtr, IValidationContext context) {
             var id = ValidationResultFactory.createId(locator, instancePtr);
             if(instance.isArray()) {
                 return Flux.range(0, instance.size())
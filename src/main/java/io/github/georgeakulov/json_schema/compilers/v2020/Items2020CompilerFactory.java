@@ -9,6 +9,7 @@ import io.github.georgeakulov.json_schema.dialects.Defaults;
 import io.github.georgeakulov.json_schema.dialects.Vocabulary;
 import io.github.georgeakulov.json_schema.results.IValidationResult;
 import io.github.georgeakulov.json_schema.results.IValidationResult.ISchemaLocator;
+import io.github.georgeakulov.json_schema.results.InstancePath;
 import io.github.georgeakulov.json_schema.results.ValidationResultFactory;
 import org.reactivestreams.Publisher;
 import reactor.core.publisher.Flux;
@@ -39,7 +40,7 @@ public class Items2020CompilerFactory implements ICompilerFactory {
 
         @Override
         public IValidator compile(JsonNode schemaNode, CompileContext compileContext, ISchemaLocator schemaLocator) {
-            this.locator = schemaLocator;
+            this.locator = ValidationResultFactory.createSchemaId(schemaLocator);
             this.config = compileContext.getConfig();
             this.validator = compileContext.compile(schemaNode, schemaLocator);
             prefixItemsCount = resolveMinIndexForValidate(compileContext);
@@ -48,7 +49,7 @@ public class Items2020CompilerFactory implements ICompilerFactory {
 
 
         @Override
-        public Publisher<IValidationResult> validate(JsonNode instance, JsonPointer instancePtr, IValidationContext context) {
+        public Publisher<IValidationResult> validate(JsonNode instance, InstancePath instancePtr, IValidationContext context) {
             var id = ValidationResultFactory.createId(locator, instancePtr);
 
             var evaluated = ToArrayWrapper.tryWrap(instance, config);
@@ -8,6 +8,7 @@ import io.github.georgeakulov.json_schema.dialects.Defaults;
 import io.github.georgeakulov.json_schema.dialects.Vocabulary;
 import io.github.georgeakulov.json_schema.results.IValidationResult;
 import io.github.georgeakulov.json_schema.results.IValidationResult.ISchemaLocator;
+import io.github.georgeakulov.json_schema.results.InstancePath;
 import io.github.georgeakulov.json_schema.results.ValidationResultFactory;
 import org.reactivestreams.Publisher;
 import reactor.core.publisher.Flux;
@@ -45,7 +46,7 @@ public class PrefixItemsFactory implements ICompilerFactory {
 
         @Override
         public IValidator compile(JsonNode schemaNode, CompileContext compileContext, ISchemaLocator schemaLocator) {
-            this.schemaLocation = schemaLocator;
+            this.schemaLocation = ValidationResultFactory.createSchemaId(schemaLocator);
             checkIt(schemaNode.isArray() && !schemaNode.isEmpty(), schemaLocator,
                     "The {0} keyword value must be non empty array. Actual: {1}", "prefixItems", schemaNode.getNodeType());
             for (int idx = 0; idx < schemaNode.size(); idx++) {
@@ -58,7 +59,7 @@ public class PrefixItemsFactory implements ICompilerFactory {
             return validators.size();
         }
 
-        private Publisher<IValidationResult> validate(JsonNode instance, JsonPointer instancePtr, IValidationContext validationContext) {
+        private Publisher<IValidationResult> validate(JsonNode instance, InstancePath instancePtr, IValidationContext validationContext) {
             var id = ValidationResultFactory.createId(schemaLocation, instancePtr);
             if(instance.isArray()) {
 
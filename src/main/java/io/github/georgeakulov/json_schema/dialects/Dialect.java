@@ -9,16 +9,34 @@ import java.net.URI;
 import java.util.*;
 import java.util.function.Function;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
+/**
+ * Immutable dialect. The keyword compilers and the sorted transformers of all vocabularies
+ * are collected once on creation, the dialects are cached by {@link DialectRegistry}.
+ */
 public class Dialect {
 
     private final DialectInfo dialectInfo;
-    private final Set<Vocabulary> vocabularies;
+    private final Map<String, KeywordCompiler[]> compilers;
+    private final List<IValidatorsTransformer> transformers;
+    private final boolean assertionRequired;
 
     private Dialect(DialectInfo dialectInfo, Set<Vocabulary> vocabularies) {
         this.dialectInfo = dialectInfo;
-        this.vocabularies = vocabularies;
+        Map<String, List<KeywordCompiler>> found = new HashMap<>();
+        vocabularies.forEach(vocabulary -> vocabulary.getCompilers()
+                .forEach((keyword, factory) -> found.computeIfAbsent(keyword, ignore -> new ArrayList<>())
+                        .add(new KeywordCompiler(vocabulary, factory))));
+        this.compilers = found.entrySet().stream()
+                .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, entry -> entry.getValue().toArray(KeywordCompiler[]::new)));
+        this.transformers = vocabularies.stream()
+                .flatMap(Vocabulary::getTransformers)
+                .distinct()
+                .sorted(Comparator.comparing(IValidatorsTransformer::getOrder))
+                .toList();
+        this.assertionRequired = dialectInfo.getVocabularyState(Defaults.DRAFT_2020_12_FORMAT_ASSERTION)
+                .map(DialectInfo.VocabularyState::state)
+                .orElse(false);
     }
 
     public URI getURI() {
@@ -26,7 +44,7 @@ public class Dialect {
     }
 
     static Dialect create(DialectInfo dialectInfo, Function<URI, Vocabulary> vocabularyResolver) {
-        return new Dialect(dialectInfo,
+        return new Dialect(dialectInfo.copy(),
                 dialectInfo.asStream()
                         .map(state -> {
                             var cod = vocabularyResolver.apply(state.vocabulary());
@@ -43,22 +61,29 @@ public class Dialect {
     }
 
     public boolean isAssertionRequired() {
-        return dialectInfo.getVocabularyState(Defaults.DRAFT_2020_12_FORMAT_ASSERTION)
-                .map(DialectInfo.VocabularyState::state)
-                .orElse(false);
+        return assertionRequired;
     }
 
     public @Nullable ICompiler optCompiler(String keyword) {
-        return this.vocabularies.stream()
-                .map(voc -> voc.opt(keyword))
-                .filter(Objects::nonNull)
-                .findAny()
-                .orElse(null);
+        var found = compilers.get(keyword);
+        if(found != null) {
+            // The factories create new compiler on each call
+            for(KeywordCompiler item : found) {
+                var compiler = item.factory().apply(item.vocabulary());
+                if(compiler != null) {
+                    return compiler;
+                }
+            }
+        }
+        return null;
     }
 
-    public Stream<IValidatorsTransformer> getTransformers() {
-        return this.vocabularies.stream()
-                .flatMap(Vocabulary::getTransformers)
-                .distinct();
+    /**
+     * @return distinct transformers sorted by {@link IValidatorsTransformer#getOrder()}
+     */
+    public List<IValidatorsTransformer> getTransformers() {
+        return transformers;
     }
+
+    private record KeywordCompiler(Vocabulary vocabulary, Function<Vocabulary, ICompiler> factory) {}
 }
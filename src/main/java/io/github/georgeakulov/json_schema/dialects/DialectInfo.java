@@ -42,5 +42,14 @@ class DialectInfo {
         return Optional.ofNullable(vocabularies.get(uri));
     }
 
+    /**
+     * @return immutable key of the dialect uri and vocabularies
+     */
+    Key key() {
+        return new Key(dialectUri, Map.copyOf(vocabularies));
+    }
+
     public record VocabularyState(URI vocabulary, boolean state){}
+
+    record Key(URI dialectUri, Map<URI, VocabularyState> vocabularies){}
 }
@@ -8,6 +8,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 
 import static io.github.georgeakulov.json_schema.dialects.Defaults.*;
@@ -18,6 +19,7 @@ public class DialectRegistry {
 
     private final Map<URI, DialectInfo> predefined = new HashMap<>();
     private final VocabularyRegistry vocabularyRegistry = new VocabularyRegistry();
+    private final Map<DialectInfo.Key, Dialect> dialects = new ConcurrentHashMap<>();
 
     public static  DialectRegistry getInstance() {
         return INSTANCE;
@@ -64,6 +66,13 @@ public class DialectRegistry {
         return vocabularyRegistry.optVocabulary(uri);
     }
 
+    /**
+     * @return cached dialect with the same uri and vocabularies or created one
+     */
+    Dialect getDialect(DialectInfo dialectInfo) {
+        return dialects.computeIfAbsent(dialectInfo.key(), key -> Dialect.create(dialectInfo, this::optVocabulary));
+    }
+
     private void addDialect(DialectInfo dialectInfo) {
         this.predefined.put(dialectInfo.getUri(), dialectInfo);
     }
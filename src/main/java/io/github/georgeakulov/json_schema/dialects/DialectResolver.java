@@ -23,7 +23,7 @@ public class DialectResolver {
     public Dialect optDefaultDialect(URI uri) {
         var result = dialectRegistry.optDialect(uri);
         if(result != null) {
-            return Dialect.create(result, dialectRegistry::optVocabulary);
+            return dialectRegistry.getDialect(result);
         }
         return null;
     }
@@ -53,7 +53,7 @@ public class DialectResolver {
     private Dialect tryApplyVocabularies(DialectInfo dialectInfo, JsonNode schema) {
         JsonNode vocabularies = schema.path("$vocabulary");
         if(vocabularies.isMissingNode()) {
-            return Dialect.create(dialectInfo, dialectRegistry::optVocabulary);
+            return dialectRegistry.getDialect(dialectInfo);
         }
 
         checkIt(vocabularies.isObject(), "The $vocabulary must be an object");
@@ -68,7 +68,7 @@ public class DialectResolver {
                     }
                     dialectInfo.addVocabulary(vocabulary, used);
                 });
-        return Dialect.create(dialectInfo, dialectRegistry::optVocabulary);
+        return dialectRegistry.getDialect(dialectInfo);
     }
 
     private void checkVocabulary(URI vocabulary) {
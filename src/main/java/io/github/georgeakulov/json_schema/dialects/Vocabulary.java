@@ -4,10 +4,11 @@ import io.github.georgeakulov.json_schema.compilers.CompilerRegistry;
 import io.github.georgeakulov.json_schema.compilers.IValidatorsTransformer;
 import io.github.georgeakulov.json_schema.compilers.VocabularyCompilersRegistry;
 import io.github.georgeakulov.json_schema.compilers.ICompiler;
-import org.jspecify.annotations.Nullable;
 
 import java.net.URI;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 public class Vocabulary {
@@ -40,13 +41,8 @@ public class Vocabulary {
         return Objects.hashCode(vocabularyUri);
     }
 
-    @Nullable
-    ICompiler opt(String keyword) {
-        var item  = registry.getCompiler(keyword);
-        if(item != null) {
-            return item.apply(this);
-        }
-        return null;
+    Map<String, Function<Vocabulary, ICompiler>> getCompilers() {
+        return registry.getCompilers();
     }
 
     Stream<IValidatorsTransformer> getTransformers() {
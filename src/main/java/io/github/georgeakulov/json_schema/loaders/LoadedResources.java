@@ -0,0 +1,91 @@
+package io.github.georgeakulov.json_schema.loaders;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.github.georgeakulov.json_schema.IExternalResolutionResult;
+import org.jspecify.annotations.Nullable;
+
+import java.net.URI;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * External schemas and reference resolutions used on the compilation.<br/>
+ * The registry records everything it loads here and looks up here first,
+ * so the compilation with prefilled instance doesn`t call the resolvers and the loaders.
+ */
+public class LoadedResources {
+
+    private final Map<URI, JsonNode> resources = new LinkedHashMap<>();
+    private final Map<String, ResolvedRef> refs = new LinkedHashMap<>();
+    private boolean sealed;
+
+    /**
+     * Forbids the resolution outside of this resources, e.g. for the loaded snapshot
+     */
+    public LoadedResources seal() {
+        this.sealed = true;
+        return this;
+    }
+
+    /**
+     * @return true if the resources not found here mustn`t be loaded by the resolvers and the loaders
+     */
+    public boolean isSealed() {
+        return sealed;
+    }
+
+    public @Nullable JsonNode getResource(URI uri) {
+        return resources.get(uri);
+    }
+
+    public void putResource(URI uri, JsonNode schema) {
+        resources.put(Objects.requireNonNull(uri), Objects.requireNonNull(schema));
+    }
+
+    /**
+     * @param ref the reference value
+     * @param base the base URI of the referencing schema, the same reference may be resolved differently in other schemas
+     * @return the result of the external resolver for the reference
+     */
+    public @Nullable ResolvedRef getRef(String ref, @Nullable URI base) {
+        return refs.get(refKey(ref, base));
+    }
+
+    public void putRef(String ref, @Nullable URI base, @Nullable URI absoluteUri, @Nullable JsonNode schema) {
+        refs.put(refKey(Objects.requireNonNull(ref), base), new ResolvedRef(absoluteUri, schema));
+    }
+
+    /**
+     * @return loaded schemas by absolute URI
+     */
+    public Map<URI, JsonNode> getResources() {
+        return Collections.unmodifiableMap(resources);
+    }
+
+    /**
+     * @return the external resolver results by the reference prefixed by the base URI and space if present
+     */
+    public Map<String, ResolvedRef> getRefs() {
+        return Collections.unmodifiableMap(refs);
+    }
+
+    private static String refKey(String ref, @Nullable URI base) {
+        // The space isn`t allowed in URI, so the key is unambiguous
+        return base == null ? ref : base + " " + ref;
+    }
+
+    public record ResolvedRef(@Nullable URI absoluteUri, @Nullable JsonNode schema) implements IExternalResolutionResult {
+
+        @Override
+        public @Nullable JsonNode getSchema() {
+            return schema;
+        }
+
+        @Override
+        public @Nullable URI getAbsoluteUri() {
+            return absoluteUri;
+        }
+    }
+}
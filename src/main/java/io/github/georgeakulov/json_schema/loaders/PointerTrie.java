@@ -0,0 +1,97 @@
+package io.github.georgeakulov.json_schema.loaders;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import org.jspecify.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Prefix tree of the json pointers by reference tokens.
+ * Finds the subschema by pointer and the deepest subschema containing pointer without scanning all of them.
+ */
+final class PointerTrie {
+
+    static final int NOT_FOUND = -1;
+
+    private static final PointerTrie EMPTY = new PointerTrie();
+
+    private final Map<String, PointerTrie> children = new HashMap<>(2);
+    private int value = NOT_FOUND;
+
+    private PointerTrie() {
+    }
+
+    /**
+     * @param values the subschemas resource ids by string representation of the json pointer
+     */
+    static PointerTrie of(Map<String, Integer> values) {
+        if(values.isEmpty()) {
+            return EMPTY;
+        }
+        var root = new PointerTrie();
+        values.forEach((pointer, resourceId) -> {
+            var node = root;
+            for(JsonPointer ptr = JsonPointer.compile(pointer); !ptr.matches(); ptr = ptr.tail()) {
+                node = node.children.computeIfAbsent(ptr.getMatchingProperty(), ignore -> new PointerTrie());
+            }
+            node.value = resourceId;
+        });
+        return root;
+    }
+
+    /**
+     * @return resource id of the subschema or {@link #NOT_FOUND}
+     */
+    int get(JsonPointer pointer) {
+        PointerTrie node = this;
+        for(JsonPointer ptr = pointer; !ptr.matches(); ptr = ptr.tail()) {
+            node = node.children.get(ptr.getMatchingProperty());
+            if(node == null) {
+                return NOT_FOUND;
+            }
+        }
+        return node.value;
+    }
+
+    /**
+     * @param fragment not decoded json pointer of the reference fragment
+     * @return the deepest subschema which pointer is prefix of the fragment or null
+     */
+    @Nullable Match findNearest(String fragment) {
+        PointerTrie node = this;
+        PointerTrie found = value == NOT_FOUND ? null : this;
+        int foundEnd = 0;
+        int pos = 0;
+        while(pos < fragment.length() && fragment.charAt(pos) == '/') {
+            int end = fragment.indexOf('/', pos + 1);
+            if(end < 0) {
+                end = fragment.length();
+            }
+            node = node.children.get(unescape(fragment, pos + 1, end));
+            if(node == null) {
+                break;
+            }
+            if(node.value != NOT_FOUND) {
+                found = node;
+                foundEnd = end;
+            }
+            pos = end;
+        }
+        return found == null ? null : new Match(found.value, foundEnd);
+    }
+
+    private static String unescape(String value, int from, int to) {
+        String token = value.substring(from, to);
+        if(token.indexOf('~') < 0) {
+            return token;
+        }
+        return token.replace("~1", "/").replace("~0", "~");
+    }
+
+    /**
+     * @param resourceId found subschema
+     * @param end end of the subschema pointer in the fragment
+     */
+    record Match(int resourceId, int end) {}
+}
@@ -12,7 +12,7 @@ import java.util.*;
 public class SchemaInfo {
 
     private final Dialect dialect;
-    private final UUID uuid;
+    private final int resourceId;
     @Nullable private final URI id;
     @Nullable private final URI origin;
     @NonNull private final JsonPointer pointerOfRoot;
@@ -21,19 +21,19 @@ public class SchemaInfo {
     private final Map<String, JsonPointer> anchors;
     private final boolean recursiveAnchor;
     private final Map<String, JsonPointer> dynamicAnchors;
-    private final Map<String, UUID> subschemas;
+    private final PointerTrie subschemas;
 
     SchemaInfo(Dialect dialect,
-               UUID uuid,
+               int resourceId,
                @Nullable URI id,
                @Nullable URI origin,
                @NonNull JsonPointer pointerOfRoot,
                @NonNull JsonNode content,
                Map<String, JsonPointer> anchors,
                Map<String, JsonPointer> dynamicAnchors,
-               Map<String, UUID> subschemas,
+               Map<String, Integer> subschemas,
                boolean recursiveAnchor) {
-        this.uuid = uuid;
+        this.resourceId = resourceId;
         this.id = id;
         this.origin = origin;
         this.pointerOfRoot = pointerOfRoot;
@@ -41,7 +41,7 @@ public class SchemaInfo {
         this.anchors = anchors;
         this.dynamicAnchors = dynamicAnchors;
         this.dialect = dialect;
-        this.subschemas = subschemas;
+        this.subschemas = PointerTrie.of(subschemas);
         this.recursiveAnchor = recursiveAnchor;
     }
 
@@ -49,8 +49,11 @@ public class SchemaInfo {
         return dialect;
     }
 
-    public UUID getUuid() {
-        return uuid;
+    /**
+     * @return id of the schema resource unique in the compilation
+     */
+    public int getResourceId() {
+        return resourceId;
     }
 
     public @NonNull JsonPointer getPointerOfRoot() {
@@ -77,25 +80,30 @@ public class SchemaInfo {
         return origin;
     }
 
-    public @Nullable UUID resolveSubSchema(JsonPointer pointer) {
-        return subschemas.get(pointer.toString());
+    /**
+     * @return resource id of the embedded subschema or -1 if not found
+     */
+    public int resolveSubSchema(JsonPointer pointer) {
+        return subschemas.get(pointer);
     }
 
-    public UUID findNearestSubschema(String pointer) {
-        return this.subschemas.keySet().stream()
-                .filter(pointer::startsWith)
-                .sorted(Comparator.comparing(String::length).reversed())
-                .map(subschemas::get)
-                .findAny()
-                .orElse(null);
+    /**
+     * @param pointer not decoded json pointer of the reference fragment
+     * @return the deepest embedded subschema containing pointer and the pointer relative to it or null
+     */
+    public @Nullable NearestSubschema findNearestSubschema(String pointer) {
+        var match = subschemas.findNearest(pointer);
+        return match == null ? null : new NearestSubschema(match.resourceId(), pointer.substring(match.end()));
     }
 
     public boolean hasRecursiveAnchor() {
         return this.recursiveAnchor;
     }
 
+    public record NearestSubschema(int resourceId, String relativePointer) {}
+
     public static final class SubSchemaInfo {
-        private final UUID uuid;
+        private final int resourceId;
         private final URI id;
         private final JsonPointer absolutePointer;
         private final JsonNode schema;
@@ -104,9 +112,9 @@ public class SchemaInfo {
         private final Map<String, SubSchemaInfo> subschemas;
         private boolean recursiveAnchor;
 
-        public SubSchemaInfo(UUID uuid, URI id, JsonPointer absolutePointer, JsonNode schema, Map<String, JsonPointer> anchors,
+        public SubSchemaInfo(int resourceId, URI id, JsonPointer absolutePointer, JsonNode schema, Map<String, JsonPointer> anchors,
                              Map<String, JsonPointer> dynamicAnchors, Map<String, SubSchemaInfo> subschemas) {
-            this.uuid = uuid;
+            this.resourceId = resourceId;
             this.id = id;
             this.absolutePointer = absolutePointer;
             this.schema = schema;
@@ -115,8 +123,8 @@ public class SchemaInfo {
             this.subschemas = subschemas;
         }
 
-        public static SubSchemaInfo emptyAnchors(UUID uuid, URI id, JsonPointer absolutePointer, JsonNode schema) {
-                return new SubSchemaInfo(uuid, id, absolutePointer, schema, new HashMap<>(), new HashMap<>(), new HashMap<>());
+        public static SubSchemaInfo emptyAnchors(int resourceId, URI id, JsonPointer absolutePointer, JsonNode schema) {
+                return new SubSchemaInfo(resourceId, id, absolutePointer, schema, new HashMap<>(), new HashMap<>(), new HashMap<>());
             }
 
         public void markRecursiveAnchor(boolean isRecursive) {
@@ -127,8 +135,8 @@ public class SchemaInfo {
             return recursiveAnchor;
         }
 
-        public UUID uuid() {
-            return uuid;
+        public int resourceId() {
+            return resourceId;
         }
 
         public URI id() {
@@ -160,7 +168,7 @@ public class SchemaInfo {
             if (obj == this) return true;
             if (obj == null || obj.getClass() != this.getClass()) return false;
             var that = (SubSchemaInfo) obj;
-            return Objects.equals(this.uuid, that.uuid) &&
+            return this.resourceId == that.resourceId &&
                     Objects.equals(this.id, that.id) &&
                     Objects.equals(this.absolutePointer, that.absolutePointer) &&
                     Objects.equals(this.schema, that.schema) &&
@@ -171,13 +179,13 @@ public class SchemaInfo {
 
         @Override
         public int hashCode() {
-            return Objects.hash(uuid, id, absolutePointer, schema, anchors, dynamicAnchors, subschemas);
+            return Objects.hash(resourceId, id, absolutePointer, schema, anchors, dynamicAnchors, subschemas);
         }
 
         @Override
         public String toString() {
             return "SubSchemaInfo[" +
-                    "uuid=" + uuid + ", " +
+                    "resourceId=" + resourceId + ", " +
                     "id=" + id + ", " +
                     "absolutePointer=" + absolutePointer + ", " +
                     "schema=" + schema + ", " +
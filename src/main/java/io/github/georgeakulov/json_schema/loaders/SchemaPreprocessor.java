@@ -4,6 +4,8 @@ import com.fasterxml.jackson.core.JsonPointer;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.node.TextNode;
+import io.github.georgeakulov.json_schema.common.SchemaCompileException;
+import io.github.georgeakulov.json_schema.common.UriScanner;
 import io.github.georgeakulov.json_schema.compilers.ICompiler;
 import io.github.georgeakulov.json_schema.dialects.Defaults;
 import io.github.georgeakulov.json_schema.dialects.Dialect;
@@ -13,12 +15,16 @@ import org.jspecify.annotations.Nullable;
 
 import java.net.URI;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static io.github.georgeakulov.json_schema.common.SchemaCompileException.checkIt;
 import static io.github.georgeakulov.json_schema.common.SchemaCompileException.checkNonNull;
 
 public class SchemaPreprocessor {
 
+    // Resource ids are unique in the registry owning this preprocessor
+    private final AtomicInteger nextResourceId = new AtomicInteger();
+
     public SchemaProcessingResult onSchemaLoaded(Dialect dialect, JsonNode schema, @Nullable URI parentId) {
 
         SchemaProcessingResult schemaProcessingResult = new SchemaProcessingResult(dialect, schema);
@@ -31,16 +37,21 @@ public class SchemaPreprocessor {
 
     public URI resolveId(@NonNull String idValue, @Nullable URI parentId) {
         // optional/refOfUnknownKeyword.json - "reference of an arbitrary keyword of a sub-schema with encoded ref"
-        URI idUri = URI.create(idValue);
-        checkIt(idUri.getFragment() == null || idUri.getFragment().isEmpty(), "The id {0} can`t contains fragment", idUri);
-        if(idUri.isAbsolute()) {
-            return idUri;
+        checkIt(UriScanner.isIriReference(idValue), "The id {0} is not valid IRI reference", idValue);
+        // The first '#' of the valid reference starts the fragment
+        int fragment = idValue.indexOf('#');
+        checkIt(fragment < 0 || fragment == idValue.length() - 1, "The id {0} can`t contains fragment", idValue);
+        URI idUri;
+        try {
+            // The valid IRI reference may be unsupported by java.net.URI, e.g. IPvFuture host
+            idUri = URI.create(idValue);
+            if(!idUri.isAbsolute() && parentId != null) {
+                idUri = parentId.resolve(idUri);
+            }
         }
-
-        if(parentId != null) {
-            return parentId.resolve(idUri);
+        catch(IllegalArgumentException e) {
+            throw SchemaCompileException.create(e, "The id {0} is not supported", idValue);
         }
-
         return idUri;
     }
 
@@ -75,19 +86,19 @@ public class SchemaPreprocessor {
 
         public SchemaProcessingResult(Dialect dialect, JsonNode schema) {
             this.dialect = dialect;
-            this.rootSubSchema = SubSchemaInfo.emptyAnchors(UUID.randomUUID(), null, JsonPointer.empty(), schema);
+            this.rootSubSchema = SubSchemaInfo.emptyAnchors(nextResourceId.getAndIncrement(), null, JsonPointer.empty(), schema);
         }
 
         private CreateSubSchemaResult onNewId(String idValue, JsonPointer pointer, URI parentId, JsonNode atObject, @Nullable SubSchemaInfo parentSubSchema) {
             URI id = resolveId(idValue, parentId);
 
             if(pointer.equals(JsonPointer.empty())) {
-                rootSubSchema = new SubSchemaInfo(rootSubSchema.uuid(), id, JsonPointer.empty(), rootSubSchema.schema(),
+                rootSubSchema = new SubSchemaInfo(rootSubSchema.resourceId(), id, JsonPointer.empty(), rootSubSchema.schema(),
                         rootSubSchema.anchors(), rootSubSchema.dynamicAnchors(), new HashMap<>());
                 return new CreateSubSchemaResult(id, rootSubSchema);
             }
             else {
-                var subschema = SubSchemaInfo.emptyAnchors(UUID.randomUUID(), id, pointer, atObject);
+                var subschema = SubSchemaInfo.emptyAnchors(nextResourceId.getAndIncrement(), id, pointer, atObject);
                 subschemaInfos.put(id, subschema);
                 Objects.requireNonNull(parentSubSchema, "The parent subschema is null");
                 var relative = childToRelative(parentSubSchema.absolutePointer(), pointer);
@@ -2,6 +2,8 @@ package io.github.georgeakulov.json_schema.loaders;
 
 import com.fasterxml.jackson.core.JsonPointer;
 import com.fasterxml.jackson.databind.JsonNode;
+import io.github.georgeakulov.json_schema.IExternalResolutionResult;
+import io.github.georgeakulov.json_schema.IValidationMetrics.CompilePhase;
 import io.github.georgeakulov.json_schema.compilers.CompileConfig;
 import io.github.georgeakulov.json_schema.common.LocatedSchemaCompileException;
 import io.github.georgeakulov.json_schema.common.SchemaCompileException;
@@ -34,9 +36,18 @@ public class SchemasRegistry implements IReferenceResolver {
     /**
      * Id of schemes and subschemes
      */
-    private final Map<URI, UUID> idToHolders = new HashMap<>();
-    private final Map<URI, Set<UUID>> originToContent = new HashMap<>();
-    private final Map<UUID, SchemaInfo> content = new HashMap<>();
+    private final Map<URI, Integer> idToHolders = new HashMap<>();
+    private final Map<URI, Set<Integer>> originToContent = new HashMap<>();
+    /**
+     * Schemas indexed by the resource id
+     */
+    private final List<SchemaInfo> content = new ArrayList<>();
+
+    /**
+     * Parsed references and resolved targets of the references by the referencing schema
+     */
+    private final Map<String, ParsedRef> parsedRefs = new HashMap<>();
+    private final Map<RefKey, RefTarget> resolvedRefs = new HashMap<>();
 
     public SchemasRegistry(DialectResolver dialectResolver, CompileConfig compileConfig) {
         this.compileConfig = compileConfig;
@@ -47,11 +58,43 @@ public class SchemasRegistry implements IReferenceResolver {
 
     public ISchemaLocator registerInitialSchema(JsonNode node, @Nullable URI defaultDialectUri) {
 
-        SchemaInfo info = registerSchema(node, null, null, dialectResolver.optDefaultDialect(defaultDialectUri));
-        return ValidationResultFactory.createSchemaLocator(info.getUuid(), info.getOrigin(), info.getId(), JsonPointer.empty());
+        Dialect defaultDialect;
+        compileConfig.getPhaseTimer().enter(CompilePhase.DIALECT);
+        try {
+            defaultDialect = dialectResolver.optDefaultDialect(defaultDialectUri);
+        }
+        finally {
+            compileConfig.getPhaseTimer().exit();
+        }
+        SchemaInfo info = registerSchema(node, null, null, defaultDialect);
+        return ValidationResultFactory.createSchemaLocator(info.getResourceId(), info.getOrigin(), info.getId(), JsonPointer.empty());
     }
 
     private JsonNode tryResolveExternalSchema(URI id, ISchemaLocator schemaLocator) {
+        LoadedResources loaded = compileConfig.getLoadedResources();
+        JsonNode schema = loaded.getResource(id);
+        if(schema == null && loaded.isSealed()) {
+            throw SchemaCompileException.create("The resource {0} isn`t contained in the snapshot", id);
+        }
+        if(schema == null) {
+            if(compileConfig.getCompileStatistics() != null) {
+                compileConfig.getCompileStatistics().onExternalLoad();
+            }
+            compileConfig.getPhaseTimer().enter(CompilePhase.LOAD);
+            try {
+                schema = loadExternalSchema(id, schemaLocator);
+            }
+            finally {
+                compileConfig.getPhaseTimer().exit();
+            }
+            if(schema != null) {
+                loaded.putResource(id, schema);
+            }
+        }
+        return schema;
+    }
+
+    private JsonNode loadExternalSchema(URI id, ISchemaLocator schemaLocator) {
         if(this.compileConfig.getExternalSchemaResolver() != null) {
             var externalResult = this.compileConfig.getExternalSchemaResolver().resolve(id.toString(), schemaLocator);
             if (externalResult != null) {
@@ -76,7 +119,14 @@ public class SchemasRegistry implements IReferenceResolver {
     @NonNull
     private SchemaInfo registerSchema(JsonNode node, @Nullable URI byUri, ISchemaLocator parentLocator, @Nullable Dialect defaultDialect) {
 
-        Dialect dialect = dialectResolver.resolveDialect(node, uri -> tryResolveExternalSchema(uri, parentLocator));
+        Dialect dialect;
+        compileConfig.getPhaseTimer().enter(CompilePhase.DIALECT);
+        try {
+            dialect = dialectResolver.resolveDialect(node, uri -> tryResolveExternalSchema(uri, parentLocator));
+        }
+        finally {
+            compileConfig.getPhaseTimer().exit();
+        }
         if(dialect == null) {
             if(defaultDialect == null) {
                 throw SchemaCompileException.create("Can`t resolve dialect. You can setup default dialect");
@@ -85,6 +135,7 @@ public class SchemasRegistry implements IReferenceResolver {
         }
 
         SchemaProcessingResult result;
+        compileConfig.getPhaseTimer().enter(CompilePhase.PREPROCESS);
         try {
             result = schemaPreprocessor.onSchemaLoaded(
                     dialect,
@@ -95,6 +146,9 @@ public class SchemasRegistry implements IReferenceResolver {
         catch(Exception e) {
             throw create(parentLocator, e, "Error on schema preprocessing");
         }
+        finally {
+            compileConfig.getPhaseTimer().exit();
+        }
 
         if(byUri != null && !byUri.isAbsolute()) {
             byUri = null;
@@ -111,7 +165,7 @@ public class SchemasRegistry implements IReferenceResolver {
     private SchemaInfo registerSubSchema(Dialect dialect, URI origin, SubSchemaInfo subSchemaInfo) {
         SchemaInfo info = new SchemaInfo(
                 dialect,
-                subSchemaInfo.uuid(),
+                subSchemaInfo.resourceId(),
                 subSchemaInfo.id(),
                 origin,
                 subSchemaInfo.absolutePointer(),
@@ -121,25 +175,35 @@ public class SchemasRegistry implements IReferenceResolver {
                 subSchemaInfo.subschemas().entrySet().stream()
                         .collect(Collectors.toMap(
                                 Map.Entry::getKey,
-                                ss -> ss.getValue().uuid()
+                                ss -> ss.getValue().resourceId()
                         )),
                 subSchemaInfo.isRecursiveAnchor()
         );
 
-        content.put(info.getUuid(), info);
+        while(content.size() <= info.getResourceId()) {
+            content.add(null);
+        }
+        content.set(info.getResourceId(), info);
         if(origin != null) {
             originToContent.computeIfAbsent(origin, ignore -> new HashSet<>())
-                    .add(info.getUuid());
+                    .add(info.getResourceId());
         }
         if(info.getId() != null) {
-            idToHolders.put(info.getId(), info.getUuid());
+            idToHolders.put(info.getId(), info.getResourceId());
         }
         return info;
     }
 
     @NonNull
-    public SchemaInfo getSchema(UUID internalId) {
-        return checkNonNull(content.get(internalId), "Can`t find schema with internal id %s", internalId);
+    public SchemaInfo getSchema(int resourceId) {
+        return checkNonNull(optSchema(resourceId), "Can`t find schema with internal id %s", resourceId);
+    }
+
+    private @Nullable SchemaInfo optSchema(@Nullable Integer resourceId) {
+        if(resourceId == null || resourceId < 0 || resourceId >= content.size()) {
+            return null;
+        }
+        return content.get(resourceId);
     }
 
     /**
@@ -148,22 +212,22 @@ public class SchemasRegistry implements IReferenceResolver {
     public ISchemaLocator resolveExistingId(String idValue, ISchemaLocator parentLocator) {
 
         URI id = schemaPreprocessor.resolveId(idValue, parentLocator.getId());
-        SchemaInfo info = content.get(idToHolders.get(id));
-        return ValidationResultFactory.createSubSchemaLocator(info.getUuid(), info.getOrigin(), info.getId(), JsonPointer.empty(), parentLocator);
+        SchemaInfo info = optSchema(idToHolders.get(id));
+        return ValidationResultFactory.createSubSchemaLocator(info.getResourceId(), info.getOrigin(), info.getId(), JsonPointer.empty(), parentLocator);
     }
 
     public @NonNull IResolutionResult resolveRecursiveRef(String refValue, @NonNull ISchemaLocator locator) {
-        var resolution = new RefResolutionResult(refValue);
+        var resolution = parseRef(refValue);
         checkIt(
                 !resolution.hasFragment() && !resolution.hasPath(),
                 locator,
                 "The $recursiveRef can contains only '#' value. Actual: {0}", refValue
         );
-        SchemaInfo info = getSchema(locator.getSchemaUUID());
+        SchemaInfo info = getSchema(locator.getResourceId());
         if(info.hasRecursiveAnchor()) {
             var locatorIt = locator.getParent();
             while(locatorIt != null) {
-                var schema = content.get(locatorIt.getSchemaUUID());
+                var schema = getSchema(locatorIt.getResourceId());
                 var resolved = schema.hasRecursiveAnchor();
                 if(resolved) {
                     info = schema;
@@ -173,7 +237,7 @@ public class SchemasRegistry implements IReferenceResolver {
         }
 
         return new ReferenceResolutionResult(
-                ValidationResultFactory.createSubSchemaLocator(info.getUuid(), info.getOrigin(), info.getId(), JsonPointer.empty(), locator),
+                ValidationResultFactory.createSubSchemaLocator(info.getResourceId(), info.getOrigin(), info.getId(), JsonPointer.empty(), locator),
                 info.getContent(),
                 JsonPointer.empty()
         );
@@ -182,19 +246,20 @@ public class SchemasRegistry implements IReferenceResolver {
     @Override
     public @NonNull IResolutionResult resolveDynamicRef(String refValue, @NonNull ISchemaLocator schemaLocator) {
 
-        var resolution = new RefResolutionResult(refValue);
-        SchemaInfo info = tryResolveSchema(resolution, schemaLocator);
-        if(info == null) {
+        var resolution = parseRef(refValue);
+        SchemaTarget target = tryResolveSchema(resolution, schemaLocator);
+        if(target == null) {
             throw new IllegalStateException("Can`t resolve schema for $dynamicRef: " + refValue + " at " + schemaLocator);
         }
 
-        IResolutionResult result = tryResolveDynamicRef(resolution, info, schemaLocator);
+        String fragment = target.fragment();
+        IResolutionResult result = tryResolveDynamicRef(fragment, target.info(), schemaLocator);
         // If in current subscheme exists dynamicAnchor then resolve oldest (nearest to top stack)
         // If dynamic anchor not exists then resolve as simple reference
         if(result != null) {
             var locator = schemaLocator.getParent();
             while(locator != null) {
-                var resolved = tryResolveDynamicRef(resolution, null, locator);
+                var resolved = tryResolveDynamicRef(fragment, null, locator);
                 if(resolved != null) {
                     result = resolved;
                 }
@@ -210,12 +275,12 @@ public class SchemasRegistry implements IReferenceResolver {
         return result;
     }
 
-    private IResolutionResult tryResolveDynamicRef(RefResolutionResult refResolutionResult, @Nullable SchemaInfo info, ISchemaLocator locator) {
-        info = info == null ? content.get(locator.getSchemaUUID()) : info;
-        JsonPointer pointer = info.optDynamicAnchor(refResolutionResult.getFragment());
+    private IResolutionResult tryResolveDynamicRef(String fragment, @Nullable SchemaInfo info, ISchemaLocator locator) {
+        info = info == null ? getSchema(locator.getResourceId()) : info;
+        JsonPointer pointer = info.optDynamicAnchor(fragment);
         if(pointer != null) {
             return new ReferenceResolutionResult(
-                    ValidationResultFactory.createSubSchemaLocator(info.getUuid(), info.getOrigin(), info.getId(), pointer, locator),
+                    ValidationResultFactory.createSubSchemaLocator(info.getResourceId(), info.getOrigin(), info.getId(), pointer, locator),
                     info.getContent(),
                     pointer
             );
@@ -226,58 +291,77 @@ public class SchemasRegistry implements IReferenceResolver {
     @Override
     public @NonNull IResolutionResult resolveRef(@NonNull String refValue, @NonNull ISchemaLocator schemaLocator) {
 
-        var resolution = new RefResolutionResult(refValue);
-        IResolutionResult result = tryResolveRef(resolution, schemaLocator);
+        IResolutionResult result = tryResolveRef(parseRef(refValue), schemaLocator);
         if(result == null) {
             throw new IllegalStateException("Can't resolve ref:" + refValue + " at location: " + schemaLocator);
         }
         return result;
     }
 
-    private @Nullable SchemaInfo tryResolveSchema(RefResolutionResult resolution, ISchemaLocator schemaLocator) {
-        if(resolution.hasPath()) {
-            return resolvePath(resolution.getPath(), schemaLocator);
+    private ParsedRef parseRef(String refValue) {
+        return parsedRefs.computeIfAbsent(refValue, ParsedRef::parse);
+    }
+
+    private @Nullable SchemaTarget tryResolveSchema(ParsedRef resolution, ISchemaLocator schemaLocator) {
+        SchemaInfo schemaInfo = resolution.hasPath()
+                ? resolvePath(resolution.path(), schemaLocator)
+                : getSchema(schemaLocator.getResourceId());
+        if(schemaInfo == null) {
+            return null;
         }
-        else {
-            var schemaInfo = content.get(schemaLocator.getSchemaUUID());
-            if(resolution.hasFragment()) {
-                return findNearestSchema(schemaInfo, resolution, schemaLocator);
-            }
-            return content.get(schemaLocator.getSchemaUUID());
+        if(!resolution.hasPath() && resolution.hasFragment()) {
+            return findNearestSchema(schemaInfo, resolution.fragment());
         }
+        return new SchemaTarget(schemaInfo, resolution.fragment());
     }
 
     /*
     When accessing via the $ref link, in the nested $defs, each of which has its own $id, the current $id should be resolved.
      */
-    private SchemaInfo findNearestSchema(SchemaInfo schemaInfo, RefResolutionResult resolution, ISchemaLocator schemaLocator) {
-        UUID uuid = schemaInfo.findNearestSubschema(resolution.getFragment());
-        if(uuid != null) {
+    private SchemaTarget findNearestSchema(SchemaInfo schemaInfo, String fragment) {
+        var nearest = schemaInfo.findNearestSubschema(fragment);
+        if(nearest != null) {
             // Resolve subschema
-            SchemaInfo schema = content.get(uuid);
-            String pointer = schema.getPointerOfRoot().toString();
-            String modifiedFragment = resolution.getFragment().substring(pointer.length());
-            resolution.modifyFragment(modifiedFragment);
-            return schema;
+            return new SchemaTarget(getSchema(nearest.resourceId()), nearest.relativePointer());
+        }
+        return new SchemaTarget(schemaInfo, fragment);
+    }
+
+    private @Nullable IResolutionResult tryResolveRef(ParsedRef resolution, ISchemaLocator schemaLocator) {
+        // The target depends on the referencing schema and its base uri only
+        var key = new RefKey(resolution.value(), schemaLocator.getResourceId(), schemaLocator.getId(), schemaLocator.getOriginUri());
+        RefTarget target = resolvedRefs.get(key);
+        if(target == null) {
+            target = resolveTarget(resolution, schemaLocator);
+            if(target == null) {
+                return null;
+            }
+            resolvedRefs.put(key, target);
         }
-        return schemaInfo;
+        SchemaInfo info = target.info();
+        return new ReferenceResolutionResult(
+                ValidationResultFactory.createSubSchemaLocator(info.getResourceId(), info.getOrigin(), info.getId(), target.pointer(), schemaLocator),
+                info.getContent(),
+                target.pointer()
+        );
     }
 
-    private @Nullable IResolutionResult tryResolveRef(RefResolutionResult resolution, ISchemaLocator schemaLocator) {
-        SchemaInfo info = tryResolveSchema(resolution, schemaLocator);
+    private @Nullable RefTarget resolveTarget(ParsedRef resolution, ISchemaLocator schemaLocator) {
+        SchemaTarget schemaTarget = tryResolveSchema(resolution, schemaLocator);
 
-        if(info == null) {
+        if(schemaTarget == null) {
             return null;
         }
 
+        SchemaInfo info = schemaTarget.info();
         JsonPointer pointer;
-        if(resolution.hasFragment()) {
-            pointer = resolveFragment(resolution.getFragment(), info);
+        if(!schemaTarget.fragment().isBlank()) {
+            pointer = resolveFragment(schemaTarget.fragment(), info);
             // may be subschema. see optional/dynamicRef.json
             if(pointer != null) {
-                var uuid = info.resolveSubSchema(pointer);
-                if(uuid != null) {
-                    info = content.get(uuid);
+                int resourceId = info.resolveSubSchema(pointer);
+                if(resourceId != PointerTrie.NOT_FOUND) {
+                    info = getSchema(resourceId);
                     pointer = JsonPointer.empty();
                 }
             }
@@ -289,35 +373,37 @@ public class SchemasRegistry implements IReferenceResolver {
         if(pointer == null) {
             return null;
         }
-
-        return new ReferenceResolutionResult(
-                ValidationResultFactory.createSubSchemaLocator(info.getUuid(), info.getOrigin(), info.getId(), pointer, schemaLocator),
-                info.getContent(),
-                pointer
-        );
+        return new RefTarget(info, pointer);
     }
 
     public Dialect getDialect(ISchemaLocator locator) {
-        return getSchema(locator.getSchemaUUID()).getDialect();
+        return getSchema(locator.getResourceId()).getDialect();
     }
 
     private SchemaInfo resolvePath(String uri, ISchemaLocator schemaLocator) throws LocatedSchemaCompileException {
 
         URI resolved = null;
-        if(compileConfig.getExternalSchemaResolver() != null) {
-            var externalResult = compileConfig.getExternalSchemaResolver().resolve(uri, schemaLocator);
-            if (externalResult != null) {
-                // Какой то результат есть
-                if(externalResult.getSchema() != null) {
-                    return registerSchema(externalResult.getSchema(), externalResult.getAbsoluteUri(), schemaLocator, getDialect(schemaLocator));
-                }
+        LoadedResources loaded = compileConfig.getLoadedResources();
+        // The resolver gets the locator, so its result depends on the base URI of the referencing schema
+        URI base = schemaLocator.getId() != null ? schemaLocator.getId() : schemaLocator.getOriginUri();
+        IExternalResolutionResult externalResult = loaded.getRef(uri, base);
+        if(externalResult == null && !loaded.isSealed() && compileConfig.getExternalSchemaResolver() != null) {
+            externalResult = compileConfig.getExternalSchemaResolver().resolve(uri, schemaLocator);
+            if(externalResult != null) {
+                loaded.putRef(uri, base, externalResult.getAbsoluteUri(), externalResult.getSchema());
+            }
+        }
+        if(externalResult != null) {
+            // Какой то результат есть
+            if(externalResult.getSchema() != null) {
+                return registerSchema(externalResult.getSchema(), externalResult.getAbsoluteUri(), schemaLocator, getDialect(schemaLocator));
+            }
 
-                resolved = externalResult.getAbsoluteUri();
-                if(resolved != null) {
-                    if(!resolved.isAbsolute()) {
-                        throw SchemaCompileException.create("The external resolver return non absolute URI {0}. Source: {1}, context URL: {2} result",
-                                        resolved, uri, schemaLocator.getOriginUri());
-                    }
+            resolved = externalResult.getAbsoluteUri();
+            if(resolved != null) {
+                if(!resolved.isAbsolute()) {
+                    throw SchemaCompileException.create("The external resolver return non absolute URI {0}. Source: {1}, context URL: {2} result",
+                                    resolved, uri, schemaLocator.getOriginUri());
                 }
             }
         }
@@ -334,16 +420,16 @@ public class SchemasRegistry implements IReferenceResolver {
         }
 
         // May be the resolved uri is $id
-        UUID pointer = idToHolders.get(resolved);
-        if(pointer != null) {
-            return content.get(pointer);
+        SchemaInfo byId = optSchema(idToHolders.get(resolved));
+        if(byId != null) {
+            return byId;
         }
 
         // May be the resolved uri was loaded early
         var pointers = originToContent.get(resolved);
         if(pointers != null) {
             return pointers.stream()
-                    .map(content::get)
+                    .map(this::getSchema)
                     .filter(schemaInfo -> schemaInfo.getPointerOfRoot().equals(JsonPointer.empty()))
                     .findAny()
                     .orElseThrow(() -> new IllegalStateException("Can`t find root schema"));
@@ -438,33 +524,31 @@ public class SchemasRegistry implements IReferenceResolver {
         }
     }
 
-    private static class RefResolutionResult {
+    /**
+     * The reference split to the path and the fragment
+     */
+    private record ParsedRef(String value, String path, String fragment) {
 
-        private final String[] parts;
-        private RefResolutionResult(String refValue) {
-            parts = refValue.split("#");
+        private static ParsedRef parse(String refValue) {
+            int idx = refValue.indexOf('#');
+            if(idx < 0) {
+                return new ParsedRef(refValue, refValue, "");
+            }
+            return new ParsedRef(refValue, refValue.substring(0, idx), refValue.substring(idx + 1));
         }
 
         private boolean hasPath() {
-            return parts.length > 0 && !parts[0].isBlank();
+            return !path.isBlank();
         }
 
         private boolean hasFragment() {
-            return parts.length > 1 && !parts[1].isBlank();
+            return !fragment.isBlank();
         }
+    }
 
-        private String getPath() {
-            return parts[0];
-        }
+    private record SchemaTarget(SchemaInfo info, String fragment) {}
 
-        private String getFragment() {
-            return parts[1];
-        }
+    private record RefKey(String ref, int schema, @Nullable URI id, @Nullable URI origin) {}
 
-        private void modifyFragment(String modified) {
-            if(hasFragment()) {
-                this.parts[1] = modified;
-            }
-        }
-    }
+    private record RefTarget(SchemaInfo info, JsonPointer pointer) {}
 }
@@ -31,7 +31,8 @@ public enum EErrorType {
     MIN_LENGTH("The length of {0} must be greater or equal than  {1}. Actual: {2}"),
     CONTENT_ENCODING("Invalid content encoding {0}."),
     CONTENT_TYPE("Not conform to content type {0}"),
-    CONTENT_SCHEMA("Not conform to content schema");
+    CONTENT_SCHEMA("Not conform to content schema"),
+    LIMIT_EXCEEDED("The validation is aborted: the {0} limit {1} is exceeded");
     private final String defaultErrorMsg;
 
     EErrorType(String s) {
@@ -25,7 +25,21 @@ public interface IValidationResult {
 
     interface ISchemaLocator extends Comparable<ISchemaLocator>{
 
-        @NonNull UUID getSchemaUUID();
+        /**
+         * @return id of the schema resource, unique in the compiled schema
+         */
+        int getResourceId();
+
+        /**
+         * @return the resource id as UUID for compatibility. Unlike the random UUID before 2.0.0, it is unique
+         * only within one compiled schema, the resources of different schemas have the same ids
+         * @deprecated use {@link #getResourceId()} together with the compiled schema
+         */
+        @Deprecated(since = "2.0.0", forRemoval = true)
+        default @NonNull UUID getSchemaUUID() {
+            return new UUID(0, getResourceId());
+        }
+
         /**
          * Parent locator, or null for root sourceUri
          */
@@ -70,6 +84,13 @@ public interface IValidationResult {
 
         ISchemaLocator getSchemaLocator();
         JsonPointer getInstanceRef();
+
+        /**
+         * @return instance location in the internal form, cheap to compare and navigate
+         */
+        default InstancePath getInstancePath() {
+            return InstancePath.of(getInstanceRef());
+        }
     }
 
     Type getType();
@@ -0,0 +1,167 @@
+package io.github.georgeakulov.json_schema.results;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Objects;
+
+/**
+ * Location of the validated value inside the instance document.
+ * <p>
+ * Unlike {@link JsonPointer} appending a segment costs one small object and no string copying:
+ * the path is a linked list of segments pointing to the parent. The {@link JsonPointer} form is rendered
+ * (and cached) only when somebody asks for it, usually when a validation result escapes to the caller.
+ */
+public final class InstancePath {
+
+    private static final InstancePath EMPTY = new InstancePath(null, null, -1, JsonPointer.empty());
+
+    private final @Nullable InstancePath parent;
+    private final @Nullable String property;
+    private final int index;
+    private final int depth;
+    private @Nullable JsonPointer pointer;
+
+    private InstancePath(@Nullable InstancePath parent, @Nullable String property, int index, @Nullable JsonPointer pointer) {
+        this.parent = parent;
+        this.property = property;
+        this.index = index;
+        this.depth = parent == null ? 0 : parent.depth + 1;
+        this.pointer = pointer;
+    }
+
+    public static InstancePath empty() {
+        return EMPTY;
+    }
+
+    public static InstancePath of(JsonPointer pointer) {
+        InstancePath result = EMPTY;
+        for(JsonPointer ptr = pointer; ptr != null && !ptr.matches(); ptr = ptr.tail()) {
+            result = result.appendProperty(ptr.getMatchingProperty());
+        }
+        return result;
+    }
+
+    public InstancePath appendProperty(String property) {
+        return new InstancePath(this, Objects.requireNonNull(property), -1, null);
+    }
+
+    public InstancePath appendIndex(int index) {
+        return new InstancePath(this, null, index, null);
+    }
+
+    /**
+     * @return path without the last segment or null for the empty path
+     */
+    public @Nullable InstancePath parent() {
+        return parent;
+    }
+
+    public boolean isEmpty() {
+        return parent == null;
+    }
+
+    /**
+     * @return count of the segments
+     */
+    public int getDepth() {
+        return depth;
+    }
+
+    /**
+     * @return last segment as property name, same as {@link JsonPointer#getMatchingProperty()} of the last segment
+     */
+    public @Nullable String getMatchingProperty() {
+        if(parent == null) {
+            return null;
+        }
+        return property == null ? String.valueOf(index) : property;
+    }
+
+    /**
+     * @return last segment as array index or -1, same as {@link JsonPointer#getMatchingIndex()} of the last segment
+     */
+    public int getMatchingIndex() {
+        if(property == null) {
+            return index;
+        }
+        return parseIndex(property);
+    }
+
+    /**
+     * @return true if this path is the direct child of specified one
+     */
+    public boolean isChildOf(InstancePath path) {
+        return parent != null && parent.equals(path);
+    }
+
+    public JsonPointer toJsonPointer() {
+        // Racy but safe: JsonPointer is immutable and every thread renders the same value
+        JsonPointer ptr = pointer;
+        if(ptr == null) {
+            JsonPointer parentPtr = Objects.requireNonNull(parent).toJsonPointer();
+            ptr = property == null ? parentPtr.appendIndex(index) : parentPtr.appendProperty(property);
+            pointer = ptr;
+        }
+        return ptr;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if(this == o) {
+            return true;
+        }
+        if(!(o instanceof InstancePath other) || depth != other.depth) {
+            return false;
+        }
+        InstancePath left = this;
+        InstancePath right = other;
+        while(left != right) {
+            if(!left.segmentEquals(right)) {
+                return false;
+            }
+            left = left.parent;
+            right = right.parent;
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for(InstancePath path = this; path.parent != null; path = path.parent) {
+            int idx = path.getMatchingIndex();
+            result = 31 * result + (idx >= 0 ? idx : Objects.requireNonNull(path.property).hashCode());
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return toJsonPointer().toString();
+    }
+
+    private boolean segmentEquals(InstancePath other) {
+        if(property != null && other.property != null) {
+            return property.equals(other.property);
+        }
+        // "/1" is the same location whether it was appended as index or as property
+        return getMatchingIndex() == other.getMatchingIndex();
+    }
+
+    private static int parseIndex(String str) {
+        int len = str.length();
+        if(len == 0 || len > 10 || (len > 1 && str.charAt(0) == '0')) {
+            return -1;
+        }
+        long value = 0;
+        for(int i = 0; i < len; i++) {
+            char c = str.charAt(i);
+            if(c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value > Integer.MAX_VALUE ? -1 : (int) value;
+    }
+}
@@ -23,6 +23,10 @@ public class ValidationError extends AbstractValidationResult implements IValida
         this.args = args;
     }
 
+    public EErrorType getErrorType() {
+        return errorType;
+    }
+
     @Override
     public String getError() {
         if(args == null) {
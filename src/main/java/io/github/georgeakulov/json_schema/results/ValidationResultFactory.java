@@ -18,7 +18,6 @@ import java.io.PrintStream;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
-import java.util.UUID;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -26,19 +25,30 @@ import java.util.stream.Stream;
 
 public class ValidationResultFactory {
     
-    public static ISchemaLocator createSchemaLocator(UUID uuid, @Nullable URI originUri, @Nullable URI id, JsonPointer ref) {
-        return new SchemaLocator(uuid, originUri, id, ref, null);
+    public static ISchemaLocator createSchemaLocator(int resourceId, @Nullable URI originUri, @Nullable URI id, JsonPointer ref) {
+        return new SchemaLocator(resourceId, originUri, id, ref, null);
     }
 
-    public static ISchemaLocator createSubSchemaLocator(UUID uuid, @Nullable URI originUri, @Nullable URI id, JsonPointer ref, ISchemaLocator parent) {
-        return new SchemaLocator(uuid, originUri, id, ref, parent);
+    public static ISchemaLocator createSubSchemaLocator(int resourceId, @Nullable URI originUri, @Nullable URI id, JsonPointer ref, ISchemaLocator parent) {
+        return new SchemaLocator(resourceId, originUri, id, ref, parent);
     }
 
-    public static IValidationId createId(ISchemaLocator schemaLocator, JsonPointer instancePtr) {
-        return new ValidationId(createSchemaLocator(schemaLocator.getSchemaUUID(), null, null, schemaLocator.getSchemaRef()), instancePtr);
+    /**
+     * Creates the schema side part of validation id. Validators should call it once at compile time
+     * and pass the result to {@link #createId} for every validated instance, so no locator is copied on the hot path.
+     */
+    public static ISchemaLocator createSchemaId(ISchemaLocator schemaLocator) {
+        if(schemaLocator.getParent() == null && schemaLocator.getId() == null && schemaLocator.getOriginUri() == null) {
+            return schemaLocator;
+        }
+        return createSchemaLocator(schemaLocator.getResourceId(), null, null, schemaLocator.getSchemaRef());
+    }
+
+    public static IValidationId createId(ISchemaLocator schemaLocator, InstancePath instancePath) {
+        return new ValidationId(createSchemaId(schemaLocator), instancePath);
     }
 
-    public static IValidationResult createOk(ISchemaLocator schemaLocator, JsonPointer instancePtr) {
+    public static IValidationResult createOk(ISchemaLocator schemaLocator, InstancePath instancePtr) {
         return createOk(createId(schemaLocator, instancePtr));
     }
 
@@ -50,11 +60,11 @@ public class ValidationResultFactory {
         return new ValidationAnnotation(id);
     }
 
-    public static ValidationAnnotation createAnnotation(ISchemaLocator schemaLocator, JsonPointer instancePtr) {
+    public static ValidationAnnotation createAnnotation(ISchemaLocator schemaLocator, InstancePath instancePtr) {
         return createAnnotation(createId(schemaLocator, instancePtr));
     }
 
-    public static ValidationResultContainer createContainer(ISchemaLocator schemaLocator, JsonPointer instancePtr) {
+    public static ValidationResultContainer createContainer(ISchemaLocator schemaLocator, InstancePath instancePtr) {
         return createContainer(createId(schemaLocator, instancePtr));
     }
 
@@ -62,6 +72,14 @@ public class ValidationResultFactory {
         return new ValidationResultContainer(id, true);
     }
 
+    /**
+     * Creates container for the results of whole (sub)schema
+     * @param origin compiled schema validator produced this result, used to find reusable results on revalidation
+     */
+    public static SchemaResultContainer createSchemaContainer(IValidationId id, Object origin) {
+        return new SchemaResultContainer(id, origin);
+    }
+
     public static class ValidationResultContainer implements IValidationResultContainer {
 
         private final IValidationId id;
@@ -114,6 +132,20 @@ public class ValidationResultFactory {
         }
     }
 
+    public static final class SchemaResultContainer extends ValidationResultContainer {
+
+        private final Object origin;
+
+        private SchemaResultContainer(IValidationId id, Object origin) {
+            super(id, true);
+            this.origin = origin;
+        }
+
+        public Object getOrigin() {
+            return origin;
+        }
+    }
+
     public record ValidationAnnotation(IValidationId id) implements IValidationAnnotation {
 
         @Override
@@ -155,7 +187,7 @@ public class ValidationResultFactory {
         }
     }
 
-    public record ValidationId(ISchemaLocator schemaLocator, JsonPointer instancePtr) implements IValidationId {
+    public record ValidationId(ISchemaLocator schemaLocator, InstancePath instancePath) implements IValidationId {
 
         @Override
         public ISchemaLocator getSchemaLocator() {
@@ -164,25 +196,30 @@ public class ValidationResultFactory {
 
         @Override
         public JsonPointer getInstanceRef() {
-            return instancePtr;
+            return instancePath.toJsonPointer();
+        }
+
+        @Override
+        public InstancePath getInstancePath() {
+            return instancePath;
         }
 
         @Override
         public String toString() {
             final StringBuilder sb = new StringBuilder("id{");
             sb.append("loc=").append(schemaLocator);
-            sb.append(", inst=").append(instancePtr);
+            sb.append(", inst=").append(instancePath);
             sb.append('}');
             return sb.toString();
         }
     }
 
-    public record SchemaLocator(@NonNull UUID uuid, @Nullable URI originUri, @Nullable URI id, JsonPointer schemaRef,
+    public record SchemaLocator(int resourceId, @Nullable URI originUri, @Nullable URI id, JsonPointer schemaRef,
                                 ISchemaLocator parent) implements ISchemaLocator {
 
         @Override
-        public @NonNull UUID getSchemaUUID() {
-            return uuid;
+        public int getResourceId() {
+            return resourceId;
         }
 
         @Override
@@ -228,12 +265,12 @@ public class ValidationResultFactory {
 
         @Override
         public ISchemaLocator appendProperty(String property) {
-            return new SchemaLocator(uuid, originUri, id, schemaRef.appendProperty(property), parent);
+            return new SchemaLocator(resourceId, originUri, id, schemaRef.appendProperty(property), parent);
         }
 
         @Override
         public ISchemaLocator appendIndex(int idx) {
-            return new SchemaLocator(uuid, originUri, id, schemaRef.appendIndex(idx), parent);
+            return new SchemaLocator(resourceId, originUri, id, schemaRef.appendIndex(idx), parent);
         }
     }
 
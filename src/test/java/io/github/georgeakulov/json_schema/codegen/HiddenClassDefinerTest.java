@@ -0,0 +1,154 @@
+package io.github.georgeakulov.json_schema.codegen;
+
+import io.github.georgeakulov.json_schema.Schema;
+import io.github.georgeakulov.json_schema.Schema.FastPathState;
+import io.github.georgeakulov.json_schema.SchemaBuilder;
+import io.github.georgeakulov.json_schema.ValidationLimits;
+import io.github.georgeakulov.json_schema.common.SchemaCompileException;
+import io.github.georgeakulov.json_schema.results.IValidationResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static io.github.georgeakulov.json_schema.TestUtils.fromString;
+import static org.junit.jupiter.api.Assertions.*;
+
+class HiddenClassDefinerTest {
+
+    private static final String SCHEMA = """
+            {
+                "type": "object",
+                "properties": {
+                    "id": {"type": "integer", "minimum": 1},
+                    "tags": {"type": "array", "items": {"type": "string"}}
+                },
+                "required": ["id"]
+            }
+            """;
+
+    @Test
+    void defineHiddenClass() {
+        var validator = HiddenClassDefiner.define(fromString(SCHEMA));
+        assertTrue(validator.getClass().isHidden());
+        assertTrue(validator.test(fromString("{\"id\": 1, \"tags\": [\"a\"]}")));
+        assertFalse(validator.test(fromString("{\"id\": 0}")));
+
+        // The second definition is independent
+        assertNotSame(validator.getClass(), HiddenClassDefiner.define(fromString(SCHEMA)).getClass());
+
+        assertThrows(SchemaCompileException.class, () -> HiddenClassDefiner.define(fromString("{\"unevaluatedProperties\": false}")));
+    }
+
+    @Test
+    void bytecodeShapes() {
+        // "Aa" and "BB" have the same hash code
+        var validator = HiddenClassDefiner.define(fromString("""
+                {
+                    "properties": {"Aa": {"type": "integer"}, "BB": {"type": "string"}},
+                    "dependentSchemas": {"Aa": {"required": ["BB"]}},
+                    "if": {"required": ["x"]}, "else": {"maxProperties": 2}
+                }
+                """));
+        assertTrue(validator.test(fromString("{\"Aa\": 1, \"BB\": \"s\"}")));
+        assertFalse(validator.test(fromString("{\"Aa\": \"s\", \"BB\": \"s\"}")));
+        assertFalse(validator.test(fromString("{\"Aa\": 1, \"BB\": 1}")));
+        assertFalse(validator.test(fromString("{\"Aa\": 1}")));
+        assertFalse(validator.test(fromString("{\"BB\": \"s\", \"c\": 1, \"d\": 1}")));
+        assertTrue(validator.test(fromString("{\"x\": 1, \"c\": 1, \"d\": 1}")));
+        assertFalse(HiddenClassDefiner.define(fromString("false")).test(fromString("1")));
+    }
+
+    @Test
+    void unsupportedReferences() {
+        var escaped = HiddenClassDefiner.define(fromString("""
+                {"$defs": {"a b": {"type": "integer"}}, "$ref": "#/$defs/a%20b"}
+                """));
+        assertFalse(escaped.test(fromString("\"x\"")));
+        assertThrows(SchemaCompileException.class, () -> HiddenClassDefiner.define(fromString("""
+                {"$defs": {"a": {"$anchor": "item", "type": "integer"}}, "$ref": "#item"}
+                """)));
+
+        String schema = """
+                {"$defs": {"a b": {"type": "integer"}}, "properties": {"x": {"$ref": "#/$defs/a b"}}}
+                """;
+        var tiered = SchemaBuilder.create()
+                .setDraft202012DefaultDialect()
+                .setUnannotatedFastPathThreshold(1)
+                .compile(schema);
+        for(int i = 0; i < 20; i++) {
+            assertTrue(tiered.apply("{\"x\": 1}").isOk());
+            assertFalse(tiered.apply("{\"x\": \"a\"}").isOk());
+        }
+    }
+
+    @Test
+    void tieredSchema() {
+        var tiered = SchemaBuilder.create()
+                .setDraft202012DefaultDialect()
+                .setUnannotatedFastPathThreshold(3)
+                .compile(SCHEMA);
+        var interpreted = SchemaBuilder.create()
+                .setDraft202012DefaultDialect()
+                .compile(SCHEMA);
+        List<String> instances = List.of("{\"id\": 1}", "{\"id\": 0}", "{\"tags\": [1]}", "{\"id\": 5, \"tags\": [\"a\"]}");
+        for(int round = 0; round < 5; round++) {
+            for(String instance : instances) {
+                IValidationResult expected = interpreted.apply(instance);
+                IValidationResult actual = tiered.apply(instance);
+                assertEquals(expected.isOk(), actual.isOk(), instance);
+                if(!expected.isOk()) {
+                    // The errors are still collected by the interpreter
+                    assertEquals(errors(expected), errors(actual));
+                }
+            }
+        }
+        assertThrows(IllegalArgumentException.class, () -> SchemaBuilder.create().setUnannotatedFastPathThreshold(-1));
+    }
+
+    @Test
+    void fastPathState() {
+        assertEquals(FastPathState.DISABLED, SchemaBuilder.create().setDraft202012DefaultDialect().compile(SCHEMA).getFastPathState());
+
+        var limited = SchemaBuilder.create()
+                .setDraft202012DefaultDialect()
+                .setUnannotatedFastPathThreshold(1)
+                .setValidationLimits(ValidationLimits.NONE.withMaxDepth(10))
+                .compile(SCHEMA);
+        assertEquals(FastPathState.UNAVAILABLE, limited.getFastPathState());
+        assertNotNull(limited.getFastPathFailure());
+
+        var unsupported = SchemaBuilder.create()
+                .setDraft202012DefaultDialect()
+                .setUnannotatedFastPathThreshold(1)
+                .compile("{\"unevaluatedProperties\": false}");
+        assertEquals(FastPathState.PENDING, unsupported.getFastPathState());
+        waitGeneration(unsupported);
+        assertEquals(FastPathState.UNAVAILABLE, unsupported.getFastPathState());
+        assertInstanceOf(SchemaCompileException.class, unsupported.getFastPathFailure());
+
+        var supported = SchemaBuilder.create()
+                .setDraft202012DefaultDialect()
+                .setUnannotatedFastPathThreshold(1)
+                .compile(SCHEMA);
+        waitGeneration(supported);
+        assertEquals(FastPathState.ACTIVE, supported.getFastPathState());
+        assertNull(supported.getFastPathFailure());
+    }
+
+    private static void waitGeneration(Schema schema) {
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        while(schema.getFastPathState() == FastPathState.PENDING && System.nanoTime() < deadline) {
+            schema.apply("{\"id\": 1}");
+            Thread.onSpinWait();
+        }
+    }
+
+    private static Set<String> errors(IValidationResult result) {
+        return result.asStream()
+                .filter(IValidationResult.IValidationResultError.class::isInstance)
+                .map(IValidationResult::toString)
+                .collect(Collectors.toSet());
+    }
+}
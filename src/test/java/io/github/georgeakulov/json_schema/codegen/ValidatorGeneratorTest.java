@@ -0,0 +1,132 @@
+package io.github.georgeakulov.json_schema.codegen;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.github.georgeakulov.json_schema.SchemaBuilder;
+import io.github.georgeakulov.json_schema.common.SchemaCompileException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.ToolProvider;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Predicate;
+
+import static io.github.georgeakulov.json_schema.TestUtils.fromString;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ValidatorGeneratorTest {
+
+    private static final String SCHEMA = """
+            {
+                "$schema": "https://json-schema.org/draft/2020-12/schema",
+                "type": "object",
+                "required": ["id", "items"],
+                "properties": {
+                    "id": {"$ref": "#/$defs/positive"},
+                    "name": {"type": "string", "minLength": 2, "maxLength": 5, "pattern": "^[a-z]"},
+                    "kind": {"enum": ["a", 1, null, {"x": 1}]},
+                    "version": {"const": 2},
+                    "price": {"type": "number", "multipleOf": 0.01, "maximum": 100},
+                    "items": {
+                        "type": "array",
+                        "prefixItems": [{"type": "string"}],
+                        "items": {"$ref": "#/$defs/positive"},
+                        "contains": {"const": 7},
+                        "maxContains": 1,
+                        "uniqueItems": true
+                    },
+                    "tree": {"$ref": "#/$defs/tree"},
+                    "choice": {"oneOf": [{"type": "integer"}, {"minimum": 5}], "not": {"const": 10}},
+                    "either": {"anyOf": [{"type": "string"}, {"type": "boolean"}]},
+                    "cond": {"if": {"type": "string"}, "then": {"minLength": 3}, "else": {"type": "integer"}}
+                },
+                "patternProperties": {"^x-": {"type": "string"}},
+                "additionalProperties": false,
+                "propertyNames": {"maxLength": 8},
+                "dependentRequired": {"name": ["kind"]},
+                "$defs": {
+                    "positive": {"type": "integer", "exclusiveMinimum": 0},
+                    "tree": {
+                        "type": "object",
+                        "properties": {"children": {"type": "array", "items": {"$ref": "#/$defs/tree"}}}
+                    }
+                }
+            }
+            """;
+
+    private static final List<String> INSTANCES = List.of(
+            "{\"id\": 1, \"items\": [\"a\", 7]}",
+            "{\"id\": 1.0, \"items\": [\"a\", 7, 2]}",
+            "{\"id\": 0, \"items\": [\"a\", 7]}",
+            "{\"id\": 1}",
+            "[]",
+            "{\"id\": 1, \"items\": [\"a\", 7, 7]}",
+            "{\"id\": 1, \"items\": [\"a\", 2]}",
+            "{\"id\": 1, \"items\": [1, 7]}",
+            "{\"id\": 1, \"items\": [\"a\", 7], \"name\": \"abc\", \"kind\": {\"x\": 1.0}}",
+            "{\"id\": 1, \"items\": [\"a\", 7], \"name\": \"abc\"}",
+            "{\"id\": 1, \"items\": [\"a\", 7], \"name\": \"Abc\", \"kind\": 1}",
+            "{\"id\": 1, \"items\": [\"a\", 7], \"name\": \"abcdef\", \"kind\": 1}",
+            "{\"id\": 1, \"items\": [\"a\", 7], \"version\": 2.0, \"price\": 10.25}",
+            "{\"id\": 1, \"items\": [\"a\", 7], \"price\": 10.255}",
+            "{\"id\": 1, \"items\": [\"a\", 7], \"price\": 100.01}",
+            "{\"id\": 1, \"items\": [\"a\", 7], \"tree\": {\"children\": [{\"children\": []}, {}]}}",
+            "{\"id\": 1, \"items\": [\"a\", 7], \"tree\": {\"children\": [{\"children\": [1]}]}}",
+            "{\"id\": 1, \"items\": [\"a\", 7], \"choice\": 3}",
+            "{\"id\": 1, \"items\": [\"a\", 7], \"choice\": 6}",
+            "{\"id\": 1, \"items\": [\"a\", 7], \"choice\": 5.5}",
+            "{\"id\": 1, \"items\": [\"a\", 7], \"choice\": 10}",
+            "{\"id\": 1, \"items\": [\"a\", 7], \"either\": true, \"cond\": \"abc\"}",
+            "{\"id\": 1, \"items\": [\"a\", 7], \"either\": 1}",
+            "{\"id\": 1, \"items\": [\"a\", 7], \"cond\": \"ab\"}",
+            "{\"id\": 1, \"items\": [\"a\", 7], \"cond\": 1.5}",
+            "{\"id\": 1, \"items\": [\"a\", 7], \"x-a\": \"s\"}",
+            "{\"id\": 1, \"items\": [\"a\", 7], \"x-a\": 1}",
+            "{\"id\": 1, \"items\": [\"a\", 7], \"other\": 1}",
+            "{\"id\": 1, \"items\": [\"a\", 7], \"x-too-long\": \"s\"}"
+    );
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void sameResultsAsInterpreted(@TempDir Path dir) throws Exception {
+        JsonNode schemaNode = fromString(SCHEMA);
+        String source = ValidatorGenerator.generate(schemaNode, "generated.TestValidator");
+        Path file = dir.resolve("generated/TestValidator.java");
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, source);
+        int exitCode = ToolProvider.getSystemJavaCompiler().run(null, null, null,
+                "-classpath", System.getProperty("java.class.path"), "-d", dir.toString(), file.toString());
+        assertEquals(0, exitCode, source);
+
+        try(var loader = new URLClassLoader(new java.net.URL[] {dir.toUri().toURL()}, getClass().getClassLoader())) {
+            var generated = (Predicate<JsonNode>) loader.loadClass("generated.TestValidator").getConstructor().newInstance();
+            var interpreted = SchemaBuilder.create().compile(schemaNode);
+            var hidden = HiddenClassDefiner.define(schemaNode);
+            for(String instance : INSTANCES) {
+                JsonNode node = fromString(instance);
+                assertEquals(interpreted.apply(node).isOk(), generated.test(node), instance);
+                assertEquals(interpreted.apply(node).isOk(), hidden.test(node), instance);
+            }
+        }
+    }
+
+    @Test
+    void unsupportedSchemas() {
+        assertThrows(SchemaCompileException.class, () -> ValidatorGenerator.generate(
+                fromString("{\"unevaluatedProperties\": false}"), "a.B"));
+        assertThrows(SchemaCompileException.class, () -> ValidatorGenerator.generate(
+                fromString("{\"$ref\": \"https://example.com/other\"}"), "a.B"));
+        assertThrows(SchemaCompileException.class, () -> ValidatorGenerator.generate(
+                fromString("{\"$schema\": \"http://json-schema.org/draft-07/schema#\"}"), "a.B"));
+        assertThrows(SchemaCompileException.class, () -> ValidatorGenerator.generate(
+                fromString("{\"properties\": {\"a\": {\"type\": [\"string\", \"objekt\"]}}}"), "a.B"));
+        assertThrows(IllegalArgumentException.class, () -> ValidatorGenerator.generate(fromString("{}"), "a.1B"));
+    }
+
+    @Test
+    void literalEscaping() {
+        assertEquals("\"a\\\"b\\\\d\\n\\u00e9\"", ValidatorGenerator.literal("a\"b\\d\né"));
+    }
+}
@@ -0,0 +1,88 @@
+package io.github.georgeakulov.json_schema.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.format.ResolverStyle;
+
+import static io.github.georgeakulov.json_schema.common.DateTimeFormatValidation.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class DateTimeFormatValidationTest {
+
+    private static final DateTimeFormatter STRICT_DATE = DateTimeFormatter.ofPattern("uuuu-MM-dd")
+            .withResolverStyle(ResolverStyle.STRICT);
+
+    @Test
+    void testDateAgainstJavaTime() {
+        for(int year : new int[]{0, 1900, 1999, 2000, 2004, 2100}) {
+            for(int month = 0; month <= 13; month++) {
+                for(int day = 0; day <= 32; day++) {
+                    String value = "%04d-%02d-%02d".formatted(year, month, day);
+                    assertEquals(parsedByJavaTime(value), validateDate(value), value);
+                }
+            }
+        }
+        assertFalse(validateDate("2020-1-01"));
+        assertFalse(validateDate("2020-01-011"));
+        assertFalse(validateDate("2020/01/01"));
+        assertFalse(validateDate("2020-01-0١"));
+    }
+
+    @Test
+    void testTime() {
+        assertTrue(validateTime("08:30:06Z"));
+        assertTrue(validateTime("08:30:06.283185z"));
+        assertTrue(validateTime("08:30:06+23:59"));
+        assertTrue(validateTime("23:59:60Z"));
+        assertTrue(validateTime("15:59:60-08:00"));
+        assertTrue(validateTime("00:29:60+00:30"));
+
+        assertFalse(validateTime("22:59:60Z"));
+        assertFalse(validateTime("23:59:60+01:00"));
+        assertFalse(validateTime("24:00:00Z"));
+        assertFalse(validateTime("08:60:00Z"));
+        assertFalse(validateTime("08:30:06"));
+        assertFalse(validateTime("08:30:06.Z"));
+        assertFalse(validateTime("08:30:006Z"));
+        assertFalse(validateTime("08:30:06+24:00"));
+        assertFalse(validateTime("08:30:06+01:60"));
+        assertFalse(validateTime("08:30:06+0100"));
+        assertFalse(validateTime("08:30:06 PST"));
+        assertFalse(validateTime("08:30:06Z "));
+    }
+
+    @Test
+    void testDateTime() {
+        assertTrue(validateDateTime("1963-06-19T08:30:06.283185Z"));
+        assertTrue(validateDateTime("1963-06-19t08:30:06z"));
+        assertTrue(validateDateTime("1998-12-31T23:59:60Z"));
+        assertFalse(validateDateTime("1998-12-31T22:59:60Z"));
+        assertFalse(validateDateTime("1963-06-19 08:30:06Z"));
+        assertFalse(validateDateTime("1963-06-19T"));
+        assertFalse(validateDateTime("2021-02-29T08:30:06Z"));
+    }
+
+    @Test
+    void testDuration() {
+        for(String value : new String[]{"P4DT12H30M5S", "P4Y", "PT0S", "P0D", "P1M", "PT1M", "PT36H", "P1D", "P2W", "PT1.5S", "P1Y1D"}) {
+            assertTrue(validateDuration(value), value);
+        }
+        for(String value : new String[]{"PT1D", "P", "PT", "P1YT", "P2D1Y", "P1D2H", "P2S", "P1Y2W", "P2WT1H", "P1", "P১",
+                "P1D1D", "PT1.5H", "P1.5D", "1D"}) {
+            assertFalse(validateDuration(value), value);
+        }
+    }
+
+    private static boolean parsedByJavaTime(String value) {
+        try {
+            LocalDate.parse(value, STRICT_DATE);
+            return true;
+        }
+        catch(DateTimeParseException e) {
+            return false;
+        }
+    }
+}
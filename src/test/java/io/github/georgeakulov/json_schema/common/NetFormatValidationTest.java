@@ -0,0 +1,182 @@
+package io.github.georgeakulov.json_schema.common;
+
+import io.github.georgeakulov.json_schema.common.email.EmailValidator;
+import io.github.georgeakulov.json_schema.common.email.HostnameValidator;
+import io.github.georgeakulov.json_schema.common.uritemplate.URITemplateParser;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Differential tests of the format scanners against the regular expressions used before them
+ */
+class NetFormatValidationTest {
+
+    private static final Predicate<String> REGEX_IPV4 =
+            Pattern.compile("^((25[0-5]|(2[0-4]|1\\d|[1-9]|)\\d)\\.?\\b){4}$").asPredicate();
+
+    private static final String SPECIAL_CHARS = "\\p{Cntrl}\\(\\)<>@,;:'\\\\\\\"\\.\\[\\]";
+    private static final String VALID_CHARS = "(\\\\.)|[^\\s" + SPECIAL_CHARS + "]";
+    private static final String QUOTED_USER = "(\"(\\\\\"|[^\"])*\")";
+    private static final String WORD = "((" + VALID_CHARS + "|')+|" + QUOTED_USER + ")";
+    private static final Pattern REGEX_EMAIL = Pattern.compile("^(.+)@(\\S+)$");
+    private static final Pattern REGEX_USER = Pattern.compile("^" + WORD + "(\\." + WORD + ")*$");
+    private static final String DOMAIN_LABEL = "\\p{Alnum}(?>[\\p{Alnum}-]{0,61}\\p{Alnum})?";
+    private static final Pattern REGEX_DOMAIN = Pattern.compile(
+            "^(?:" + DOMAIN_LABEL + "\\.)+(\\p{Alpha}(?>[\\p{Alnum}-]{0,61}\\p{Alnum})?)\\.?$");
+    private static final Pattern REGEX_LABEL = Pattern.compile(DOMAIN_LABEL);
+    private static final Pattern REGEX_LDH = Pattern.compile("^([0-9a-z\\-]+)$", Pattern.CASE_INSENSITIVE);
+
+    private final Random random = new Random(20240601L);
+
+    @Test
+    void testIpv4AgainstRegex() {
+        var ipv4 = CommonFormatValidations.getIpv4Validator();
+        for(int i = 0; i < 200_000; i++) {
+            String value = randomString("0123456789.", 16);
+            assertEquals(REGEX_IPV4.test(value), ipv4.test(value), value);
+        }
+        for(String value : new String[]{"192.168.0.1", "0.0.0.0", "255.255.255.255"}) {
+            assertTrue(ipv4.test(value), value);
+        }
+        for(String value : new String[]{"256.256.256.256", "127.0", "087.10.0.1", "1.2.3.4.5", "0x7f000001", "192.168.1.0/24", "1২7.0.0.1"}) {
+            assertFalse(ipv4.test(value), value);
+        }
+    }
+
+    @Test
+    void testIpv6() {
+        var ipv6 = CommonFormatValidations.getIpv6Validator();
+        for(String value : new String[]{"::1", "::", "::abef", "1::d6:192.168.0.1", "::ffff:192.168.0.1", "1:2:3:4:5:6:7:8",
+                "1:2:3:4:5:6:7::", "::2:3:4:5:6:7:8", "1:2::8", "1:2:3:4:5:6:1.2.3.4", "AbCd::eF01", "[::1]"}) {
+            assertTrue(ipv6.test(value), value);
+        }
+        for(String value : new String[]{"", ":", "12345::", "::laptop", "1:1:1:1:1:1:1:1:1", "1::1::1", "1:2:3:4:5:6:7:8::",
+                ":2:3:4:5:6:7:8", "1:2:3:4:5:6:7:", "1:2:3:4:5:6:7:8:1.2.3.4", "::ffff:192.168.0.256", "::ffff:192.168.0.01",
+                "::1.2.3", "1:2:3:4:5:6:7:1.2.3.4", " ::1", "::1 ", "fe80::a%eth1", "100:100:100:100:100:100:255.255.255.255.255", "1:२::"}) {
+            assertFalse(ipv6.test(value), value);
+        }
+    }
+
+    @Test
+    void testEmailAgainstRegex() {
+        var email = EmailValidator.getInstance(true, false);
+        for(int i = 0; i < 200_000; i++) {
+            String value = randomString("ab1.@\"\\' -(\té", 14);
+            Boolean expected = regexEmail(value);
+            if(expected != null) {
+                assertEquals(expected, email.isValid(value), value);
+            }
+        }
+        for(String value : new String[]{"joe.bloggs@example.com", "te~st@example.com", "~test@example.com", "test~@example.com",
+                "\"joe bloggs\"@example.com", "\"joe..bloggs\"@example.com", "joe.bloggs@[127.0.0.1]", "joe.bloggs@[IPv6:::1]",
+                "te.s.t@example.com", "joe@localhost", "\"a\\\"b\"@example.com"}) {
+            assertTrue(email.isValid(value), value);
+        }
+        for(String value : new String[]{"2962", ".test@example.com", "test.@example.com", "te..st@example.com",
+                "joe.bloggs@[127.0.0.300]", "joe.bloggs@invalid=domain.com", "joe@example.com.", "@example.com", "joe@"}) {
+            assertFalse(email.isValid(value), value);
+        }
+    }
+
+    @Test
+    void testHostnameAgainstRegex() {
+        var hostname = HostnameValidator.getHostNameValidator();
+        for(int i = 0; i < 200_000; i++) {
+            String value = randomString("ab-.1Z_é", 12);
+            assertEquals(regexHostname(value), hostname.test(value), value);
+        }
+        assertTrue(hostname.test("www.example.com"));
+        assertTrue(hostname.test("xn--4gbwdl.xn--wgbh1c"));
+        assertTrue(hostname.test("a".repeat(63) + ".com"));
+        assertFalse(hostname.test("a".repeat(64) + ".com"));
+        assertFalse(hostname.test("xn--X"));
+        assertFalse(hostname.test("ab--cd.com"));
+        assertFalse(hostname.test("example.com."));
+        assertFalse(HostnameValidator.getIDNAHostnameValidator().test("xn--X"));
+        assertTrue(HostnameValidator.getIDNAHostnameValidator().test("실례.테스트"));
+        assertFalse(HostnameValidator.getIDNAHostnameValidator().test("실례..테스트"));
+    }
+
+    @Test
+    void testUriTemplateAgainstParser() {
+        for(int i = 0; i < 200_000; i++) {
+            String value = randomString("{}a_.%1F0,:*+#/", 12);
+            assertEquals(URITemplateParser.parse(value), URITemplateParser.isValid(value), value);
+        }
+        for(String value : new String[]{"", "http://example.com/dictionary/{term:1}/{term}", "{+path}/here", "{?x,y*}", "{var:9999}", "{a%2F.b_1}"}) {
+            assertTrue(URITemplateParser.isValid(value), value);
+        }
+        for(String value : new String[]{"{}", "{term", "term}", "{{a}}", "{a,}", "{a:0}", "{a:10000}", "{a:1*}", "{a..b}", "{a%2}", "{+}"}) {
+            assertFalse(URITemplateParser.isValid(value), value);
+        }
+    }
+
+    @Test
+    void testJsonPointers() {
+        var pointer = CommonFormatValidations.getJsonPointerValidator();
+        for(String value : new String[]{"", "/", "/foo/0", "/a~1b/m~0n", "//", "/ "}) {
+            assertTrue(pointer.test(value), value);
+        }
+        for(String value : new String[]{"foo", "/foo/~", "/~2", "#/a"}) {
+            assertFalse(pointer.test(value), value);
+        }
+        var relative = CommonFormatValidations.getRelativeJsonPointerValidator();
+        for(String value : new String[]{"0", "1/foo/bar", "0#", "120/foo/bar", "2/0/baz/1/zip"}) {
+            assertTrue(relative.test(value), value);
+        }
+        for(String value : new String[]{"", "/foo", "01/a", "-1/foo", "+1/foo", "0##", "1~", "0/~"}) {
+            assertFalse(relative.test(value), value);
+        }
+    }
+
+    private String randomString(String alphabet, int maxLength) {
+        int length = random.nextInt(maxLength + 1);
+        var builder = new StringBuilder(length);
+        for(int i = 0; i < length; i++) {
+            builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return builder.toString();
+    }
+
+    /**
+     * @return expected result or null if the domain is not ASCII, such domains go through IDN conversion
+     */
+    private static Boolean regexEmail(String value) {
+        if(value.endsWith(".")) {
+            return false;
+        }
+        Matcher matcher = REGEX_EMAIL.matcher(value);
+        if(!matcher.matches()) {
+            return false;
+        }
+        String user = matcher.group(1);
+        String domain = matcher.group(2);
+        if(user.length() > 64 || !REGEX_USER.matcher(user).matches()) {
+            return false;
+        }
+        if(domain.chars().anyMatch(ch -> ch > 0x7f)) {
+            return null;
+        }
+        return REGEX_DOMAIN.matcher(domain).matches() || REGEX_LABEL.matcher(domain).matches();
+    }
+
+    private static boolean regexHostname(String value) {
+        if(value.isEmpty() || value.length() > 253 || value.chars().anyMatch(ch -> ch > 0x7f)) {
+            return false;
+        }
+        for(String label : value.split("\\.", -1)) {
+            if(label.isEmpty() || label.length() > 63 || !REGEX_LDH.matcher(label).matches()
+                    || label.startsWith("-") || label.endsWith("-")
+                    || (label.length() > 3 && label.substring(2).startsWith("--"))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,82 @@
+package io.github.georgeakulov.json_schema.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UriScannerTest {
+
+    @Test
+    void testUri() {
+        List.of(
+                "http://foo.bar/?baz=qux#quux",
+                "http://foo.com/blah_(wikipedia)_blah#cite-1",
+                "http://foo.bar/?q=Test%20URL-encoded%20stuff",
+                "http://xn--nw2a.xn--j6w193g/",
+                "http://-.~_!$&'()*+,;=:%40:80%2f::::::@example.com",
+                "http://223.255.255.254",
+                "ftp://ftp.is.co.za/rfc/rfc1808.txt",
+                "http://www.ietf.org/rfc/rfc2396.txt",
+                "ldap://[2001:db8::7]/c=GB?objectClass?one",
+                "http://[v1.fe80::a+en1]/",
+                "mailto:John.Doe@example.com",
+                "news:comp.infosystems.www.servers.unix",
+                "tel:+1-816-555-1212",
+                "urn:oasis:names:specification:docbook:dtd:xml:4.1.2",
+                "file:///etc/hosts"
+        ).forEach(value -> assertTrue(UriScanner.isUri(value), value));
+
+        List.of(
+                "//foo.bar/?baz=qux#quux",
+                "/abc",
+                "\\\\WINDOWS\\fileshare",
+                "abc",
+                "http:// shouldfail.com",
+                ":// should fail",
+                "bar,baz:foo",
+                "1http://example.com",
+                "http://example.com/é",
+                "http://example.com/%zz",
+                "http://example.com/%4",
+                "http://example.com/#a#b",
+                "http://[2001:db8::7/",
+                "http://[::g]/",
+                "http://2001:0db8:85a3:0000:0000:8a2e:0370:7334",
+                "http://a@b@c/"
+        ).forEach(value -> assertFalse(UriScanner.isUri(value), value));
+    }
+
+    @Test
+    void testUriReference() {
+        List.of("", "/abc", "abc", "#fragment", "//example.com", "./a:b", "?q", "http://example.com/a?b#c")
+                .forEach(value -> assertTrue(UriScanner.isUriReference(value), value));
+        List.of("\\\\WINDOWS\\filename", "#frag\\ment", "a:b:c d", "bar,baz:foo", "http://example.com/é")
+                .forEach(value -> assertFalse(UriScanner.isUriReference(value), value));
+    }
+
+    @Test
+    void testIri() {
+        List.of(
+                "http://ƒøø.ßår/?∂éœ=πîx#πîüx",
+                "http://➡.ws/䨹",
+                "http://[2001:0db8:85a3:0000:0000:8a2e:0370:7334]",
+                "http://example.com/😀",
+                "http://example.com/?\uE000"
+        ).forEach(value -> assertTrue(UriScanner.isIri(value), value));
+
+        List.of(
+                "/abc",
+                "http://2001:0db8:85a3:0000:0000:8a2e:0370:7334",
+                "\\\\WINDOWS\\filëßåré",
+                "http://example.com/\uE000",
+                "http://example.com/\uD83D",
+                "http://example.com/\u0085"
+        ).forEach(value -> assertFalse(UriScanner.isIri(value), value));
+
+        List.of("//ƒøø.ßår/?∂éœ=πîx#πîüx", "/âππ", "âππ", "#ƒrägmênt")
+                .forEach(value -> assertTrue(UriScanner.isIriReference(value), value));
+        assertFalse(UriScanner.isIriReference("#ƒräg\\mênt"));
+    }
+}
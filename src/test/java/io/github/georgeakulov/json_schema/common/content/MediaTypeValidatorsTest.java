@@ -0,0 +1,84 @@
+package io.github.georgeakulov.json_schema.common.content;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MediaTypeValidatorsTest {
+
+    private static boolean isValid(IContentValidationRegistry.ExceptionableStreamCons validator, String value) {
+        try {
+            validator.accept(new ByteArrayInputStream(value.getBytes(StandardCharsets.UTF_8)));
+            return true;
+        }
+        catch(Exception e) {
+            return false;
+        }
+    }
+
+    private static String base64Url(String value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testMimeType() {
+        var type = MimeType.create(" Application/JSON ; Charset=\"UTF-8\"; q");
+        assertEquals("application", type.getType());
+        assertEquals("json", type.getSubType());
+        assertEquals("utf-8", type.getParams().get("charset"));
+        assertTrue(type.getParams().containsKey("q"));
+        assertEquals(MimeType.create("application/json;charset=utf-8;q"), type);
+        assertEquals(MimeType.create("application/json;q;charset=utf-8").hashCode(), type.hashCode());
+        assertTrue(MimeType.create("application/jwt").hasJsonContent());
+        assertTrue(MimeType.create("image/svg+xml").hasXmlContent());
+        assertTrue(MimeType.create("text/csv; header=present").isCsv());
+    }
+
+    @Test
+    void testJson() {
+        assertTrue(isValid(ContentUtils.JSON_CONTENT, " {\"a\": [1, {\"b\": null}]} "));
+        assertTrue(isValid(ContentUtils.JSON_CONTENT, "1"));
+        assertFalse(isValid(ContentUtils.JSON_CONTENT, ""));
+        assertFalse(isValid(ContentUtils.JSON_CONTENT, "{\"a\": 1"));
+        assertFalse(isValid(ContentUtils.JSON_CONTENT, "{} {}"));
+    }
+
+    @Test
+    void testJwt() {
+        String header = base64Url("{\"alg\":\"HS256\",\"typ\":\"JWT\"}");
+        String payload = base64Url("{\"sub\":\"1234567890\"}");
+        assertTrue(isValid(MediaTypeValidators::checkJwt, header + "." + payload + ".SflKxwRJSMeKKF2QT4fwpMeJf36POk6yJV_adQssw5c"));
+        assertTrue(isValid(MediaTypeValidators::checkJwt, header + "." + payload + "."));
+        assertTrue(isValid(MediaTypeValidators::checkJwt, header + ".a2V5.aXY.Y2lwaGVy.dGFn"));
+        assertFalse(isValid(MediaTypeValidators::checkJwt, header + "." + payload));
+        assertFalse(isValid(MediaTypeValidators::checkJwt, header + "." + base64Url("[1]") + "."));
+        assertFalse(isValid(MediaTypeValidators::checkJwt, header + "." + payload + ".a+b"));
+        assertFalse(isValid(MediaTypeValidators::checkJwt, header + ".a.b.c.d.e"));
+    }
+
+    @Test
+    void testXml() {
+        assertTrue(isValid(MediaTypeValidators::checkXml, "<?xml version=\"1.0\"?><a x=\"1\"><b/>text</a>"));
+        assertFalse(isValid(MediaTypeValidators::checkXml, "<a><b></a>"));
+        assertFalse(isValid(MediaTypeValidators::checkXml, "<a/><b/>"));
+        assertFalse(isValid(MediaTypeValidators::checkXml, ""));
+        assertFalse(isValid(MediaTypeValidators::checkXml,
+                "<!DOCTYPE a [<!ENTITY e SYSTEM \"file:///etc/passwd\">]><a>&e;</a>"));
+    }
+
+    @Test
+    void testCsv() {
+        assertTrue(isValid(MediaTypeValidators::checkCsv, "a,b,c\r\n1,\"2,\"\"x\"\"\",3\r\n4,5,6"));
+        assertTrue(isValid(MediaTypeValidators::checkCsv, "a,b\n1,\"multi\nline\"\n"));
+        assertTrue(isValid(MediaTypeValidators::checkCsv, "a"));
+        assertFalse(isValid(MediaTypeValidators::checkCsv, ""));
+        assertFalse(isValid(MediaTypeValidators::checkCsv, "a,b\n1,2,3\n"));
+        assertFalse(isValid(MediaTypeValidators::checkCsv, "a,b\n1,\"2\n"));
+        assertFalse(isValid(MediaTypeValidators::checkCsv, "a,b\n1,2\"x\"\n"));
+        assertFalse(isValid(MediaTypeValidators::checkCsv, "a,b\n1,\"2\"x\n"));
+    }
+}
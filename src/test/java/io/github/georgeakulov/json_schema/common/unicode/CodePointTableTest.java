@@ -0,0 +1,79 @@
+package io.github.georgeakulov.json_schema.common.unicode;
+
+import io.github.georgeakulov.json_schema.common.RangeCollections.IntRangeSet;
+import io.github.georgeakulov.json_schema.common.RangeCollections.Range;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CodePointTableTest {
+
+    @Test
+    void testLookup() {
+        var table = CodePointTable.of(new int[]{1, 10, 30}, new int[]{5, 25, 30});
+        assertEquals(3, table.size());
+        assertTrue(table.contains(1));
+        assertTrue(table.contains(25));
+        assertTrue(table.contains(30));
+        assertFalse(table.contains(0));
+        assertFalse(table.contains(6));
+        assertFalse(table.contains(29));
+        assertFalse(table.contains(31));
+        assertFalse(CodePointTable.of(new int[0], new int[0]).contains(0));
+    }
+
+    @Test
+    void testNotMergedRanges() {
+        assertThrows(IllegalArgumentException.class, () -> CodePointTable.of(new int[]{10, 1}, new int[]{20, 5}));
+        assertThrows(IllegalArgumentException.class, () -> CodePointTable.of(new int[]{1, 6}, new int[]{5, 8}));
+        assertThrows(IllegalArgumentException.class, () -> CodePointTable.of(new int[]{5}, new int[]{1}));
+    }
+
+    @Test
+    void testAgainstRangeSet() {
+        var random = new Random(33L);
+        for(int round = 0; round < 20; round++) {
+            var rangeSet = new IntRangeSet();
+            for(int i = 0; i < 50; i++) {
+                int min = random.nextInt(2000);
+                rangeSet.add(new Range(min, min + random.nextInt(20)));
+            }
+            // The runs of the contained code points are the merged ranges
+            List<Integer> starts = new ArrayList<>();
+            List<Integer> ends = new ArrayList<>();
+            for(int code = 0; code < 2100; code++) {
+                if(rangeSet.contains(code)) {
+                    if(!rangeSet.contains(code - 1)) {
+                        starts.add(code);
+                    }
+                    if(!rangeSet.contains(code + 1)) {
+                        ends.add(code);
+                    }
+                }
+            }
+            var table = CodePointTable.of(
+                    starts.stream().mapToInt(Integer::intValue).toArray(),
+                    ends.stream().mapToInt(Integer::intValue).toArray());
+            for(int code = -1; code < 2100; code++) {
+                assertEquals(rangeSet.contains(code), table.contains(code), Integer.toString(code));
+            }
+        }
+    }
+
+    @Test
+    void testLoadedTables() {
+        assertTrue(IDNA.isDisallowed('A'));
+        assertFalse(IDNA.isDisallowed('a'));
+        assertTrue(IDNA.isContextj(0x200d));
+        assertTrue(IDNA.isContexto(0x00b7));
+        assertTrue(Scripts.isInScript(Scripts.EScript.GREEK, 0x03b1));
+        assertFalse(Scripts.isInScript(Scripts.EScript.GREEK, 'a'));
+        assertTrue(Unicode.isVirama(0x094d));
+        assertTrue(JoinType.isDual(0x0628));
+        assertFalse(JoinType.isNotTransparent(0x064b));
+    }
+}
@@ -0,0 +1,81 @@
+package io.github.georgeakulov.json_schema.compilers;
+
+import io.github.georgeakulov.json_schema.CompileReport;
+import io.github.georgeakulov.json_schema.IValidationMetrics.CompilePhase;
+import io.github.georgeakulov.json_schema.SchemaBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CompileReportTest {
+
+    private static final String SCHEMA = """
+            {
+                "type": "object",
+                "properties": {
+                    "name": {"type": "string", "pattern": "^[a-z]+$"},
+                    "node": {"$ref": "#/$defs/node"}
+                },
+                "patternProperties": {"^x-": true},
+                "$defs": {
+                    "node": {"type": "object", "properties": {"next": {"$ref": "#/$defs/node"}}}
+                }
+            }
+            """;
+
+    @Test
+    void report() {
+        var schema = SchemaBuilder.create()
+                .setDraft202012DefaultDialect()
+                .setCompileReportEnabled(true)
+                .compile(SCHEMA);
+        CompileReport report = schema.getCompileReport();
+        assertNotNull(report);
+        assertTrue(schema.apply("{\"name\": \"a\", \"node\": {\"next\": {}}}").isOk());
+
+        // The referenced schema may be compiled more than once, so the refs are counted by compilation
+        assertTrue(report.getRefCount() >= 2);
+        assertEquals(2, report.getRegexCount());
+        assertEquals(0, report.getExternalLoadCount());
+        assertTrue(report.getSubschemaCount() >= 6);
+        assertTrue(report.getValidatorCount() >= 9);
+        assertTrue(report.getPhases().keySet().containsAll(List.of(CompilePhase.LOAD, CompilePhase.DIALECT, CompilePhase.COMPILE)));
+        assertTrue(report.getRetainedSize() > 0);
+        long phases = report.getPhases().values().stream().mapToLong(CompileReport.Phase::nanos).sum();
+        assertTrue(phases <= report.getTotalNanos());
+
+        List<CompileReport.SubschemaTiming> slowest = report.getSlowestSubschemas(3);
+        assertEquals(3, slowest.size());
+        assertTrue(slowest.get(0).selfNanos() >= slowest.get(1).selfNanos());
+        slowest.forEach(timing -> assertTrue(timing.selfNanos() <= timing.totalNanos()));
+        assertTrue(report.toString().contains("Subschemas: " + report.getSubschemaCount()));
+
+        assertNull(SchemaBuilder.create().setDraft202012DefaultDialect().compile(SCHEMA).getCompileReport());
+    }
+
+    @Test
+    void allocationTrackingIsNotSwitched() {
+        if(!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean)
+                || !bean.isThreadAllocatedMemorySupported()) {
+            return;
+        }
+        boolean enabled = bean.isThreadAllocatedMemoryEnabled();
+        try {
+            bean.setThreadAllocatedMemoryEnabled(false);
+            var report = SchemaBuilder.create()
+                    .setDraft202012DefaultDialect()
+                    .setCompileReportEnabled(true)
+                    .compile(SCHEMA)
+                    .getCompileReport();
+            assertNotNull(report);
+            assertFalse(bean.isThreadAllocatedMemoryEnabled());
+            report.getPhases().values().forEach(phase -> assertEquals(-1, phase.allocatedBytes()));
+        }
+        finally {
+            bean.setThreadAllocatedMemoryEnabled(enabled);
+        }
+    }
+}
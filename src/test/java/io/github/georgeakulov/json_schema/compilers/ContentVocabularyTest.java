@@ -0,0 +1,181 @@
+package io.github.georgeakulov.json_schema.compilers;
+
+import com.fasterxml.jackson.databind.node.TextNode;
+import io.github.georgeakulov.json_schema.IContentProcessing.ContentValidationLevel;
+import io.github.georgeakulov.json_schema.Schema;
+import io.github.georgeakulov.json_schema.SchemaBuilder;
+import io.github.georgeakulov.json_schema.ValidationLimits;
+import io.github.georgeakulov.json_schema.results.EErrorType;
+import io.github.georgeakulov.json_schema.results.IValidationResult;
+import io.github.georgeakulov.json_schema.results.IValidationResult.IValidationResultError;
+import io.github.georgeakulov.json_schema.results.ValidationError;
+import org.junit.jupiter.api.Test;
+import reactor.core.scheduler.Schedulers;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static io.github.georgeakulov.json_schema.TestUtils.fromString;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ContentVocabularyTest {
+
+    private static Schema compile(String encoding) {
+        return SchemaBuilder.create()
+                .setDraft202012DefaultDialect()
+                .setContentVocabularyBehavior(ContentValidationLevel.ENCODING_AND_SCHEMA)
+                .compile(fromString("""
+                        {
+                            "contentEncoding": "%s",
+                            "contentMediaType": "application/json",
+                            "contentSchema": {"required": ["a"]}
+                        }
+                        """.formatted(encoding)));
+    }
+
+    private static List<String> errors(IValidationResult result) {
+        return result.asStream()
+                .filter(IValidationResultError.class::isInstance)
+                .map(err -> ((IValidationResultError) err).getError())
+                .toList();
+    }
+
+    private static String base64(String value) {
+        return Base64.getEncoder().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void base64JsonContent() {
+        var schema = compile("base64");
+        assertTrue(schema.apply(TextNode.valueOf(base64("{\"a\": \"значение\"}"))).isOk());
+        assertTrue(schema.apply(fromString("1")).isOk());
+
+        var invalidEncoding = errors(schema.apply(TextNode.valueOf("eyJhIjox*")));
+        assertEquals(1, invalidEncoding.size());
+        assertTrue(invalidEncoding.getFirst().startsWith("Invalid content encoding"), invalidEncoding::toString);
+
+        // The content is broken before the broken encoding, the encoding error is reported
+        var brokenBoth = errors(schema.apply(TextNode.valueOf(base64("{\"a\" 1}") + "*")));
+        assertTrue(brokenBoth.getFirst().startsWith("Invalid content encoding"), brokenBoth::toString);
+
+        var invalidJson = errors(schema.apply(TextNode.valueOf(base64("{\"a\" 1}"))));
+        assertEquals(1, invalidJson.size());
+        assertTrue(invalidJson.getFirst().startsWith("Not conform to content type"), invalidJson::toString);
+
+        var invalidSchema = errors(schema.apply(TextNode.valueOf(base64("{\"b\": 1}"))));
+        assertEquals(1, invalidSchema.size());
+        assertTrue(invalidSchema.getFirst().startsWith("Not conform to content schema"), invalidSchema::toString);
+    }
+
+    @Test
+    void largeBase64Content() {
+        var json = new StringBuilder("{\"a\": [");
+        for(int i = 0; i < 100_000; i++) {
+            json.append(i).append(',');
+        }
+        json.append("0]}");
+        var schema = compile("base64");
+        assertTrue(schema.apply(TextNode.valueOf(base64(json.toString()))).isOk());
+        assertFalse(schema.apply(TextNode.valueOf(base64(json.toString().replace("\"a\"", "\"b\"")))).isOk());
+    }
+
+    @Test
+    void quotedPrintableJsonContent() {
+        var schema = compile("quoted-printable");
+        assertTrue(schema.apply(TextNode.valueOf("{\"a\": \"=D0=B7\"=\r\n}")).isOk());
+        assertFalse(schema.apply(TextNode.valueOf("{\"a\": \"=D0=B\"}")).isOk());
+        assertFalse(schema.apply(TextNode.valueOf("{\"a\": \"з\"}")).isOk());
+        assertFalse(schema.apply(TextNode.valueOf("{\"b\": 1}")).isOk());
+    }
+
+    @Test
+    void customEncodingOverridesStreamingDecoder() {
+        var schema = SchemaBuilder.create()
+                .setDraft202012DefaultDialect()
+                .setContentVocabularyBehavior(ContentValidationLevel.ENCODING_AND_SCHEMA)
+                .addContentEncodingValidator("base64", value -> new StringBuilder(value).reverse().toString())
+                .compile(fromString("""
+                        {"contentEncoding": "base64", "contentMediaType": "application/json", "contentSchema": {"required": ["a"]}}
+                        """));
+        assertTrue(schema.apply(TextNode.valueOf("}1 :\"a\"{")).isOk());
+    }
+
+    @Test
+    void jwtContentSchema() {
+        var schema = SchemaBuilder.create()
+                .setDraft202012DefaultDialect()
+                .setContentVocabularyBehavior(ContentValidationLevel.ENCODING_AND_SCHEMA)
+                .compile(fromString("""
+                        {
+                            "contentMediaType": "application/jwt",
+                            "contentSchema": {
+                                "type": "array",
+                                "prefixItems": [{"required": ["alg"]}, {"required": ["sub"]}]
+                            }
+                        }
+                        """));
+        var encoder = Base64.getUrlEncoder().withoutPadding();
+        String header = encoder.encodeToString("{\"alg\":\"HS256\"}".getBytes(StandardCharsets.UTF_8));
+        assertTrue(schema.apply(TextNode.valueOf(header + "." + encoder.encodeToString("{\"sub\":\"1\"}".getBytes(StandardCharsets.UTF_8)) + ".c2ln")).isOk());
+        assertFalse(schema.apply(TextNode.valueOf(header + "." + encoder.encodeToString("{\"iss\":\"1\"}".getBytes(StandardCharsets.UTF_8)) + ".c2ln")).isOk());
+        assertFalse(schema.apply(TextNode.valueOf("{\"alg\":\"HS256\"}")).isOk());
+    }
+
+    /**
+     * Threads of the parallel scheduler reject any blocking call, so a content schema
+     * parking the thread fails the validation instead of exhausting the scheduler
+     */
+    @Test
+    void contentSchemaOnBoundedScheduler() throws Exception {
+        var scheduler = Schedulers.newParallel("content-test", 2);
+        try {
+            var schema = SchemaBuilder.create()
+                    .setDraft202012DefaultDialect()
+                    .setContentVocabularyBehavior(ContentValidationLevel.ENCODING_AND_SCHEMA)
+                    .setScheduler(scheduler)
+                    .compile(fromString("""
+                            {
+                                "allOf": [{
+                                    "contentEncoding": "base64",
+                                    "contentMediaType": "application/json",
+                                    "contentSchema": {"allOf": [{"required": ["a"]}, {"properties": {"a": {"type": "integer"}}}]}
+                                }]
+                            }
+                            """));
+            var valid = TextNode.valueOf(base64("{\"a\": 1}"));
+            var invalid = TextNode.valueOf(base64("{\"a\": \"1\"}"));
+            List<CompletableFuture<IValidationResult>> futures = new ArrayList<>();
+            for(int i = 0; i < 2000; i++) {
+                futures.add(schema.asFuture(i % 2 == 0 ? valid : invalid));
+            }
+            for(int i = 0; i < futures.size(); i++) {
+                assertEquals(i % 2 == 0, futures.get(i).get(30, TimeUnit.SECONDS).isOk());
+            }
+        }
+        finally {
+            scheduler.dispose();
+        }
+    }
+
+    @Test
+    void contentSchemaSharesLimits() {
+        var schema = SchemaBuilder.create()
+                .setDraft202012DefaultDialect()
+                .setContentVocabularyBehavior(ContentValidationLevel.ENCODING_AND_SCHEMA)
+                .setValidationLimits(ValidationLimits.NONE.withMaxDepth(3))
+                .compile(fromString("""
+                        {
+                            "contentMediaType": "application/json",
+                            "contentSchema": {"$defs": {"n": {"properties": {"n": {"$ref": "#/$defs/n"}}}}, "$ref": "#/$defs/n"}
+                        }
+                        """));
+        assertTrue(schema.apply(TextNode.valueOf("{\"n\": {}}")).isOk());
+        var result = schema.apply(TextNode.valueOf("{\"n\": {\"n\": {\"n\": {\"n\": {}}}}}"));
+        assertTrue(result.asStream().anyMatch(res -> res instanceof ValidationError error
+                && error.getErrorType() == EErrorType.LIMIT_EXCEEDED), () -> errors(result).toString());
+    }
+}
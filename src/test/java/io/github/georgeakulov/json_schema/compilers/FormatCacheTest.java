@@ -0,0 +1,82 @@
+package io.github.georgeakulov.json_schema.compilers;
+
+import io.github.georgeakulov.json_schema.FormatCache;
+import io.github.georgeakulov.json_schema.SchemaBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.github.georgeakulov.json_schema.TestUtils.fromString;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FormatCacheTest {
+
+    @Test
+    void builtinFormatIsCached() {
+        var cache = new FormatCache(100);
+        var schema = SchemaBuilder.create()
+                .setDraft202012DefaultDialect()
+                .setFormatAssertionsEnabled(true)
+                .setFormatCache(cache)
+                .compile(fromString("""
+                        {"properties": {"host": {"format": "hostname"}, "date": {"format": "date"}}}
+                        """));
+        for(int i = 0; i < 3; i++) {
+            assertTrue(schema.apply(fromString("{\"host\": \"example.com\", \"date\": \"2024-01-01\"}")).isOk());
+            assertFalse(schema.apply(fromString("{\"host\": \"-example.com\"}")).isOk());
+        }
+        var stats = cache.getStats("hostname");
+        assertEquals(2, stats.misses());
+        assertEquals(4, stats.hits());
+        // Cheap formats are not cached
+        assertEquals(0, cache.getStats("date").misses());
+    }
+
+    @Test
+    void customFormatOptIn() {
+        var cache = new FormatCache(100);
+        var calls = new AtomicInteger();
+        var schema = SchemaBuilder.create()
+                .setDraft202012DefaultDialect()
+                .setFormatAssertionsEnabled(true)
+                .setFormatCache(cache)
+                .addFormatValidator("even", value -> calls.incrementAndGet() > 0 && value.length() % 2 == 0, true)
+                .addFormatValidator("odd", value -> calls.incrementAndGet() > 0 && value.length() % 2 == 1)
+                .compile(fromString("""
+                        {"properties": {"a": {"format": "even"}, "b": {"format": "odd"}}}
+                        """));
+        for(int i = 0; i < 5; i++) {
+            assertTrue(schema.apply(fromString("{\"a\": \"ab\", \"b\": \"a\"}")).isOk());
+        }
+        assertEquals(6, calls.get());
+        assertEquals(4, cache.getStats("even").hits());
+        assertFalse(cache.getStats().containsKey("odd"));
+    }
+
+    @Test
+    void boundAndExpiration() throws InterruptedException {
+        var calls = new AtomicInteger();
+        var boundedCache = new FormatCache(8);
+        var bounded = boundedCache.wrap("test", value -> calls.incrementAndGet() > 0);
+        for(int i = 0; i < 100; i++) {
+            assertTrue(bounded.test(String.valueOf(i)));
+        }
+        assertEquals(100, calls.get());
+        // At most 8 entries are kept
+        assertTrue(boundedCache.getStats("test").evictions() >= 92);
+
+        var cache = new FormatCache(8, Duration.ofMillis(20));
+        var expiring = cache.wrap("test", value -> calls.incrementAndGet() > 0);
+        calls.set(0);
+        expiring.test("value");
+        expiring.test("value");
+        assertEquals(1, calls.get());
+        Thread.sleep(40);
+        expiring.test("value");
+        assertEquals(2, calls.get());
+        assertEquals(1.0 / 3, cache.getStats("test").hitRate(), 1e-9);
+
+        assertThrows(IllegalArgumentException.class, () -> new FormatCache(0));
+    }
+}
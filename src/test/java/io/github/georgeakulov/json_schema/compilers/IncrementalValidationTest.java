@@ -0,0 +1,123 @@
+package io.github.georgeakulov.json_schema.compilers;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.github.georgeakulov.json_schema.Schema;
+import io.github.georgeakulov.json_schema.SchemaBuilder;
+import io.github.georgeakulov.json_schema.SimpleValidationMetrics;
+import io.github.georgeakulov.json_schema.ValidationLimits;
+import io.github.georgeakulov.json_schema.results.EErrorType;
+import io.github.georgeakulov.json_schema.results.IValidationResult;
+import io.github.georgeakulov.json_schema.results.ValidationError;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static io.github.georgeakulov.json_schema.TestUtils.fromString;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IncrementalValidationTest {
+
+    private static final String SCHEMA = """
+            {
+                "type": "object",
+                "required": ["name", "items"],
+                "properties": {
+                    "name": {"type": "string", "minLength": 2},
+                    "items": {
+                        "type": "array",
+                        "items": {
+                            "type": "object",
+                            "properties": {"id": {"type": "integer"}},
+                            "required": ["id"]
+                        }
+                    }
+                },
+                "unevaluatedProperties": false
+            }
+            """;
+
+    private final Schema schema = SchemaBuilder.create()
+            .setDraft202012DefaultDialect()
+            .compile(fromString(SCHEMA));
+
+    @Test
+    void reusesUntouchedSubtrees() {
+        var document = (ObjectNode) fromString("""
+                {"name": "abc", "items": [{"id": 1}, {"id": 2}]}
+                """);
+        var previous = schema.apply(document);
+        assertTrue(previous.isOk(), () -> "Unexpected errors " + previous);
+
+        document.put("name", "x");
+        var result = schema.revalidate(previous, document, List.of(JsonPointer.compile("/name")));
+        assertFalse(result.isOk());
+        assertEquals(schema.apply(document).isOk(), result.isOk());
+
+        // The untouched array validation is taken from the previous result as is
+        var previousItems = findSchemaResult(previous, "/items");
+        assertNotNull(previousItems);
+        assertSame(previousItems, findSchemaResult(result, "/items"));
+        assertNotSame(findSchemaResult(previous, "/name"), findSchemaResult(result, "/name"));
+    }
+
+    @Test
+    void revalidatesByJsonPatch() {
+        var document = (ObjectNode) fromString("""
+                {"name": "abc", "items": [{"id": 1}, {"id": 2}]}
+                """);
+        var previous = schema.apply(document);
+
+        document.withArray("items").insert(0, fromString("{\"id\": \"wrong\"}"));
+        var patch = fromString("""
+                [{"op": "add", "path": "/items/0", "value": {"id": "wrong"}}]
+                """);
+        assertFalse(schema.revalidate(previous, document, patch).isOk());
+
+        document.withArray("items").remove(0);
+        document.put("other", 1);
+        patch = fromString("""
+                [{"op": "add", "path": "/other", "value": 1}]
+                """);
+        assertFalse(schema.revalidate(previous, document, patch).isOk());
+
+        document.remove("other");
+        patch = fromString("""
+                [{"op": "remove", "path": "/other"}]
+                """);
+        assertTrue(schema.revalidate(previous, document, patch).isOk());
+    }
+
+    @Test
+    void revalidationKeepsLimitsAndMetrics() {
+        var metrics = new SimpleValidationMetrics();
+        var limited = SchemaBuilder.create()
+                .setDraft202012DefaultDialect()
+                .setValidationLimits(ValidationLimits.NONE.withMaxNodes(12))
+                .setValidationMetrics(metrics)
+                .compile(fromString(SCHEMA));
+        var document = (ObjectNode) fromString("""
+                {"name": "abc", "items": [{"id": 1}]}
+                """);
+        var previous = limited.apply(document);
+        assertTrue(previous.isOk(), () -> "Unexpected errors " + previous);
+
+        for(int i = 2; i < 10; i++) {
+            document.withArray("items").add(fromString("{\"id\": " + i + "}"));
+        }
+        var result = limited.revalidate(previous, document, List.of(JsonPointer.compile("/items")));
+        assertTrue(result.asStream().anyMatch(vr -> vr instanceof ValidationError error
+                && error.getErrorType() == EErrorType.LIMIT_EXCEEDED), () -> "Expected the limit error " + result);
+        assertEquals(2, metrics.getValidations().count());
+        assertTrue(metrics.getKeywords().get("items").count() >= 2);
+    }
+
+    private static IValidationResult findSchemaResult(IValidationResult result, String instancePtr) {
+        return result.asStream()
+                .filter(vr -> vr.getType() == IValidationResult.Type.CONTAINER)
+                .filter(vr -> vr.getId().getInstanceRef().toString().equals(instancePtr))
+                .filter(vr -> vr.getId().getSchemaLocator().getSchemaRef().toString().equals("/properties" + instancePtr))
+                .findFirst()
+                .orElse(null);
+    }
+}
@@ -1,8 +1,11 @@
 package io.github.georgeakulov.json_schema.compilers;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import io.github.georgeakulov.json_schema.Schema;
 import io.github.georgeakulov.json_schema.SchemaBuilder;
 import io.github.georgeakulov.json_schema.TestUtils.IFile;
+import io.github.georgeakulov.json_schema.codegen.HiddenClassDefiner;
+import io.github.georgeakulov.json_schema.common.SchemaCompileException;
 import io.github.georgeakulov.json_schema.results.ValidationResultFactory;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.function.Executable;
@@ -54,6 +57,11 @@ public class JsonSchemaOrgTests {
                     )
     );
 
+    // The validity of the generated validators, format assertions aren`t supported by the generator
+    private static final ITestConfig GENERATED_CONFIG = new TestConfig("draft2020")
+            .setDirectoryFilter(dir -> !dir.path().getFileName().toString().equals("optional"))
+            .setGenerated(true);
+
     @BeforeAll
     static void beforeAll() {
         server.upWithPath(1234, new File(System.getProperty("user.dir") + "/test_sources/remotes"));
@@ -81,6 +89,15 @@ public class JsonSchemaOrgTests {
                 .filter(Objects::nonNull);
     }
 
+    @TestFactory()
+    Stream<DynamicNode> testGeneratedDraft2020() {
+        return JsonSchemaTestDataProvider.getFilesHierarchy()
+                .stream()
+                .filter(file -> file.relativeToRoot().toString().startsWith(GENERATED_CONFIG.getDirectory()))
+                .map(file -> forFile(testDirectory, file, GENERATED_CONFIG))
+                .filter(Objects::nonNull);
+    }
+
     DynamicNode forFile(Path parent, IFile file, ITestConfig testConfig) {
 
         if(file.isDirectory()) {
@@ -113,6 +130,9 @@ public class JsonSchemaOrgTests {
                         .stream()
                         .filter(testConfig::filterSchema)
                         .map(schema -> {
+                            if(testConfig.isGenerated()) {
+                                return generatedToTest(schema, testConfig);
+                            }
                             try {
                                 var builder = SchemaBuilder.create();
                                 testConfig.customizeSchemaBuilder(schema, builder);
@@ -135,6 +155,31 @@ public class JsonSchemaOrgTests {
                                 );
                             }
                         })
+                        .filter(Objects::nonNull)
+        );
+    }
+
+    DynamicNode generatedToTest(JsonSchemaTestDataProvider.Schema schema, ITestConfig testConfig) {
+        Predicate<JsonNode> validator;
+        try {
+            validator = HiddenClassDefiner.define(schema.schemaValue());
+        }
+        catch(SchemaCompileException ex) {
+            // The schema isn`t supported by the generator
+            return null;
+        }
+        return DynamicContainer.dynamicContainer(
+                schema.description(),
+                schema.tests().stream()
+                        .filter(testConfig::filterTest)
+                        .map(test -> DynamicTest.dynamicTest(
+                                test.description(),
+                                () -> Assertions.assertEquals(test.expected(), validator.test(test.value()), () -> MessageFormat.format(
+                                        "The generated validator of the schema \"{0}\" and test \"{1}\" has non expected result",
+                                        schema.description(),
+                                        test.description()
+                                ))
+                        ))
         );
     }
 
@@ -168,6 +213,9 @@ public class JsonSchemaOrgTests {
         default boolean filterTest(JsonSchemaTestDataProvider.Test test) {
             return true;
         }
+        default boolean isGenerated() {
+            return false;
+        }
     }
 
     static class TestConfig implements ITestConfig {
@@ -177,6 +225,7 @@ public class JsonSchemaOrgTests {
         private Predicate<IFile> fileFilter = ignore -> true;
         private Predicate<JsonSchemaTestDataProvider.Schema> schemaFilter = ignore -> true;
         private Predicate<JsonSchemaTestDataProvider.Test> testFilter = ignore -> true;
+        private boolean generated;
 
         @Override
         public String getDirectory() {
@@ -212,6 +261,11 @@ public class JsonSchemaOrgTests {
             return this;
         }
 
+        public TestConfig setGenerated(boolean generated) {
+            this.generated = generated;
+            return this;
+        }
+
         @Override
         public void customizeSchemaBuilder(JsonSchemaTestDataProvider.Schema schema, SchemaBuilder builder) {
             schemaCustomizer.accept(schema, builder);
@@ -236,5 +290,10 @@ public class JsonSchemaOrgTests {
         public boolean filterTest(JsonSchemaTestDataProvider.Test test) {
             return testFilter.test(test);
         }
+
+        @Override
+        public boolean isGenerated() {
+            return generated;
+        }
     }
 }
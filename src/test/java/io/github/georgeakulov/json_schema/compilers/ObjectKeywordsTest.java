@@ -0,0 +1,100 @@
+package io.github.georgeakulov.json_schema.compilers;
+
+import io.github.georgeakulov.json_schema.SchemaBuilder;
+import io.github.georgeakulov.json_schema.results.IValidationResult;
+import io.github.georgeakulov.json_schema.results.IValidationResult.IValidationResultError;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static io.github.georgeakulov.json_schema.TestUtils.fromString;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ObjectKeywordsTest {
+
+    @Test
+    void fusedObjectKeywords() {
+        var schema = SchemaBuilder.create()
+                .setDraft202012DefaultDialect()
+                .compile(fromString("""
+                        {
+                            "properties": {"a": {"type": "integer"}},
+                            "patternProperties": {"^x-": {"type": "string"}},
+                            "additionalProperties": false,
+                            "propertyNames": {"maxLength": 5},
+                            "required": ["a"],
+                            "dependentRequired": {"x-b": ["x-c"]},
+                            "dependentSchemas": {"x-d": {"minProperties": 3}}
+                        }
+                        """));
+        assertTrue(schema.apply(fromString("{\"a\": 1, \"x-b\": \"1\", \"x-c\": \"2\"}")).isOk());
+        assertTrue(schema.apply(fromString("[1]")).isOk());
+        assertFalse(schema.apply(fromString("{\"a\": \"1\"}")).isOk());
+        assertFalse(schema.apply(fromString("{\"a\": 1, \"b\": 1}")).isOk());
+        assertFalse(schema.apply(fromString("{\"a\": 1, \"x-long\": \"1\"}")).isOk());
+        assertFalse(schema.apply(fromString("{\"x-a\": \"1\"}")).isOk());
+        assertFalse(schema.apply(fromString("{\"a\": 1, \"x-b\": \"1\"}")).isOk());
+        assertFalse(schema.apply(fromString("{\"a\": 1, \"x-d\": \"1\"}")).isOk());
+        assertTrue(schema.apply(fromString("{\"a\": 1, \"x-d\": \"1\", \"x-e\": \"1\"}")).isOk());
+    }
+
+    @Test
+    void fusedWithUnevaluatedProperties() {
+        var schema = SchemaBuilder.create()
+                .setDraft202012DefaultDialect()
+                .compile(fromString("""
+                        {
+                            "properties": {"a": true},
+                            "required": ["a"],
+                            "dependentSchemas": {"a": {"properties": {"b": true}}},
+                            "unevaluatedProperties": false
+                        }
+                        """));
+        assertTrue(schema.apply(fromString("{\"a\": 1, \"b\": 2}")).isOk());
+        assertFalse(schema.apply(fromString("{\"a\": 1, \"c\": 2}")).isOk());
+    }
+
+    @Test
+    void additionalPropertiesWithRequiredOnly() {
+        var schema = SchemaBuilder.create()
+                .setDraft202012DefaultDialect()
+                .compile(fromString("""
+                        {"additionalProperties": {"type": "integer"}, "required": ["a"], "unevaluatedProperties": false}
+                        """));
+        assertTrue(schema.apply(fromString("{\"a\": 1, \"b\": 2}")).isOk());
+        assertFalse(schema.apply(fromString("{\"a\": 1, \"b\": \"2\"}")).isOk());
+        assertFalse(schema.apply(fromString("{\"b\": 2}")).isOk());
+    }
+
+    /**
+     * The field evaluated by properties or patternProperties isn`t reported by additionalProperties even if it is invalid.
+     * Before 2.0.0 the invalid evaluated field was also reported as the additionalProperties error
+     */
+    @Test
+    void additionalPropertiesErrors() {
+        assertEquals(Set.of("/a|/properties/a/type"), errors("""
+                {"properties": {"a": {"type": "integer"}}, "additionalProperties": false}
+                """, "{\"a\": \"x\"}"));
+        assertEquals(Set.of("/x-a|/patternProperties/^x-/type", "/b|/additionalProperties"), errors("""
+                {"patternProperties": {"^x-": {"type": "integer"}}, "additionalProperties": false}
+                """, "{\"x-a\": \"x\", \"b\": 1}"));
+        assertEquals(Set.of("/n/a|/$defs/item/type"), errors("""
+                {
+                    "properties": {"n": {"properties": {"a": {"$ref": "#/$defs/item"}}, "additionalProperties": false}},
+                    "$defs": {"item": {"type": "integer"}}
+                }
+                """, "{\"n\": {\"a\": \"x\"}}"));
+    }
+
+    private static Set<String> errors(String schema, String instance) {
+        IValidationResult result = SchemaBuilder.create()
+                .setDraft202012DefaultDialect()
+                .compile(schema)
+                .apply(instance);
+        return result.asStream()
+                .filter(IValidationResultError.class::isInstance)
+                .map(error -> error.getId().getInstanceRef() + "|" + error.getId().getSchemaLocator().getSchemaRef())
+                .collect(Collectors.toSet());
+    }
+}
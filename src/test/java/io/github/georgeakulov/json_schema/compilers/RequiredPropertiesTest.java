@@ -0,0 +1,71 @@
+package io.github.georgeakulov.json_schema.compilers;
+
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.github.georgeakulov.json_schema.SchemaBuilder;
+import io.github.georgeakulov.json_schema.results.IValidationResult;
+import io.github.georgeakulov.json_schema.results.IValidationResult.IValidationResultError;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static io.github.georgeakulov.json_schema.TestUtils.fromString;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RequiredPropertiesTest {
+
+    @Test
+    void requiredMoreThanOneWord() {
+        String names = IntStream.range(0, 100)
+                .mapToObj(i -> "\"f" + i + "\"")
+                .collect(Collectors.joining(","));
+        var schema = SchemaBuilder.create()
+                .setDraft202012DefaultDialect()
+                .compile(fromString("{\"required\": [" + names + "]}"));
+
+        ObjectNode instance = JsonNodeFactory.instance.objectNode();
+        IntStream.range(0, 150).forEach(i -> instance.put("f" + i, i));
+        assertTrue(schema.apply(instance).isOk());
+
+        instance.remove("f3");
+        instance.remove("f70");
+        var result = schema.apply(instance);
+        assertFalse(result.isOk());
+        assertEquals("Some required properties f3,f70 are missing", errorText(result));
+    }
+
+    @Test
+    void dependentRequired() {
+        var schema = SchemaBuilder.create()
+                .setDraft202012DefaultDialect()
+                .compile(fromString("""
+                        {"dependentRequired": {"a": ["b", "c"], "d": ["a"]}}
+                        """));
+        assertTrue(schema.apply(fromString("{\"a\": 1, \"b\": 2, \"c\": 3}")).isOk());
+        assertTrue(schema.apply(fromString("{\"b\": 2}")).isOk());
+        assertFalse(schema.apply(fromString("{\"a\": 1, \"b\": 2}")).isOk());
+        assertFalse(schema.apply(fromString("{\"d\": 1}")).isOk());
+    }
+
+    @Test
+    void dependenciesDraft7() {
+        var schema = SchemaBuilder.create()
+                .setDraft07DefaultDialect()
+                .compile(fromString("""
+                        {"dependencies": {"a": ["b"], "c": {"required": ["d"]}, "e": []}}
+                        """));
+        assertTrue(schema.apply(fromString("{\"a\": 1, \"b\": 2, \"e\": 3}")).isOk());
+        assertFalse(schema.apply(fromString("{\"a\": 1}")).isOk());
+        assertFalse(schema.apply(fromString("{\"c\": 1}")).isOk());
+        assertTrue(schema.apply(fromString("{\"c\": 1, \"d\": 1}")).isOk());
+    }
+
+    private static String errorText(IValidationResult result) {
+        return result.asStream()
+                .filter(vr -> vr instanceof IValidationResultError)
+                .map(vr -> ((IValidationResultError) vr).getError())
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,97 @@
+package io.github.georgeakulov.json_schema.compilers;
+
+import io.github.georgeakulov.json_schema.IValidationMetrics;
+import io.github.georgeakulov.json_schema.SchemaBuilder;
+import io.github.georgeakulov.json_schema.SchemaProfiler;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SchemaProfilerTest {
+
+    private static final String SCHEMA = """
+            {
+                "type": "object",
+                "properties": {
+                    "items": {"type": "array", "items": {"$ref": "#/$defs/item"}}
+                },
+                "$defs": {
+                    "item": {"type": "string", "pattern": "^[a-z]+$"}
+                }
+            }
+            """;
+
+    @Test
+    void profile() throws Exception {
+        var profiler = new SchemaProfiler();
+        var schema = SchemaBuilder.create()
+                .setDraft202012DefaultDialect()
+                .setValidationMetrics(profiler)
+                .compile(SCHEMA);
+        assertTrue(schema.apply("{\"items\": [\"a\", \"b\", \"c\"]}").isOk());
+
+        Map<String, SchemaProfiler.Entry> entries = profiler.getHottest(Integer.MAX_VALUE).stream()
+                .collect(Collectors.toMap(SchemaProfiler.Entry::location, Function.identity()));
+        assertEquals(3, entries.get("#/$defs/item/pattern").count());
+        assertEquals(1, entries.get("#/properties/items/items").count());
+        entries.values().forEach(entry -> assertTrue(entry.selfNanos() <= entry.totalNanos(), entry.location()));
+        assertTrue(entries.get("#/properties/items/items").totalNanos() >= entries.get("#/$defs/item/pattern").totalNanos());
+
+        var stacks = new StringWriter();
+        profiler.writeCollapsedStacks(stacks);
+        assertTrue(stacks.toString().lines().anyMatch(line -> line.matches(
+                "#/properties;#/properties/items/items;#/properties/items/items/\\$ref;#/\\$defs/item/pattern \\d+")), stacks.toString());
+        assertEquals(3, profiler.report(2).lines().count());
+
+        profiler.reset();
+        assertTrue(profiler.getHottest(10).isEmpty());
+    }
+
+    @Test
+    void fusedObjectKeywords() {
+        var profiler = new SchemaProfiler();
+        var schema = SchemaBuilder.create()
+                .setDraft202012DefaultDialect()
+                .setValidationMetrics(profiler)
+                .compile("""
+                        {
+                            "properties": {"a": {"type": "integer"}},
+                            "additionalProperties": {"type": "string"},
+                            "required": ["a"],
+                            "propertyNames": {"maxLength": 3},
+                            "dependentRequired": {"a": ["b"]}
+                        }
+                        """);
+        assertTrue(schema.apply("{\"a\": 1, \"b\": \"x\"}").isOk());
+
+        Map<String, SchemaProfiler.Entry> entries = profiler.getHottest(Integer.MAX_VALUE).stream()
+                .collect(Collectors.toMap(SchemaProfiler.Entry::location, Function.identity()));
+        for(String keyword : new String[] {"properties", "additionalProperties", "required", "propertyNames", "dependentRequired"}) {
+            assertEquals(1, entries.get("#/" + keyword).count(), keyword);
+            assertTrue(entries.get("#/" + keyword).totalNanos() > 0, keyword);
+        }
+        // The subschemas are nested into the fused keywords
+        assertTrue(entries.get("#/properties").totalNanos() >= entries.get("#/properties/a/type").totalNanos());
+        assertTrue(entries.get("#/propertyNames").totalNanos() >= entries.get("#/propertyNames/maxLength").totalNanos());
+    }
+
+    @Test
+    void sampledWindow() {
+        var profiler = new SchemaProfiler();
+        var schema = SchemaBuilder.create()
+                .setDraft202012DefaultDialect()
+                .setValidationMetrics(IValidationMetrics.sampling(profiler, 2))
+                .compile(SCHEMA);
+        for(int i = 0; i < 4; i++) {
+            schema.apply("{\"items\": [\"a\"]}");
+        }
+        assertEquals(2, profiler.getHottest(Integer.MAX_VALUE).stream()
+                .filter(entry -> entry.location().equals("#/$defs/item/pattern"))
+                .findFirst().orElseThrow().count());
+    }
+}
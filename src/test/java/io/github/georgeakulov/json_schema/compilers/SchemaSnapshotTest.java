@@ -0,0 +1,143 @@
+package io.github.georgeakulov.json_schema.compilers;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.github.georgeakulov.json_schema.SchemaBuilder;
+import io.github.georgeakulov.json_schema.common.SchemaCompileException;
+import io.github.georgeakulov.json_schema.loaders.IResourceLoader;
+import io.github.georgeakulov.json_schema.loaders.LoadedResources;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static io.github.georgeakulov.json_schema.TestUtils.fromString;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SchemaSnapshotTest {
+
+    @Test
+    void loadWithoutResolution() throws IOException {
+        var loads = new AtomicInteger();
+        var schema = SchemaBuilder.create()
+                .setDraft202012DefaultDialect()
+                .addResourceLoader("urn", uri -> {
+                    loads.incrementAndGet();
+                    return fromString("""
+                            {"$defs": {"id": {"type": "integer", "minimum": 1}}}
+                            """);
+                })
+                .addMappingIdToSchema("mapped", "{\"type\": \"string\", \"pattern\": \"^[a-z]+$\"}")
+                .compile(fromString("""
+                        {
+                            "properties": {
+                                "id": {"$ref": "urn:ids#/$defs/id"},
+                                "name": {"$ref": "mapped"},
+                                "big": {"const": 12345678901234567890.5}
+                            }
+                        }
+                        """));
+        assertEquals(1, loads.get());
+
+        var os = new ByteArrayOutputStream();
+        schema.exportSnapshot(os);
+        byte[] snapshot = os.toByteArray();
+
+        // Neither loader nor mapping is set up
+        var loaded = SchemaBuilder.create()
+                .addResourceLoader("urn", uri -> {
+                    throw new IllegalStateException("Unexpected load of " + uri);
+                })
+                .loadSnapshot(new ByteArrayInputStream(snapshot));
+        for(var instance : new String[] {"{\"id\": 1, \"name\": \"abc\"}", "{\"id\": 0}", "{\"name\": \"A\"}", "{\"big\": 1}"}) {
+            assertEquals(schema.apply(instance).isOk(), loaded.apply(instance).isOk(), instance);
+        }
+        assertTrue(loaded.apply("{\"id\": 1, \"name\": \"abc\", \"big\": 12345678901234567890.5}").isOk());
+        assertEquals(1, loads.get());
+
+        // The snapshot of the loaded schema is the same
+        var reexported = new ByteArrayOutputStream();
+        loaded.exportSnapshot(reexported);
+        assertArrayEquals(snapshot, reexported.toByteArray());
+    }
+
+    @Test
+    void rejectCorruptedAndStale() throws IOException {
+        var os = new ByteArrayOutputStream();
+        SchemaBuilder.create()
+                .setDraft202012DefaultDialect()
+                .compile("{\"type\": \"string\"}")
+                .exportSnapshot(os);
+
+        byte[] corrupted = os.toByteArray();
+        corrupted[corrupted.length - 40] ^= 1;
+        assertThrows(SchemaCompileException.class, () -> SchemaBuilder.create().loadSnapshot(new ByteArrayInputStream(corrupted)));
+
+        byte[] stale = os.toByteArray();
+        stale[7]++;
+        assertThrows(SchemaCompileException.class, () -> SchemaBuilder.create().loadSnapshot(new ByteArrayInputStream(stale)));
+
+        assertThrows(SchemaCompileException.class, () -> SchemaBuilder.create().loadSnapshot(new ByteArrayInputStream("{}    ".getBytes())));
+    }
+
+    @Test
+    void sameRefInDifferentBases() throws IOException {
+        var schema = SchemaBuilder.create()
+                .setDraft202012DefaultDialect()
+                .setSchemaResolver((ref, locator) -> {
+                    // Resolves relative to the base as the resolvers usually do
+                    URI resolved = locator.getId() == null ? URI.create(ref) : locator.getId().resolve(ref);
+                    return switch (resolved.toString()) {
+                        case "https://ex.com/a/item.json" -> new LoadedResources.ResolvedRef(resolved, fromString("{\"type\": \"string\"}"));
+                        case "https://ex.com/b/item.json" -> new LoadedResources.ResolvedRef(resolved, fromString("{\"type\": \"integer\"}"));
+                        default -> null;
+                    };
+                })
+                .compile(fromString("""
+                        {
+                            "properties": {
+                                "a": {"$id": "https://ex.com/a/", "$ref": "item.json"},
+                                "b": {"$id": "https://ex.com/b/", "$ref": "item.json"}
+                            }
+                        }
+                        """));
+        assertTrue(schema.apply("{\"a\": \"x\", \"b\": 1}").isOk());
+        assertFalse(schema.apply("{\"a\": 1}").isOk());
+        assertFalse(schema.apply("{\"b\": \"x\"}").isOk());
+
+        var os = new ByteArrayOutputStream();
+        schema.exportSnapshot(os);
+        var loaded = SchemaBuilder.create().loadSnapshot(new ByteArrayInputStream(os.toByteArray()));
+        assertTrue(loaded.apply("{\"a\": \"x\", \"b\": 1}").isOk());
+        assertFalse(loaded.apply("{\"b\": \"x\"}").isOk());
+    }
+
+    @Test
+    void sealedResourcesDontLoad() {
+        var loads = new AtomicInteger();
+        var config = new CompileConfig()
+                .setLoadedResources(new LoadedResources().seal())
+                .setExternalSchemaResolver((ref, locator) -> {
+                    loads.incrementAndGet();
+                    return null;
+                })
+                .addResourceLoader(new IResourceLoader() {
+                    @Override
+                    public Stream<String> getSupportedSchemes() {
+                        return Stream.of("urn");
+                    }
+
+                    @Override
+                    public JsonNode loadResource(URI uri) {
+                        loads.incrementAndGet();
+                        return fromString("{}");
+                    }
+                });
+        assertThrows(SchemaCompileException.class, () -> new Compiler().compileRootValidator(
+                fromString("{\"$ref\": \"urn:missing\"}"), URI.create("https://json-schema.org/draft/2020-12/schema"), config));
+        assertEquals(0, loads.get());
+    }
+}
@@ -0,0 +1,88 @@
+package io.github.georgeakulov.json_schema.compilers;
+
+import io.github.georgeakulov.json_schema.Schema;
+import io.github.georgeakulov.json_schema.SchemaBuilder;
+import io.github.georgeakulov.json_schema.ValidationLimits;
+import io.github.georgeakulov.json_schema.results.EErrorType;
+import io.github.georgeakulov.json_schema.results.IValidationResult;
+import io.github.georgeakulov.json_schema.results.ValidationError;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ValidationLimitsTest {
+
+    private static final String SCHEMA = """
+            {
+                "type": "object",
+                "properties": {"next": {"$ref": "#"}, "items": {"type": "array", "items": {"type": "string"}}}
+            }
+            """;
+
+    @Test
+    void maxDepth() {
+        var schema = compile(ValidationLimits.NONE.withMaxDepth(3));
+        assertTrue(schema.apply("{\"next\": {\"next\": {}}}").isOk());
+        var result = schema.apply("{\"next\": {\"next\": {\"next\": {\"next\": {}}}}}");
+        assertEquals(List.of(EErrorType.LIMIT_EXCEEDED), errorTypes(result));
+    }
+
+    @Test
+    void maxNodes() {
+        var schema = compile(ValidationLimits.NONE.withMaxNodes(5));
+        assertTrue(schema.apply("{\"items\": [\"a\", \"b\"]}").isOk());
+        assertEquals(List.of(EErrorType.LIMIT_EXCEEDED), errorTypes(schema.apply("{\"items\": [\"a\", \"b\", \"c\", \"d\", \"e\"]}")));
+    }
+
+    @Test
+    void maxNodesChargedByItems() {
+        var schema = SchemaBuilder.create()
+                .setDraft202012DefaultDialect()
+                .setValidationLimits(ValidationLimits.NONE.withMaxNodes(10))
+                .compile("{\"uniqueItems\": true}");
+        assertTrue(schema.apply("[1, 2, 3]").isOk());
+        assertEquals(List.of(EErrorType.LIMIT_EXCEEDED), errorTypes(schema.apply("[1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11]")));
+    }
+
+    @Test
+    void maxTime() {
+        var schema = compile(ValidationLimits.NONE.withMaxTime(Duration.ofNanos(1)));
+        assertEquals(List.of(EErrorType.LIMIT_EXCEEDED), errorTypes(schema.apply("{\"items\": [\"a\"]}")));
+    }
+
+    @Test
+    void maxEvaluatedErrors() {
+        var schema = compile(ValidationLimits.NONE.withMaxEvaluatedErrors(2));
+        var result = schema.apply("{\"items\": [1, 2, 3, 4, 5]}");
+        List<EErrorType> types = errorTypes(result);
+        assertEquals(3, types.size());
+        assertEquals(2, types.stream().filter(EErrorType.TYPE::equals).count());
+        assertTrue(types.contains(EErrorType.LIMIT_EXCEEDED));
+
+        assertEquals(List.of(EErrorType.TYPE), errorTypes(schema.apply("{\"items\": [1]}")));
+    }
+
+    @Test
+    void unlimited() {
+        assertTrue(ValidationLimits.NONE.withMaxDepth(0).withMaxTime(Duration.ZERO).isUnlimited());
+        assertTrue(ValidationLimits.NONE.withMaxEvaluatedErrors(0).isUnlimited());
+        assertThrows(IllegalArgumentException.class, () -> ValidationLimits.NONE.withMaxNodes(-1));
+    }
+
+    private static Schema compile(ValidationLimits limits) {
+        return SchemaBuilder.create()
+                .setDraft202012DefaultDialect()
+                .setValidationLimits(limits)
+                .compile(SCHEMA);
+    }
+
+    private static List<EErrorType> errorTypes(IValidationResult result) {
+        return result.asStream()
+                .filter(ValidationError.class::isInstance)
+                .map(error -> ((ValidationError) error).getErrorType())
+                .toList();
+    }
+}
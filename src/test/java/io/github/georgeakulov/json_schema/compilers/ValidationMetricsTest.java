@@ -0,0 +1,96 @@
+package io.github.georgeakulov.json_schema.compilers;
+
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import io.github.georgeakulov.json_schema.IValidationMetrics;
+import io.github.georgeakulov.json_schema.IValidationMetrics.CompilePhase;
+import io.github.georgeakulov.json_schema.SchemaBuilder;
+import io.github.georgeakulov.json_schema.SimpleValidationMetrics;
+import io.github.georgeakulov.json_schema.results.EErrorType;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ValidationMetricsTest {
+
+    private static final String SCHEMA = """
+            {
+                "type": "object",
+                "properties": {
+                    "node": {"$ref": "#/$defs/node"}
+                },
+                "$defs": {
+                    "node": {
+                        "type": "object",
+                        "required": ["value"],
+                        "properties": {"next": {"$ref": "#/$defs/node"}, "value": {"type": "integer"}}
+                    }
+                }
+            }
+            """;
+
+    @Test
+    void recordMeasurements() {
+        var metrics = new SimpleValidationMetrics();
+        var schema = SchemaBuilder.create()
+                .setDraft202012DefaultDialect()
+                .setValidationMetrics(metrics)
+                .compile(SCHEMA);
+        assertTrue(metrics.getCompilePhases().keySet().containsAll(
+                List.of(CompilePhase.LOAD, CompilePhase.PREPROCESS, CompilePhase.RESOLVE, CompilePhase.COMPILE)));
+
+        assertTrue(schema.apply("{\"node\": {\"value\": 1, \"next\": {\"value\": 2, \"next\": {\"value\": 3}}}}").isOk());
+        assertFalse(schema.apply("{\"node\": {\"value\": \"a\", \"next\": {}}}").isOk());
+
+        assertEquals(2, metrics.getValidations().count());
+        assertEquals(3, metrics.getMaxRefDepth());
+        assertEquals(1L, metrics.getErrors().get(EErrorType.TYPE));
+        assertEquals(1L, metrics.getErrors().get(EErrorType.REQUIRED));
+        assertTrue(metrics.getKeywords().get("$ref").count() >= 4);
+        // Fused with properties, but measured by itself
+        assertEquals(5, metrics.getKeywords().get("required").count());
+        assertEquals(2 + 5, metrics.getKeywords().get("properties").count());
+        assertFalse(metrics.getSchemas().isEmpty());
+        assertEquals((7 + 4) / 2.0, metrics.getAverageInstanceSize());
+    }
+
+    @Test
+    void sampling() {
+        var metrics = new SimpleValidationMetrics();
+        var schema = SchemaBuilder.create()
+                .setDraft202012DefaultDialect()
+                .setValidationMetrics(IValidationMetrics.sampling(metrics, 4))
+                .compile(SCHEMA);
+        for(int i = 0; i < 10; i++) {
+            assertFalse(schema.apply("{\"node\": 1}").isOk());
+        }
+        assertEquals(3, metrics.getValidations().count());
+        assertEquals(3L, metrics.getErrors().get(EErrorType.TYPE));
+        assertThrows(IllegalArgumentException.class, () -> IValidationMetrics.sampling(metrics, 0));
+    }
+
+    @Test
+    void instanceSize() {
+        // Deeper than the recursive walk allows
+        ArrayNode instance = JsonNodeFactory.instance.arrayNode();
+        ArrayNode current = instance;
+        for(int i = 0; i < 100_000; i++) {
+            current = current.addArray();
+        }
+        var counting = new SimpleValidationMetrics();
+        var skipping = new SimpleValidationMetrics(false);
+        for(var metrics : List.of(counting, skipping)) {
+            assertTrue(SchemaBuilder.create()
+                    .setDraft202012DefaultDialect()
+                    .setValidationMetrics(metrics)
+                    .compile("{}")
+                    .apply(instance)
+                    .isOk());
+            assertEquals(1, metrics.getValidations().count());
+        }
+        assertEquals(100_001, counting.getAverageInstanceSize());
+        assertEquals(0, skipping.getAverageInstanceSize());
+    }
+}
@@ -0,0 +1,70 @@
+package io.github.georgeakulov.json_schema.loaders;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import io.github.georgeakulov.json_schema.SchemaBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static io.github.georgeakulov.json_schema.TestUtils.fromString;
+import static org.junit.jupiter.api.Assertions.*;
+
+class PointerTrieTest {
+
+    private final int defs = 1;
+    private final int nested = 2;
+    private final int escaped = 3;
+    private final PointerTrie trie = PointerTrie.of(Map.of(
+            "/$defs/a", defs,
+            "/$defs/a/properties/b", nested,
+            "/$defs/x~1y", escaped
+    ));
+
+    @Test
+    void testGet() {
+        assertEquals(defs, trie.get(JsonPointer.compile("/$defs/a")));
+        assertEquals(nested, trie.get(JsonPointer.compile("/$defs/a/properties/b")));
+        assertEquals(escaped, trie.get(JsonPointer.compile("/$defs/x~1y")));
+        assertEquals(PointerTrie.NOT_FOUND, trie.get(JsonPointer.compile("/$defs")));
+        assertEquals(PointerTrie.NOT_FOUND, trie.get(JsonPointer.compile("/$defs/a/properties")));
+        assertEquals(PointerTrie.NOT_FOUND, trie.get(JsonPointer.empty()));
+    }
+
+    @Test
+    void testFindNearest() {
+        assertEquals(new PointerTrie.Match(defs, 8), trie.findNearest("/$defs/a/items"));
+        assertEquals(new PointerTrie.Match(nested, 21), trie.findNearest("/$defs/a/properties/b"));
+        assertEquals(new PointerTrie.Match(escaped, 11), trie.findNearest("/$defs/x~1y/type"));
+        // Only whole reference tokens are matched
+        assertNull(trie.findNearest("/$defs/ab"));
+        assertNull(trie.findNearest("anchor"));
+        assertNull(PointerTrie.of(Map.of()).findNearest("/$defs/a"));
+    }
+
+    @Test
+    void refIntoNestedResources() {
+        var schema = SchemaBuilder.create()
+                .setDraft202012DefaultDialect()
+                .compile(fromString("""
+                        {
+                            "$id": "https://example.com/root",
+                            "properties": {
+                                "a": {"$ref": "#/$defs/outer/$defs/inner"},
+                                "b": {"$ref": "#/$defs/outerSibling"}
+                            },
+                            "$defs": {
+                                "outer": {
+                                    "$id": "outer",
+                                    "$defs": {
+                                        "inner": {"$id": "inner", "type": "integer"}
+                                    }
+                                },
+                                "outerSibling": {"type": "string"}
+                            }
+                        }
+                        """));
+        assertTrue(schema.apply(fromString("{\"a\": 1, \"b\": \"s\"}")).isOk());
+        assertFalse(schema.apply(fromString("{\"a\": \"1\"}")).isOk());
+        assertFalse(schema.apply(fromString("{\"b\": 1}")).isOk());
+    }
+}
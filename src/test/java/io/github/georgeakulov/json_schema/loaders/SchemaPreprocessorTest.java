@@ -0,0 +1,22 @@
+package io.github.georgeakulov.json_schema.loaders;
+
+import io.github.georgeakulov.json_schema.common.SchemaCompileException;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SchemaPreprocessorTest {
+
+    @Test
+    void resolveId() {
+        var preprocessor = new SchemaPreprocessor();
+        var parent = URI.create("https://example.com/root/schema.json");
+        assertEquals(URI.create("https://example.com/root/item.json"), preprocessor.resolveId("item.json", parent));
+        // The IPvFuture host is the valid IRI, but java.net.URI rejects it
+        assertThrows(SchemaCompileException.class, () -> preprocessor.resolveId("http://[v1.x]/a", parent));
+        assertThrows(SchemaCompileException.class, () -> preprocessor.resolveId("//[v1.x]/a", null));
+    }
+}
@@ -0,0 +1,48 @@
+package io.github.georgeakulov.json_schema.results;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InstancePathTest {
+
+    @Test
+    void testRender() {
+        var path = InstancePath.empty()
+                .appendProperty("a/b")
+                .appendIndex(3)
+                .appendProperty("c~d");
+        var expected = JsonPointer.empty()
+                .appendProperty("a/b")
+                .appendIndex(3)
+                .appendProperty("c~d");
+        assertEquals(expected, path.toJsonPointer());
+        assertEquals(expected.toString(), path.toString());
+        assertEquals("", InstancePath.empty().toString());
+    }
+
+    @Test
+    void testEquality() {
+        var parent = InstancePath.empty().appendProperty("items");
+        assertEquals(parent.appendIndex(1), parent.appendProperty("1"));
+        assertEquals(parent.appendIndex(1).hashCode(), parent.appendProperty("1").hashCode());
+        assertNotEquals(parent.appendIndex(1), parent.appendProperty("01"));
+        assertNotEquals(parent.appendIndex(1), InstancePath.empty().appendIndex(1));
+        assertEquals(InstancePath.of(JsonPointer.compile("/items/1")), parent.appendIndex(1));
+    }
+
+    @Test
+    void testNavigation() {
+        var parent = InstancePath.empty().appendProperty("obj");
+        var child = parent.appendProperty("12");
+        assertTrue(child.isChildOf(parent));
+        assertTrue(child.isChildOf(InstancePath.of(JsonPointer.compile("/obj"))));
+        assertFalse(parent.isChildOf(child));
+        assertFalse(InstancePath.empty().isChildOf(InstancePath.empty()));
+        assertEquals("12", child.getMatchingProperty());
+        assertEquals(12, child.getMatchingIndex());
+        assertEquals(-1, parent.getMatchingIndex());
+        assertEquals("5", parent.appendIndex(5).getMatchingProperty());
+    }
+}